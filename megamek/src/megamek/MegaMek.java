@@ -15,6 +15,8 @@
  */
 package megamek;
 
+import megamek.client.generator.RandomNameGenerator;
+import megamek.client.ratgenerator.RATGenerator;
 import megamek.client.ui.preferences.SuitePreferences;
 import megamek.client.ui.swing.ButtonOrderPreferences;
 import megamek.client.ui.swing.MegaMekGUI;
@@ -22,6 +24,8 @@ import megamek.common.*;
 import megamek.common.annotations.Nullable;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.util.AbstractCommandLineParser;
+import megamek.common.util.StartupOrchestrator;
+import megamek.common.util.UnitBatchRunner;
 import megamek.common.util.fileUtils.MegaMekFile;
 import megamek.common.verifier.*;
 import megamek.server.DedicatedServer;
@@ -29,6 +33,7 @@ import megamek.utils.RATGeneratorEditor;
 import org.apache.logging.log4j.LogManager;
 
 import javax.swing.*;
+import java.awt.event.ActionListener;
 import java.io.*;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
@@ -38,6 +43,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This is the primary MegaMek class.
@@ -48,9 +54,18 @@ public class MegaMek {
     private static final MMOptions mmOptions = new MMOptions();
 
     private static final NumberFormat commafy = NumberFormat.getInstance();
+
+    /** The names of the startup tasks, see {@link #getStartup()} */
+    public static final String STARTUP_EQUIPMENT = "Equipment";
+    public static final String STARTUP_QUIRKS = "Quirks";
+    public static final String STARTUP_UNIT_CACHE = "Unit Cache";
+    public static final String STARTUP_RAT_GENERATOR = "RAT Generator";
+    public static final String STARTUP_NAMES = "Random Names";
+
+    private static final StartupOrchestrator startup = new StartupOrchestrator();
     private static final String INCORRECT_ARGUMENTS_MESSAGE = "Incorrect arguments:";
     private static final String ARGUMENTS_DESCRIPTION_MESSAGE = "Arguments syntax:\n\t MegaMek "
-            + "[-log <logfile>] [(-gui <guiname>)|(-dedicated)|(-validate)|(-export)|(-eqdb)|"
+            + "[-log <logfile>] [(-gui <guiname>)|(-dedicated)|(-validate)|(-validateall)|(-export)|(-eqdb)|"
             + "(-eqedb) (-oul)] [<args>]";
 
     public static void main(String... args) {
@@ -73,6 +88,7 @@ public class MegaMek {
 
             String[] restArgs = cp.getRestArgs();
             if (cp.dedicatedServer()) {
+                startSubsystems(true);
                 startDedicatedServer(restArgs);
                 return;
             }
@@ -82,6 +98,7 @@ public class MegaMek {
             if (cp.ratGenEditor()) {
                 RATGeneratorEditor.main(restArgs);
             } else {
+                startSubsystems(false);
                 // Load button ordering
                 ButtonOrderPreferences.getInstance().setButtonPriorities();
                 startGUI();
@@ -142,6 +159,56 @@ public class MegaMek {
         return mmOptions;
     }
 
+    /**
+     * Returns the startup tasks initializing the data subsystems in the background, named by the
+     * STARTUP_ constants. Their readiness can be waited for through
+     * {@link StartupOrchestrator#whenReady(String)}; tasks that are not run, for example when MegaMek
+     * is started from another application, count as ready.
+     *
+     * @return the startup tasks
+     */
+    public static StartupOrchestrator getStartup() {
+        return startup;
+    }
+
+    /**
+     * Starts initializing the equipment, quirks and unit cache and, unless this is a dedicated server,
+     * the RAT generator and random names in the background.
+     *
+     * @param dedicated true for a dedicated server
+     */
+    private static void startSubsystems(boolean dedicated) {
+        startup.add(STARTUP_EQUIPMENT, EquipmentType::initializeTypes);
+        startup.add(STARTUP_QUIRKS, QuirksHandler::initQuirksList);
+        startup.addAsync(STARTUP_UNIT_CACHE, () -> {
+            CompletableFuture<Void> ready = new CompletableFuture<>();
+            MechSummaryCache cache = MechSummaryCache.getInstance();
+            MechSummaryCache.Listener listener = () -> ready.complete(null);
+            cache.addListener(listener);
+            // The cache may have finished before the listener was added
+            if (cache.isInitialized()) {
+                ready.complete(null);
+            }
+            ready.thenRun(() -> cache.removeListener(listener));
+            return ready;
+        }, STARTUP_EQUIPMENT, STARTUP_QUIRKS);
+        if (!dedicated) {
+            startup.addAsync(STARTUP_RAT_GENERATOR, () -> {
+                CompletableFuture<Void> ready = new CompletableFuture<>();
+                RATGenerator generator = RATGenerator.getInstance();
+                ActionListener listener = ev -> ready.complete(null);
+                generator.registerListener(listener);
+                if (generator.isInitialized()) {
+                    ready.complete(null);
+                }
+                ready.thenRun(() -> generator.removeListener(listener));
+                return ready;
+            }, STARTUP_UNIT_CACHE);
+            startup.addAsync(STARTUP_NAMES, () -> RandomNameGenerator.getInstance().whenInitialized());
+        }
+        startup.start();
+    }
+
     /**
      * Calculates the SHA-256 hash of the MegaMek.jar file
      * Used primarily for purposes of checksum comparison when connecting a new client.
@@ -252,6 +319,7 @@ public class MegaMek {
         private static final String OPTION_EQUIPMENT_DB = "eqdb";
         private static final String OPTION_EQUIPMENT_EXTENDED_DB = "eqedb";
         private static final String OPTION_UNIT_VALIDATOR = "validate";
+        private static final String OPTION_UNIT_VALIDATOR_ALL = "validateall";
         private static final String OPTION_UNIT_EXPORT = "export";
         private static final String OPTION_OFFICAL_UNIT_LIST = "oul";
         private static final String OPTION_UNIT_BATTLEFORCE_CONVERSION = "bfc";
@@ -303,6 +371,9 @@ public class MegaMek {
                     case OPTION_UNIT_VALIDATOR:
                         processUnitValidator();
                         break;
+                    case OPTION_UNIT_VALIDATOR_ALL:
+                        processUnitValidatorAll();
+                        break;
                     case OPTION_UNIT_EXPORT:
                         processUnitExporter();
                         break;
@@ -388,40 +459,12 @@ public class MegaMek {
                                 ms.getEntryName()).getEntity();
                         LogManager.getLogger().info("Validating Entity: " + entity.getShortNameRaw());
                         EntityVerifier entityVerifier = EntityVerifier.getInstance(
-                                new MegaMekFile(Configuration.unitsDir(),
-                                        EntityVerifier.CONFIG_FILENAME).getFile());
+                                new MegaMekFile(Configuration.unitsDir(), EntityVerifier.CONFIG_FILENAME).getFile());
                         MechView mechView = new MechView(entity, false);
                         StringBuffer sb = new StringBuffer(mechView.getMechReadout());
-                        if ((entity instanceof Mech) || (entity instanceof Tank)
-                                || (entity instanceof Aero) || (entity instanceof BattleArmor)) {
-                            TestEntity testEntity = null;
-                            if (entity instanceof Mech) {
-                                testEntity = new TestMech((Mech) entity, entityVerifier.mechOption,
-                                        null);
-                            } else if ((entity instanceof Tank) && !(entity instanceof GunEmplacement)) {
-                                if (entity.isSupportVehicle()) {
-                                    testEntity = new TestSupportVehicle(entity,
-                                            entityVerifier.tankOption, null);
-                                } else {
-                                    testEntity = new TestTank((Tank) entity,
-                                            entityVerifier.tankOption, null);
-                                }
-                            } else if ((entity.getEntityType() == Entity.ETYPE_AERO)
-                                    && (entity.getEntityType() != Entity.ETYPE_DROPSHIP)
-                                    && (entity.getEntityType() != Entity.ETYPE_SMALL_CRAFT)
-                                    && (entity.getEntityType() != Entity.ETYPE_FIGHTER_SQUADRON)
-                                    && (entity.getEntityType() != Entity.ETYPE_JUMPSHIP)
-                                    && (entity.getEntityType() != Entity.ETYPE_SPACE_STATION)) {
-                                testEntity = new TestAero((Aero) entity,
-                                        entityVerifier.aeroOption, null);
-                            } else if (entity instanceof BattleArmor) {
-                                testEntity = new TestBattleArmor((BattleArmor) entity,
-                                        entityVerifier.baOption, null);
-                            }
-
-                            if (testEntity != null) {
-                                testEntity.correctEntity(sb);
-                            }
+                        TestEntity testEntity = getTestEntity(entity, entityVerifier);
+                        if (testEntity != null) {
+                            testEntity.correctEntity(sb);
                         }
                         LogManager.getLogger().info(sb.toString());
                     } catch (Exception ex) {
@@ -434,6 +477,55 @@ public class MegaMek {
             System.exit(0);
         }
 
+        /**
+         * Validates every unit of the catalog and prints the units that are invalid.
+         */
+        private void processUnitValidatorAll() {
+            EntityVerifier entityVerifier = EntityVerifier.getInstance(
+                    new MegaMekFile(Configuration.unitsDir(), EntityVerifier.CONFIG_FILENAME).getFile());
+            MechSummary[] units = MechSummaryCache.getInstance().getAllMechs();
+            try {
+                Writer out = new BufferedWriter(new OutputStreamWriter(System.out));
+                new UnitBatchRunner("Unit Validator").run(units, unit -> {
+                    TestEntity testEntity = getTestEntity(unit.getEntity(), entityVerifier);
+                    StringBuffer sb = new StringBuffer();
+                    if ((testEntity == null) || testEntity.correctEntity(sb)) {
+                        return null;
+                    }
+                    return unit.getSummary().getName() + " (" + unit.getSummary().getSourceFile() + ")"
+                            + System.lineSeparator() + sb + System.lineSeparator();
+                }, out);
+            } catch (IOException ex) {
+                LogManager.getLogger().error("", ex);
+            }
+            System.exit(0);
+        }
+
+        /**
+         * @return the verifier test for the entity, or null if there is none for its type
+         */
+        private static @Nullable TestEntity getTestEntity(Entity entity, EntityVerifier entityVerifier) {
+            if (entity instanceof Mech) {
+                return new TestMech((Mech) entity, entityVerifier.mechOption, null);
+            } else if ((entity instanceof Tank) && !(entity instanceof GunEmplacement)) {
+                if (entity.isSupportVehicle()) {
+                    return new TestSupportVehicle(entity, entityVerifier.tankOption, null);
+                } else {
+                    return new TestTank((Tank) entity, entityVerifier.tankOption, null);
+                }
+            } else if ((entity.getEntityType() == Entity.ETYPE_AERO)
+                    && (entity.getEntityType() != Entity.ETYPE_DROPSHIP)
+                    && (entity.getEntityType() != Entity.ETYPE_SMALL_CRAFT)
+                    && (entity.getEntityType() != Entity.ETYPE_FIGHTER_SQUADRON)
+                    && (entity.getEntityType() != Entity.ETYPE_JUMPSHIP)
+                    && (entity.getEntityType() != Entity.ETYPE_SPACE_STATION)) {
+                return new TestAero((Aero) entity, entityVerifier.aeroOption, null);
+            } else if (entity instanceof BattleArmor) {
+                return new TestBattleArmor((BattleArmor) entity, entityVerifier.baOption, null);
+            }
+            return null;
+        }
+
         private void processUnitBattleForceConverter() {
             String filename;
             if (getToken() == TOK_LITERAL) {
@@ -458,13 +550,13 @@ public class MegaMek {
                     fw.newLine();
 
                     MechSummary[] units = MechSummaryCache.getInstance().getAllMechs();
-                    for (MechSummary unit : units) {
-                        Entity entity = new MechFileParser(unit.getSourceFile(),
-                                unit.getEntryName()).getEntity();
-
-                        BattleForceElement bfe = new BattleForceElement(entity);
-                        bfe.writeCsv(fw);
-                    }
+                    new UnitBatchRunner("BattleForce Converter").run(units, unit -> {
+                        StringWriter line = new StringWriter();
+                        try (BufferedWriter lineWriter = new BufferedWriter(line)) {
+                            new BattleForceElement(unit.getEntity()).writeCsv(lineWriter);
+                        }
+                        return line.toString();
+                    }, fw);
                 } catch (Exception e) {
                     LogManager.getLogger().error("", e);
                 }
@@ -498,13 +590,13 @@ public class MegaMek {
                     bw.newLine();
 
                     MechSummary[] units = MechSummaryCache.getInstance().getAllMechs();
-                    for (MechSummary unit : units) {
-                        Entity entity = new MechFileParser(unit.getSourceFile(),
-                                unit.getEntryName()).getEntity();
-
-                        AlphaStrikeElement ase = new AlphaStrikeElement(entity);
-                        ase.writeCsv(bw);
-                    }
+                    new UnitBatchRunner("AlphaStrike Converter").run(units, unit -> {
+                        StringWriter line = new StringWriter();
+                        try (BufferedWriter lineWriter = new BufferedWriter(line)) {
+                            new AlphaStrikeElement(unit.getEntity()).writeCsv(lineWriter);
+                        }
+                        return line.toString();
+                    }, bw);
                 } catch (Exception ex) {
                     LogManager.getLogger().error("", ex);
                 }
@@ -552,54 +644,8 @@ public class MegaMek {
                     bw.newLine();
 
                     MechSummary[] units = MechSummaryCache.getInstance(officialUnitList).getAllMechs();
-                    for (MechSummary unit : units) {
-                        String unitType = unit.getUnitType();
-                        if (unitType.equalsIgnoreCase("mek")) {
-                            unitType = "'Mech";
-                        }
-
-                        if (!officialUnitList) {
-                            bw.write(unitType);
-                            bw.write(",");
-                            bw.write(unit.getUnitSubType());
-                            bw.write(",");
-                            bw.write(unit.getChassis());
-                            bw.write(",");
-                            bw.write(unit.getModel());
-                            bw.write(",");
-                            bw.write(Integer.toString(unit.getBV()));
-                            bw.write(",");
-                            bw.write(Long.toString(unit.getCost()));
-                            bw.write(",");
-                            bw.write(Long.toString(unit.getUnloadedCost()));
-                            bw.write(",");
-                            bw.write(Integer.toString(unit.getYear()));
-                            bw.write(",");
-                            bw.write(TechConstants.getLevelDisplayableName(unit.getType()));
-                            bw.write(",");
-                            bw.write(Double.toString(unit.getTons()));
-                            bw.write(",");
-                            if (unit.isClan()) {
-                                bw.write("Clan,");
-                            } else {
-                                bw.write("IS,");
-                            }
-                            if (unit.isCanon()) {
-                                bw.write("Canon,");
-                            } else {
-                                bw.write("Non-Canon,");
-                            }
-                            bw.write(Integer.toString(unit.getWalkMp()));
-                            bw.write(",");
-                            bw.write(Integer.toString(unit.getRunMp()));
-                            bw.write(",");
-                            bw.write(Integer.toString(unit.getJumpMp()));
-                        } else {
-                            bw.write(unit.getChassis()
-                                    + (unit.getModel().isBlank() ? "|" : " " + unit.getModel() + "|"));
-                        }
-                        bw.newLine();
-                    }
+                    new UnitBatchRunner("Unit Exporter").run(units,
+                            unit -> exportLine(unit.getSummary(), officialUnitList), bw);
                 } catch (Exception ex) {
                     LogManager.getLogger().error("", ex);
                 }
@@ -607,6 +653,39 @@ public class MegaMek {
             System.exit(0);
         }
 
+        /**
+         * @return the line describing the unit in the unit export or the official unit list
+         */
+        private static String exportLine(MechSummary unit, boolean officialUnitList) {
+            StringBuilder line = new StringBuilder();
+            String unitType = unit.getUnitType();
+            if (unitType.equalsIgnoreCase("mek")) {
+                unitType = "'Mech";
+            }
+
+            if (!officialUnitList) {
+                line.append(unitType).append(',')
+                        .append(unit.getUnitSubType()).append(',')
+                        .append(unit.getChassis()).append(',')
+                        .append(unit.getModel()).append(',')
+                        .append(unit.getBV()).append(',')
+                        .append(unit.getCost()).append(',')
+                        .append(unit.getUnloadedCost()).append(',')
+                        .append(unit.getYear()).append(',')
+                        .append(TechConstants.getLevelDisplayableName(unit.getType())).append(',')
+                        .append(unit.getTons()).append(',')
+                        .append(unit.isClan() ? "Clan," : "IS,")
+                        .append(unit.isCanon() ? "Canon," : "Non-Canon,")
+                        .append(unit.getWalkMp()).append(',')
+                        .append(unit.getRunMp()).append(',')
+                        .append(unit.getJumpMp());
+            } else {
+                line.append(unit.getChassis())
+                        .append(unit.getModel().isBlank() ? "|" : " " + unit.getModel() + "|");
+            }
+            return line.append(System.lineSeparator()).toString();
+        }
+
         private void processRestOfInput() {
             Vector<String> v = new Vector<>();
             while (getArgValue() != null) {
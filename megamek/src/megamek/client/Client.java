@@ -139,6 +139,9 @@ public class Client implements IClientCommandHandler {
 
     private Thread connThread;
 
+    /** Runs the handling of received packets, see {@link #createPacketDispatcher()} */
+    private volatile PacketDispatcher packetDispatcher;
+
     private ConnectionListener connectionListener = new ConnectionListener() {
 
         /**
@@ -147,26 +150,26 @@ public class Client implements IClientCommandHandler {
         @Override
         public void disconnected(DisconnectedEvent e) {
             // We can't just run this directly, otherwise we open up all sorts
-            // of concurrency issues with the AWT event dispatch thread.
-            // Instead, if we will have the event dispatch thread handle it,
-            // by using SwingUtilities.invokeLater
-            // Not running this on the AWT EDT can lead to dead-lock
+            // of concurrency issues with the thread that handles the packets.
+            // Instead, we have the packet dispatcher handle it in order
+            // Not running this on the AWT EDT for GUI clients can lead to dead-lock
             Runnable handlePacketEvent = Client.this::disconnected;
-            SwingUtilities.invokeLater(handlePacketEvent);
+            packetDispatcher.dispatch(handlePacketEvent);
         }
 
         @Override
         public void packetReceived(final PacketReceivedEvent e) {
             // We can't just run this directly, otherwise we open up all sorts
             // of concurrency issues with the AWT event dispatch thread.
-            // Instead, if we will have the event dispatch thread handle it,
-            // by using SwingUtilities.invokeLater
+            // Instead, the packet dispatcher hands it to the event dispatch
+            // thread for GUI clients, or to a thread of the client's own for
+            // bots and headless clients; either way one packet at a time.
             // TODO: I don't think this is really what we should do: ideally
             // Client.handlePacket should play well with the AWT event queue,
             // but nothing appears to really be designed to be thread safe, so
             // this is a reasonable hack for now
             Runnable handlePacketEvent = () -> handlePacket(e.getPacket());
-            SwingUtilities.invokeLater(handlePacketEvent);
+            packetDispatcher.dispatch(handlePacketEvent);
         }
 
     };
@@ -237,6 +240,7 @@ public class Client implements IClientCommandHandler {
         connection = ConnectionFactory.getInstance().createClientConnection(host, port, 1);
         boolean result = connection.open();
         if (result) {
+            packetDispatcher = createPacketDispatcher();
             connection.addConnectionListener(connectionListener);
             packetUpdate = new ConnectionHandler();
             connThread = new Thread(packetUpdate, "Client Connection, Player " + name);
@@ -245,6 +249,35 @@ public class Client implements IClientCommandHandler {
         return result;
     }
 
+    /**
+     * Creates the dispatcher that decides on which thread the received packets are handled. Clients
+     * handle them on the AWT event dispatch thread unless there is no display.
+     *
+     * @return the packet dispatcher of this client
+     */
+    protected PacketDispatcher createPacketDispatcher() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return PacketDispatcher.singleThread("Client Packet Dispatch, Player " + name);
+        }
+        return PacketDispatcher.eventDispatchThread();
+    }
+
+    /**
+     * Runs a task on the thread that handles the packets of this client, in order with them. The GUI
+     * uses this to change the state of local bots, which handle their packets on a thread of their own.
+     * Before the client is connected, the task is run right away.
+     *
+     * @param task the task
+     */
+    public void runOnPacketThread(Runnable task) {
+        PacketDispatcher dispatcher = packetDispatcher;
+        if (dispatcher == null) {
+            task.run();
+        } else {
+            dispatcher.dispatch(task);
+        }
+    }
+
     /**
      * Shuts down threads and sockets
      */
@@ -264,6 +297,10 @@ public class Client implements IClientCommandHandler {
             connection.close();
         }
 
+        if (packetDispatcher != null) {
+            packetDispatcher.shutdown();
+        }
+
         for (int i = 0; i < closeClientListeners.size(); i++) {
             closeClientListeners.elementAt(i).clientClosed();
         }
@@ -1195,6 +1232,39 @@ public class Client implements IClientCommandHandler {
     }
 
 
+    /**
+     * Stores a page of past round reports. The server only sends the newest page when we connect to a running
+     * game, so the older pages are requested one at a time until the history is complete.
+     */
+    protected void receiveReportPage(ReportPage page) {
+        game.addReportPage(page);
+        if (page.getLastRound() >= game.getRoundCount()) {
+            roundReport = receiveReport(game.getReports(game.getRoundCount()));
+            // As with the full history, use the round report until the next phase completes.
+            phaseReport = roundReport;
+        }
+
+        int missingRound = game.getLastMissingReportRound();
+        if (missingRound > 0) {
+            requestReportPage(missingRound);
+        } else if (keepGameLog()) {
+            // Re-write gamelog.txt from scratch now that we have the whole history
+            initGameLog();
+            if (log != null) {
+                for (Vector<Report> roundReports : game.getReports(1, game.getReportRoundCount())) {
+                    log.append(receiveReport(roundReports));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asks the server for the page of past round reports that ends with the given round.
+     */
+    public void requestReportPage(int lastRound) {
+        send(new Packet(Packet.COMMAND_REQUEST_REPORTS_PAGE, lastRound));
+    }
+
     // Should be private?
     public String receiveReport(Vector<Report> v) {
         if (v == null) {
@@ -1542,6 +1612,9 @@ public class Client implements IClientCommandHandler {
                 // until the next phase actually completes.
                 phaseReport = roundReport;
                 break;
+            case Packet.COMMAND_SENDING_REPORTS_PAGE:
+                receiveReportPage((ReportPage) c.getObject(0));
+                break;
             case Packet.COMMAND_ENTITY_ATTACK:
                 receiveAttack(c);
                 break;
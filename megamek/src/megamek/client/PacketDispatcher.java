@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client;
+
+import javax.swing.*;
+
+/**
+ * Decides on which thread a {@link Client} handles the packets it receives. Packets are always handled
+ * one at a time and in the order they were received; they arrive already unmarshalled by the
+ * connection thread.
+ *
+ * Clients with a GUI handle their packets on the AWT event dispatch thread, as the GUI reacts to the
+ * game events they cause. Bots and headless clients use a thread of their own, so that many bots in
+ * one JVM don't queue up behind each other on the single event dispatch thread.
+ */
+public interface PacketDispatcher {
+
+    /**
+     * Queues a task to handle a received packet.
+     *
+     * @param task the task
+     */
+    void dispatch(Runnable task);
+
+    /**
+     * Releases the resources of the dispatcher after the client has disconnected. Tasks that were
+     * already queued are still run.
+     */
+    default void shutdown() { }
+
+    /**
+     * @return a dispatcher that handles packets on the AWT event dispatch thread
+     */
+    static PacketDispatcher eventDispatchThread() {
+        return SwingUtilities::invokeLater;
+    }
+
+    /**
+     * @param threadName the name of the dispatch thread
+     * @return a dispatcher that handles packets on a thread of its own
+     */
+    static PacketDispatcher singleThread(String threadName) {
+        return new ExecutorPacketDispatcher(threadName);
+    }
+}
@@ -14,6 +14,7 @@
 package megamek.client.bot;
 
 import megamek.client.Client;
+import megamek.client.PacketDispatcher;
 import megamek.client.bot.princess.CardinalEdge;
 import megamek.client.ui.swing.ClientGUI;
 import megamek.client.ui.swing.ReportDisplay;
@@ -23,6 +24,8 @@ import megamek.common.actions.WeaponAttackAction;
 import megamek.common.annotations.Nullable;
 import megamek.common.enums.GamePhase;
 import megamek.common.event.*;
+import megamek.common.metrics.Metrics;
+import megamek.common.metrics.MetricsEvents;
 import megamek.common.net.Packet;
 import megamek.common.options.OptionsConstants;
 import megamek.common.pathfinder.BoardClusterTracker;
@@ -34,10 +37,26 @@ import org.apache.logging.log4j.LogManager;
 import javax.swing.*;
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public abstract class BotClient extends Client {
     public static final int BOT_TURN_RETRY_COUNT = 3;
 
+    /** The turn deadline when no time limit is set, see {@link #getTurnDeadline()} */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    /**
+     * The thread calculating the turns of this bot. It is reused across turns instead of started anew
+     * for every one and shut down when the bot dies.
+     */
+    private final ExecutorService turnWorker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Bot Turn Worker, Player " + getName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private List<Entity> currentTurnEnemyEntities;
     private List<Entity> currentTurnFriendlyEntities;
     
@@ -50,6 +69,9 @@ public abstract class BotClient extends Client {
     boolean calculatedTurnThisPhase = false;
     int calculatedTurnsThisPhase = 0;
 
+    /** The value of System.nanoTime() by which the current turn should be submitted */
+    private volatile long turnDeadline = NO_DEADLINE;
+
     /**
      * Store a reference to the ClientGUI for the client who created this bot.
      * This is used to ensure keep the ClientGUI synchronized with changes to
@@ -88,12 +110,11 @@ public abstract class BotClient extends Client {
 
                 if (isMyTurn() && !ignoreSimTurn) {
                     calculatedTurnThisPhase = true;
-                    // Run bot's turn processing in a separate thread.
+                    // Run bot's turn processing on a worker thread.
                     // So calling thread is free to process the other actions.
-                    Thread worker = new Thread(new CalculateBotTurn(),
-                            getName() + " Turn " + game.getTurnIndex() + " Calc Thread"
-                    );
-                    worker.start();
+                    if (!turnWorker.isShutdown()) {
+                        turnWorker.execute(new CalculateBotTurn());
+                    }
                     calculatedTurnsThisPhase++;
                 }
 
@@ -468,6 +489,11 @@ public abstract class BotClient extends Client {
     private synchronized void calculateMyTurn() {
         int retryCount = 0;
         boolean success = false;
+        MetricsEvents.BotTurn event = new MetricsEvents.BotTurn();
+        long start = System.nanoTime();
+        int timeLimit = PreferenceManager.getClientPreferences().getBotTurnTimeLimit();
+        turnDeadline = (timeLimit > 0) ? start + TimeUnit.MILLISECONDS.toNanos(timeLimit) : NO_DEADLINE;
+        event.begin();
         
         while ((retryCount < BOT_TURN_RETRY_COUNT) && !success) {
             success = calculateMyTurnWorker();
@@ -478,6 +504,10 @@ public abstract class BotClient extends Client {
                 // limit number of retries, so we're not endlessly spinning
                 // if we can't recover from the error
                 retryCount++;
+                if (isPast(turnDeadline)) {
+                    // out of time for napping; retry right away so that some turn is still sent
+                    continue;
+                }
                 try {
                     Thread.sleep(Compute.randomInt(1000) + 500);
                 } catch (InterruptedException e) {
@@ -485,6 +515,14 @@ public abstract class BotClient extends Client {
                 }
             }
         }
+
+        event.end();
+        Metrics.getInstance().recordTime(Metrics.BOT_TURN, System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            event.player = getName();
+            event.phase = game.getPhase().name();
+            event.commit();
+        }
     }
 
     /**
@@ -550,6 +588,22 @@ public abstract class BotClient extends Client {
         }
     }
 
+    /**
+     * @return the value of {@link System#nanoTime()} by which the turn being calculated should be
+     * submitted, or {@link #NO_DEADLINE}. Calculations that can stop early should return their best
+     * result so far once it has passed, see {@link #isPast(long)}.
+     */
+    protected long getTurnDeadline() {
+        return turnDeadline;
+    }
+
+    /**
+     * @return true if the given turn deadline has passed
+     */
+    public static boolean isPast(long deadline) {
+        return (deadline != NO_DEADLINE) && (System.nanoTime() - deadline >= 0);
+    }
+
     public double getMassOfAllInBuilding(final Game game, final Coords coords) {
         double mass = 0;
 
@@ -1137,20 +1191,41 @@ public abstract class BotClient extends Client {
         JScrollPane scrollPane = new JScrollPane(textArea, ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED,
                                                  ScrollPaneConstants.HORIZONTAL_SCROLLBAR_AS_NEEDED);
         textArea.setText("<pre>" + message + "</pre>");
-        JOptionPane.showMessageDialog(frame, scrollPane, title, JOptionPane.ERROR_MESSAGE);
+        // Bots handle their packets off the event dispatch thread
+        SwingUtilities.invokeLater(() ->
+                JOptionPane.showMessageDialog(frame, scrollPane, title, JOptionPane.ERROR_MESSAGE));
+    }
+
+    @Override
+    public synchronized void die() {
+        // A turn being calculated is finished, but no new turns are started
+        turnWorker.shutdown();
+        super.die();
+    }
+
+    /**
+     * Bots handle their packets on a thread of their own rather than the AWT event dispatch thread,
+     * so that many bots don't hold each other (and the GUI) up.
+     */
+    @Override
+    protected PacketDispatcher createPacketDispatcher() {
+        return PacketDispatcher.singleThread("Bot Packet Dispatch, Player " + getName());
     }
 
     @Override
     protected void correctName(Packet inP) {
         // If we have a clientgui, it keeps track of a Name -> Client map, and
         //  we need to update that map with this name change.
+        // The map belongs to the GUI, so it is updated on the event dispatch thread
         if (getClientGUI() != null) {
             Map<String, Client> bots = getClientGUI().getBots();
             String oldName = getName();
             String newName = (String) (inP.getObject(0));
-            assert (equals(bots.get(oldName)));
-            bots.remove(oldName);
-            bots.put(newName, this);
+            SwingUtilities.invokeLater(() -> {
+                assert (equals(bots.get(oldName)));
+                bots.remove(oldName);
+                bots.put(newName, this);
+            });
         }
         setName((String) (inP.getObject(0)));
     }
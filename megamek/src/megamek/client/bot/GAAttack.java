@@ -18,7 +18,6 @@ import java.util.Iterator;
 
 import megamek.client.bot.ga.Chromosome;
 import megamek.client.bot.ga.GA;
-import megamek.common.Compute;
 import megamek.common.Entity;
 import megamek.common.Game;
 import megamek.common.Mech;
@@ -309,7 +308,7 @@ public class GAAttack extends GA {
         if (c1.genes.length < 1) {
             return;
         }
-        int r1 = (c1.genes.length > 2) ? Compute.randomInt(c1.genes.length - 1)
+        int r1 = (c1.genes.length > 2) ? getRandom(c1.genes.length - 1)
                 : 0;
         CEntity target = null;
         boolean done = false;
@@ -333,10 +332,10 @@ public class GAAttack extends GA {
         }
         if (target == null) { // then not shooting, so shoot something
             if ((attack.size() > r1) && (r1 > 1)) {
-                c1.genes[r1] = Compute.randomInt(attack.get(r1).size() - 1);
+                c1.genes[r1] = getRandom(attack.get(r1).size() - 1);
             } else {
                 // TODO : Is this the correct action to take?
-                c1.genes[r1] = Compute.randomInt(attack.get(0).size() - 1);
+                c1.genes[r1] = getRandom(attack.get(0).size() - 1);
             }
             AttackOption a = attack.get(r1).get(c1.genes[r1]);
             if (a.target != null) {
@@ -374,7 +373,7 @@ public class GAAttack extends GA {
         for (int i = 1; i < populationDim; i++) {
             Chromosome cv = chromosomes[i];
             for (int iGene = 0; iGene < (chromosomeDim - 1); iGene++) {
-                cv.genes[iGene] = Compute.randomInt(attack.get(iGene).size());
+                cv.genes[iGene] = getRandom(attack.get(iGene).size());
                 if (i <= attack.size()) {
                     if ((iGene + 1) == i) {
                         cv.genes[iGene] = 0; // fire
@@ -383,7 +382,7 @@ public class GAAttack extends GA {
                     }
                 }
             }
-            cv.genes[chromosomeDim - 1] = valid_target_indexes.get(Compute.randomInt(valid_target_indexes.size()));
+            cv.genes[chromosomeDim - 1] = valid_target_indexes.get(getRandom(valid_target_indexes.size()));
             chromosomes[i].fitness = getFitness(i);
         }
     }
@@ -825,7 +825,7 @@ public class TestBot extends BotClient {
                         if (enemy_move_array.size() < compare) {
                             to_check.add(enemy_move_array.get(k));
                         } else {
-                            int value = Compute.randomInt(enemy_move_array.size());
+                            int value = RandomStream.BOT_SIMULATION.forCurrentThread().randomInt(enemy_move_array.size());
                             if ((value % 2) == 1) {
                                 to_check.add(enemy_move_array.get(value));
                             } else {
@@ -1628,7 +1628,7 @@ public class TestBot extends BotClient {
                     // good turn, keep up the work, but randomize to reduce
                     // predictability
                     if ((friend_sum - foe_sum) >= ((.9 * unit_values) - enemy_values)) {
-                        if (Compute.randomInt(2) == 1) {
+                        if (RandomStream.BOT_SIMULATION.forCurrentThread().randomInt(2) == 1) {
                             centity.strategy.target += .3;
                         }
                         // lost that turn, but still in the fight, just get a
@@ -1943,11 +1943,10 @@ public class TestBot extends BotClient {
 
     protected void deployMinefields(Vector<Minefield> deployedMinefields,
                                     int number, int type) {
+        MMRandom random = RandomStream.BOT_SIMULATION.forCurrentThread();
         for (int i = 0; i < number; i++) {
-            Coords coords = new Coords(Compute.randomInt(game.getBoard()
-                                                             .getWidth()),
-                                       Compute.randomInt(game.getBoard().getHeight())
-            );
+            Coords coords = new Coords(random.randomInt(game.getBoard().getWidth()),
+                                       random.randomInt(game.getBoard().getHeight()));
 
             if (game.containsMinefield(coords)) {
                 Minefield mf = game.getMinefields(coords).get(0);
@@ -2487,7 +2486,7 @@ public class TestBot extends BotClient {
                         // If the location is at least close to being breached
                         // or the target is immobile
 
-                        if (values[temp_index] <= Compute.randomInt(5)) {
+                        if (values[temp_index] <= RandomStream.BOT_SIMULATION.forCurrentThread().randomInt(5)) {
                             aimed_attack.setAimedLocation(best_loc);
                         } else {
                             aimed_attack.setAimingMode(AimingMode.NONE);
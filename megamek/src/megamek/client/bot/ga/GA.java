@@ -14,6 +14,8 @@
  */
 package megamek.client.bot.ga;
 
+import megamek.common.RandomStream;
+
 import java.util.Arrays;
 
 public abstract class GA {
@@ -70,12 +72,15 @@ public abstract class GA {
         return chromosomes[best].fitness;
     }
 
-    int getRandom(int upperBound) {
-        return (int) (Math.random() * upperBound);
+    protected int getRandom(int upperBound) {
+        if (upperBound <= 0) {
+            return 0;
+        }
+        return RandomStream.BOT_SIMULATION.forCurrentThread().randomInt(upperBound);
     }
 
-    double getRandom(double upperBound) {
-        return Math.random() * upperBound;
+    protected double getRandom(double upperBound) {
+        return RandomStream.BOT_SIMULATION.forCurrentThread().randomFloat() * upperBound;
     }
 
     protected boolean shouldDoExhaustive() {
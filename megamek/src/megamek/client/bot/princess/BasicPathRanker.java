@@ -25,6 +25,7 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.function.IntConsumer;
 
 /**
  * A very "basic" pathranker
@@ -48,6 +49,10 @@ public class BasicPathRanker extends PathRanker implements IPathRanker {
     // the best damage enemies could expect were I not here. Used to determine 
     // whether they will target me.
     private Map<Integer, Double> bestDamageByEnemies;
+
+    // per-phase cache of enemy damage profiles and ranges, shared by every path ranked this phase
+    private final ThreatMap threatMap = new ThreatMap();
+    private final IntConsumer movableAreaListener = threatMap::movableAreaChanged;
     
     public BasicPathRanker(Princess owningPrincess) {
         super(owningPrincess);
@@ -63,13 +68,26 @@ public class BasicPathRanker extends PathRanker implements IPathRanker {
     }
 
     void setPathEnumerator(PathEnumerator pathEnumerator) {
+        if (this.pathEnumerator == pathEnumerator) {
+            return;
+        }
+        if (this.pathEnumerator != null) {
+            this.pathEnumerator.removeMovableAreaListener(movableAreaListener);
+        }
         this.pathEnumerator = pathEnumerator;
+        if (pathEnumerator != null) {
+            pathEnumerator.addMovableAreaListener(movableAreaListener);
+        }
     }
     
     PathEnumerator getPathEnumerator() {
         return pathEnumerator;
     }
 
+    ThreatMap getThreatMap() {
+        return threatMap;
+    }
+
     Map<Integer, Double> getBestDamageByEnemies() {
         return bestDamageByEnemies;
     }
@@ -82,6 +100,17 @@ public class BasicPathRanker extends PathRanker implements IPathRanker {
         return box.getClosestCoordsTo(location);
     }
 
+    /**
+     * @return The distance from the enemy's movable area to the given location, or -1 if the enemy has no movable
+     * area. Looked up in the threat map once it has been set up for this phase.
+     */
+    int getRangeToMovableArea(Entity enemy, Coords location) {
+        return threatMap.getRange(enemy, location, coords -> {
+            Coords closest = getClosestCoordsTo(enemy.getId(), coords);
+            return (closest == null) ? -1 : closest.distance(coords);
+        });
+    }
+
     boolean isInMyLoS(Entity unit, HexLine leftBounds, HexLine rightBounds) {
         return (leftBounds.judgeArea(pathEnumerator.getUnitMovableAreas().get(unit.getId())) > 0)
                && (rightBounds.judgeArea(pathEnumerator.getUnitMovableAreas().get(unit.getId())) < 0);
@@ -90,6 +119,9 @@ public class BasicPathRanker extends PathRanker implements IPathRanker {
     double getMaxDamageAtRange(FireControl fireControl, Entity shooter,
                                int range, boolean useExtremeRange,
                                boolean useLOSRange) {
+        if (threatMap.isActive(useExtremeRange, useLOSRange)) {
+            return threatMap.getMaxDamageAtRange(shooter, range, useExtremeRange, useLOSRange);
+        }
         return fireControl.getMaxDamageAtRange(shooter, range, useExtremeRange,
                                                useLOSRange);
     }
@@ -137,11 +169,10 @@ public class BasicPathRanker extends PathRanker implements IPathRanker {
         Coords behind = finalCoords.translated((myFacing + 3) % 6);
         Coords leftFlank = finalCoords.translated((myFacing + 2) % 6);
         Coords rightFlank = finalCoords.translated((myFacing + 4) % 6);
-        Coords closest = getClosestCoordsTo(enemy.getId(), finalCoords);
-        if (closest == null) {
+        int range = getRangeToMovableArea(enemy, finalCoords);
+        if (range < 0) {
             return returnResponse;
         }
-        int range = closest.distance(finalCoords);
 
         // I would prefer if the enemy must end its move in my line of fire 
         // if so, I can guess that I may do some damage to it (cover 
@@ -650,12 +681,15 @@ public class BasicPathRanker extends PathRanker implements IPathRanker {
     }
     
     /**
-     * Calculate who all other units would shoot at if I weren't around
+     * Calculate who all other units would shoot at if I weren't around, and bring the threat map up to date
      */
     @Override
     public void initUnitTurn(Entity unit, Game game) {
         bestDamageByEnemies.clear();
         List<Entity> enemies = getOwner().getEnemyEntities();
+        threatMap.update(game, unit, enemies,
+                game.getOptions().booleanOption(OptionsConstants.ADVCOMBAT_TACOPS_RANGE),
+                game.getOptions().booleanOption(OptionsConstants.ADVCOMBAT_TACOPS_LOS_RANGE));
         List<Entity> friends = getOwner().getFriendEntities();
         for (Entity e : enemies) {
             double max_damage = 0;
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.bot.princess;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A thread-safe queue of units whose paths need to be recalculated, ordered by priority (lowest first) and then
+ * by unit id. Invalidations are coalesced: a unit is only ever queued once, and queuing it again keeps the more
+ * urgent of the two priorities.
+ */
+class DirtyUnitQueue {
+
+    private static class DirtyUnit implements Comparable<DirtyUnit> {
+        private final int id;
+        private final int priority;
+
+        private DirtyUnit(int id, int priority) {
+            this.id = id;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(DirtyUnit other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    private final TreeSet<DirtyUnit> queue = new TreeSet<>();
+    private final Map<Integer, DirtyUnit> queuedUnits = new HashMap<>();
+
+    /**
+     * Queues a unit for recalculation.
+     *
+     * @param id       The id of the unit.
+     * @param priority How soon the unit's paths are needed; lower values are recalculated first.
+     * @return true if the unit was not already queued.
+     */
+    synchronized boolean add(int id, int priority) {
+        final DirtyUnit existing = queuedUnits.get(id);
+        if (existing != null) {
+            if (existing.priority <= priority) {
+                return false;
+            }
+            queue.remove(existing);
+        }
+        final DirtyUnit dirtyUnit = new DirtyUnit(id, priority);
+        queue.add(dirtyUnit);
+        queuedUnits.put(id, dirtyUnit);
+        return existing == null;
+    }
+
+    /**
+     * @return The id of the most urgent unit, removing it from the queue, or null if the queue is empty.
+     */
+    synchronized Integer poll() {
+        return poll(null);
+    }
+
+    /**
+     * @param excluded Ids of units that should be left in the queue for now, such as units that are already being
+     *                 recalculated. May be null.
+     * @return The id of the most urgent unit not in the excluded ids, removing it from the queue, or null if there
+     *         is no such unit.
+     */
+    synchronized Integer poll(Collection<Integer> excluded) {
+        final Iterator<DirtyUnit> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            final DirtyUnit dirtyUnit = iterator.next();
+            if ((excluded == null) || !excluded.contains(dirtyUnit.id)) {
+                iterator.remove();
+                queuedUnits.remove(dirtyUnit.id);
+                return dirtyUnit.id;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true if any queued unit is not in the excluded ids.
+     */
+    synchronized boolean hasAvailable(Collection<Integer> excluded) {
+        if ((excluded == null) || excluded.isEmpty()) {
+            return !queue.isEmpty();
+        }
+        for (DirtyUnit dirtyUnit : queue) {
+            if (!excluded.contains(dirtyUnit.id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    synchronized int size() {
+        return queue.size();
+    }
+
+    synchronized void clear() {
+        queue.clear();
+        queuedUnits.clear();
+    }
+}
@@ -1230,6 +1230,19 @@ public class FireControl {
         firingPlan.setUtility(utility);
     }
 
+    /**
+     * Calculates the stand-alone utility of firing a single weapon, ignoring any target-wide modifiers. This is
+     * used to rank weapons against each other when building firing plans under a heat limit.
+     *
+     * @param weaponFireInfo The shot to be evaluated.
+     * @return The damage, critical and kill utility of the shot.
+     */
+    double calcWeaponUtility(final WeaponFireInfo weaponFireInfo) {
+        return (DAMAGE_UTILITY * weaponFireInfo.getExpectedDamageOnHit() * weaponFireInfo.getProbabilityToHit())
+                + (CRITICAL_UTILITY * weaponFireInfo.getExpectedCriticals())
+                + (KILL_UTILITY * weaponFireInfo.getKillProbability());
+    }
+
     protected double calcStrategicBuildingTargetUtility(final Targetable target) {
         if (!(target instanceof BuildingTarget)) {
             return 0;
@@ -1942,33 +1955,32 @@ public class FireControl {
             bestPlans[maxHeat + 3] = fieldGuns;
         }
 
-        // build up heat table
-        for (int heatLevel = 1; heatLevel <= maxHeat; heatLevel++) {
-            bestPlans[heatLevel] = new FiringPlan(target);
-
-            // Include all the firing options that exist at the last heat level.
-            bestPlans[heatLevel].addAll(bestPlans[heatLevel - 1]);
-            calculateUtility(bestPlans[heatLevel], heatTolerance, isAero);
-
-            for (final WeaponFireInfo weaponFireInfo : nonZeroHeatOptions) {
-
-                final int leftoverHeatCapacity = heatLevel - weaponFireInfo.getHeat();
-
-                // If this attack produces heat and is not already included in the plan, check its utility.
-                if ((0 <= leftoverHeatCapacity) &&
-                    !bestPlans[leftoverHeatCapacity].containsWeapon(weaponFireInfo.getWeapon())) {
+        // build up heat table: solve the knapsack once for every heat level, with the heat-generating weapons
+        // ordered from coolest to hottest
+        final List<WeaponFireInfo> heatOptions = new ArrayList<>(nonZeroHeatOptions);
+        heatOptions.sort(Comparator.comparingInt(WeaponFireInfo::getHeat));
+        final int[] weaponHeat = new int[heatOptions.size()];
+        final double[] weaponUtility = new double[heatOptions.size()];
+        for (int index = 0; index < heatOptions.size(); index++) {
+            weaponHeat[index] = heatOptions.get(index).getHeat();
+            weaponUtility[index] = calcWeaponUtility(heatOptions.get(index));
+        }
+        final HeatKnapsack knapsack = new HeatKnapsack(weaponHeat, weaponUtility, maxHeat);
 
-                    // make sure to pass along arm flip state from the alpha strike, if any
-                    final FiringPlan testPlan = new FiringPlan(target, alphaStrike.getFlipArms());
-                    testPlan.addAll(bestPlans[heatLevel - weaponFireInfo.getHeat()]);
-                    testPlan.add(weaponFireInfo);
-                    calculateUtility(testPlan, heatTolerance, isAero);
+        for (int heatLevel = 1; heatLevel <= maxHeat; heatLevel++) {
+            // make sure to pass along arm flip state from the alpha strike, if any
+            final FiringPlan testPlan = new FiringPlan(target, alphaStrike.getFlipArms());
+            testPlan.addAll(bestPlans[0]);
+            for (final int index : knapsack.getSelection(heatLevel)) {
+                testPlan.add(heatOptions.get(index));
+            }
+            calculateUtility(testPlan, heatTolerance, isAero);
 
-                    // If this plan has a higher utility, add it.
-                    if (testPlan.getUtility() > bestPlans[heatLevel].getUtility()) {
-                        bestPlans[heatLevel] = testPlan;
-                    }
-                }
+            // Only take on the extra heat if the plan actually has a higher utility than the last heat level.
+            if (testPlan.getUtility() > bestPlans[heatLevel - 1].getUtility()) {
+                bestPlans[heatLevel] = testPlan;
+            } else {
+                bestPlans[heatLevel] = bestPlans[heatLevel - 1];
             }
         }
         
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.bot.princess;
+
+/**
+ * Solves the 0/1 knapsack problem for firing plans: given the heat and utility of each weapon (or arc, or bay),
+ * finds the set of items with the highest total utility for every heat budget from 0 to the maximum heat in a
+ * single pass over the item list.
+ *
+ * Items are only ever added when they strictly improve the utility of a budget, so items with zero or negative
+ * utility are never selected.
+ */
+class HeatKnapsack {
+    private final int[] heat;
+    private final int maxHeat;
+    private final double[] bestUtility;
+    private final boolean[][] taken;
+
+    /**
+     * @param heat    The heat generated by each item. Negative values are treated as zero.
+     * @param utility The utility of each item, in the same order as the heat.
+     * @param maxHeat The largest heat budget that will be queried.
+     */
+    HeatKnapsack(final int[] heat, final double[] utility, final int maxHeat) {
+        this.heat = heat;
+        this.maxHeat = Math.max(0, maxHeat);
+        bestUtility = new double[this.maxHeat + 1];
+        taken = new boolean[heat.length][this.maxHeat + 1];
+
+        for (int item = 0; item < heat.length; item++) {
+            final int itemHeat = Math.max(0, heat[item]);
+            for (int budget = this.maxHeat; budget >= itemHeat; budget--) {
+                final double withItem = bestUtility[budget - itemHeat] + utility[item];
+                if (withItem > bestUtility[budget]) {
+                    bestUtility[budget] = withItem;
+                    taken[item][budget] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The highest total utility that can be achieved without exceeding the given heat.
+     */
+    double getBestUtility(final int heatBudget) {
+        if (heatBudget < 0) {
+            return 0;
+        }
+        return bestUtility[Math.min(heatBudget, maxHeat)];
+    }
+
+    /**
+     * @return The indices, in ascending order, of the items making up the best selection under the given heat.
+     */
+    int[] getSelection(final int heatBudget) {
+        if (heatBudget < 0) {
+            return new int[0];
+        }
+
+        final boolean[] selected = new boolean[heat.length];
+        int count = 0;
+        int budget = Math.min(heatBudget, maxHeat);
+        for (int item = heat.length - 1; item >= 0; item--) {
+            if (taken[item][budget]) {
+                selected[item] = true;
+                count++;
+                budget -= Math.max(0, heat[item]);
+            }
+        }
+
+        final int[] selection = new int[count];
+        int index = 0;
+        for (int item = 0; item < heat.length; item++) {
+            if (selected[item]) {
+                selection[index++] = item;
+            }
+        }
+        return selection;
+    }
+}
@@ -3,6 +3,7 @@ package megamek.client.bot.princess;
 import java.util.ArrayList;
 import java.util.List;
 
+import megamek.client.bot.BotClient;
 import megamek.common.Coords;
 import megamek.common.Entity;
 import megamek.common.Game;
@@ -14,6 +15,17 @@ public interface IPathRanker {
     ArrayList<RankedPath> rankPaths(List<MovePath> movePaths, Game game, int maxRange, double fallTolerance,
             List<Entity> enemies, List<Entity> friends);
 
+    /**
+     * Ranks the paths until the given deadline, see {@link BotClient#getTurnDeadline()}. The paths with
+     * distinct outcomes are ranked first; when the deadline passes, the paths ranked so far are returned,
+     * so that the best of them can be used.
+     *
+     * @param deadline the value of {@link System#nanoTime()} by which ranking should stop, or
+     *                 {@link BotClient#NO_DEADLINE}
+     */
+    ArrayList<RankedPath> rankPaths(List<MovePath> movePaths, Game game, int maxRange, double fallTolerance,
+            List<Entity> enemies, List<Entity> friends, long deadline);
+
     /**
      * Performs initialization to help speed later calls of rankPath for this
      * unit on this turn. Rankers that extend this class should override this
@@ -129,12 +129,11 @@ public class InfantryPathRanker extends BasicPathRanker implements IPathRanker {
         Coords behind = finalCoords.translated((myFacing + 3) % 6);
         Coords leftFlank = finalCoords.translated((myFacing + 2) % 6);
         Coords rightFlank = finalCoords.translated((myFacing + 4) % 6);
-        Coords closest = getClosestCoordsTo(enemy.getId(), finalCoords);
-        if (closest == null) {
+        int range = getRangeToMovableArea(enemy, finalCoords);
+        if (range < 0) {
             return returnResponse;
         }
         
-        int range = closest.distance(finalCoords);
         // assume that an enemy unit is highly unlikely to stand there and let you swarm them 
         if (range <= 0) {
             range = 1;
@@ -153,13 +152,16 @@ public class InfantryPathRanker extends BasicPathRanker implements IPathRanker {
 						useLOSRange) * damageDiscount);
 
         //in general if an enemy can end its position in range, it can hit me
+        //this only depends on where I end up, so it is worked out once per hex and elevation
+        final int enemyRange = range;
         returnResponse.addToEstimatedEnemyDamage(
-        		((InfantryFireControl) getOwner().getFireControl(FireControlType.Infantry)).getMaxDamageAtRange(
-        				blankEnemyPath,
-        				path,
-        				range,
-        				useExtremeRange,
-        				useLOSRange) * damageDiscount);
+                getThreatMap().getIncomingDamage(enemy, finalCoords, path.getFinalElevation(),
+                        useExtremeRange, useLOSRange, () -> ((InfantryFireControl) getOwner().getFireControl(FireControlType.Infantry))
+                                .getMaxDamageAtRange(blankEnemyPath,
+                                        path,
+                                        enemyRange,
+                                        useExtremeRange,
+                                        useLOSRange)) * damageDiscount);
         
         //It is especially embarrassing if the enemy can move behind or flank me and then kick me
         if (canFlankAndKick(enemy, behind, leftFlank, rightFlank, myFacing)) {
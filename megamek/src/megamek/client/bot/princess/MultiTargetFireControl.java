@@ -231,63 +231,19 @@ public class MultiTargetFireControl extends FireControl {
             arcDamage.put(arc, arcDamage.get(arc) + shot.getExpectedDamage());
         }
         
-        // initialize the backpack
-        Map<Integer, Map<Integer, List<Integer>>> arcBackpack = new HashMap<>();
-        for (int x = 0; x < arcShots.keySet().size(); x++) {
-            arcBackpack.put(x, new HashMap<>());
-            
-            for (int y = 0; y < shooter.getHeatCapacity(); y++) {
-                arcBackpack.get(x).put(y, new ArrayList<>());
-            }
-        }
-        
-        double[][] damageBackpack = new double[arcShots.keySet().size()][shooter.getHeatCapacity()];
-        Integer[] arcHeatKeyArray = new Integer[arcHeat.keySet().size()];
-        System.arraycopy(arcHeat.keySet().toArray(), 0, arcHeatKeyArray, 0, arcHeat.keySet().size());       
-        
-        // now, we essentially solve the backpack problem, where the arcs are the items:
+        // now, we solve the backpack problem, where the arcs are the items:
         // arc expected damage is the "value", and arc heat is the "weight", while the backpack capacity is the unit's heat capacity.
-        // while we're at it, we assemble the list of arcs fired for each cell
-        for (int arcIndex = 0; arcIndex < arcHeatKeyArray.length; arcIndex++) {
-            for (int heatIndex = 0; heatIndex < shooter.getHeatCapacity(); heatIndex++) {
-                int previousArc = arcIndex > 0 ? arcHeatKeyArray[arcIndex - 1] : 0;
-                
-                if (arcIndex == 0 || heatIndex == 0) {
-                    damageBackpack[arcIndex][heatIndex] = 0;
-                } else if (arcHeat.get(previousArc) <= heatIndex) {
-                    int previousHeatIndex = heatIndex - arcHeat.get(previousArc);
-                    double currentArcDamage = arcDamage.get(previousArc) + damageBackpack[arcIndex - 1][previousHeatIndex];
-                    double accumulatedPreviousArcDamage = damageBackpack[arcIndex - 1][heatIndex];
-                    
-                    if (currentArcDamage > accumulatedPreviousArcDamage) {
-                        // we can add this arc to the list and it'll improve the damage done
-                        // so let's do it
-                        damageBackpack[arcIndex][heatIndex] = currentArcDamage;
-                        // make sure we don't accidentally update the cell we're examining
-                        List<Integer> appendedArcList = new ArrayList<>(arcBackpack.get(arcIndex - 1).get(previousHeatIndex));
-                        appendedArcList.add(previousArc);
-                        arcBackpack.get(arcIndex).put(heatIndex, appendedArcList);
-                    } else {
-                        // we *can* add this arc to the list, but it won't take us past the damage
-                        // provided by the previous arc, so carry value from left to right
-                        damageBackpack[arcIndex][heatIndex] = accumulatedPreviousArcDamage;
-                        arcBackpack.get(arcIndex).put(heatIndex, arcBackpack.get(arcIndex - 1).get(heatIndex));
-                    }
-                    
-                } else {
-                    // in this case, we're simply carrying the value from the left to the right
-                    damageBackpack[arcIndex][heatIndex] = damageBackpack[arcIndex - 1][heatIndex];
-                    arcBackpack.get(arcIndex).put(heatIndex, arcBackpack.get(arcIndex - 1).get(heatIndex));
-                }
-            }
+        final List<Integer> arcs = new ArrayList<>(arcShots.keySet());
+        final int[] heatByArc = new int[arcs.size()];
+        final double[] damageByArc = new double[arcs.size()];
+        for (int arcIndex = 0; arcIndex < arcs.size(); arcIndex++) {
+            heatByArc[arcIndex] = arcHeat.get(arcs.get(arcIndex));
+            damageByArc[arcIndex] = arcDamage.get(arcs.get(arcIndex));
         }
         
-        // now, we look at the bottom right cell, which contains our optimal firing solution
-        // unless there is no firing solution at all, in which case we skip this part
-        if (arcBackpack.size() > 0) {
-            for (int arc : arcBackpack.get(arcBackpack.size() - 1).get(shooter.getHeatCapacity() - 1)) {
-                retVal.addAll(arcShots.get(arc));
-            }
+        final HeatKnapsack backpack = new HeatKnapsack(heatByArc, damageByArc, shooter.getHeatCapacity() - 1);
+        for (int arcIndex : backpack.getSelection(shooter.getHeatCapacity() - 1)) {
+            retVal.addAll(arcShots.get(arcs.get(arcIndex)));
         }
         
         return retVal;
@@ -333,57 +289,18 @@ public class MultiTargetFireControl extends FireControl {
             actualHeatCapacity += heatCapacityModifier;
         }
         
-        // initialize the backpack
-        Map<Integer, Map<Integer, List<Integer>>> shotBackpack = new HashMap<>();
-        for (int x = 0; x <= shotList.size(); x++) {
-            shotBackpack.put(x, new HashMap<>());
-            
-            for (int y = 0; y < actualHeatCapacity; y++) {
-                shotBackpack.get(x).put(y, new ArrayList<>());
-            }
-        }
-        
-        double[][] damageBackpack = new double[shotList.size() + 1][actualHeatCapacity];     
-        
         // like the above method, we solve the backpack problem here:
         // WeaponFireInfo are the items
         // expected damage is the "value", heat is the "weight", backpack capacity is the unit's heat capacity
-        // while we're at it, we assemble the list of shots fired for each cell
-        for (int shotIndex = 0; shotIndex <= shotList.size(); shotIndex++) {
-            for (int heatIndex = 0; heatIndex < actualHeatCapacity; heatIndex++) {
-                if (shotIndex == 0 || heatIndex == 0) {
-                    damageBackpack[shotIndex][heatIndex] = 0;
-                } else if (shotList.get(shotIndex - 1).getHeat() <= heatIndex) {
-                    int previousHeatIndex = heatIndex - shotList.get(shotIndex - 1).getHeat();
-                    double currentShotDamage = shotList.get(shotIndex - 1).getExpectedDamage() + 
-                            damageBackpack[shotIndex - 1][previousHeatIndex];
-                    double accumulatedPreviousShotDamage = damageBackpack[shotIndex - 1][heatIndex];
-                    
-                    if (currentShotDamage > accumulatedPreviousShotDamage) {
-                        // we can add this shot to the list and it'll improve the damage done
-                        // so let's do it
-                        damageBackpack[shotIndex][heatIndex] = currentShotDamage;
-                        // make sure we don't accidentally update the cell we're examining
-                        List<Integer> appendedShotList = new ArrayList<>(shotBackpack.get(shotIndex - 1).get(previousHeatIndex));
-                        appendedShotList.add(shotIndex - 1);
-                        shotBackpack.get(shotIndex).put(heatIndex, appendedShotList);
-                    } else {
-                        // we *can* add this arc to the list, but it won't take us past the damage
-                        // provided by the previous arc, so carry value from left to right
-                        damageBackpack[shotIndex][heatIndex] = accumulatedPreviousShotDamage;
-                        shotBackpack.get(shotIndex).put(heatIndex, shotBackpack.get(shotIndex - 1).get(heatIndex));
-                    }
-                    
-                } else {
-                    // in this case, we're simply carrying the value from the left to the right
-                    damageBackpack[shotIndex][heatIndex] = damageBackpack[shotIndex - 1][heatIndex];
-                    shotBackpack.get(shotIndex).put(heatIndex, shotBackpack.get(shotIndex - 1).get(heatIndex));
-                }
-            }
+        final int[] shotHeat = new int[shotList.size()];
+        final double[] shotDamage = new double[shotList.size()];
+        for (int shotIndex = 0; shotIndex < shotList.size(); shotIndex++) {
+            shotHeat[shotIndex] = shotList.get(shotIndex).getHeat();
+            shotDamage[shotIndex] = shotList.get(shotIndex).getExpectedDamage();
         }
         
-        // now, we look at the bottom right cell, which contains our optimal firing solution
-        for (int shotIndex : shotBackpack.get(shotBackpack.size() - 1).get(actualHeatCapacity - 1)) {
+        final HeatKnapsack backpack = new HeatKnapsack(shotHeat, shotDamage, actualHeatCapacity - 1);
+        for (int shotIndex : backpack.getSelection(actualHeatCapacity - 1)) {
             retVal.add(shotList.get(shotIndex));
         }
         
@@ -103,11 +103,10 @@ public class NewtonianAerospacePathRanker extends BasicPathRanker implements IPa
                     new EntityEvaluationResponse();
 
         Coords finalCoords = path.getFinalCoords();
-        Coords closest = getClosestCoordsTo(enemy.getId(), finalCoords);
-        if (closest == null) {
+        int range = getRangeToMovableArea(enemy, finalCoords);
+        if (range < 0) {
             return returnResponse;
         }
-        int range = closest.distance(finalCoords);
         if (range == 0) {
             range = 1;
         }
@@ -18,6 +18,7 @@ import megamek.client.bot.princess.BotGeometry.ConvexBoardArea;
 import megamek.client.bot.princess.BotGeometry.CoordFacingCombo;
 import megamek.common.*;
 import megamek.common.MovePath.MoveStepType;
+import megamek.common.annotations.Nullable;
 import megamek.common.pathfinder.AbstractPathFinder.Filter;
 import megamek.common.pathfinder.*;
 import megamek.common.pathfinder.AeroGroundPathFinder.AeroGroundOffBoardFilter;
@@ -28,7 +29,9 @@ import org.apache.logging.log4j.LogManager;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
 
 /**
  * This class contains logic that calculates and stores 
@@ -47,6 +50,11 @@ public class PathEnumerator {
 
     private AtomicBoolean mapHasBridges = null;
     private final Object BRIDGE_LOCK = new Object();
+    // the cluster tracker used by long range pathing is shared by all units
+    private final Object LONG_RANGE_PATH_LOCK = new Object();
+    // incremented by clear(), so that results computed before a clear are not stored after it
+    private int generation;
+    private final List<IntConsumer> movableAreaListeners = new CopyOnWriteArrayList<>();
 
     public PathEnumerator(Princess owningPrincess, Game game) {
         owner = owningPrincess;
@@ -57,13 +65,46 @@ public class PathEnumerator {
         return owner;
     }
 
-    void clear() {
+    synchronized void clear() {
+        generation++;
         getUnitPaths().clear();
         getUnitPotentialLocations().clear();
         getLastKnownLocations().clear();
         getLongRangePaths().clear();
     }
 
+    /**
+     * Removes everything known about a unit, such as when it has left the game.
+     */
+    synchronized void removeUnit(int id) {
+        getLastKnownLocations().remove(id);
+        getUnitMovableAreas().remove(id);
+        getUnitPaths().remove(id);
+        getUnitPotentialLocations().remove(id);
+        getLongRangePaths().remove(id);
+        fireMovableAreaChanged(id);
+    }
+
+    /**
+     * Adds a listener that is told the id of a unit whenever its movable area has been replaced or removed.
+     */
+    void addMovableAreaListener(IntConsumer listener) {
+        movableAreaListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addMovableAreaListener(IntConsumer)}.
+     */
+    void removeMovableAreaListener(IntConsumer listener) {
+        movableAreaListeners.remove(listener);
+    }
+
+    private void fireMovableAreaChanged(int id) {
+        for (IntConsumer listener : movableAreaListeners) {
+            listener.accept(id);
+        }
+    }
+
     Coords getLastKnownCoords(Integer entityId) {
         CoordFacingCombo ccr = getLastKnownLocations().get(entityId);
         if (ccr == null) {
@@ -84,7 +125,8 @@ public class PathEnumerator {
         if (location == null) {
             return returnSet;
         }
-        for (Integer id : getUnitPotentialLocations().keySet()) {
+        for (Map.Entry<Integer, Set<CoordFacingCombo>> locations : getUnitPotentialLocations().entrySet()) {
+            Integer id = locations.getKey();
             if (groundOnly
                     && getGame().getEntity(id) != null
                     && getGame().getEntity(id).isAero()) {
@@ -92,7 +134,7 @@ public class PathEnumerator {
             }
 
             for (int facing = 0; facing < 5; facing++) {
-                if (getUnitPotentialLocations().get(id).contains(CoordFacingCombo.createCoordFacingCombo
+                if (locations.getValue().contains(CoordFacingCombo.createCoordFacingCombo
                         (location, facing))) {
                     returnSet.add(id);
                     break;
@@ -105,22 +147,46 @@ public class PathEnumerator {
     /**
      * From a list of potential moves, make a potential ending location chart
      */
-    void updateUnitLocations(Entity entity, List<MovePath> paths) {
-        // clear previous locations for this entity
-        getUnitPotentialLocations().remove(entity.getId());
-        //
-        Set<CoordFacingCombo> toAdd = new HashSet<>();
+    private static Set<CoordFacingCombo> getPotentialLocations(List<MovePath> paths) {
+        Set<CoordFacingCombo> locations = new HashSet<>();
         for (MovePath path : paths) {
-            toAdd.add(CoordFacingCombo.createCoordFacingCombo(path));
+            locations.add(CoordFacingCombo.createCoordFacingCombo(path));
+        }
+        return locations;
+    }
+
+    /**
+     * Replaces everything known about a unit at once, so that readers and {@link #clear()} never see
+     * the results of a unit half updated. Results computed before the last clear are dropped; the
+     * units are recalculated after a clear anyway.
+     */
+    private synchronized void storeMoves(int id, int computedGeneration, CoordFacingCombo lastKnownLocation,
+                                         List<MovePath> paths, Set<CoordFacingCombo> locations,
+                                         ConvexBoardArea movableArea,
+                                         @Nullable List<BulldozerMovePath> longRangePaths) {
+        if (computedGeneration != generation) {
+            return;
+        }
+        getLastKnownLocations().put(id, lastKnownLocation);
+        getUnitPotentialLocations().put(id, locations);
+        getUnitPaths().put(id, paths);
+        getUnitMovableAreas().put(id, movableArea);
+        if (longRangePaths == null) {
+            getLongRangePaths().remove(id);
+        } else {
+            getLongRangePaths().put(id, longRangePaths);
         }
-        getUnitPotentialLocations().put(entity.getId(), toAdd);
+        fireMovableAreaChanged(id);
     }
 
     /**
      * Calculate what to do on my turn.
      * Has a retry mechanism for when the turn calculation fails due to concurrency issues
+     * 
+     * Different units may be recalculated at the same time from different threads. The paths are
+     * computed without holding a lock; the results of a unit are then stored all at once.
      */
-    public synchronized void recalculateMovesFor(final Entity mover) {
+    public void recalculateMovesFor(final Entity mover) {
         int retryCount = 0;
         boolean success = false;
         
@@ -145,27 +211,24 @@ public class PathEnumerator {
     /**
      * calculates all moves for a given unit, keeping the shortest (or longest, depending) path to each facing/pair
      */
-    private boolean recalculateMovesForWorker(final Entity mover) {
+    boolean recalculateMovesForWorker(final Entity mover) {
         try {
+            final int computedGeneration;
+            synchronized (this) {
+                computedGeneration = generation;
+            }
             // Record it's current position.
-            getLastKnownLocations().put(
-                    mover.getId(),
-                    CoordFacingCombo.createCoordFacingCombo(
-                            mover.getPosition(), mover.getFacing()));
-
-            // Clear out any already calculated paths.
-            getUnitPaths().remove(mover.getId());
-            getLongRangePaths().remove(mover.getId());
-            
+            final CoordFacingCombo lastKnownLocation = CoordFacingCombo.createCoordFacingCombo(
+                    mover.getPosition(), mover.getFacing());
+
             // if the entity does not exist in the game for any reason, let's cut out safely
             // otherwise, we'll run into problems calculating paths
             if (getGame().getEntity(mover.getId()) == null) {
                 // clean up orphaned entries in local storage
-                getUnitMovableAreas().remove(mover.getId());
-                getUnitPotentialLocations().remove(mover.getId());
-                getLastKnownLocations().remove(mover.getId());
+                removeUnit(mover.getId());
                 return true;
             }
+            List<BulldozerMovePath> longRangePaths = null;
 
             // Start constructing the new list of paths.
             List<MovePath> paths = new ArrayList<>();
@@ -229,7 +292,7 @@ public class PathEnumerator {
                 paths.addAll(ipf.getAllComputedPathsUncategorized());
                 
                 // generate long-range paths appropriate to the bot's current state
-                updateLongRangePaths(mover);
+                longRangePaths = findLongRangePaths(mover);
             // this handles situations where a unit is high up in the air, but is not an aircraft
             // such as an ejected pilot or a unit hot dropping from a dropship, as these cannot move
             } else if (!mover.isAero() && mover.isAirborne()) {
@@ -286,19 +349,18 @@ public class PathEnumerator {
                 paths = new ArrayList<>(filter.doFilter(paths));
                 
                 // generate long-range paths appropriate to the bot's current state
-                updateLongRangePaths(mover);
+                longRangePaths = findLongRangePaths(mover);
             }
 
             // Update our locations and add the computed paths.
-            updateUnitLocations(mover, paths);
-            getUnitPaths().put(mover.getId(), paths);
+            Set<CoordFacingCombo> locations = getPotentialLocations(paths);
 
             // calculate bounding area for move
             ConvexBoardArea myArea = new ConvexBoardArea();
-            myArea.addCoordFacingCombos(getUnitPotentialLocations().get(
-                    mover.getId()).iterator(), owner.getBoard());
-            getUnitMovableAreas().put(mover.getId(), myArea);
+            myArea.addCoordFacingCombos(locations.iterator(), owner.getBoard());
 
+            storeMoves(mover.getId(), computedGeneration, lastKnownLocation, paths, locations, myArea,
+                    longRangePaths);
             return true;
         } catch (Exception e) {
             LogManager.getLogger().error("", e);
@@ -307,16 +369,18 @@ public class PathEnumerator {
     }
     
     /**
-     * Worker function that updates the long-range path collection for a particular entity
+     * Worker function that computes the long-range path collection for a particular entity
+     *
+     * @return the long-range paths, or null if the entity doesn't need any
      */
-    private void updateLongRangePaths(final Entity mover) {
+    private @Nullable List<BulldozerMovePath> findLongRangePaths(final Entity mover) {
         // don't bother doing this if the entity can't move anyway
         // or if it's not one of mine
         // or if I've already moved it
         if ((mover.getWalkMP() == 0) ||
                 ((getOwner().getLocalPlayer() != null) && (mover.getOwnerId() != getOwner().getLocalPlayer().getId())) || 
                 !mover.isSelectableThisTurn()) {
-            return;
+            return null;
         }
         
         DestructionAwareDestinationPathfinder dpf = new DestructionAwareDestinationPathfinder();
@@ -347,22 +411,22 @@ public class PathEnumerator {
                 break;
         }
         
-        if (!getLongRangePaths().containsKey(mover.getId())) {
-            getLongRangePaths().put(mover.getId(), new ArrayList<>());
-        }
-        
-        // calculate a ground-bound long range path
-        BulldozerMovePath bmp = dpf.findPathToCoords(mover, destinations, owner.getClusterTracker());
-        
-        if (bmp != null) {
-            getLongRangePaths().get(mover.getId()).add(bmp);
-        }
-        
-        // calculate a jumping long range path
-        BulldozerMovePath jmp = dpf.findPathToCoords(mover, destinations, true, owner.getClusterTracker()); 
-        if (jmp != null) {
-            getLongRangePaths().get(mover.getId()).add(jmp);
+        List<BulldozerMovePath> longRangePaths = new ArrayList<>();
+        synchronized (LONG_RANGE_PATH_LOCK) {
+            // calculate a ground-bound long range path
+            BulldozerMovePath bmp = dpf.findPathToCoords(mover, destinations, owner.getClusterTracker());
+            
+            if (bmp != null) {
+                longRangePaths.add(bmp);
+            }
+            
+            // calculate a jumping long range path
+            BulldozerMovePath jmp = dpf.findPathToCoords(mover, destinations, true, owner.getClusterTracker()); 
+            if (jmp != null) {
+                longRangePaths.add(jmp);
+            }
         }
+        return longRangePaths;
     }
     
     private void adjustPathsForBridges(List<MovePath> paths) {
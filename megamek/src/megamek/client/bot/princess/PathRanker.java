@@ -13,6 +13,7 @@
  */
 package megamek.client.bot.princess;
 
+import megamek.client.bot.BotClient;
 import megamek.client.bot.princess.UnitBehavior.BehaviorType;
 import megamek.client.ui.SharedUtility;
 import megamek.common.*;
@@ -28,8 +29,13 @@ import java.math.RoundingMode;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public abstract class PathRanker implements IPathRanker {
     // TODO: Introduce PathRankerCacheHelper class that contains "global" path ranker state
@@ -60,6 +66,13 @@ public abstract class PathRanker implements IPathRanker {
     public ArrayList<RankedPath> rankPaths(List<MovePath> movePaths, Game game, int maxRange,
                                            double fallTolerance, List<Entity> enemies,
                                            List<Entity> friends) {
+        return rankPaths(movePaths, game, maxRange, fallTolerance, enemies, friends, BotClient.NO_DEADLINE);
+    }
+
+    @Override
+    public ArrayList<RankedPath> rankPaths(List<MovePath> movePaths, Game game, int maxRange,
+                                           double fallTolerance, List<Entity> enemies,
+                                           List<Entity> friends, long deadline) {
         // No point in ranking an empty list.
         if (movePaths.isEmpty()) {
             return new ArrayList<>();
@@ -71,25 +84,58 @@ public abstract class PathRanker implements IPathRanker {
         // Let's try to whittle down this list.
         List<MovePath> validPaths = validatePaths(movePaths, game, maxRange, fallTolerance);
         LogManager.getLogger().debug("Validated " + validPaths.size() + " out of " + movePaths.size() + " possible paths.");
+        if (deadline != BotClient.NO_DEADLINE) {
+            validPaths = distinctOutcomesFirst(validPaths, game, maxRange, enemies);
+        }
 
         Coords allyCenter = calcAllyCenter(movePaths.get(0).getEntity().getId(), friends, game);
 
+        ArrayList<RankedPath> returnPaths = rankValidPaths(validPaths, game, maxRange, fallTolerance, enemies,
+                allyCenter, deadline);
+        boolean outOfTime = returnPaths.size() < validPaths.size();
+
+        // we want to keep track of if any of the paths we've considered have some kind of damage potential
+        boolean pathsHaveExpectedDamage = returnPaths.stream().anyMatch(path -> path.getExpectedDamage() > 0);
+        
+        Entity mover = movePaths.get(0).getEntity();
+        UnitBehavior behaviorTracker = getOwner().getUnitBehaviorTracker();
+        boolean noDamageButCanDoDamage = !pathsHaveExpectedDamage
+                && (FireControl.getMaxDamageAtRange(mover, 1, false, false) > 0);
+
+        // if we're trying to fight, but aren't going to be doing any damage no matter how we move
+        // then let's try to get closer
+        if (noDamageButCanDoDamage && !outOfTime
+                && (behaviorTracker.getBehaviorType(mover, getOwner()) == BehaviorType.Engaged)) {
+            behaviorTracker.overrideBehaviorType(mover, BehaviorType.MoveToContact);
+            return rankPaths(getOwner().getMovePathsAndSetNecessaryTargets(mover, true),
+                    game, maxRange, fallTolerance, enemies, friends, deadline);
+        }
+        
+        return returnPaths;
+    }
+
+    /**
+     * Ranks the given valid paths in order until the deadline passes, always ranking at least one.
+     *
+     * @return the ranked paths, fewer than the given ones if the deadline passed
+     */
+    ArrayList<RankedPath> rankValidPaths(List<MovePath> validPaths, Game game, int maxRange,
+                                         double fallTolerance, List<Entity> enemies,
+                                         Coords allyCenter, long deadline) {
         ArrayList<RankedPath> returnPaths = new ArrayList<>(validPaths.size());
         final BigDecimal numberPaths = new BigDecimal(validPaths.size());
         BigDecimal count = BigDecimal.ZERO;
         BigDecimal interval = new BigDecimal(5);
-        
-        boolean pathsHaveExpectedDamage = false;
-        
+
         for (MovePath path : validPaths) {
+            if (!returnPaths.isEmpty() && BotClient.isPast(deadline)) {
+                LogManager.getLogger().info("Out of time, ranked " + returnPaths.size() + " of "
+                        + validPaths.size() + " paths.");
+                break;
+            }
             count = count.add(BigDecimal.ONE);
             
-            RankedPath rankedPath = rankPath(path, game, maxRange, fallTolerance, enemies, allyCenter);
-            
-            returnPaths.add(rankedPath);
-            
-            // we want to keep track of if any of the paths we've considered have some kind of damage potential
-            pathsHaveExpectedDamage |= (rankedPath.getExpectedDamage() > 0);
+            returnPaths.add(rankPath(path, game, maxRange, fallTolerance, enemies, allyCenter));
             
             BigDecimal percent = count.divide(numberPaths, 2, RoundingMode.DOWN).multiply(new BigDecimal(100))
                     .round(new MathContext(0, RoundingMode.DOWN));
@@ -100,22 +146,65 @@ public abstract class PathRanker implements IPathRanker {
                 interval = percent.add(new BigDecimal(5));
             }
         }
-        
-        Entity mover = movePaths.get(0).getEntity();
-        UnitBehavior behaviorTracker = getOwner().getUnitBehaviorTracker();
-        boolean noDamageButCanDoDamage = !pathsHaveExpectedDamage
-                && (FireControl.getMaxDamageAtRange(mover, 1, false, false) > 0);
+        return returnPaths;
+    }
 
-        // if we're trying to fight, but aren't going to be doing any damage no matter how we move
-        // then let's try to get closer
-        if (noDamageButCanDoDamage
-                && (behaviorTracker.getBehaviorType(mover, getOwner()) == BehaviorType.Engaged)) {
-            behaviorTracker.overrideBehaviorType(mover, BehaviorType.MoveToContact);
-            return rankPaths(getOwner().getMovePathsAndSetNecessaryTargets(mover, true),
-                    game, maxRange, fallTolerance, enemies, friends);
+    /**
+     * Orders the paths for ranking under a deadline, so that the most promising ones are ranked before
+     * time runs out. The best path by {@link #quickScore} for every distinct end position, facing and
+     * stance comes first, then all others; both groups are sorted by that score.
+     */
+    List<MovePath> distinctOutcomesFirst(List<MovePath> paths, Game game, int maxRange, List<Entity> enemies) {
+        if (paths.isEmpty()) {
+            return paths;
         }
-        
-        return returnPaths;
+        Entity mover = paths.get(0).getEntity();
+        BehaviorType behavior = getOwner().getUnitBehaviorTracker().getBehaviorType(mover, getOwner());
+        CardinalEdge homeEdge = ((behavior == BehaviorType.ForcedWithdrawal)
+                || (behavior == BehaviorType.MoveToDestination)) ? getOwner().getHomeEdge(mover) : null;
+        Map<MovePath, Double> scores = new IdentityHashMap<>();
+        for (MovePath path : paths) {
+            scores.put(path, quickScore(path, game, maxRange, enemies, homeEdge));
+        }
+
+        Map<MovePath.Key, MovePath> bestPerOutcome = new HashMap<>();
+        for (MovePath path : paths) {
+            bestPerOutcome.merge(path.getKey(), path,
+                    (current, other) -> (scores.get(other) < scores.get(current)) ? other : current);
+        }
+        Set<MovePath> first = Collections.newSetFromMap(new IdentityHashMap<>());
+        first.addAll(bestPerOutcome.values());
+        // The sort is stable, so paths with equal scores keep their order
+        List<MovePath> result = new ArrayList<>(paths);
+        result.sort(Comparator.comparing((MovePath path) -> !first.contains(path))
+                .thenComparing(scores::get));
+        return result;
+    }
+
+    /**
+     * A cheap estimate of how good a path is, lower being better, that only looks at where it ends.
+     * Units heading for their home edge prefer ending close to it. All others prefer ending within weapon
+     * range of the closest enemy. Either way, moving more hexes is slightly better, as it makes the unit
+     * harder to hit.
+     *
+     * @param homeEdge the edge the unit is heading for, or null if it is not
+     */
+    private double quickScore(MovePath path, Game game, int maxRange, List<Entity> enemies,
+                              @Nullable CardinalEdge homeEdge) {
+        Coords end = path.getFinalCoords();
+        double score;
+        if (homeEdge != null) {
+            score = distanceToHomeEdge(end, homeEdge, game);
+        } else {
+            int closest = Integer.MAX_VALUE;
+            for (Entity enemy : enemies) {
+                if (enemy.getPosition() != null) {
+                    closest = Math.min(closest, end.distance(enemy.getPosition()));
+                }
+            }
+            score = (closest == Integer.MAX_VALUE) ? 0 : Math.max(0, closest - maxRange);
+        }
+        return score - path.getHexesMoved() / 100d;
     }
 
     private List<MovePath> validatePaths(List<MovePath> startingPathList, Game game, int maxRange,
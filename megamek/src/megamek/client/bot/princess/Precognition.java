@@ -25,8 +25,11 @@ import megamek.server.SmokeCloud;
 import org.apache.logging.log4j.LogManager;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -35,9 +38,16 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * unit_potential_locations keeps track of all the potential coordinates and
  * facings a unit could reach It tries to keep all the calculations up to date,
  * and do most of the work when the opponent is moving
+ * 
+ * Units whose paths are out of date are queued by how soon they are likely to
+ * act, and recalculated on a small pool of worker threads, so that paths are
+ * usually ready by the time Princess's turn comes up.
  */
 public class Precognition implements Runnable {
 
+    /** Upper bound on the number of path recalculation threads per Princess. */
+    private static final int MAX_PATH_WORKERS = 4;
+
     private final Princess owner;
     
     /**
@@ -60,8 +70,14 @@ public class Precognition implements Runnable {
     private final ReentrantReadWriteLock PATH_ENUMERATOR_LOCK = new ReentrantReadWriteLock();
 
 
-    // units who's path I need to update
-    private final ConcurrentSkipListSet<Integer> dirtyUnits = new ConcurrentSkipListSet<>();
+    // units who's path I need to update, most urgent first
+    private final DirtyUnitQueue dirtyUnits = new DirtyUnitQueue();
+
+    // units who's path is being updated right now
+    private final Set<Integer> unitsInProgress = ConcurrentHashMap.newKeySet();
+
+    private final int workerCount;
+    private final ExecutorService pathWorkers;
 
     // events that may affect which units are dirty
     private final ConcurrentLinkedQueue<GameEvent> eventsToProcess = new ConcurrentLinkedQueue<>();
@@ -72,6 +88,12 @@ public class Precognition implements Runnable {
 
     public Precognition(Princess owner) {
         this.owner = owner;
+        this.workerCount = Math.max(1, Math.min(MAX_PATH_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+        this.pathWorkers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            final Thread worker = new Thread(runnable, "Princess-precognition-worker (" + owner.getName() + ")");
+            worker.setDaemon(true);
+            return worker;
+        });
         this.game = new Game();
         getGame().addGameListener(new GameListenerAdapter() {
             @Override
@@ -206,6 +228,9 @@ public class Precognition implements Runnable {
                             .getObject(0);
                     getGame().setAllReports(allReports);
                     break;
+                case Packet.COMMAND_SENDING_REPORTS_PAGE:
+                    getGame().addReportPage((ReportPage) c.getObject(0));
+                    break;
                 case Packet.COMMAND_ENTITY_ATTACK:
                     receiveAttack(c);
                     break;
@@ -274,11 +299,16 @@ public class Precognition implements Runnable {
         }
     }
 
-    private void pause() {
+    /**
+     * Asks the precognition thread to stop handing out work, and waits until it
+     * is idle and all the path recalculations already running have finished.
+     */
+    private synchronized void pause() {
         getWaitWhenDone().set(true);
-        while (!getWaiting().get() && !getDone().get()) {
+        notifyAll();
+        while ((!getWaiting().get() || !unitsInProgress.isEmpty()) && !getDone().get()) {
             try {
-                Thread.sleep(100);
+                wait();
             } catch (InterruptedException ignored) {
             }
         }
@@ -322,25 +352,98 @@ public class Precognition implements Runnable {
                     dirtifyUnit(entity.getId());
                 }
             }
-            while (!getDirtyUnits().isEmpty()) {
+            final List<Future<?>> recalculations = new ArrayList<>();
+            Integer entityId;
+            while ((entityId = getDirtyUnits().poll()) != null) {
                 // If Precog is done, just exit
                 if (getDone().get()) {
                     return;
                 }
                 
-                Integer entityId = getDirtyUnits().pollFirst();
-                Entity entity = getGame().getEntity(entityId);
+                final Entity entity = getGame().getEntity(entityId);
                 if (entity != null) {
-                    LogManager.getLogger().debug("recalculating paths for " + entity.getDisplayName());
-                    getPathEnumerator().recalculateMovesFor(entity);
-                    LogManager.getLogger().debug("finished recalculating paths for " + entity.getDisplayName());
+                    recalculations.add(pathWorkers.submit(() -> recalculateMovesFor(entity)));
                 }
             }
+            for (Future<?> recalculation : recalculations) {
+                recalculation.get();
+            }
         } catch (Exception ignored) {
 
         }
     }
 
+    private void recalculateMovesFor(final Entity entity) {
+        LogManager.getLogger().debug("recalculating paths for " + entity.getDisplayName());
+        getPathEnumerator().recalculateMovesFor(entity);
+        LogManager.getLogger().debug("finished recalculating paths for " + entity.getDisplayName());
+    }
+
+    /**
+     * @return true if there is a worker free and a dirty unit that isn't
+     *         already being recalculated
+     */
+    private boolean canDispatch() {
+        return (unitsInProgress.size() < workerCount) && getDirtyUnits().hasAvailable(unitsInProgress);
+    }
+
+    /**
+     * Hands the most urgent dirty unit to a path worker.
+     *
+     * @return true if a unit was taken off the dirty list
+     */
+    private boolean dispatchNextDirtyUnit() {
+        if (unitsInProgress.size() >= workerCount) {
+            return false;
+        }
+        final Integer entityId = getDirtyUnits().poll(unitsInProgress);
+        if (entityId == null) {
+            return false;
+        }
+        final Entity entity = getGame().getEntity(entityId);
+        if ((entity == null) || !isEntityOnMap(entity)) {
+            return true;
+        }
+        unitsInProgress.add(entityId);
+        try {
+            pathWorkers.execute(() -> {
+                try {
+                    recalculateMovesFor(entity);
+                } finally {
+                    unitsInProgress.remove(entityId);
+                    wakeUp();
+                }
+            });
+        } catch (Exception e) {
+            // the pool has been shut down
+            unitsInProgress.remove(entityId);
+        }
+        return true;
+    }
+
+    /**
+     * Estimates how soon a unit will act, based on the remaining turns in the
+     * turn order. Lower numbers act sooner.
+     */
+    private int getRecalculationPriority(final int entityId) {
+        final Entity entity = getGame().getEntity(entityId);
+        final List<GameTurn> turns = getGame().getTurnVector();
+        if (entity == null) {
+            return turns.size();
+        }
+        final int turnIndex = Math.max(0, getGame().getTurnIndex());
+        for (int index = turnIndex; index < turns.size(); index++) {
+            if (turns.get(index).isValidEntity(entity, getGame(), false)) {
+                return index - turnIndex;
+            }
+        }
+        return turns.size();
+    }
+
+    private void addDirtyUnit(final int entityId) {
+        getDirtyUnits().add(entityId, getRecalculationPriority(entityId));
+    }
+
     @Override
     public void run() {
         try {
@@ -350,26 +453,24 @@ public class Precognition implements Runnable {
                     processGameEvents();
                     ecmInfo = ComputeECM.computeAllEntitiesECMInfo(
                             getGame().getEntitiesVector());
-                } else if (!getDirtyUnits().isEmpty()) {
-                    Entity entity = getGame().getEntity(getDirtyUnits().pollFirst());
-                    if ((entity != null) && isEntityOnMap(entity)) {
-                        unPause();
-                        LogManager.getLogger().debug("recalculating paths for " + entity.getDisplayName());
-                        getPathEnumerator().recalculateMovesFor(entity);
-                        LogManager.getLogger().debug("finished recalculating paths for " + entity.getDisplayName());
-                    }
                 } else if (getWaitWhenDone().get()) {
                     waitForUnpause(); // paused for a reason
-                } else {
-                    waitForUnpause(); // idling because there's nothing to do
+                } else if (!dispatchNextDirtyUnit()) {
+                    waitForUnpause(); // idling because there's nothing to do, or all workers are busy
                 }
             }
         } catch (Exception ignored) {
+        } finally {
+            // never leave anyone waiting on a thread that has stopped
+            getWaiting().set(true);
+            wakeUp();
         }
     }
 
     void signalDone() {
         getDone().set(true);
+        pathWorkers.shutdownNow();
+        wakeUp();
     }
 
     /**
@@ -380,12 +481,13 @@ public class Precognition implements Runnable {
         try {
             while (!getDone().get() &&
                    (getWaitWhenDone().get() ||
-                    (getEventsToProcess().isEmpty() &&
-                     getDirtyUnits().isEmpty()))) {
+                    (getEventsToProcess().isEmpty() && !canDispatch()))) {
                 LogManager.getLogger().debug("waitWhenDone = " + getWaitWhenDone() +
                                " :: eventsToProcess = " + getEventsToProcess().size() +
-                               " :: dirtyUnits = " + getDirtyUnits().size());
+                               " :: dirtyUnits = " + getDirtyUnits().size() +
+                               " :: unitsInProgress = " + unitsInProgress.size());
                 getWaiting().set(true);
+                notifyAll(); // let anyone waiting in pause() know we're idle
                 try {
                     wait();
                 } catch (InterruptedException ignored) {
@@ -406,16 +508,11 @@ public class Precognition implements Runnable {
         // We don't want Game to change while this is happening
         GAME_LOCK.lock();
         try {
-            LinkedList<GameEvent> eventsToProcessIterator = new LinkedList<>(getEventsToProcess());
-            int numEvents = eventsToProcessIterator.size();
-            for (int count = 0; count < numEvents; count++) {
-                LogManager.getLogger().debug("Processing event " + (count + 1) + " out of " + numEvents);
-                GameEvent event = eventsToProcessIterator.get(count);
-                if (event == null) {
-                    continue;
-                }
-                LogManager.getLogger().debug("Processing " + event);
-                getEventsToProcess().remove(event);
+            int count = 0;
+            GameEvent event;
+            while ((event = getEventsToProcess().poll()) != null) {
+                count++;
+                LogManager.getLogger().debug("Processing event " + count + ": " + event);
                 if (event instanceof GameEntityChangeEvent) {
                     // Ignore entity changes that don't happen during movement
                     if (!getGame().getPhase().isMovement()) {
@@ -456,7 +553,7 @@ public class Precognition implements Runnable {
                         getPathEnumerator().clear();
                         for (Entity entity : getGame().getEntitiesVector()) {
                             if (entity.isActive() && entity.isDeployed() && entity.getPosition() != null) {
-                                getDirtyUnits().add(entity.getId());
+                                addDirtyUnit(entity.getId());
                             }
                         }
                     }
@@ -479,10 +576,7 @@ public class Precognition implements Runnable {
             // first of all, if a unit has been removed, remove it from the list and
             // stop
             if (getGame().getEntity(id) == null) {
-                getPathEnumerator().getLastKnownLocations().remove(id);
-                getPathEnumerator().getUnitMovableAreas().remove(id);
-                getPathEnumerator().getUnitPaths().remove(id);
-                getPathEnumerator().getUnitPotentialLocations().remove(id);
+                getPathEnumerator().removeUnit(id);
                 return;
             }
             // if a unit has moved or deployed, then it becomes dirty, and any units
@@ -532,12 +626,14 @@ public class Precognition implements Runnable {
                     }
                     LogManager.getLogger().debug(msg.toString());
                 }
-                getDirtyUnits().addAll(toDirty);
+                for (Integer dirtyId : toDirty) {
+                    addDirtyUnit(dirtyId);
+                }
             }
             Entity entity = getGame().getEntity(id);
             if (((entity != null) && entity.isSelectableThisTurn())
                     || !getGame().getPhase().isMovement()) {
-                getDirtyUnits().add(id);
+                addDirtyUnit(id);
             } else if (entity != null) {
                 getPathEnumerator().getLastKnownLocations().put(id,
                         CoordFacingCombo.createCoordFacingCombo(entity));
@@ -573,7 +669,7 @@ public class Precognition implements Runnable {
         return Collections.unmodifiableList(ecmInfo);
     }
 
-    private ConcurrentSkipListSet<Integer> getDirtyUnits() {
+    private DirtyUnitQueue getDirtyUnits() {
         return dirtyUnits;
     }
 
@@ -1263,7 +1263,8 @@ public class Princess extends BotClient {
                                                     getMaxWeaponRange(entity),
                                                     fallTolerance,
                                                     getEnemyEntities(),
-                                                    getFriendEntities());
+                                                    getFriendEntities(),
+                                                    getTurnDeadline());
             
             final long stop_time = System.currentTimeMillis();
 
@@ -13,6 +13,8 @@
  */
 package megamek.client.bot.princess;
 
+import megamek.common.Compute;
+
 /**
  * This class stores all the calculations of probabilities given the ruleset
  */
@@ -77,10 +79,125 @@ public class ProbabilityCalculator {
         return hit_probabilities_kick_lside[hit_location];
     }
 
+    //Armor state of a hit location relative to the expected damage of a single hit
+    static final int ARMOR_STATE_INTACT = 0;
+    static final int ARMOR_STATE_BREACHED = 1;
+    static final int ARMOR_STATE_DESTROYED = 2;
+    private static final int ARMOR_STATE_COUNT = 3;
+
+    //Highest to-hit number that still has a chance to hit; anything above it is an automatic miss
+    static final int MAX_TO_HIT = 12;
+    private static final int TO_HIT_COUNT = MAX_TO_HIT + 2;
+    private static final int FACING_COUNT = 6;
+    private static final int LOCATION_COUNT = hit_probabilities_front.length;
+
+    //Chance of rolling a natural 2, which always allows a critical hit roll
+    static final double ROLL_TWO = 0.028;
+
+    //Lookup tables built once when the class is loaded. Indexed by [natural aptitude][to-hit number]...
+    private static final double[][] HIT_ODDS = new double[2][TO_HIT_COUNT];
+    private static final double[][] BASE_CRITICALS = new double[2][TO_HIT_COUNT];
+    //...[damage direction][hit location]...
+    private static final double[][] LOCATION_ODDS = new double[FACING_COUNT][LOCATION_COUNT];
+    //...[armor state]
+    private static final double[][][][][] EXPECTED_CRITICALS =
+            new double[2][TO_HIT_COUNT][FACING_COUNT][LOCATION_COUNT][ARMOR_STATE_COUNT];
+    private static final double[][][][] LOCATION_KILL_ODDS =
+            new double[2][TO_HIT_COUNT][FACING_COUNT][LOCATION_COUNT];
+
+    static {
+        final double[] criticalsByArmorState = { 0, getExpectedCriticalHitCount(), 1 };
+        for (int facing = 0; facing < FACING_COUNT; facing++) {
+            for (int location = 0; location < LOCATION_COUNT; location++) {
+                LOCATION_ODDS[facing][location] = getHitProbability(facing, location);
+            }
+        }
+        for (int aptitude = 0; aptitude < 2; aptitude++) {
+            for (int toHit = 0; toHit < TO_HIT_COUNT; toHit++) {
+                final double hitOdds = Compute.oddsAbove(toHit, aptitude == 1) / 100;
+                HIT_ODDS[aptitude][toHit] = hitOdds;
+                BASE_CRITICALS[aptitude][toHit] = ROLL_TWO * getExpectedCriticalHitCount() * hitOdds;
+                for (int facing = 0; facing < FACING_COUNT; facing++) {
+                    for (int location = 0; location < LOCATION_COUNT; location++) {
+                        final double locationHitOdds = LOCATION_ODDS[facing][location] * hitOdds;
+                        LOCATION_KILL_ODDS[aptitude][toHit][facing][location] = locationHitOdds;
+                        for (int state = 0; state < ARMOR_STATE_COUNT; state++) {
+                            EXPECTED_CRITICALS[aptitude][toHit][facing][location][state] =
+                                    locationHitOdds * criticalsByArmorState[state];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * If we roll on the critical hit table, how many criticals do we expect to cause
      */
     static double getExpectedCriticalHitCount() {
         return 0.611; // (9+2*5+3)/36
     }
+
+    /**
+     * Returns the probability (between 0 and 1) of rolling the given to-hit number or better. Equivalent to
+     * {@link Compute#oddsAbove(int, boolean)} / 100 without the per-call table allocation.
+     */
+    static double getHitOdds(int toHit, boolean naturalAptitude) {
+        if (toHit > MAX_TO_HIT) {
+            return 0;
+        }
+        return HIT_ODDS[naturalAptitude ? 1 : 0][Math.max(0, toHit)];
+    }
+
+    /**
+     * Returns the expected number of criticals caused by the chance of rolling a '2' on the hit location table.
+     */
+    static double getBaseExpectedCriticals(int toHit, boolean naturalAptitude) {
+        if (toHit > MAX_TO_HIT) {
+            return 0;
+        }
+        return BASE_CRITICALS[naturalAptitude ? 1 : 0][Math.max(0, toHit)];
+    }
+
+    /**
+     * Table equivalent of {@link #getHitProbability(int, int)}.
+     */
+    static double getLocationOdds(int damageDirection, int hitLocation) {
+        return LOCATION_ODDS[damageDirection][hitLocation];
+    }
+
+    /**
+     * Classifies a hit location by what a single hit of the given damage would do to it.
+     */
+    static int getArmorState(double damage, int armor, int internals) {
+        if (damage > (armor + internals)) {
+            return ARMOR_STATE_DESTROYED;
+        } else if (damage > armor) {
+            return ARMOR_STATE_BREACHED;
+        }
+        return ARMOR_STATE_INTACT;
+    }
+
+    /**
+     * Returns the expected number of criticals caused by a weapon hitting the given location, accounting for the odds
+     * of the weapon hitting at all and of the hit landing in that location.
+     */
+    static double getExpectedCriticals(int toHit, boolean naturalAptitude, int damageDirection, int hitLocation,
+                                       int armorState) {
+        if (toHit > MAX_TO_HIT) {
+            return 0;
+        }
+        return EXPECTED_CRITICALS[naturalAptitude ? 1 : 0][Math.max(0, toHit)][damageDirection][hitLocation][armorState];
+    }
+
+    /**
+     * Returns the probability of a weapon hitting and destroying the given location, assuming a single hit would
+     * destroy it.
+     */
+    static double getLocationKillOdds(int toHit, boolean naturalAptitude, int damageDirection, int hitLocation) {
+        if (toHit > MAX_TO_HIT) {
+            return 0;
+        }
+        return LOCATION_KILL_ODDS[naturalAptitude ? 1 : 0][Math.max(0, toHit)][damageDirection][hitLocation];
+    }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.bot.princess;
+
+import megamek.common.Board;
+import megamek.common.Coords;
+import megamek.common.Entity;
+import megamek.common.Game;
+import megamek.common.Mounted;
+import megamek.common.RangeType;
+import megamek.common.WeaponType;
+import megamek.common.enums.GamePhase;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Caches the threat estimates used by the path rankers so that they are worked out once per phase instead of once
+ * per candidate path. For every shooter it holds the maximum damage at each range, and for every enemy the range
+ * from its movable area to each hex of the board, both of which turn the per-path enemy evaluation into array
+ * lookups.
+ *
+ * The map is cleared whenever the phase, round or range options change. Within a phase, an enemy's entry is
+ * dropped as soon as the game hands us a new copy of that entity, which happens whenever it moves or is damaged,
+ * and its ranges are forgotten whenever the path enumerator works out a new movable area for it.
+ * Until {@link #update(Game, Entity, List, boolean, boolean)} has been called, and for range options other than
+ * the ones it was called with, the map is inactive and callers should compute their estimates directly.
+ */
+class ThreatMap {
+    private static final int UNKNOWN_RANGE = -1;
+    private static final int NO_RANGE = -2;
+
+    private final Map<Integer, ShooterThreat> threats = new ConcurrentHashMap<>();
+    private GamePhase phase;
+    private int round = -1;
+    private boolean useExtremeRange;
+    private boolean useLOSRange;
+    private Board board;
+    private Entity mover;
+    private boolean active;
+
+    /**
+     * Brings the map up to date with the current game state, computing the damage profile of any new or changed
+     * enemies in parallel. Incoming damage estimates depend on the unit being moved, so they are thrown away when
+     * the mover changes.
+     */
+    synchronized void update(Game game, Entity mover, List<Entity> enemies, boolean useExtremeRange,
+                             boolean useLOSRange) {
+        if ((phase != game.getPhase()) || (round != game.getRoundCount()) || (board != game.getBoard())
+                || (this.useExtremeRange != useExtremeRange) || (this.useLOSRange != useLOSRange)) {
+            threats.clear();
+            phase = game.getPhase();
+            round = game.getRoundCount();
+            board = game.getBoard();
+            this.useExtremeRange = useExtremeRange;
+            this.useLOSRange = useLOSRange;
+        }
+
+        if (this.mover != mover) {
+            threats.values().forEach(threat -> threat.incomingDamage.clear());
+            this.mover = mover;
+        }
+
+        enemies.parallelStream()
+                .filter(enemy -> !isCurrent(enemy))
+                .forEach(enemy -> threats.put(enemy.getId(), new ShooterThreat(enemy)));
+        active = true;
+    }
+
+    /**
+     * Deactivates the map and throws away everything in it.
+     */
+    synchronized void clear() {
+        threats.clear();
+        phase = null;
+        round = -1;
+        board = null;
+        mover = null;
+        active = false;
+    }
+
+    /**
+     * @return True if the map has been set up for this phase with the given range options
+     */
+    boolean isActive(boolean useExtremeRange, boolean useLOSRange) {
+        return active && (this.useExtremeRange == useExtremeRange) && (this.useLOSRange == useLOSRange);
+    }
+
+    /**
+     * Forgets the ranges and incoming damage worked out for the given unit, as its movable area has changed.
+     */
+    void movableAreaChanged(int unitId) {
+        final ShooterThreat threat = threats.get(unitId);
+        if (threat != null) {
+            threat.clearRanges();
+        }
+    }
+
+    /**
+     * @return The maximum damage the shooter can do at the given range, as per
+     * {@link FireControl#getMaxDamageAtRange(Entity, int, boolean, boolean)}.
+     */
+    double getMaxDamageAtRange(Entity shooter, int range, boolean useExtremeRange, boolean useLOSRange) {
+        if (!isActive(useExtremeRange, useLOSRange)) {
+            return FireControl.getMaxDamageAtRange(shooter, range, useExtremeRange, useLOSRange);
+        }
+        return getThreat(shooter).getDamageAtRange(range);
+    }
+
+    /**
+     * @return The distance from the enemy's movable area to the given hex, or -1 if the enemy has no movable
+     * area. The range finder is used to work it out the first time a hex is asked about and should return a
+     * negative value if the enemy has no movable area.
+     */
+    int getRange(Entity enemy, Coords coords, ToIntFunction<Coords> rangeFinder) {
+        if ((board == null) || !board.contains(coords)) {
+            return rangeFinder.applyAsInt(coords);
+        }
+
+        final int index = (coords.getY() * board.getWidth()) + coords.getX();
+        final int[] rangeByHex = getThreat(enemy).rangeByHex;
+        if (rangeByHex.length <= index) {
+            return rangeFinder.applyAsInt(coords);
+        }
+        int range = rangeByHex[index];
+        if (range == UNKNOWN_RANGE) {
+            range = rangeFinder.applyAsInt(coords);
+            if (range < 0) {
+                range = NO_RANGE;
+            }
+            rangeByHex[index] = range;
+        }
+        return (range == NO_RANGE) ? -1 : range;
+    }
+
+    /**
+     * @return The damage the enemy is expected to do to a unit ending its move at the given hex and elevation. The
+     * estimator is used to work it out the first time that hex and elevation are asked about.
+     */
+    double getIncomingDamage(Entity enemy, Coords coords, int elevation, boolean useExtremeRange,
+                             boolean useLOSRange, DoubleSupplier estimator) {
+        if (!isActive(useExtremeRange, useLOSRange)) {
+            return estimator.getAsDouble();
+        }
+        final long key = (((long) coords.getX()) << 42) | ((coords.getY() & 0x1FFFFFL) << 21)
+                | (elevation & 0x1FFFFFL);
+        return getThreat(enemy).incomingDamage.computeIfAbsent(key, k -> estimator.getAsDouble());
+    }
+
+    private boolean isCurrent(Entity entity) {
+        final ShooterThreat threat = threats.get(entity.getId());
+        return (threat != null) && (threat.entity == entity);
+    }
+
+    private ShooterThreat getThreat(Entity entity) {
+        return threats.compute(entity.getId(),
+                (id, threat) -> ((threat != null) && (threat.entity == entity)) ? threat : new ShooterThreat(entity));
+    }
+
+    private class ShooterThreat {
+        private final Entity entity;
+        private final double[] damageByRange;
+        private volatile int[] rangeByHex;
+        private final Map<Long, Double> incomingDamage = new ConcurrentHashMap<>();
+
+        private ShooterThreat(Entity entity) {
+            this.entity = entity;
+
+            // Past the longest extreme range, every weapon is either out of range or at LOS range, so the damage
+            // no longer changes and the last entry covers all longer ranges.
+            int maxRange = 0;
+            for (Mounted weapon : entity.getWeaponList()) {
+                final int[] ranges = ((WeaponType) weapon.getType()).getRanges(weapon);
+                if (ranges != null) {
+                    maxRange = Math.max(maxRange, ranges[RangeType.RANGE_EXTREME]);
+                }
+            }
+            damageByRange = new double[maxRange + 2];
+            for (int range = 0; range < damageByRange.length; range++) {
+                damageByRange[range] = FireControl.getMaxDamageAtRange(entity, range, useExtremeRange,
+                        useLOSRange);
+            }
+
+            clearRanges();
+        }
+
+        private void clearRanges() {
+            // A new array, so that a ranker still working with the old movable area can't write into this one
+            final int[] ranges = new int[(board == null) ? 0 : (board.getWidth() * board.getHeight())];
+            Arrays.fill(ranges, UNKNOWN_RANGE);
+            rangeByHex = ranges;
+            incomingDamage.clear();
+        }
+
+        private double getDamageAtRange(int range) {
+            return damageByRange[Math.max(0, Math.min(range, damageByRange.length - 1))];
+        }
+    }
+}
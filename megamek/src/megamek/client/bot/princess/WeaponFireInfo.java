@@ -534,7 +534,9 @@ public class WeaponFireInfo {
             msg.append("\n\tAttacker has Natural Aptitude Gunnery");
         }
         
-        setProbabilityToHit(Compute.oddsAbove(getToHit().getValue(), getShooterState().hasNaturalAptGun()) / 100);
+        final int toHitValue = getToHit().getValue();
+        final boolean naturalAptitude = getShooterState().hasNaturalAptGun();
+        setProbabilityToHit(ProbabilityCalculator.getHitOdds(toHitValue, naturalAptitude));
         
         if (debugging) {
             msg.append("\n\tHit Chance: ").append(LOG_PER.format(getProbabilityToHit()));
@@ -561,11 +563,8 @@ public class WeaponFireInfo {
             msg.append("\n\tMax Damage: ").append(LOG_DEC.format(maxDamage));
         }
 
-        final double expectedCriticalHitCount = ProbabilityCalculator.getExpectedCriticalHitCount();
-
         // there's always the chance of rolling a '2'
-        final double ROLL_TWO = 0.028;
-        setExpectedCriticals(ROLL_TWO * expectedCriticalHitCount * getProbabilityToHit());
+        setExpectedCriticals(ProbabilityCalculator.getBaseExpectedCriticals(toHitValue, naturalAptitude));
 
         setKillProbability(0);
         if (!(getTarget() instanceof Mech)) {
@@ -577,6 +576,9 @@ public class WeaponFireInfo {
 
         // A mech with a torso-mounted cockpit can survive losing its head.
         double headlessOdds = 0.0;
+        final int damageDirection = getDamageDirection();
+        double expectedCriticals = getExpectedCriticals();
+        double killProbability = 0;
 
         // Loop through hit locations.
         // todo Targeting tripods.
@@ -588,40 +590,36 @@ public class WeaponFireInfo {
 
                 // Head shots don't travel inward if the head is removed.  Instead, a new roll gets made.
                 if (Mech.LOC_HEAD == hitLocation) {
-                    headlessOdds = ProbabilityCalculator.getHitProbability(getDamageDirection(), Mech.LOC_HEAD);
+                    headlessOdds = ProbabilityCalculator.getLocationOdds(damageDirection, Mech.LOC_HEAD);
                     break;
                 }
 
                 // Get the next most inward location.
                 hitLocation = Mech.getInnerLocation(hitLocation);
             }
-            double hitLocationProbability =
-                    ProbabilityCalculator.getHitProbability(getDamageDirection(), hitLocation);
-
             // Account for the possibility of re-rolling a head hit on a headless mech.
-            hitLocationProbability += (hitLocationProbability * headlessOdds);
+            final double rerollFactor = 1 + headlessOdds;
 
             // Get the armor and internals for this location.
-            final int targetArmor = Math.max(0, targetMech.getArmor(hitLocation, (3 == getDamageDirection())));
+            final int targetArmor = Math.max(0, targetMech.getArmor(hitLocation, (3 == damageDirection)));
             final int targetInternals = Math.max(0, targetMech.getInternal(hitLocation));
+            final int armorState = ProbabilityCalculator.getArmorState(getExpectedDamageOnHit(), targetArmor,
+                                                                       targetInternals);
 
-            // If the location could be destroyed outright...
-            if (getExpectedDamageOnHit() > ((targetArmor + targetInternals))) {
-                setExpectedCriticals(getExpectedCriticals() + (hitLocationProbability * getProbabilityToHit()));
-                if (Mech.LOC_CT == hitLocation) {
-                    setKillProbability(getKillProbability() + (hitLocationProbability * getProbabilityToHit()));
-                } else if ((Mech.LOC_HEAD == hitLocation) &&
-                           (Mech.COCKPIT_TORSO_MOUNTED != targetMech.getCockpitType())) {
-                    setKillProbability(getKillProbability() + (hitLocationProbability * getProbabilityToHit()));
-                }
+            expectedCriticals += rerollFactor * ProbabilityCalculator.getExpectedCriticals(toHitValue,
+                    naturalAptitude, damageDirection, hitLocation, armorState);
 
-                // If the armor can be breached, but the location not destroyed...
-            } else if (getExpectedDamageOnHit() > (targetArmor)) {
-                setExpectedCriticals(getExpectedCriticals() +
-                                             (hitLocationProbability * getProbabilityToHit() *
-                                                     expectedCriticalHitCount));
+            // If the location could be destroyed outright...
+            if ((ProbabilityCalculator.ARMOR_STATE_DESTROYED == armorState)
+                    && ((Mech.LOC_CT == hitLocation)
+                        || ((Mech.LOC_HEAD == hitLocation)
+                            && (Mech.COCKPIT_TORSO_MOUNTED != targetMech.getCockpitType())))) {
+                killProbability += rerollFactor * ProbabilityCalculator.getLocationKillOdds(toHitValue,
+                        naturalAptitude, damageDirection, hitLocation);
             }
         }
+        setExpectedCriticals(expectedCriticals);
+        setKillProbability(killProbability);
 
         if (debugging) {
             LogManager.getLogger().debug(msg.toString());
@@ -646,8 +644,8 @@ public class WeaponFireInfo {
             setProbabilityToHit(0);
             return null;
         }
-        setProbabilityToHit(Compute.oddsAbove(getAction().toHit(getGame()).getValue(),
-                                              getShooterState().hasNaturalAptGun()) / 100.0);
+        setProbabilityToHit(ProbabilityCalculator.getHitOdds(getAction().toHit(getGame()).getValue(),
+                                                             getShooterState().hasNaturalAptGun()));
         return getAction();
     }
 
@@ -15,6 +15,7 @@
 package megamek.client.bot.ui.swing;
 
 import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
 
 import megamek.client.bot.BotClient;
 import megamek.client.bot.Messages;
@@ -40,6 +41,7 @@ import megamek.common.event.GamePlayerChatEvent;
 import megamek.common.event.GamePlayerConnectedEvent;
 import megamek.common.event.GamePlayerDisconnectedEvent;
 import megamek.common.event.GameReportEvent;
+import megamek.common.event.GameReportPageEvent;
 import megamek.common.event.GameSettingsChangeEvent;
 import megamek.common.event.GameTurnChangeEvent;
 import megamek.common.event.GameVictoryEvent;
@@ -62,7 +64,8 @@ public class BotGUI implements GameListener {
     public void gamePhaseChange(GamePhaseChangeEvent e) {
         if (bot.getGame().getPhase() == GamePhase.LOUNGE
                 || bot.getGame().getPhase() == GamePhase.STARTING_SCENARIO) {
-            notifyOfBot();
+            // Bots handle their game events off the event dispatch thread
+            SwingUtilities.invokeLater(this::notifyOfBot);
         }
     }
 
@@ -113,6 +116,10 @@ public class BotGUI implements GameListener {
     public void gameReport(GameReportEvent e) {
     }
 
+    @Override
+    public void gameReportPage(GameReportPageEvent e) {
+    }
+
     @Override
     public void gameEnd(GameEndEvent e) {
     }
@@ -19,6 +19,7 @@
 package megamek.client.generator;
 
 import megamek.MMConstants;
+import megamek.common.util.weightedMaps.CompiledWeightedTable;
 import megamek.common.util.weightedMaps.WeightedIntMap;
 import org.apache.logging.log4j.LogManager;
 
@@ -42,6 +43,7 @@ public class RandomCallsignGenerator implements Serializable {
     private static final long serialVersionUID = 4721410214327210288L;
 
     private static WeightedIntMap<String> weightedCallsigns;
+    private static volatile CompiledWeightedTable<String> compiledCallsigns;
 
     private static RandomCallsignGenerator rcg;
 
@@ -59,8 +61,13 @@ public class RandomCallsignGenerator implements Serializable {
         return weightedCallsigns;
     }
 
+    /**
+     * Sets the callsigns to generate from. The map is compiled into a weighted table the next time a
+     * callsign is generated, so it should be completely filled before it is set.
+     */
     public static void setWeightedCallsigns(final WeightedIntMap<String> weightedCallsigns) {
         RandomCallsignGenerator.weightedCallsigns = weightedCallsigns;
+        compiledCallsigns = null;
     }
     //endregion Getters/Setters
 
@@ -85,7 +92,12 @@ public class RandomCallsignGenerator implements Serializable {
         String callsign = "";
 
         if (initialized) {
-            callsign = getWeightedCallsigns().randomItem();
+            CompiledWeightedTable<String> callsigns = compiledCallsigns;
+            if (callsigns == null) {
+                callsigns = getWeightedCallsigns().compile();
+                compiledCallsigns = callsigns;
+            }
+            callsign = callsigns.randomItem();
         } else {
             LogManager.getLogger().warn("Attempted to generate a callsign before the list was initialized.");
         }
@@ -102,14 +114,15 @@ public class RandomCallsignGenerator implements Serializable {
     }
 
     private void populateCallsigns() {
-        setWeightedCallsigns(new WeightedIntMap<>());
         final Map<String, Integer> callsigns = new HashMap<>();
         loadCallsignsFromFile(new File(MMConstants.CALLSIGN_FILE_PATH), callsigns);
         loadCallsignsFromFile(new File(MMConstants.USER_CALLSIGN_FILE_PATH), callsigns);
 
+        final WeightedIntMap<String> weightedCallsigns = new WeightedIntMap<>();
         for (final Map.Entry<String, Integer> entry : callsigns.entrySet()) {
-            getWeightedCallsigns().add(entry.getValue(), entry.getKey());
+            weightedCallsigns.add(entry.getValue(), entry.getKey());
         }
+        setWeightedCallsigns(weightedCallsigns);
 
         initialized = true;
     }
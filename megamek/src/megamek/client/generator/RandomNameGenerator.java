@@ -18,6 +18,7 @@ package megamek.client.generator;
 
 import megamek.MMConstants;
 import megamek.common.enums.Gender;
+import megamek.common.util.weightedMaps.CompiledWeightedTable;
 import megamek.common.util.weightedMaps.WeightedIntMap;
 import org.apache.logging.log4j.LogManager;
 
@@ -27,6 +28,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This class sets up a random name generator that can then be used to generate random pilot names.
@@ -83,33 +86,33 @@ public class RandomNameGenerator implements Serializable {
     //region Data Maps
     /**
      * femaleGivenNames, maleGivenNames, and surnames contain values in the following format:
-     * Map<Integer Ethnic_Code, WeightedMap<String Name>>
+     * Map<Integer Ethnic_Code, CompiledWeightedTable<String Name>>
      * The ethnic code is an Integer value that is used to determine the ethnicity of the name, while
-     * the name is a String value. The name is stored in a WeightedMap for each ethnic code to ensure
+     * the name is a String value. The name is stored in a weighted table for each ethnic code to ensure
      * that there is a range from common to rare names. This is determined based on the input weights
      */
-    private static Map<Integer, WeightedIntMap<String>> femaleGivenNames;
-    private static Map<Integer, WeightedIntMap<String>> maleGivenNames;
-    private static Map<Integer, WeightedIntMap<String>> surnames;
+    private static Map<Integer, CompiledWeightedTable<String>> femaleGivenNames;
+    private static Map<Integer, CompiledWeightedTable<String>> maleGivenNames;
+    private static Map<Integer, CompiledWeightedTable<String>> surnames;
 
     /**
      * factionGivenNames contains values in the following format:
-     * Map<String Faction_Name, Map<Integer Surname_Ethnic_Code, WeightedIntMap<Integer Given_Name_Ethnic_Code>>>
+     * Map<String Faction_Name, Map<Integer Surname_Ethnic_Code, CompiledWeightedTable<Integer Given_Name_Ethnic_Code>>>
      * The faction name is the key to determining which list of names should be used, with the default being "General"
      * The Surname Ethnic Code is the code that the surname will be generated from
      * The Given Name Ethnic Code is the code to generate the given name from, from the femaleGivenNames or maleGivenNames
      * maps, and this is weighted to ensure that more common pairings are more common
      */
-    private static Map<String, Map<Integer, WeightedIntMap<Integer>>> factionGivenNames;
+    private static Map<String, Map<Integer, CompiledWeightedTable<Integer>>> factionGivenNames;
 
     /**
      * factionEthnicCodes contains values in the following format:
-     * Map<String Faction_Name, WeightedIntMap<Integer Surname_Ethnic_Code>>
+     * Map<String Faction_Name, CompiledWeightedTable<Integer Surname_Ethnic_Code>>
      * The faction name is the key to determining which list of names should be used, with the default being "General"
      * The Surname Ethnic Code is the code that the surname will be generated from, and
      * this is weighted to ensure that more common pairings for the faction are more common
      */
-    private static Map<String, WeightedIntMap<Integer>> factionEthnicCodes;
+    private static Map<String, CompiledWeightedTable<Integer>> factionEthnicCodes;
 
     /**
      * historical ethnicity is a map of the ethnic code to the historical region of origin on Earth
@@ -131,6 +134,7 @@ public class RandomNameGenerator implements Serializable {
     private String chosenFaction;
 
     private static volatile boolean initialized = false; // volatile to ensure readers get the current version
+    private static final CompletableFuture<Void> loaded = new CompletableFuture<>();
     //endregion Variable Declarations
 
     public RandomNameGenerator() {
@@ -269,6 +273,14 @@ public class RandomNameGenerator implements Serializable {
     //endregion Name Generators
 
     //region Getters and Setters
+    /**
+     * @return a stage completing once the name lists have been loaded, or exceptionally when loading
+     * them failed
+     */
+    public CompletionStage<Void> whenInitialized() {
+        return loaded.minimalCompletionStage();
+    }
+
     /**
      * @return the list of potential keys to generate the name from - this MUST NOT be modified
      * once it has been gotten
@@ -321,10 +333,16 @@ public class RandomNameGenerator implements Serializable {
     }
 
     private void populateNames() {
-        initializeHistoricalEthnicity();
-        initializeFactions();
-        initializeNames();
-        initialized = true;
+        try {
+            initializeHistoricalEthnicity();
+            initializeFactions();
+            initializeNames();
+            initialized = true;
+            loaded.complete(null);
+        } catch (RuntimeException ex) {
+            loaded.completeExceptionally(ex);
+            throw ex;
+        }
     }
 
     private void initializeHistoricalEthnicity() {
@@ -368,30 +386,26 @@ public class RandomNameGenerator implements Serializable {
             // continue to play with named characters, indexing it at 1
             // Initialize Maps
             factionGivenNames.put(KEY_DEFAULT_FACTION, new HashMap<>());
-            factionEthnicCodes.put(KEY_DEFAULT_FACTION, new WeightedIntMap<>());
+            final WeightedIntMap<Integer> ethnicCodes = new WeightedIntMap<>();
 
             // Add information to maps
             for (int i = 1; i <= historicalEthnicity.size(); i++) {
-                factionGivenNames.get(KEY_DEFAULT_FACTION).put(i, new WeightedIntMap<>());
-                factionGivenNames.get(KEY_DEFAULT_FACTION).get(i).add(1, i);
-                factionEthnicCodes.get(KEY_DEFAULT_FACTION).add(1, i);
+                final WeightedIntMap<Integer> givenNameEthnicCodes = new WeightedIntMap<>();
+                givenNameEthnicCodes.add(1, i);
+                factionGivenNames.get(KEY_DEFAULT_FACTION).put(i, givenNameEthnicCodes.compile());
+                ethnicCodes.add(1, i);
             }
+            factionEthnicCodes.put(KEY_DEFAULT_FACTION, ethnicCodes.compile());
         } else {
             for (final Map.Entry<String, Map<Integer, Map<Integer, Integer>>> externalEntry : factionGivenNamesLoadMap.entrySet()) {
                 factionGivenNames.put(externalEntry.getKey(), new HashMap<>());
                 for (final Map.Entry<Integer, Map<Integer, Integer>> middleEntry : externalEntry.getValue().entrySet()) {
-                    factionGivenNames.get(externalEntry.getKey()).put(middleEntry.getKey(), new WeightedIntMap<>());
-                    for (final Map.Entry<Integer, Integer> internalEntry : middleEntry.getValue().entrySet()) {
-                        factionGivenNames.get(externalEntry.getKey()).get(middleEntry.getKey()).add(internalEntry.getValue(), internalEntry.getKey());
-                    }
+                    factionGivenNames.get(externalEntry.getKey()).put(middleEntry.getKey(), compile(middleEntry.getValue()));
                 }
             }
 
             for (final Map.Entry<String, Map<Integer, Integer>> externalEntry : factionEthnicCodesLoadMap.entrySet()) {
-                factionEthnicCodes.put(externalEntry.getKey(), new WeightedIntMap<>());
-                for (final Map.Entry<Integer, Integer> internalEntry : externalEntry.getValue().entrySet()) {
-                    factionEthnicCodes.get(externalEntry.getKey()).add(internalEntry.getValue(), internalEntry.getKey());
-                }
+                factionEthnicCodes.put(externalEntry.getKey(), compile(externalEntry.getValue()));
             }
         }
     }
@@ -460,11 +474,8 @@ public class RandomNameGenerator implements Serializable {
         final Map<Integer, Map<String, Integer>> femaleGivenNamesLoadMap = new HashMap<>();
         final Map<Integer, Map<String, Integer>> surnamesLoadMap = new HashMap<>();
 
-        // Then immediately instantiate the number of weighted maps needed for Given Names and Surnames
+        // Then immediately instantiate the number of load maps needed for Given Names and Surnames
         for (int i = 1; i <= historicalEthnicity.size(); i++) {
-            maleGivenNames.put(i, new WeightedIntMap<>());
-            femaleGivenNames.put(i, new WeightedIntMap<>());
-            surnames.put(i, new WeightedIntMap<>());
             maleGivenNamesLoadMap.put(i, new HashMap<>());
             femaleGivenNamesLoadMap.put(i, new HashMap<>());
             surnamesLoadMap.put(i, new HashMap<>());
@@ -477,23 +488,29 @@ public class RandomNameGenerator implements Serializable {
         loadNamesFromFile(new File(MMConstants.SURNAME_FILE), surnamesLoadMap);
         loadNamesFromFile(new File(MMConstants.USER_SURNAME_FILE), surnamesLoadMap);
 
-        for (final Map.Entry<Integer, Map<String, Integer>> externalEntry : maleGivenNamesLoadMap.entrySet()) {
-            for (final Map.Entry<String, Integer> internalEntry : externalEntry.getValue().entrySet()) {
-                maleGivenNames.get(externalEntry.getKey()).add(internalEntry.getValue(), internalEntry.getKey());
-            }
+        for (final Map.Entry<Integer, Map<String, Integer>> entry : maleGivenNamesLoadMap.entrySet()) {
+            maleGivenNames.put(entry.getKey(), compile(entry.getValue()));
         }
 
-        for (final Map.Entry<Integer, Map<String, Integer>> externalEntry : femaleGivenNamesLoadMap.entrySet()) {
-            for (final Map.Entry<String, Integer> internalEntry : externalEntry.getValue().entrySet()) {
-                femaleGivenNames.get(externalEntry.getKey()).add(internalEntry.getValue(), internalEntry.getKey());
-            }
+        for (final Map.Entry<Integer, Map<String, Integer>> entry : femaleGivenNamesLoadMap.entrySet()) {
+            femaleGivenNames.put(entry.getKey(), compile(entry.getValue()));
         }
 
-        for (final Map.Entry<Integer, Map<String, Integer>> externalEntry : surnamesLoadMap.entrySet()) {
-            for (final Map.Entry<String, Integer> internalEntry : externalEntry.getValue().entrySet()) {
-                surnames.get(externalEntry.getKey()).add(internalEntry.getValue(), internalEntry.getKey());
-            }
+        for (final Map.Entry<Integer, Map<String, Integer>> entry : surnamesLoadMap.entrySet()) {
+            surnames.put(entry.getKey(), compile(entry.getValue()));
+        }
+    }
+
+    /**
+     * @param weights the weight of each value, as loaded from file
+     * @return the compiled weighted table for the values
+     */
+    private static <T> CompiledWeightedTable<T> compile(final Map<T, Integer> weights) {
+        final WeightedIntMap<T> map = new WeightedIntMap<>();
+        for (final Map.Entry<T, Integer> entry : weights.entrySet()) {
+            map.add(entry.getValue(), entry.getKey());
         }
+        return map.compile();
     }
 
     private void loadNamesFromFile(final File file, final Map<Integer, Map<String, Integer>> map) {
@@ -14,10 +14,14 @@
 package megamek.client.ratgenerator;
 
 import megamek.common.UnitType;
+import megamek.utils.MegaMekXmlUtil;
 import org.apache.commons.text.StringEscapeUtils;
 import org.apache.logging.log4j.LogManager;
 import org.w3c.dom.Node;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import java.io.PrintWriter;
 import java.text.ParseException;
 import java.util.*;
@@ -515,53 +519,59 @@ public class FactionRecord {
         return retVal;
     }
 
-    public void loadEra(Node node, int era) {
-        for (int i = 0; i < node.getChildNodes().getLength(); i++) {
-            Node wn = node.getChildNodes().item(i);
-            switch (wn.getNodeName()) {
+    /**
+     * Reads the values of this faction for an era from the faction element the reader is positioned
+     * at.
+     *
+     * @param reader a reader positioned at the faction element; it is left at its end
+     * @param era    the era
+     * @throws XMLStreamException if the element cannot be read
+     */
+    public void loadEra(XMLStreamReader reader, int era) throws XMLStreamException {
+        while (MegaMekXmlUtil.nextChildElement(reader)) {
+            String nodeName = reader.getLocalName();
+            String unitTypeAttr = reader.getAttributeValue(null, "unitType");
+            String pctAttr = reader.getAttributeValue(null, "pct");
+            String text = MegaMekXmlUtil.readTextContent(reader);
+            switch (nodeName) {
                 case "pctOmni":
-                    if ((wn.getAttributes().getNamedItem("unitType") != null)
-                            && wn.getAttributes().getNamedItem("unitType").getTextContent().equalsIgnoreCase("Aero")) {
-                        setPctTech(TechCategory.OMNI_AERO, era, wn.getTextContent());
+                    if ((unitTypeAttr != null) && unitTypeAttr.equalsIgnoreCase("Aero")) {
+                        setPctTech(TechCategory.OMNI_AERO, era, text);
                     } else {
-                        setPctTech(TechCategory.OMNI, era, wn.getTextContent());
+                        setPctTech(TechCategory.OMNI, era, text);
                     }
                     break;
                 case "pctClan":
-                    if ((wn.getAttributes().getNamedItem("unitType") != null)
-                            && wn.getAttributes().getNamedItem("unitType").getTextContent().equalsIgnoreCase("Aero")) {
-                        setPctTech(TechCategory.CLAN_AERO, era, wn.getTextContent());
-                    } else if ((wn.getAttributes().getNamedItem("unitType") != null)
-                                && wn.getAttributes().getNamedItem("unitType").getTextContent().equalsIgnoreCase("Vehicle")) {
-                        setPctTech(TechCategory.CLAN_VEE, era, wn.getTextContent());
+                    if ((unitTypeAttr != null) && unitTypeAttr.equalsIgnoreCase("Aero")) {
+                        setPctTech(TechCategory.CLAN_AERO, era, text);
+                    } else if ((unitTypeAttr != null) && unitTypeAttr.equalsIgnoreCase("Vehicle")) {
+                        setPctTech(TechCategory.CLAN_VEE, era, text);
                     } else {
-                        setPctTech(TechCategory.CLAN, era, wn.getTextContent());
+                        setPctTech(TechCategory.CLAN, era, text);
                     }
                     break;
                 case "pctSL":
-                    if ((wn.getAttributes().getNamedItem("unitType") != null)
-                            && wn.getAttributes().getNamedItem("unitType").getTextContent().equalsIgnoreCase("Aero")) {
-                        setPctTech(TechCategory.IS_ADVANCED_AERO, era, wn.getTextContent());
-                    } else if ((wn.getAttributes().getNamedItem("unitType") != null)
-                                && wn.getAttributes().getNamedItem("unitType").getTextContent().equalsIgnoreCase("Vehicle")) {
-                        setPctTech(TechCategory.IS_ADVANCED_VEE, era, wn.getTextContent());
+                    if ((unitTypeAttr != null) && unitTypeAttr.equalsIgnoreCase("Aero")) {
+                        setPctTech(TechCategory.IS_ADVANCED_AERO, era, text);
+                    } else if ((unitTypeAttr != null) && unitTypeAttr.equalsIgnoreCase("Vehicle")) {
+                        setPctTech(TechCategory.IS_ADVANCED_VEE, era, text);
                     } else {
-                        setPctTech(TechCategory.IS_ADVANCED, era, wn.getTextContent());
+                        setPctTech(TechCategory.IS_ADVANCED, era, text);
                     }
                     break;
                 case "omniMargin":
-                    omniMargin.put(era, Integer.parseInt(wn.getTextContent()));
+                    omniMargin.put(era, Integer.parseInt(text));
                     break;
                 case "techMargin":
-                    techMargin.put(era, Integer.parseInt(wn.getTextContent()));
+                    techMargin.put(era, Integer.parseInt(text));
                     break;
                 case "upgradeMargin":
-                    upgradeMargin.put(era, Integer.parseInt(wn.getTextContent()));
+                    upgradeMargin.put(era, Integer.parseInt(text));
                     break;
                 case "salvage":
-                    pctSalvage.put(era, Integer.parseInt(wn.getAttributes().getNamedItem("pct").getTextContent()));
+                    pctSalvage.put(era, Integer.parseInt(pctAttr));
                     salvage.put(era, new HashMap<>());
-                    String[] fields = wn.getTextContent().trim().split(",");
+                    String[] fields = text.trim().split(",");
                     for (String field : fields) {
                         if (!field.isBlank()) {
                             String[] subfields = field.split(":");
@@ -573,8 +583,8 @@ public class FactionRecord {
                     break;
                 case "weightDistribution":
                     try {
-                        int unitType = ModelRecord.parseUnitType(wn.getAttributes().getNamedItem("unitType").getTextContent());
-                        setWeightDistribution(era, unitType, wn.getTextContent());
+                        int unitType = ModelRecord.parseUnitType(unitTypeAttr);
+                        setWeightDistribution(era, unitType, text);
                     } catch (Exception ex) {
                         LogManager.getLogger().error("RATGenerator: error parsing weight distributions for " + key + ", " + era);
                     }
@@ -24,11 +24,14 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -911,10 +914,7 @@ public class RATGenerator {
         chassisIndex.put(era, new HashMap<>());
         modelIndex.put(era, new HashMap<>());
         File file = new MegaMekFile(dir, era + ".xml").getFile();
-        FileInputStream fis;
-        try {
-            fis = new FileInputStream(file);
-        } catch (FileNotFoundException e) {
+        if (!file.isFile()) {
             LogManager.getLogger().error("Unable to read RAT generator file for era " + era);
             return;
         }
@@ -926,51 +926,53 @@ public class RATGenerator {
             }
         }
 
-        Document xmlDoc;
-
-        try {
-            DocumentBuilder db = MegaMekXmlUtil.newSafeDocumentBuilder();
-            xmlDoc = db.parse(fis);
-        } catch (Exception ex) {
-            LogManager.getLogger().error("", ex);
-            return;
-        }
-
-        Element element = xmlDoc.getDocumentElement();
-        NodeList nl = element.getChildNodes();
-
-        element.normalize();
-
-        for (int x = 0; x < nl.getLength(); x++) {
-            Node mainNode = nl.item(x);
-            if (mainNode.getNodeName().equalsIgnoreCase("factions")) {
-                for (int i = 0; i < mainNode.getChildNodes().getLength(); i++) {
-                    Node wn = mainNode.getChildNodes().item(i);
-                    if (wn.getNodeName().equalsIgnoreCase("faction")) {
-                        String fKey = wn.getAttributes().getNamedItem("key").getTextContent();
-                        if (fKey != null) {
-                            FactionRecord rec = factions.get(fKey);
-                            if (rec != null) {
-                                rec.loadEra(wn, era);
-                            } else {
-                                LogManager.getLogger().error("Faction " + fKey + " not found in " + file.getPath());
-                            }
+        // The era files are large, so they are streamed and the records built as they are read
+        try (InputStream is = new FileInputStream(file)) {
+            XMLStreamReader reader = MegaMekXmlUtil.createSafeXmlStreamReader(is);
+            MegaMekXmlUtil.nextChildElement(reader);
+            while (MegaMekXmlUtil.nextChildElement(reader)) {
+                if (reader.getLocalName().equalsIgnoreCase("factions")) {
+                    while (MegaMekXmlUtil.nextChildElement(reader)) {
+                        if (reader.getLocalName().equalsIgnoreCase("faction")) {
+                            loadFactionEra(era, reader, file);
                         } else {
-                            LogManager.getLogger().error("Faction key not found in " + file.getPath());
+                            MegaMekXmlUtil.skipElement(reader);
                         }
                     }
-                }
-            } else if (mainNode.getNodeName().equalsIgnoreCase("units")) {
-                for (int i = 0; i < mainNode.getChildNodes().getLength(); i++) {
-                    Node wn = mainNode.getChildNodes().item(i);
-                    if (wn.getNodeName().equalsIgnoreCase("chassis")) {
-                        parseChassisNode(era, wn);
+                } else if (reader.getLocalName().equalsIgnoreCase("units")) {
+                    while (MegaMekXmlUtil.nextChildElement(reader)) {
+                        if (reader.getLocalName().equalsIgnoreCase("chassis")) {
+                            parseChassisNode(era, reader);
+                        } else {
+                            MegaMekXmlUtil.skipElement(reader);
+                        }
                     }
+                } else {
+                    MegaMekXmlUtil.skipElement(reader);
                 }
             }
+            reader.close();
+        } catch (Exception ex) {
+            LogManager.getLogger().error("", ex);
+            return;
         }
         notifyListenersEraLoaded();
     }
+
+    private void loadFactionEra(int era, XMLStreamReader reader, File file) throws XMLStreamException {
+        String fKey = reader.getAttributeValue(null, "key");
+        if (fKey != null) {
+            FactionRecord rec = factions.get(fKey);
+            if (rec != null) {
+                rec.loadEra(reader, era);
+                return;
+            }
+            LogManager.getLogger().error("Faction " + fKey + " not found in " + file.getPath());
+        } else {
+            LogManager.getLogger().error("Faction key not found in " + file.getPath());
+        }
+        MegaMekXmlUtil.skipElement(reader);
+    }
     
     /**
      * Creates model and chassis records for all units that don't already have entries. This should
@@ -1005,14 +1007,15 @@ public class RATGenerator {
         }
     }
 
-    private void parseChassisNode(int era, Node wn) {
+    private void parseChassisNode(int era, XMLStreamReader reader) throws XMLStreamException {
         boolean omni = false;
-        String chassisName = wn.getAttributes().getNamedItem("name").getTextContent();
-        String unitType = wn.getAttributes().getNamedItem("unitType").getTextContent();
+        String chassisName = reader.getAttributeValue(null, "name");
+        String unitType = reader.getAttributeValue(null, "unitType");
+        String omniAttr = reader.getAttributeValue(null, "omni");
         String chassisKey = chassisName + '[' + unitType + ']';
-        if (wn.getAttributes().getNamedItem("omni") != null) {
+        if (omniAttr != null) {
             omni = true;
-            if (wn.getAttributes().getNamedItem("omni").getTextContent().equalsIgnoreCase("IS")) {
+            if (omniAttr.equalsIgnoreCase("IS")) {
                 chassisKey += "ISOmni";
             } else {
                 chassisKey += "ClanOmni";
@@ -1027,24 +1030,26 @@ public class RATGenerator {
             chassis.put(chassisKey, cr);
         }
 
-        for (int j = 0; j < wn.getChildNodes().getLength(); j++) {
-            Node wn2 = wn.getChildNodes().item(j);
-            if (wn2.getNodeName().equalsIgnoreCase("availability")) {
+        while (MegaMekXmlUtil.nextChildElement(reader)) {
+            if (reader.getLocalName().equalsIgnoreCase("availability")) {
                 chassisIndex.get(era).put(chassisKey, new HashMap<>());
-                String[] codes = wn2.getTextContent().trim().split(",");
+                String[] codes = MegaMekXmlUtil.readTextContent(reader).trim().split(",");
                 for (String code : codes) {
                     AvailabilityRating ar = new AvailabilityRating(chassisKey, era, code);
                     cr.getIncludedFactions().add(code.split(":")[0]);
                     chassisIndex.get(era).get(chassisKey).put(ar.getFactionCode(), ar);
                 }
-            } else if (wn2.getNodeName().equalsIgnoreCase("model")) {
-                parseModelNode(era, cr, wn2);
+            } else if (reader.getLocalName().equalsIgnoreCase("model")) {
+                parseModelNode(era, cr, reader);
+            } else {
+                MegaMekXmlUtil.skipElement(reader);
             }
         }
     }
     
-    private void parseModelNode(int era, ChassisRecord cr, Node wn) {
-        String modelKey = (cr.getChassis() + ' ' + wn.getAttributes().getNamedItem("name").getTextContent()).trim();
+    private void parseModelNode(int era, ChassisRecord cr, XMLStreamReader reader) throws XMLStreamException {
+        String modelName = reader.getAttributeValue(null, "name");
+        String modelKey = (cr.getChassis() + ' ' + modelName).trim();
         boolean newEntry = false;
         ModelRecord mr = models.get(modelKey);
         if (mr == null) {
@@ -1057,32 +1062,35 @@ public class RATGenerator {
             }
 
             if (mr == null) {
-                LogManager.getLogger().error(cr.getChassis() + ' '
-                        + wn.getAttributes().getNamedItem("name").getTextContent() + " not found.");
+                LogManager.getLogger().error(cr.getChassis() + ' ' + modelName + " not found.");
+                MegaMekXmlUtil.skipElement(reader);
                 return;
             }
         }
         cr.addModel(mr);
-        if (wn.getAttributes().getNamedItem("mechanized") != null) {
-            mr.setMechanizedBA(Boolean.parseBoolean(wn.getAttributes().getNamedItem("mechanized").getTextContent()));
+        String mechanized = reader.getAttributeValue(null, "mechanized");
+        if (mechanized != null) {
+            mr.setMechanizedBA(Boolean.parseBoolean(mechanized));
         }
         
-        for (int k = 0; k < wn.getChildNodes().getLength(); k++) {
-            Node wn2 = wn.getChildNodes().item(k);
-            if (wn2.getNodeName().equalsIgnoreCase("roles") && newEntry) {
-                mr.addRoles(wn2.getTextContent().trim());
-            } else if (wn2.getNodeName().equalsIgnoreCase("deployedWith") && newEntry) {
-                mr.setRequiredUnits(wn2.getTextContent().trim());                                        
-            } else if (wn2.getNodeName().equalsIgnoreCase("availability")) {
+        while (MegaMekXmlUtil.nextChildElement(reader)) {
+            String nodeName = reader.getLocalName();
+            if (nodeName.equalsIgnoreCase("roles") && newEntry) {
+                mr.addRoles(MegaMekXmlUtil.readTextContent(reader).trim());
+            } else if (nodeName.equalsIgnoreCase("deployedWith") && newEntry) {
+                mr.setRequiredUnits(MegaMekXmlUtil.readTextContent(reader).trim());
+            } else if (nodeName.equalsIgnoreCase("availability")) {
                 modelIndex.get(era).put(mr.getKey(), new HashMap<>());
-                String[] codes = wn2.getTextContent().trim().split(",");
+                String[] codes = MegaMekXmlUtil.readTextContent(reader).trim().split(",");
                 for (String code : codes) {
                     AvailabilityRating ar = new AvailabilityRating(mr.getKey(), era, code);
                     mr.getIncludedFactions().add(code.split(":")[0]);
                     modelIndex.get(era).get(mr.getKey()).put(ar.getFactionCode(), ar);
                 }
-            } 
-        }        
+            } else {
+                MegaMekXmlUtil.skipElement(reader);
+            }
+        }
     }
 
     public synchronized void registerListener(ActionListener l) {
@@ -20,7 +20,10 @@ package megamek.client.ui.panes;
 
 import megamek.client.ui.baseComponents.AbstractTabbedPane;
 import megamek.client.ui.swing.MechViewPanel;
+import megamek.client.ui.swing.util.ReadoutCache;
+import megamek.client.ui.swing.util.ReadoutCache.Readout;
 import megamek.common.Entity;
+import megamek.common.MechSummary;
 import megamek.common.annotations.Nullable;
 import megamek.common.templates.TROView;
 
@@ -93,4 +96,21 @@ public class EntityViewPane extends AbstractTabbedPane {
             getTROPanel().setMech(entity, TROView.createView(entity, true));
         }
     }
+
+    /**
+     * This updates the pane's currently displayed entity, taking the readouts from the
+     * {@link ReadoutCache} when the entity is shown as loaded from its unit file.
+     * @param entity the entity to update to, or null if the panels are to be reset.
+     * @param unit the unit the entity was loaded from and that it is unchanged from, or null if the
+     *             entity's readouts cannot be cached
+     */
+    public void updateDisplayedEntity(final @Nullable Entity entity, final @Nullable MechSummary unit) {
+        if ((entity == null) || (unit == null)) {
+            updateDisplayedEntity(entity);
+        } else {
+            final ReadoutCache cache = ReadoutCache.getInstance();
+            getEntityPanel().setMech(entity, cache.getReadout(unit, entity, Readout.SUMMARY));
+            getTROPanel().setMech(entity, cache.getReadout(unit, entity, Readout.TRO));
+        }
+    }
 }
@@ -251,6 +251,11 @@ public abstract class AbstractPhaseDisplay extends JPanel implements
         //noaction default
     }
 
+    @Override
+    public void gameReportPage(GameReportPageEvent e) {
+        //noaction default
+    }
+
     @Override
     public void gameEnd(GameEndEvent e) {
         //noaction default
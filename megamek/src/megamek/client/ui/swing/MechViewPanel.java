@@ -90,6 +90,16 @@ public class MechViewPanel extends JPanel {
         setFluffImage(entity);
     }
 
+    /**
+     * Shows an already rendered readout of the entity, such as one from the
+     * {@link megamek.client.ui.swing.util.ReadoutCache}.
+     */
+    public void setMech(Entity entity, String readout) {
+        txtMek.setText(readout);
+        txtMek.setCaretPosition(0);
+        setFluffImage(entity);
+    }
+
     public void setMech(Entity entity, boolean useAlternateCost) {
         MechView mechView = new MechView(entity, false, useAlternateCost);
         setMech(entity, mechView);
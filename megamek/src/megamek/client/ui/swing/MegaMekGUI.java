@@ -44,6 +44,7 @@ import megamek.common.preference.PreferenceChangeEvent;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.util.ImageUtil;
 import megamek.common.util.SerializationHelper;
+import megamek.common.util.StartupOrchestrator;
 import megamek.common.util.fileUtils.MegaMekFile;
 import megamek.server.ScenarioLoader;
 import megamek.server.Server;
@@ -64,6 +65,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.zip.GZIPInputStream;
 
 import static megamek.common.Compute.d6;
@@ -84,6 +86,8 @@ public class MegaMekGUI implements IPreferenceChangeListener {
     private CommonSettingsDialog settingsDialog;
 
     private MegaMekController controller;
+    /** True while an action waits for the startup tasks, see {@link #whenStartupReady} */
+    private boolean waitingForStartup;
 
     BufferedImage backgroundIcon = null;
 
@@ -488,13 +492,21 @@ public class MegaMekGUI implements IPreferenceChangeListener {
             // I want a file, y'know!
             return;
         }
+        final File file = fc.getSelectedFile();
+        whenStartupReady(() -> loadGame(file), MegaMek.STARTUP_EQUIPMENT, MegaMek.STARTUP_QUIRKS);
+    }
 
+    /**
+     * Loads the saved game and hosts it. The saved units refer to the equipment types, so this must wait
+     * for them to be loaded.
+     */
+    private void loadGame(File file) {
         Game newGame;
-        try (InputStream is = new FileInputStream(fc.getSelectedFile()); InputStream gzi = new GZIPInputStream(is)) {
+        try (InputStream is = new FileInputStream(file); InputStream gzi = new GZIPInputStream(is)) {
             XStream xstream = SerializationHelper.getXStream();
             newGame = (Game) xstream.fromXML(gzi);
         } catch (Exception e) {
-            LogManager.getLogger().error("Unable to load file: " + fc.getSelectedFile(), e);
+            LogManager.getLogger().error("Unable to load file: " + file, e);
             JOptionPane.showMessageDialog(frame, Messages.getString("MegaMek.LoadGameAlert.message"),
             Messages.getString("MegaMek.LoadGameAlert.title"), JOptionPane.ERROR_MESSAGE);
             return;
@@ -534,7 +546,7 @@ public class MegaMekGUI implements IPreferenceChangeListener {
             return;
         }
 
-        if (!server.loadGame(fc.getSelectedFile())) {
+        if (!server.loadGame(file)) {
             JOptionPane.showMessageDialog(frame, Messages.getString("MegaMek.LoadGameAlert.message"),
                     Messages.getString("MegaMek.LoadGameAlert.title"), JOptionPane.ERROR_MESSAGE);
             server.die();
@@ -568,6 +580,10 @@ public class MegaMekGUI implements IPreferenceChangeListener {
     
     /** Developer Utility: Loads "quicksave.sav.gz" with the last used connection settings. */
     void quickLoadGame() {
+        whenStartupReady(this::quickLoadGameNow, MegaMek.STARTUP_EQUIPMENT, MegaMek.STARTUP_QUIRKS);
+    }
+
+    private void quickLoadGameNow() {
         // kick off a RNG check
         d6();
         // start server
@@ -659,7 +675,17 @@ public class MegaMekGUI implements IPreferenceChangeListener {
             return;
         }
 
-        ScenarioLoader sl = new ScenarioLoader(fc.getSelectedFile());
+        // Scenarios name their units, which are looked up in the unit cache
+        final File file = fc.getSelectedFile();
+        whenStartupReady(() -> scenario(file), MegaMek.STARTUP_EQUIPMENT, MegaMek.STARTUP_QUIRKS,
+                MegaMek.STARTUP_UNIT_CACHE);
+    }
+
+    /**
+     * Hosts a game constructed from the given scenario file.
+     */
+    private void scenario(File file) {
+        ScenarioLoader sl = new ScenarioLoader(file);
         Game g;
         try {
             g = sl.createGame();
@@ -930,6 +956,35 @@ public class MegaMekGUI implements IPreferenceChangeListener {
         System.exit(0);
     }
 
+    /**
+     * Runs an action once startup tasks have finished, such as the loading of the equipment types that
+     * the units of saved games and scenarios refer to. The action runs on the event thread; while the
+     * tasks are still running, the wait cursor is shown and other actions waiting for startup are
+     * ignored.
+     *
+     * @param action the action to run
+     * @param tasks  the names of the startup tasks, see {@link MegaMek#getStartup()}
+     */
+    private void whenStartupReady(Runnable action, String... tasks) {
+        if (waitingForStartup) {
+            return;
+        }
+        StartupOrchestrator startup = MegaMek.getStartup();
+        CompletableFuture<Void> ready = CompletableFuture.allOf(Arrays.stream(tasks).map(startup::whenReady)
+                .toArray(CompletableFuture[]::new));
+        if (ready.isDone()) {
+            action.run();
+            return;
+        }
+        waitingForStartup = true;
+        frame.setCursor(new Cursor(Cursor.WAIT_CURSOR));
+        ready.whenCompleteAsync((result, ex) -> {
+            waitingForStartup = false;
+            frame.setCursor(new Cursor(Cursor.DEFAULT_CURSOR));
+            action.run();
+        }, SwingUtilities::invokeLater);
+    }
+
     /**
      * Hides this window for later. Listens to the frame until it closes, then
      * calls unlaunch().
@@ -82,7 +82,7 @@ public final class MiniMap extends JPanel implements IPreferenceChangeListener {
     private static final int[] HALF_ROAD_WIDTH = {0, 0, 0, 1, 2, 3, 3};
     private static final int[] UNIT_SIZES = {4, 5, 6, 7, 8, 9, 10};
     private static final int[] UNIT_SCALE = {7, 8, 9, 11, 12, 14, 16};
-    private static final int MAX_ZOOM = HEX_SIDE.length - 1;
+    public static final int MAX_ZOOM = HEX_SIDE.length - 1;
     
     private static final int SHOW_NO_HEIGHT = 0;
     private static final int SHOW_GROUND_HEIGHT = 1;
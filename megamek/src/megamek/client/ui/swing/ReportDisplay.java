@@ -24,16 +24,27 @@ import megamek.common.Entity;
 import megamek.common.Report;
 import megamek.common.enums.GamePhase;
 import megamek.common.event.GamePhaseChangeEvent;
+import megamek.common.event.GameReportPageEvent;
 import megamek.common.preference.IPreferenceChangeListener;
 import megamek.common.preference.PreferenceChangeEvent;
+import org.apache.logging.log4j.LogManager;
 
 import javax.swing.*;
 import javax.swing.event.HyperlinkEvent;
 import javax.swing.event.HyperlinkListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.html.HTML;
+import javax.swing.text.html.HTMLDocument;
 import javax.swing.text.html.HTMLEditorKit;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
 
 public class ReportDisplay extends AbstractPhaseDisplay implements
         ActionListener, HyperlinkListener, IPreferenceChangeListener {
@@ -47,6 +58,12 @@ public class ReportDisplay extends AbstractPhaseDisplay implements
 
     private boolean rerolled; // have we rerolled an init?
 
+    // client property marking round tabs whose text has not been rendered yet
+    private static final String UNRENDERED_ROUND = "unrenderedRound";
+
+    // rendered text of past rounds, so that tabs are only rendered once
+    private final Map<Integer, RenderedRound> renderedRounds = new HashMap<>();
+
     /**
      * Creates and lays out a new movement phase display for the specified
      * clientgui.getClient().
@@ -74,6 +91,11 @@ public class ReportDisplay extends AbstractPhaseDisplay implements
         Font tabPanelFont = new Font("Dialog", Font.BOLD,
                 GUIPreferences.getInstance().getInt("AdvancedChatLoungeTabFontSize"));
         tabs.setFont(tabPanelFont);
+        tabs.addChangeListener(e -> {
+            if (tabs.getSelectedIndex() >= 0) {
+                renderPane(getPane(tabs.getSelectedIndex()));
+            }
+        });
 
         resetTabs();
 
@@ -170,55 +192,89 @@ public class ReportDisplay extends AbstractPhaseDisplay implements
                 phaseTab += 1; // special handling for round 0
             }
 
-            // add as many round tabs as necessary to catch us up
-            JTextPane ta;
-            // TODO: we should remove the use of client
-            final Client client = clientgui.getClient();
+            // add as many round tabs as necessary to catch us up; past rounds are only rendered once their tab
+            // is selected
             for (int catchup = phaseTab + 1; catchup <= round; catchup++) {
-                if (tabs.indexOfTab("Round " + catchup) != -1) {
-                    ((JTextPane) ((JScrollPane) tabs.getComponentAt(tabs
-                            .indexOfTab("Round " + catchup))).getViewport()
-                            .getView()).setText("<pre>"
-                            + client.receiveReport(client.getGame().getReports(
-                                    catchup)) + "</pre>");
+                int tabIndex = tabs.indexOfTab("Round " + catchup);
+                if (tabIndex != -1) {
+                    JTextPane pane = getPane(tabIndex);
+                    pane.putClientProperty(UNRENDERED_ROUND, catchup);
+                    if (tabs.getSelectedIndex() == tabIndex) {
+                        renderPane(pane);
+                    }
                     continue;
                 }
-                String text = roundText;
-                if (catchup != round) {
-                    text = client.receiveReport(client.getGame().getReports(catchup));
+                JTextPane ta = createReportPane();
+                if (catchup == round) {
+                    ta.setText("<pre>" + roundText + "</pre>");
+                } else {
+                    ta.putClientProperty(UNRENDERED_ROUND, catchup);
                 }
-                ta = new JTextPane();
-                ta.addHyperlinkListener(this);
-                setupStylesheet(ta);
-                BASE64ToolKit toolKit = new BASE64ToolKit();
-                ta.setEditorKit(toolKit);
-                ta.setText("<pre>" + text + "</pre>");
-                ta.setEditable(false);
-                ta.setOpaque(false);
                 tabs.add("Round " + catchup, new JScrollPane(ta));
             }
 
             // add the new current phase tab
-            ta = new JTextPane();
-            ta.addHyperlinkListener(this);
-            setupStylesheet(ta);
-            BASE64ToolKit toolKit = new BASE64ToolKit();
-            ta.setEditorKit(toolKit);
+            JTextPane ta = createReportPane();
             ta.setText("<pre>" + phaseText + "</pre>");
-            ta.setEditable(false);
-            ta.setOpaque(false);
-
 
             JScrollPane sp = new JScrollPane(ta);
             tabs.add("Phase", sp);
             tabs.setSelectedComponent(sp);
         } else {
             // Update the existing round tab and the phase tab.
-            ((JTextPane) ((JScrollPane) tabs.getComponentAt(tabs.indexOfTab("Round " + round))).getViewport().getView()).setText("<pre>" + roundText + "</pre>");
-            ((JTextPane) ((JScrollPane) tabs.getComponentAt(tabs.indexOfTab("Phase"))).getViewport().getView()).setText("<pre>" + phaseText + "</pre>");
+            JTextPane roundPane = getPane(tabs.indexOfTab("Round " + round));
+            roundPane.putClientProperty(UNRENDERED_ROUND, null);
+            roundPane.setText("<pre>" + roundText + "</pre>");
+            getPane(tabs.indexOfTab("Phase")).setText("<pre>" + phaseText + "</pre>");
+        }
+    }
+
+    private JTextPane createReportPane() {
+        JTextPane ta = new JTextPane();
+        ta.addHyperlinkListener(this);
+        setupStylesheet(ta);
+        BASE64ToolKit toolKit = new BASE64ToolKit();
+        ta.setEditorKit(toolKit);
+        ta.setEditable(false);
+        ta.setOpaque(false);
+        return ta;
+    }
+
+    private JTextPane getPane(int tabIndex) {
+        return (JTextPane) ((JScrollPane) tabs.getComponentAt(tabIndex)).getViewport().getView();
+    }
+
+    /**
+     * Fills in a round tab that was created without its text. While the round's reports are still on their
+     * way from the server, the tab shows a placeholder and stays unrendered.
+     */
+    private void renderPane(JTextPane pane) {
+        Object round = pane.getClientProperty(UNRENDERED_ROUND);
+        if (round != null) {
+            if (clientgui.getClient().getGame().isReportRoundMissing((Integer) round)) {
+                pane.setText("<pre>" + Messages.getString("ReportDisplay.Loading") + "</pre>");
+                return;
+            }
+            pane.putClientProperty(UNRENDERED_ROUND, null);
+            pane.setText("<pre>" + getRoundHtml((Integer) round) + "</pre>");
         }
     }
 
+    /**
+     * @return the report text of a past round, rendered only once unless the round's reports change
+     */
+    private String getRoundHtml(int round) {
+        // TODO: we should remove the use of client
+        final Client client = clientgui.getClient();
+        Vector<Report> reports = client.getGame().getReports(round);
+        RenderedRound rendered = renderedRounds.get(round);
+        if ((rendered == null) || !rendered.isRenderingOf(reports)) {
+            rendered = new RenderedRound(reports, client.receiveReport(reports));
+            renderedRounds.put(round, rendered);
+        }
+        return rendered.html;
+    }
+
     public static void setupStylesheet(JTextPane pane) {
         pane.setContentType("text/html");
         Font font = UIManager.getFont("Label.font");
@@ -230,19 +286,31 @@ public class ReportDisplay extends AbstractPhaseDisplay implements
     public void appendReportTab(String additionalText) {
         int phaseTab = tabs.indexOfTab("Phase");
         if (phaseTab > 0) {
-            JTextPane pane = ((JTextPane) ((JScrollPane) tabs.getComponentAt(phaseTab - 1)).getViewport().getView());
-            BASE64ToolKit toolKit = new BASE64ToolKit();
-            pane.setEditorKit(toolKit);
-            pane.setText(pane.getText() + "<pre>"+additionalText+"</pre>");
+            appendToPane(getPane(phaseTab - 1), additionalText);
+        }
+        appendToPane(getPane(phaseTab), additionalText);
+    }
+
+    /**
+     * Adds text to the end of a pane's document, without re-parsing what is already there.
+     */
+    private void appendToPane(JTextPane pane, String additionalText) {
+        renderPane(pane);
+        String html = "<pre>" + additionalText + "</pre>";
+        HTMLDocument document = (HTMLDocument) pane.getDocument();
+        Element body = document.getElement(document.getDefaultRootElement(), StyleConstants.NameAttribute,
+                HTML.Tag.BODY);
+        try {
+            document.insertBeforeEnd(body, html);
+        } catch (BadLocationException | IOException e) {
+            LogManager.getLogger().error("Could not append to the report document, replacing it instead", e);
+            pane.setText(pane.getText() + html);
         }
-        JTextPane pane = ((JTextPane) ((JScrollPane) tabs.getComponentAt(phaseTab)).getViewport().getView());
-        BASE64ToolKit toolKit = new BASE64ToolKit();
-        pane.setEditorKit(toolKit);
-        pane.setText(pane.getText() + "<pre>"+additionalText+"</pre>");
     }
 
     public void resetTabs() {
         tabs.removeAll();
+        renderedRounds.clear();
     }
 
     //
@@ -255,6 +323,16 @@ public class ReportDisplay extends AbstractPhaseDisplay implements
         }
     }
 
+    @Override
+    public void gameReportPage(GameReportPageEvent e) {
+        // the selected tab may be waiting for this page
+        SwingUtilities.invokeLater(() -> {
+            if (tabs.getSelectedIndex() >= 0) {
+                renderPane(getPane(tabs.getSelectedIndex()));
+            }
+        });
+    }
+
     @Override
     public void gamePhaseChange(GamePhaseChangeEvent e) {
 
@@ -348,4 +426,22 @@ public class ReportDisplay extends AbstractPhaseDisplay implements
         } 
     }
 
+    /**
+     * The rendered text of a round, remembered with the report vector it was rendered from.
+     */
+    private static class RenderedRound {
+        private final Vector<Report> reports;
+        private final int reportCount;
+        private final String html;
+
+        private RenderedRound(Vector<Report> reports, String html) {
+            this.reports = reports;
+            reportCount = (reports == null) ? 0 : reports.size();
+            this.html = html;
+        }
+
+        private boolean isRenderingOf(Vector<Report> reports) {
+            return (this.reports == reports) && (reportCount == ((reports == null) ? 0 : reports.size()));
+        }
+    }
 }
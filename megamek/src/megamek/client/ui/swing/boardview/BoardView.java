@@ -419,7 +419,8 @@ public class BoardView extends JPanel implements Scrollable, BoardListener, Mous
         this.game = game;
         this.clientgui = clientgui;
 
-        hexImageCache = new ImageCache<>();
+        hexImageCache = new ImageCache<>(ImageCache.DEFAULT_MAX_BYTES,
+                entry -> ImageCache.estimateBytes(entry.hexImage));
 
         tileManager = new TilesetManager(this);
         ToolTipManager.sharedInstance().registerComponent(this);
@@ -20,6 +20,7 @@ import megamek.client.ui.panes.EntityViewPane;
 import megamek.client.ui.swing.AdvancedSearchDialog;
 import megamek.client.ui.swing.GUIPreferences;
 import megamek.client.ui.swing.UnitLoadingDialog;
+import megamek.client.ui.swing.util.ReadoutCache;
 import megamek.common.*;
 import megamek.common.annotations.Nullable;
 import megamek.common.options.GameOptions;
@@ -213,6 +214,7 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
 
         JScrollPane scrollTableUnits = new JScrollPane(tableUnits);
         scrollTableUnits.setName("scrollTableUnits");
+        scrollTableUnits.getViewport().addChangeListener(evt -> prerenderVisibleUnits());
         scrollTableUnits.setMinimumSize(new Dimension(500, 400));
         scrollTableUnits.setPreferredSize(new Dimension(500, 400));
         gridBagConstraints.gridx = 0;
@@ -562,11 +564,16 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
     }
 
     /**
-     * @return the selected entity (required for MekHQ/MegaMek overrides)
+     * Shows the selected unit. Its entity is taken from the {@link ReadoutCache}, so that the unit file
+     * is only parsed when the unit was not shown or rendered ahead of time before.
+     *
+     * @return the selected entity (required for MekHQ/MegaMek overrides). It is shared for display and
+     * must not be changed; use {@link #getSelectedEntity()} for an entity to change.
      */
     protected Entity refreshUnitView() {
-        Entity selectedEntity = getSelectedEntity();
-        panePreview.updateDisplayedEntity(selectedEntity);
+        MechSummary ms = getSelectedMechSummary();
+        Entity selectedEntity = (ms == null) ? null : ReadoutCache.getInstance().getEntity(ms);
+        panePreview.updateDisplayedEntity(selectedEntity, ms);
         // Empty the unit preview icon if there's no entity selected
         if (selectedEntity == null) {
             labelImage.setIcon(null);
@@ -578,13 +585,10 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
      * @return the selected entity
      */
     public @Nullable Entity getSelectedEntity() {
-        int view = tableUnits.getSelectedRow();
-        if (view < 0) {
-            // selection got filtered away
+        MechSummary ms = getSelectedMechSummary();
+        if (ms == null) {
             return null;
         }
-        int selected = tableUnits.convertRowIndexToModel(view);
-        MechSummary ms = mechs[selected];
         try {
             // For some unknown reason the base path gets screwed up after you
             // print so this sets the source file to the full path.
@@ -596,6 +600,41 @@ public abstract class AbstractUnitSelectorDialog extends JDialog implements Runn
         }
     }
 
+    /**
+     * @return the unit of the selected row
+     */
+    private @Nullable MechSummary getSelectedMechSummary() {
+        int view = tableUnits.getSelectedRow();
+        if (view < 0) {
+            // selection got filtered away
+            return null;
+        }
+        return mechs[tableUnits.convertRowIndexToModel(view)];
+    }
+
+    /**
+     * Renders the readouts of the units in the visible rows of the unit table in the background, so that
+     * they are shown without delay when selected.
+     */
+    private void prerenderVisibleUnits() {
+        if ((mechs == null) || !isVisible()) {
+            return;
+        }
+        Rectangle visible = tableUnits.getVisibleRect();
+        int first = tableUnits.rowAtPoint(visible.getLocation());
+        int last = tableUnits.rowAtPoint(new Point(visible.x, visible.y + visible.height - 1));
+        if (first < 0) {
+            return;
+        } else if (last < 0) {
+            last = tableUnits.getRowCount() - 1;
+        }
+        List<MechSummary> units = new ArrayList<>();
+        for (int view = first; view <= last; view++) {
+            units.add(mechs[tableUnits.convertRowIndexToModel(view)]);
+        }
+        ReadoutCache.getInstance().prerender(units);
+    }
+
     @Override
     public void run() {
         // Loading mechs can take a while, so it will have its own thread for MegaMek
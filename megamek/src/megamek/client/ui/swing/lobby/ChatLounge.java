@@ -88,6 +88,8 @@ import java.text.NumberFormat;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -932,7 +934,8 @@ public class ChatLounge extends AbstractPhaseDisplay implements
         boardTags.clear();
         for (String boardName : mapSettings.getBoardsAvailableVector()) {
             File boardFile = new MegaMekFile(Configuration.boardsDir(), boardName + ".board").getFile();
-            Set<String> tags = Board.getTags(boardFile);
+            BoardIndex.BoardInfo boardInfo = BoardIndex.getInstance().get(boardFile);
+            Set<String> tags = (boardInfo == null) ? Board.getTags(boardFile) : boardInfo.getTags();
             boardTags.put(boardName, String.join("||", tags).toLowerCase());
         }
     }
@@ -1026,16 +1029,7 @@ public class ChatLounge extends AbstractPhaseDisplay implements
                         
                         File boardFile = new MegaMekFile(Configuration.boardsDir(), boardForImage + ".board").getFile();
                         if (boardFile.exists()) {
-                            buttonBoard = new Board(16, 17);
-                            buttonBoard.load(new MegaMekFile(Configuration.boardsDir(), boardForImage + ".board").getFile());
-                            StringBuffer errs = new StringBuffer();
-                            try (InputStream is = new FileInputStream(new MegaMekFile(Configuration.boardsDir(), boardForImage + ".board").getFile())) {
-                                buttonBoard.load(is, errs, true);
-                                BoardUtilities.flip(buttonBoard, rotateBoard, rotateBoard);
-                            } catch (IOException ex) {
-                                buttonBoard = Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight());
-                            }
-                            image = MiniMap.getMinimapImageMaxZoom(buttonBoard);
+                            image = requestButtonImage(button, boardName, boardFile, rotateBoard);
                         } else {
                             buttonBoard = Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight());
                             BufferedImage emptyBoardMap = MiniMap.getMinimapImageMaxZoom(buttonBoard);
@@ -1083,6 +1077,30 @@ public class ChatLounge extends AbstractPhaseDisplay implements
 
     }
     
+    /**
+     * Returns the preview image of a board file for a map button. When the preview is not in memory,
+     * it is rendered on the preview cache's background pool and an empty board is returned in its
+     * place; the button is updated on the EDT when the preview is ready, unless it has been given
+     * another image meanwhile.
+     */
+    private Image requestButtonImage(MapPreviewButton button, String boardName, File boardFile, boolean rotate) {
+        CompletableFuture<MapPreviewCache.Preview> request = MapPreviewCache.getInstance()
+                .requestPreview(boardFile, MiniMap.MAX_ZOOM, rotate);
+        MapPreviewCache.Preview cached = request.getNow(null);
+        if (cached != null) {
+            return cached.copyImage();
+        }
+        Image placeholder = MiniMap.getMinimapImageMaxZoom(
+                Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight()));
+        request.thenAcceptAsync(preview -> {
+            if (button.getImage() == placeholder) {
+                button.setImage(preview.copyImage(), boardName);
+                button.repaint();
+            }
+        }, SwingUtilities::invokeLater);
+        return placeholder;
+    }
+
     private void markServerSideBoard(BufferedImage image) {
         Graphics g = image.getGraphics();
         GUIPreferences.AntiAliasifSet(g);
@@ -2006,7 +2024,9 @@ public class ChatLounge extends AbstractPhaseDisplay implements
         var bcd = new BotConfigDialog(clientgui.frame, bot.getLocalPlayer().getName(), bot.getBehaviorSettings(), clientgui);
         bcd.setVisible(true);
         if (bcd.getResult() == DialogResult.CONFIRMED) {
-            bot.setBehaviorSettings(bcd.getBehaviorSettings());
+            BehaviorSettings behavior = bcd.getBehaviorSettings();
+            // The bot uses its behavior on its own packet thread, so it is changed there
+            bot.runOnPacketThread(() -> bot.setBehaviorSettings(behavior));
         }
     }
     
@@ -2156,10 +2176,12 @@ public class ChatLounge extends AbstractPhaseDisplay implements
                     && (game.getEntitiesOwnedBy(localPlayer()) > 0)) {
                 players.add(client.getLocalPlayer().getName());
             }
+            // The bots' own games belong to their packet threads, so look their players up in ours
             for (Client bc : clientgui.getBots().values()) {
-                if ((game.getLiveCommandersOwnedBy(bc.getLocalPlayer()) < 1)
-                        && (game.getEntitiesOwnedBy(bc.getLocalPlayer()) > 0)) {
-                    players.add(bc.getLocalPlayer().getName());
+                Player botPlayer = game.getPlayer(bc.getLocalPlayerNumber());
+                if ((botPlayer != null) && (game.getLiveCommandersOwnedBy(botPlayer) < 1)
+                        && (game.getEntitiesOwnedBy(botPlayer) > 0)) {
+                    players.add(botPlayer.getName());
                 }
             }
             if (players.size() > 0) {
@@ -3284,24 +3306,58 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             }
         }
         
-        private Image prepareImage(String boardName) {
+        /** Boards whose image is being prepared, to avoid requesting them again while waiting */
+        private final Set<String> requested = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Prepares the list image of a board. Boards that exist locally are rendered by the
+         * preview cache on its background pool; the image is added on the EDT when it is ready.
+         * The preview zoom depends on the board size. When the size is not indexed yet, the board is
+         * loaded once here and handed to the cache so that it is not loaded again for rendering.
+         */
+        private void prepareImage(String boardName) {
+            if (!requested.add(boardName)) {
+                return;
+            }
             File boardFile = new MegaMekFile(Configuration.boardsDir(), boardName + ".board").getFile();
-            Board board;
-            StringBuffer errs = new StringBuffer();
             if (boardFile.exists()) {
-                board = new Board();
-                try (InputStream is = new FileInputStream(boardFile)) {
-                    board.load(is, errs, true);
-                } catch (IOException ex) {
-                    board = Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight());
+                BoardIndex.BoardInfo info = BoardIndex.getInstance().getIndexed(boardFile);
+                Board board = null;
+                int zoom;
+                if (info != null) {
+                    zoom = listImageZoom(info.getWidth(), info.getHeight());
+                } else {
+                    board = new Board();
+                    try (InputStream is = new FileInputStream(boardFile)) {
+                        board.load(is, new StringBuffer(), true);
+                    } catch (IOException ex) {
+                        LogManager.getLogger().error("Failed to load board " + boardFile, ex);
+                        board = Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight());
+                    }
+                    zoom = listImageZoom(board.getWidth(), board.getHeight());
                 }
+                MapPreviewCache.getInstance().requestPreview(boardFile, board, zoom, false)
+                        .thenAcceptAsync(preview -> finishImage(boardName, preview.copyImage(), !preview.isValid(), false),
+                                SwingUtilities::invokeLater)
+                        .whenComplete((result, ex) -> requested.remove(boardName));
             } else {
-                board = Board.createEmptyBoard(mapSettings.getBoardWidth(), mapSettings.getBoardHeight());
-            }
-
-            // Determine a minimap zoom from the board size and gui scale.
-            // This is very magic numbers but currently the minimap has only fixed zoom states.
-            int largerEdge = Math.max(board.getWidth(), board.getHeight());
+                int width = mapSettings.getBoardWidth();
+                int height = mapSettings.getBoardHeight();
+                BufferedImage image = MiniMap.getMinimapImage(Board.createEmptyBoard(width, height),
+                        listImageZoom(width, height));
+                SwingUtilities.invokeLater(() -> {
+                    finishImage(boardName, image, false, !boardName.startsWith(MapSettings.BOARD_GENERATED));
+                    requested.remove(boardName);
+                });
+            }
+        }
+
+        /**
+         * Determines a minimap zoom from the board size and gui scale.
+         * This is very magic numbers but currently the minimap has only fixed zoom states.
+         */
+        private int listImageZoom(int boardWidth, int boardHeight) {
+            int largerEdge = Math.max(boardWidth, boardHeight);
             int zoom = 3;
             if (largerEdge < 17) {
                 zoom = 4;
@@ -3315,7 +3371,7 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             if (largerEdge > 40) {
                 zoom = 0;
             }
-            if (board.getWidth() < 25) {
+            if (boardWidth < 25) {
                 zoom = Math.max(zoom, 3);
             }
             float scale = GUIPreferences.getInstance().getGUIScale();
@@ -3326,16 +3382,21 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             if (zoom < 0) {
                 zoom = 0;
             }
-            BufferedImage bufImage = MiniMap.getMinimapImage(board, zoom);
+            return zoom;
+        }
 
-            // Add the board name label and the server-side board label if necessary
+        /**
+         * Adds the board name label and the server-side board label if necessary and shows the image.
+         * Called on the EDT.
+         */
+        private void finishImage(String boardName, BufferedImage bufImage, boolean invalid, boolean serverSide) {
             String text = LobbyUtility.cleanBoardName(boardName, mapSettings);
             Graphics g = bufImage.getGraphics();
-            if (errs.length() != 0) {
+            if (invalid) {
                 invalidBoards.add(boardName);
             }
-            drawMinimapLabel(text, bufImage.getWidth(), bufImage.getHeight(), g, errs.length() != 0);
-            if (!boardFile.exists() && !boardName.startsWith(MapSettings.BOARD_GENERATED)) {
+            drawMinimapLabel(text, bufImage.getWidth(), bufImage.getHeight(), g, invalid);
+            if (serverSide) {
                 serverBoards.add(boardName);
                 markServerSideBoard(bufImage);
             }
@@ -3344,18 +3405,15 @@ public class ChatLounge extends AbstractPhaseDisplay implements
             synchronized(baseImages) {
                 baseImages.put(boardName, bufImage);
             }
-            return bufImage;
+            ChatLounge.this.redrawMapTable(bufImage);
         }
 
-
         @Override
         protected Void doInBackground() throws Exception {
-            Image image;
             while (!isCancelled()) {
                 String boardName = boards.poll(1, TimeUnit.SECONDS);
                 if (boardName != null && !baseImages.containsKey(boardName)) {
-                    image = prepareImage(boardName);
-                    ChatLounge.this.redrawMapTable(image);
+                    prepareImage(boardName);
                 }
             }
             return null;
@@ -3447,6 +3505,14 @@ public class ChatLounge extends AbstractPhaseDisplay implements
         public MekTable(MekTableModel mekModel) {
             super(mekModel);
         }
+
+        /** Returns the tooltip of the unit or pilot, which the model renders when needed. */
+        @Override
+        public String getToolTipText(MouseEvent event) {
+            int row = rowAtPoint(event.getPoint());
+            int col = columnAtPoint(event.getPoint());
+            return (row < 0) || (col < 0) ? null : mekModel.getTooltip(row, col);
+        }
         
         @Override
         /** Places the tooltips to the right of the cell so it doesnt get in the way. */
@@ -548,8 +548,15 @@ public class LobbyActions {
         if (!bots.containsKey(botName) || !(bots.get(botName) instanceof Princess)) {
             return;
         }
-        BehaviorSettings behavior = ((Princess) bots.get(botName)).getBehaviorSettings();
-        entities.forEach(e -> behavior.addPriorityUnit(e.getId()));
+        Princess princess = (Princess) bots.get(botName);
+        int[] ids = entities.stream().mapToInt(Entity::getId).toArray();
+        // The bot uses its behavior on its own packet thread, so it is changed there
+        princess.runOnPacketThread(() -> {
+            BehaviorSettings behavior = princess.getBehaviorSettings();
+            for (int id : ids) {
+                behavior.addPriorityUnit(id);
+            }
+        });
     }
     
     /**
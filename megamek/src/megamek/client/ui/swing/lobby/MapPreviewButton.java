@@ -100,6 +100,11 @@ public class MapPreviewButton extends JButton {
         scheduleRescale();
     }
     
+    /** Returns the minimap base image of the button, or null if it has none. */
+    public Image getImage() {
+        return baseImage;
+    }
+
     public void reset() {
         baseImage = null;
         boardName = "";
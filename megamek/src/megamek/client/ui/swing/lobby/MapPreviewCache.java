@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.swing.lobby;
+
+import megamek.client.ui.swing.GUIPreferences;
+import megamek.client.ui.swing.MiniMap;
+import megamek.client.ui.swing.util.ImageCache;
+import megamek.common.Board;
+import megamek.common.annotations.Nullable;
+import megamek.common.Configuration;
+import megamek.common.util.fileUtils.MegaMekFile;
+import megamek.common.util.BoardUtilities;
+import org.apache.logging.log4j.LogManager;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Caches the minimap previews of board files shown in the lobby. Previews are rendered once per
+ * board content, zoom and rotation and kept both in memory and as PNG files in the user data
+ * directory, so that reopening the lobby or scrolling through the board list does not load and
+ * render the same boards again. Disk entries are named by a hash of the board file content, the
+ * renderer version and the minimap colour file, so edited boards or colours get new previews and
+ * renamed or copied boards reuse theirs. When the preview files grow beyond a size limit, the least
+ * recently used ones are deleted.
+ *
+ * Previews can be requested synchronously or on a small background pool. The returned images are
+ * shared and must be copied before drawing on them.
+ */
+public final class MapPreviewCache {
+    private static final String PREVIEW_DIR = "mappreviews";
+    private static final String VALID_SUFFIX = ".png";
+    private static final String INVALID_SUFFIX = ".invalid.png";
+
+    /** Increase this when the minimap drawing changes so that previews on disk are rendered again */
+    private static final int RENDERER_VERSION = 1;
+
+    /** The default size limit of the preview files */
+    private static final long DEFAULT_MAX_DISK_BYTES = 64L * 1024 * 1024;
+
+    private static MapPreviewCache instance;
+
+    private final File cacheDir;
+    private final long maxDiskBytes;
+    /** The size of the preview files, or -1 if the directory has not been measured yet */
+    private final AtomicLong diskBytes = new AtomicLong(-1);
+    private final ImageCache<String, Preview> memoryCache =
+            new ImageCache<>(ImageCache.DEFAULT_MAX_BYTES, preview -> ImageCache.estimateBytes(preview.image));
+    private final Map<String, CompletableFuture<Preview>> pending = new ConcurrentHashMap<>();
+    private final Map<String, FileHash> hashes = new ConcurrentHashMap<>();
+    private final Executor renderPool;
+    private final Supplier<File> coloursFile;
+    private final BiFunction<Board, Integer, BufferedImage> renderer;
+
+    MapPreviewCache(final File cacheDir, final long maxDiskBytes) {
+        this(cacheDir, maxDiskBytes, createRenderPool(), MapPreviewCache::minimapColoursFile,
+                MiniMap::getMinimapImage);
+    }
+
+    /**
+     * @param renderPool  the executor that renders requested previews
+     * @param coloursFile supplies the minimap colour file whose content is part of the preview keys
+     * @param renderer    draws the preview of a board at a zoom level
+     */
+    MapPreviewCache(final File cacheDir, final long maxDiskBytes, final Executor renderPool,
+            final Supplier<File> coloursFile, final BiFunction<Board, Integer, BufferedImage> renderer) {
+        this.cacheDir = cacheDir;
+        this.maxDiskBytes = maxDiskBytes;
+        this.renderPool = renderPool;
+        this.coloursFile = coloursFile;
+        this.renderer = renderer;
+    }
+
+    private static ExecutorService createRenderPool() {
+        final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Map Preview Renderer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    private static File minimapColoursFile() {
+        return new MegaMekFile(Configuration.hexesDir(), GUIPreferences.getInstance().getMinimapColours()).getFile();
+    }
+
+    /**
+     * @return the preview cache, storing its files in the user data directory
+     */
+    public static synchronized MapPreviewCache getInstance() {
+        if (instance == null) {
+            instance = new MapPreviewCache(new File(Configuration.userdataDir(), PREVIEW_DIR),
+                    DEFAULT_MAX_DISK_BYTES);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the preview of a board file, rendering it on the calling thread if it is neither in
+     * memory nor on disk.
+     *
+     * @param boardFile the board file; it must exist
+     * @param zoom      the minimap zoom level
+     * @param rotate    true to show the board rotated by 180 degrees
+     * @return the preview
+     */
+    public Preview getPreview(final File boardFile, final int zoom, final boolean rotate) {
+        final String key = key(boardFile, zoom, rotate);
+        final Preview cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return load(boardFile, null, zoom, rotate, key);
+    }
+
+    /**
+     * Returns the preview of a board file, rendering it on the background pool if it is not in
+     * memory. Concurrent requests for the same preview share a single render.
+     *
+     * @param boardFile the board file; it must exist
+     * @param zoom      the minimap zoom level
+     * @param rotate    true to show the board rotated by 180 degrees
+     * @return a future that completes with the preview
+     */
+    public CompletableFuture<Preview> requestPreview(final File boardFile, final int zoom, final boolean rotate) {
+        return requestPreview(boardFile, null, zoom, rotate);
+    }
+
+    /**
+     * Returns the preview of a board file, rendering the given board on the background pool if the
+     * preview is neither in memory nor on disk. Use this when the board was loaded anyway so that it
+     * is not loaded again for rendering.
+     *
+     * @param boardFile the board file; it must exist
+     * @param board     the board loaded from the file, or null to load it when required. It may
+     *                  be flipped when rotate is true and must not be used afterwards.
+     * @param zoom      the minimap zoom level
+     * @param rotate    true to show the board rotated by 180 degrees
+     * @return a future that completes with the preview
+     */
+    public CompletableFuture<Preview> requestPreview(final File boardFile, final @Nullable Board board,
+            final int zoom, final boolean rotate) {
+        final String key = key(boardFile, zoom, rotate);
+        final Preview cached = memoryCache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return pending.computeIfAbsent(key, k -> CompletableFuture
+                .supplyAsync(() -> load(boardFile, board, zoom, rotate, k), renderPool)
+                .whenComplete((preview, ex) -> {
+                    pending.remove(k);
+                    if (ex != null) {
+                        LogManager.getLogger().error("Failed to render the preview of " + boardFile, ex);
+                    }
+                }));
+    }
+
+    /**
+     * Removes all previews from memory. The previews on disk are kept.
+     */
+    public void clearMemory() {
+        memoryCache.clear();
+    }
+
+    private Preview load(final File boardFile, final @Nullable Board board, final int zoom,
+            final boolean rotate, final String key) {
+        Preview preview = readFromDisk(key);
+        if (preview == null) {
+            preview = (board == null) ? render(boardFile, zoom, rotate) : render(board, board.isValid(), zoom, rotate);
+            writeToDisk(key, preview);
+        }
+        memoryCache.put(key, preview);
+        return preview;
+    }
+
+    private Preview render(final File boardFile, final int zoom, final boolean rotate) {
+        Board board = new Board();
+        StringBuffer errs = new StringBuffer();
+        try (InputStream is = new FileInputStream(boardFile)) {
+            board.load(is, errs, true);
+        } catch (IOException ex) {
+            LogManager.getLogger().error("Failed to load board " + boardFile, ex);
+            board = Board.createEmptyBoard(16, 17);
+        }
+        return render(board, errs.length() == 0, zoom, rotate);
+    }
+
+    private Preview render(final Board board, final boolean valid, final int zoom, final boolean rotate) {
+        BoardUtilities.flip(board, rotate, rotate);
+        return new Preview(renderer.apply(board, zoom), valid);
+    }
+
+    private Preview readFromDisk(final String key) {
+        for (boolean valid : new boolean[] { true, false }) {
+            final File file = previewFile(key, valid);
+            if (file.isFile()) {
+                try {
+                    final BufferedImage image = ImageIO.read(file);
+                    if (image != null) {
+                        // The modification time orders the previews for eviction
+                        file.setLastModified(System.currentTimeMillis());
+                        return new Preview(image, valid);
+                    }
+                } catch (IOException ex) {
+                    LogManager.getLogger().warn("Failed to read the map preview " + file, ex);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void writeToDisk(final String key, final Preview preview) {
+        if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+            return;
+        }
+        final File file = previewFile(key, preview.valid);
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile(key, ".tmp", cacheDir);
+            if (!ImageIO.write(preview.image, "png", tempFile)) {
+                throw new IOException("No PNG writer available");
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException ex) {
+            LogManager.getLogger().warn("Failed to write the map preview " + file, ex);
+            if ((tempFile != null) && tempFile.exists() && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+            return;
+        }
+        if (diskBytes.get() < 0) {
+            diskBytes.compareAndSet(-1, Arrays.stream(previewFiles()).mapToLong(File::length).sum());
+        } else {
+            diskBytes.addAndGet(file.length());
+        }
+        if (diskBytes.get() > maxDiskBytes) {
+            evict();
+        }
+    }
+
+    /**
+     * Deletes the least recently used preview files until they take up no more than three quarters
+     * of the size limit, so that the directory is not pruned on every write.
+     */
+    private synchronized void evict() {
+        final File[] files = previewFiles();
+        long total = Arrays.stream(files).mapToLong(File::length).sum();
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (total <= maxDiskBytes / 4 * 3) {
+                break;
+            }
+            final long length = file.length();
+            if (file.delete()) {
+                total -= length;
+            }
+        }
+        diskBytes.set(total);
+    }
+
+    private File[] previewFiles() {
+        final File[] files = cacheDir.listFiles((dir, name) -> name.endsWith(VALID_SUFFIX));
+        return (files == null) ? new File[0] : files;
+    }
+
+    private File previewFile(final String key, final boolean valid) {
+        return new File(cacheDir, key + (valid ? VALID_SUFFIX : INVALID_SUFFIX));
+    }
+
+    /**
+     * @return the key of a preview, made of the board content, renderer version, minimap colours,
+     * zoom and rotation
+     */
+    String key(final File boardFile, final int zoom, final boolean rotate) {
+        return contentHash(boardFile) + "-v" + RENDERER_VERSION + "-c" + coloursVersion()
+                + "-z" + zoom + (rotate ? "-r" : "");
+    }
+
+    /**
+     * @return a short hash of the minimap colour file in use, or "0" if there is none and the
+     * default colours are used
+     */
+    private String coloursVersion() {
+        final File colours = coloursFile.get();
+        if ((colours == null) || !colours.isFile()) {
+            return "0";
+        }
+        final String hash = contentHash(colours);
+        return hash.substring(0, Math.min(8, hash.length()));
+    }
+
+    /**
+     * @return the hash of the content of the file, recomputed only when its modification time or
+     * length changed
+     */
+    private String contentHash(final File file) {
+        final String path = file.getAbsolutePath();
+        final FileHash known = hashes.get(path);
+        if ((known != null) && known.isCurrent(file)) {
+            return known.hash;
+        }
+        final FileHash hash = new FileHash(file);
+        hashes.put(path, hash);
+        return hash.hash;
+    }
+
+    /**
+     * A rendered board preview. The image is shared and must not be drawn on.
+     */
+    public static final class Preview {
+        private final BufferedImage image;
+        private final boolean valid;
+
+        private Preview(final BufferedImage image, final boolean valid) {
+            this.image = image;
+            this.valid = valid;
+        }
+
+        /**
+         * @return the preview image
+         */
+        public BufferedImage getImage() {
+            return image;
+        }
+
+        /**
+         * @return a copy of the preview image that may be drawn on
+         */
+        public BufferedImage copyImage() {
+            final BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(),
+                    BufferedImage.TYPE_INT_ARGB);
+            final Graphics g = copy.getGraphics();
+            g.drawImage(image, 0, 0, null);
+            g.dispose();
+            return copy;
+        }
+
+        /**
+         * @return false if the board file had errors when it was loaded
+         */
+        public boolean isValid() {
+            return valid;
+        }
+    }
+
+    private static final class FileHash {
+        private final long lastModified;
+        private final long length;
+        private final String hash;
+
+        private FileHash(final File file) {
+            lastModified = file.lastModified();
+            length = file.length();
+            hash = hash(file);
+        }
+
+        private boolean isCurrent(final File file) {
+            return (file.lastModified() == lastModified) && (file.length() == length);
+        }
+
+        private static String hash(final File file) {
+            try (InputStream is = new FileInputStream(file)) {
+                final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = is.read(buffer)) > 0) {
+                    digest.update(buffer, 0, read);
+                }
+                final StringBuilder result = new StringBuilder();
+                for (byte b : digest.digest()) {
+                    result.append(String.format("%02x", b));
+                }
+                return result.toString();
+            } catch (IOException | NoSuchAlgorithmException ex) {
+                // Fall back to the file identity; such previews are still refreshed when the file changes
+                return Integer.toHexString(file.getAbsolutePath().hashCode()) + "-" + file.lastModified()
+                        + "-" + file.length();
+            }
+        }
+    }
+}
@@ -42,6 +42,7 @@ import javax.swing.table.TableCellRenderer;
 import java.awt.*;
 import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.BitSet;
 
 import static megamek.client.ui.swing.util.UIUtil.alternateTableBGColor;
 import static megamek.client.ui.swing.util.UIUtil.guiScaledFontHTML;
@@ -83,10 +84,12 @@ public class MekTableModel extends AbstractTableModel {
     private ArrayList<String> unitCells = new ArrayList<>();
     /** The displayed contents of the Pilot column. */
     private ArrayList<String> pilotCells = new ArrayList<>();
-    /** The list of cached tooltips for the displayed units. */
+    /** The list of cached tooltips for the displayed units. Tooltips are null until first shown. */
     private ArrayList<String> unitTooltips = new ArrayList<>();
-    /** The list of cached tooltips for the displayed pilots. */
+    /** The list of cached tooltips for the displayed pilots. Tooltips are null until first shown. */
     private ArrayList<String> pilotTooltips = new ArrayList<>();
+    /** The rows of units that are obscured by blind drop and have no tooltips. */
+    private final BitSet hiddenRows = new BitSet();
     /** The displayed contents of the Player column. */
     private ArrayList<String> playerCells = new ArrayList<>();
     //endregion Variable Declarations
@@ -135,8 +138,7 @@ public class MekTableModel extends AbstractTableModel {
     public void clearData() {
         entities.clear();
         bv.clear();
-        unitTooltips.clear(); 
-        pilotTooltips.clear();
+        clearTooltips();
         unitCells.clear();
         pilotCells.clear();
         playerCells.clear();
@@ -149,8 +151,7 @@ public class MekTableModel extends AbstractTableModel {
      */
     public void refreshCells() {
         bv.clear();
-        unitTooltips.clear(); 
-        pilotTooltips.clear();
+        clearTooltips();
         playerCells.clear();
         unitCells.clear();
         pilotCells.clear();
@@ -182,15 +183,10 @@ public class MekTableModel extends AbstractTableModel {
         // the obscured units but has to actively decide to do it.
         boolean hideEntity = clientGui.getClient().getLocalPlayer().isEnemyOf(owner)
                 && clientGui.getClient().getGame().getOptions().booleanOption(OptionsConstants.BASE_BLIND_DROP);
-        if (hideEntity) {
-            unitTooltips.add(null);
-            pilotTooltips.add(null);
-        } else {
-            MapSettings mset = chatLounge.mapSettings;
-            Player lPlayer = clientGui.getClient().getLocalPlayer();
-            unitTooltips.add("<HTML>" + UnitToolTip.getEntityTipLobby(entity, lPlayer, mset));
-            pilotTooltips.add("<HTML>" + PilotToolTip.getPilotTipDetailed(entity));
-        }
+        // The tooltips are only rendered when they are first shown
+        unitTooltips.add(null);
+        pilotTooltips.add(null);
+        hiddenRows.set(entities.size() - 1, hideEntity);
         final boolean rpgSkills = clientGui.getClient().getGame().getOptions().booleanOption(OptionsConstants.RPG_RPG_GUNNERY);
         if (chatLounge.isCompact()) {
             unitCells.add(LobbyMekCellFormatter.formatUnitCompact(entity, chatLounge, false));
@@ -202,15 +198,40 @@ public class MekTableModel extends AbstractTableModel {
 
     }
     
-    /** Returns the tooltip for the given row and column from the tooltip cache. */
-    public String getTooltip(int row, int col) {
-        if (col == COLS.PILOT.ordinal()) {
-            return pilotTooltips.get(row);
-        } else if (col == COLS.UNIT.ordinal()) {
-            return unitTooltips.get(row);
-        } else {
+    /** 
+     * Returns the tooltip for the given row and column from the tooltip cache. Tooltips
+     * are rendered when they are first shown and kept until the table is rebuilt. They are
+     * rendered on the event thread, as they read the live entities of the game.
+     */
+    public @Nullable String getTooltip(int row, int col) {
+        if ((row < 0) || (row >= entities.size()) || hiddenRows.get(row)) {
+            return null;
+        } else if ((col != COLS.PILOT.ordinal()) && (col != COLS.UNIT.ordinal())) {
             return null;
         }
+        if (unitTooltips.get(row) == null) {
+            MapSettings mset = chatLounge.mapSettings;
+            Player lPlayer = clientGui.getClient().getLocalPlayer();
+            setTooltips(row, renderTooltips(entities.get(row), lPlayer, mset));
+        }
+        return (col == COLS.PILOT.ordinal()) ? pilotTooltips.get(row) : unitTooltips.get(row);
+    }
+
+    /** Returns the unit and pilot tooltips of the given entity. */
+    private static String[] renderTooltips(Entity entity, Player lPlayer, MapSettings mset) {
+        return new String[] { "<HTML>" + UnitToolTip.getEntityTipLobby(entity, lPlayer, mset),
+                "<HTML>" + PilotToolTip.getPilotTipDetailed(entity) };
+    }
+
+    private void setTooltips(int row, String[] tooltips) {
+        unitTooltips.set(row, tooltips[0]);
+        pilotTooltips.set(row, tooltips[1]);
+    }
+
+    private void clearTooltips() {
+        unitTooltips.clear();
+        pilotTooltips.clear();
+        hiddenRows.clear();
     }
     
     /** 
@@ -318,8 +339,9 @@ public class MekTableModel extends AbstractTableModel {
                     && clientGui.getClient().getGame().getOptions().booleanOption(OptionsConstants.BASE_BLIND_DROP);
             int size = UIUtil.scaleForGUI(MEKTABLE_IMGHEIGHT);
 
+            // The tooltips are provided by the table, see getTooltip()
+            setToolTipText(null);
             if (showAsUnknown) {
-                setToolTipText(null);
                 if (column == COLS.UNIT.ordinal()) {
                     if (!compact) {
                         setIcon(getToolkit().getImage(UNKNOWN_UNIT), size);
@@ -331,7 +353,6 @@ public class MekTableModel extends AbstractTableModel {
                 } 
             } else {
                 if (column == COLS.UNIT.ordinal()) {
-                    setToolTipText(unitTooltips.get(row));
                     final Camouflage camouflage = entity.getCamouflageOrElse(entity.getOwner().getCamouflage());
                     final Image icon = clientGui.getBoardView().getTilesetManager().loadPreviewImage(entity, camouflage, this);
                     if (!compact) {
@@ -342,12 +363,9 @@ public class MekTableModel extends AbstractTableModel {
                         setIconTextGap(UIUtil.scaleForGUI(5));
                     }
                 } else if (column == COLS.PILOT.ordinal()) {
-                    setToolTipText(pilotTooltips.get(row));
                     if (!compact) {
                         setIcon(new ImageIcon(entity.getCrew().getPortrait(0).getImage(size)));
                     }
-                } else {
-                    setToolTipText(null);
                 }
             }
             
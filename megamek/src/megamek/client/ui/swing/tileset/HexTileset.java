@@ -52,9 +52,9 @@ public class HexTileset implements BoardListener {
     private ArrayList<HexEntry> supers = new ArrayList<>();
     private ArrayList<HexEntry> orthos = new ArrayList<>();
     private Set<String> themes = new TreeSet<>();
-    private ImageCache<Hex, Image> basesCache = new ImageCache<>();
-    private ImageCache<Hex, List<Image>> supersCache = new ImageCache<>();
-    private ImageCache<Hex, List<Image>> orthosCache = new ImageCache<>();
+    private ImageCache<Hex, Image> basesCache = createCache();
+    private ImageCache<Hex, List<Image>> supersCache = createCache();
+    private ImageCache<Hex, List<Image>> orthosCache = createCache();
 
     /**
      * Creates new HexTileset
@@ -74,9 +74,17 @@ public class HexTileset implements BoardListener {
 
     /** Clears the image cache for all hexes. */
     public synchronized void clearAllHexes() {
-        basesCache = new ImageCache<>();
-        supersCache = new ImageCache<>();
-        orthosCache = new ImageCache<>();
+        basesCache = createCache();
+        supersCache = createCache();
+        orthosCache = createCache();
+    }
+
+    /**
+     * The hex caches only hold references to the images of this tileset, which are shared between
+     * many hexes, so they are bounded by their entry count and not by the size of the images.
+     */
+    private static <V> ImageCache<Hex, V> createCache() {
+        return new ImageCache<>(ImageCache.DEFAULT_MAX_BYTES, value -> 0);
     }
     
     /**
@@ -345,7 +353,9 @@ public class HexTileset implements BoardListener {
         List<Image> orthoImgs = orthosCache.get(hex);
 
         // add base
-        tracker.addImage(base, 1);
+        if (base != null) {
+            tracker.addImage(base, 1);
+        }
         // add superImgs
         if (superImgs != null) {
             for (Image img: superImgs) {
@@ -42,6 +42,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Handles loading and manipulating images from both the mech tileset and the
@@ -75,11 +78,28 @@ public class TilesetManager implements IPreferenceChangeListener, ITilesetManage
     // component to load images to
     private BoardView boardview;
 
+    /**
+     * Matches and decodes the hex images of a new board in the background, so the first paint of a
+     * large map doesn't block the event dispatch thread. Shared by all boards; tasks run one at a time.
+     */
+    private static final ExecutorService IMAGE_LOADER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Tileset image loader");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
     // keep tracking of loading images
     private MediaTracker tracker;
     private boolean started = false;
     private boolean loaded = false;
 
+    /** Set by the background loader once the board's hex images have been matched and tracked */
+    private volatile boolean hexesLoaded = false;
+
+    /** Incremented on every load and reset so that an outdated background load stops early */
+    private final AtomicInteger loadGeneration = new AtomicInteger();
+
     // mech images
     private MechTileset wreckTileset = new MechTileset(
             new MegaMekFile(Configuration.unitImagesDir(), DIR_NAME_WRECKS).getFile());
@@ -439,39 +459,22 @@ public class TilesetManager implements IPreferenceChangeListener, ITilesetManage
      */
     public synchronized boolean isLoaded() {
         if (!loaded) {
-            loaded = tracker.checkAll(true);
+            loaded = hexesLoaded && tracker.checkAll(true);
         }
         return started && loaded;
     }
 
     /**
-     * Load all the images we'll need for the game and place them in the tracker
+     * Load all the images we'll need for the game and place them in the tracker. The unit images
+     * are loaded right away; the hex images and markers are matched and decoded in the background,
+     * and {@link #isLoaded()} stays false until that is done.
      */
     public void loadNeededImages(Game game) {
         loaded = false;
-        Board board = game.getBoard();
-        // pre-match all hexes with images, load hex images
-        int width = board.getWidth();
-        int height = board.getHeight();
-        // We want to cache as many of the images as we can, but if we have
-        // more images than cache size, lets not waste time
-        if ((width * height) > ImageCache.MAX_SIZE) {
-            // Find the largest size by size square we can fit in the cache
-            int max_dim = (int) Math.sqrt(ImageCache.MAX_SIZE);
-            if (width < max_dim) {
-                    height = ImageCache.MAX_SIZE / width;
-            } else if (height < max_dim) {
-                    width = ImageCache.MAX_SIZE / height;
-            } else {
-                width = height = max_dim;
-            }
-        }
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Hex hex = board.getHex(x, y);
-                loadHexImage(hex);
-            }
-        }
+        hexesLoaded = false;
+        final int generation = loadGeneration.incrementAndGet();
+        final Board board = game.getBoard();
+        IMAGE_LOADER.execute(() -> loadBoardImages(board, generation));
 
         // load all mech images
         for (Entity e : game.getEntitiesVector()) {
@@ -485,15 +488,59 @@ public class TilesetManager implements IPreferenceChangeListener, ITilesetManage
 
         }
 
-        minefieldSign = LoadSpecificImage(Configuration.hexesDir(), Minefield.FILENAME_IMAGE);
-        nightFog = LoadSpecificImage(Configuration.hexesDir(), FILENAME_NIGHT_IMAGE);
-        hexMask = LoadSpecificImage(Configuration.hexesDir(), FILENAME_HEX_MASK);
+        started = true;
+    }
+
+    /**
+     * Matches and tracks the hex images of the board and loads the marker images. Runs on the
+     * image loader thread and gives up as soon as a newer load or a reset has started.
+     */
+    private void loadBoardImages(Board board, int generation) {
+        try {
+            // pre-match all hexes with images, load hex images
+            int width = board.getWidth();
+            int height = board.getHeight();
+            // We want to cache as many of the images as we can, but if we have
+            // more images than cache size, lets not waste time
+            if ((width * height) > ImageCache.MAX_SIZE) {
+                // Find the largest size by size square we can fit in the cache
+                int max_dim = (int) Math.sqrt(ImageCache.MAX_SIZE);
+                if (width < max_dim) {
+                        height = ImageCache.MAX_SIZE / width;
+                } else if (height < max_dim) {
+                        width = ImageCache.MAX_SIZE / height;
+                } else {
+                    width = height = max_dim;
+                }
+            }
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (loadGeneration.get() != generation) {
+                        return;
+                    }
+                    Hex hex = board.getHex(x, y);
+                    if (hex != null) {
+                        loadHexImage(hex);
+                    }
+                }
+            }
 
-        artilleryAutohit = LoadSpecificImage(Configuration.hexesDir(), FILENAME_ARTILLERY_AUTOHIT_IMAGE);
-        artilleryAdjusted = LoadSpecificImage(Configuration.hexesDir(), FILENAME_ARTILLERY_ADJUSTED_IMAGE);
-        artilleryIncoming = LoadSpecificImage(Configuration.hexesDir(), FILENAME_ARTILLERY_INCOMING_IMAGE);
+            minefieldSign = LoadSpecificImage(Configuration.hexesDir(), Minefield.FILENAME_IMAGE);
+            nightFog = LoadSpecificImage(Configuration.hexesDir(), FILENAME_NIGHT_IMAGE);
+            hexMask = LoadSpecificImage(Configuration.hexesDir(), FILENAME_HEX_MASK);
 
-        started = true;
+            artilleryAutohit = LoadSpecificImage(Configuration.hexesDir(), FILENAME_ARTILLERY_AUTOHIT_IMAGE);
+            artilleryAdjusted = LoadSpecificImage(Configuration.hexesDir(), FILENAME_ARTILLERY_ADJUSTED_IMAGE);
+            artilleryIncoming = LoadSpecificImage(Configuration.hexesDir(), FILENAME_ARTILLERY_INCOMING_IMAGE);
+        } catch (Exception e) {
+            LogManager.getLogger().error("Failed to load the board images", e);
+        } finally {
+            // Even after a failure, let the board paint with whatever was loaded
+            if (loadGeneration.get() == generation) {
+                hexesLoaded = true;
+                boardview.repaint();
+            }
+        }
     }
 
     /** Local method. Loads and returns the image. */
@@ -622,6 +669,8 @@ public class TilesetManager implements IPreferenceChangeListener, ITilesetManage
     public synchronized void reset() {
         loaded = false;
         started = false;
+        hexesLoaded = false;
+        loadGeneration.incrementAndGet();
 
         tracker = new MediaTracker(boardview);
         mechImageList.clear();
@@ -15,70 +15,259 @@
 
 package megamek.client.ui.swing.util;
 
-import java.util.Hashtable;
+import java.awt.Image;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
 
 /**
- * An ImageCache that keeps a Hashtable of mapped keys and values.
- * 
+ * An ImageCache that keeps the most recently used key/value pairs within a
+ * maximum number of entries and a memory budget in bytes. The size of each
+ * value is estimated by a weigher, by default from the dimensions of the
+ * images it holds.
+ * <p>
+ * The cache is split into segments by key hash, each with its own lock and
+ * its own share of the budget, so painting and background image loading
+ * don't contend on a single lock. Each segment evicts its least recently used
+ * entries when it goes over its share.
+ *
  * @author Arlith
  */
 public class ImageCache<K, V> {
-    
+
     /**
      * Default maximum size
      */
     public static int MAX_SIZE = 30000;
-    
 
     /**
-     * The cache of Key/Value pairs.
+     * Default memory budget of a single cache: a sixteenth of the maximum heap
      */
-    private Hashtable<K, V> cache;
-        
+    public static final long DEFAULT_MAX_BYTES = Math.max(16L << 20, Runtime.getRuntime().maxMemory() / 16);
+
+    /** The number of independently locked segments; must be a power of two */
+    private static final int SEGMENTS = 8;
+
+    private final Segment<K, V>[] segments;
+    private final ToLongFunction<? super V> weigher;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
     /**
-     * Create a cache with the default maximum size.
+     * Create a cache with the default maximum size and memory budget.
      */
     public ImageCache() {
-        cache = new Hashtable<>(MAX_SIZE * 5 / 4, .75f);
+        this(MAX_SIZE);
     }
 
-    
     public ImageCache(int max) {
-        cache = new Hashtable<>(max * 5 / 4, .75f);
+        this(max, DEFAULT_MAX_BYTES, ImageCache::estimateBytes);
     }
 
     /**
-     * Adds a new key/value pair into the cache.
-     * 
+     * Create a cache with the default maximum size, the given memory budget
+     * and a custom estimate of the size of the values.
+     *
+     * @param maxBytes the memory budget in bytes
+     * @param weigher  returns the estimated size of a value in bytes
+     */
+    public ImageCache(long maxBytes, ToLongFunction<? super V> weigher) {
+        this(MAX_SIZE, maxBytes, weigher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ImageCache(int max, long maxBytes, ToLongFunction<? super V> weigher) {
+        this.weigher = weigher;
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(Math.max(1, max / SEGMENTS), Math.max(1, maxBytes / SEGMENTS));
+        }
+    }
+
+    /**
+     * Adds a new key/value pair into the cache. Values that are larger than
+     * the budget of a segment are returned but not stored.
+     *
      * @param key
      * @param value
-     * @return
+     * @return the value, or null if the key or value is null
      */
-    public synchronized V put(K key, V value) {
+    public V put(K key, V value) {
         if ((key == null) || (value == null))
             return null;
-      
-        cache.put(key, value);
+
+        final long bytes = Math.max(0, weigher.applyAsLong(value));
+        evictions.add(segmentFor(key).put(key, value, bytes));
         return value;
     }
 
-    public synchronized V get(K key) {
-        if (!cache.containsKey(key))
+    public V get(K key) {
+        if (key == null)
             return null;
 
-        return cache.get(key);
+        final V value = segmentFor(key).get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
     }
 
     public void remove(Object key) {
-        cache.remove(key);
+        if (key != null) {
+            segmentFor(key).remove(key);
+        }
     }
-    
+
     public int size() {
-        return cache.size();
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return the estimated memory held by the cached values in bytes
+     */
+    public long getBytes() {
+        long bytes = 0;
+        for (Segment<K, V> segment : segments) {
+            bytes += segment.getBytes();
+        }
+        return bytes;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
     }
-    
+
     public void clear() {
-        cache.clear();
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ImageCache: " + size() + " entries, " + (getBytes() >> 10) + " KiB, "
+                + getHitCount() + " hits, " + getMissCount() + " misses, "
+                + getEvictionCount() + " evictions";
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    /**
+     * Estimates the memory used by an image, or a collection of images, as
+     * four bytes per pixel. Images that are not loaded yet count as empty.
+     *
+     * @param value an image or a collection of images
+     * @return the estimated size in bytes
+     */
+    public static long estimateBytes(Object value) {
+        if (value instanceof Image) {
+            final Image image = (Image) value;
+            return 4L * Math.max(0, image.getWidth(null)) * Math.max(0, image.getHeight(null));
+        } else if (value instanceof Collection<?>) {
+            long bytes = 0;
+            for (Object element : (Collection<?>) value) {
+                bytes += estimateBytes(element);
+            }
+            return bytes;
+        }
+        return 0;
+    }
+
+    /**
+     * One independently locked part of the cache, kept in access order so
+     * that the least recently used entry is always first.
+     */
+    private static class Segment<K, V> {
+        private final int maxEntries;
+        private final long maxBytes;
+        private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, .75f, true);
+        private long bytes;
+
+        Segment(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized V get(Object key) {
+            final Entry<V> entry = map.get(key);
+            return (entry == null) ? null : entry.value;
+        }
+
+        /**
+         * @return the number of entries evicted to make room
+         */
+        synchronized int put(K key, V value, long size) {
+            final Entry<V> old = map.remove(key);
+            if (old != null) {
+                bytes -= old.bytes;
+            }
+            if (size > maxBytes) {
+                return 0;
+            }
+            map.put(key, new Entry<>(value, size));
+            bytes += size;
+
+            int evicted = 0;
+            final Iterator<Map.Entry<K, Entry<V>>> eldest = map.entrySet().iterator();
+            while (((bytes > maxBytes) || (map.size() > maxEntries)) && eldest.hasNext()) {
+                bytes -= eldest.next().getValue().bytes;
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized void remove(Object key) {
+            final Entry<V> old = map.remove(key);
+            if (old != null) {
+                bytes -= old.bytes;
+            }
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized long getBytes() {
+            return bytes;
+        }
+
+        synchronized void clear() {
+            map.clear();
+            bytes = 0;
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long bytes;
+
+        Entry(V value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
     }
-    
 }
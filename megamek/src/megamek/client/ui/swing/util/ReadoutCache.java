@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.ui.swing.util;
+
+import megamek.common.Entity;
+import megamek.common.MechFileParser;
+import megamek.common.MechSummary;
+import megamek.common.MechView;
+import megamek.common.annotations.Nullable;
+import megamek.common.loaders.EntityLoadingException;
+import megamek.common.templates.TROView;
+import org.apache.logging.log4j.LogManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Caches the HTML readouts (unit summary and TRO entry) of unit designs, so that selecting a unit again
+ * or scrolling back and forth through a unit list does not rebuild them. Readouts are keyed by the
+ * design, i.e. the file and entry the unit is loaded from, and by a version, the modification time of
+ * that file as recorded by the unit cache, so that edited units get new readouts once the unit cache has
+ * picked up the change. Looking up a readout does not access the file. Only the readouts of units as loaded from their
+ * file can be cached; units that were changed in a game must be rendered directly.
+ *
+ * The entities the readouts were rendered from are kept as well, so that showing a unit again does not
+ * parse its file. These entities are only for display and must not be changed.
+ *
+ * Readouts can also be rendered ahead of time on a small background pool, for example for the rows of a
+ * unit list that are currently visible. The background pool only uses entities it parsed itself.
+ */
+public final class ReadoutCache {
+    private static final long DEFAULT_MAX_BYTES = 32L << 20;
+    private static final int MAX_ENTITIES = 32;
+
+    /** The readouts that can be cached */
+    public enum Readout {
+        /** The unit summary shown by the unit view panes, using the alternate cost */
+        SUMMARY(entity -> new MechView(entity, false, true).getMechReadout()),
+        /** The TRO entry */
+        TRO(entity -> TROView.createView(entity, true).processTemplate());
+
+        private final Function<Entity, String> renderer;
+
+        Readout(Function<Entity, String> renderer) {
+            this.renderer = renderer;
+        }
+
+        private String render(Entity entity) {
+            return renderer.apply(entity);
+        }
+    }
+
+    private static ReadoutCache instance;
+
+    /** The readouts, least recently used first */
+    private final LinkedHashMap<Key, String> readouts = new LinkedHashMap<>(64, 0.75f, true);
+    private long readoutBytes;
+    /** The entities the readouts were rendered from, least recently used first */
+    private final LinkedHashMap<Key, Entity> entities = new LinkedHashMap<>(MAX_ENTITIES, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entity> eldest) {
+            return size() > MAX_ENTITIES;
+        }
+    };
+    /** The units waiting to be rendered ahead of time and the last prerender call that asked for them */
+    private final Map<Key, Integer> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger prerenderGeneration = new AtomicInteger();
+    private final long maxBytes;
+    private final Executor renderPool;
+    private final Function<MechSummary, Entity> parser;
+    private final BiFunction<Readout, Entity, String> renderer;
+
+    private ReadoutCache() {
+        this(DEFAULT_MAX_BYTES, createRenderPool(), ReadoutCache::parse, Readout::render);
+    }
+
+    /**
+     * @param maxBytes   the size limit of the readouts
+     * @param renderPool the executor that renders readouts ahead of time
+     * @param parser     loads the entity of a unit from its file
+     * @param renderer   renders a readout of an entity
+     */
+    ReadoutCache(long maxBytes, Executor renderPool, Function<MechSummary, Entity> parser,
+            BiFunction<Readout, Entity, String> renderer) {
+        this.maxBytes = maxBytes;
+        this.renderPool = renderPool;
+        this.parser = parser;
+        this.renderer = renderer;
+    }
+
+    private static ExecutorService createRenderPool() {
+        final int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Readout Renderer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    private static Entity parse(MechSummary unit) {
+        try {
+            return new MechFileParser(unit.getSourceFile(), unit.getEntryName()).getEntity();
+        } catch (EntityLoadingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public static synchronized ReadoutCache getInstance() {
+        if (instance == null) {
+            instance = new ReadoutCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the entity of a unit for display, parsing the unit's file and rendering its readouts on the
+     * calling thread if it is not cached. The entity is shared and must not be changed; parse the unit
+     * file instead to get an entity for use in a game.
+     *
+     * @param unit the unit
+     * @return the entity, or null if the unit file could not be parsed
+     */
+    public @Nullable Entity getEntity(MechSummary unit) {
+        final Key key = new Key(unit, null);
+        final Entity entity = getCachedEntity(key);
+        return (entity != null) ? entity : load(unit, key);
+    }
+
+    /**
+     * Returns a readout of a unit, rendering it on the calling thread if it is not cached.
+     *
+     * @param unit    the unit the entity was loaded from
+     * @param entity  the entity, unchanged since it was loaded from the unit's file
+     * @param readout the readout to return
+     * @return the readout, or null if it could not be rendered
+     */
+    public @Nullable String getReadout(MechSummary unit, Entity entity, Readout readout) {
+        final Key key = new Key(unit, readout);
+        String result = getCachedReadout(key);
+        if (result == null) {
+            result = renderer.apply(readout, entity);
+            putReadout(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Renders the readouts of the given units on the background pool, unless they are cached. This
+     * supersedes the units given in earlier calls: those that have not been started yet are skipped, so
+     * that quickly scrolling through a list only renders the units that are shown at the end.
+     *
+     * @param units the units to render, most important first
+     */
+    public void prerender(List<MechSummary> units) {
+        final int generation = prerenderGeneration.incrementAndGet();
+        for (MechSummary unit : units) {
+            final Key key = new Key(unit, null);
+            if ((getCachedEntity(key) == null) && (pending.put(key, generation) == null)) {
+                renderPool.execute(() -> prerender(unit, key));
+            }
+        }
+    }
+
+    /**
+     * Renders a unit on the background pool unless it was not asked for by the latest prerender call.
+     */
+    private void prerender(MechSummary unit, Key key) {
+        int requested = pending.get(key);
+        while (requested != prerenderGeneration.get()) {
+            // The unit may be asked for again while this is checked, then its new request must be served
+            if (pending.remove(key, requested)) {
+                return;
+            }
+            requested = pending.get(key);
+        }
+        try {
+            load(unit, key);
+        } finally {
+            pending.remove(key);
+        }
+    }
+
+    /**
+     * Removes all readouts and entities from the cache.
+     */
+    public synchronized void clear() {
+        readouts.clear();
+        readoutBytes = 0;
+        entities.clear();
+    }
+
+    /**
+     * Parses the unit file and renders the readouts. The entity is only shared once its readouts are
+     * rendered, so that it is not used by two threads at the same time.
+     */
+    private @Nullable Entity load(MechSummary unit, Key key) {
+        try {
+            final Entity entity = parser.apply(unit);
+            for (Readout readout : Readout.values()) {
+                getReadout(unit, entity, readout);
+            }
+            synchronized (this) {
+                entities.put(key, entity);
+            }
+            return entity;
+        } catch (Exception ex) {
+            LogManager.getLogger().warn("Failed to render the readouts of " + unit.getName(), ex);
+            return null;
+        }
+    }
+
+    private synchronized @Nullable Entity getCachedEntity(Key key) {
+        return entities.get(key);
+    }
+
+    private synchronized @Nullable String getCachedReadout(Key key) {
+        return readouts.get(key);
+    }
+
+    private synchronized void putReadout(Key key, String readout) {
+        final String replaced = readouts.put(key, readout);
+        readoutBytes += size(readout) - ((replaced == null) ? 0 : size(replaced));
+        final Iterator<String> leastRecentlyUsed = readouts.values().iterator();
+        while ((readoutBytes > maxBytes) && leastRecentlyUsed.hasNext()) {
+            readoutBytes -= size(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static long size(String readout) {
+        return 2L * readout.length();
+    }
+
+    private static final class Key {
+        private final String design;
+        private final long version;
+        private final Readout readout;
+
+        /**
+         * @param readout the readout, or null for the entity itself
+         */
+        private Key(MechSummary unit, @Nullable Readout readout) {
+            design = unit.getSourceFile().getPath() + "#" + unit.getEntryName();
+            version = unit.getModified();
+            this.readout = readout;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return (version == other.version) && (readout == other.readout) && design.equals(other.design);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(design, version, readout);
+        }
+    }
+}
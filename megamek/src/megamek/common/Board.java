@@ -18,6 +18,7 @@ import megamek.common.annotations.Nullable;
 import megamek.common.enums.BasementType;
 import megamek.common.event.BoardEvent;
 import megamek.common.event.BoardListener;
+import megamek.common.pathfinder.MovementCostCache;
 import megamek.common.util.fileUtils.MegaMekFile;
 import org.apache.logging.log4j.LogManager;
 
@@ -109,6 +110,9 @@ public class Board implements Serializable {
 
     protected transient Vector<BoardListener> boardListeners = new Vector<>();
 
+    /** Terrain costs of entering each hex, shared by all pathfinders working on this board */
+    private transient MovementCostCache movementCostCache;
+
     /**
      * Record the infernos placed on the board.
      */
@@ -393,6 +397,7 @@ public class Board implements Serializable {
         processBoardEvent(new BoardEvent(this, null, BoardEvent.BOARD_CHANGED_ALL_HEXES));
         // good time to ensure hex cache
         IdealHex.ensureCacheSize(width + 1, height + 1);
+        PackedCoords.ensureInternedSize(width, height);
 
     }
 
@@ -1533,6 +1538,18 @@ public class Board implements Serializable {
         }
     }
 
+    /**
+     * @return The cache of terrain movement costs for this board, created and registered as a board listener the
+     * first time it is asked for.
+     */
+    public synchronized MovementCostCache getMovementCostCache() {
+        if (movementCostCache == null) {
+            movementCostCache = new MovementCostCache(this);
+            addBoardListener(movementCostCache);
+        }
+        return movementCostCache;
+    }
+
     protected Vector<BoardListener> getListeners() {
         if (boardListeners == null) {
             boardListeners = new Vector<>();
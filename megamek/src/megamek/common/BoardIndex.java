@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.util.fileUtils.MegaMekFile;
+import org.apache.logging.log4j.LogManager;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A persistent index of the metadata of board files: their dimensions and tags. Entries are keyed by the
+ * path of the board file and are only valid as long as its modification time and length are unchanged, so
+ * the lobby and the server can answer size and tag queries without opening the board files. Indexing a
+ * board only reads its size and tag lines; the hexes are skipped without being parsed.
+ *
+ * The index is saved to {@value #FILENAME_BOARDS_CACHE} in the boards directory, in the same manner as the
+ * unit cache. {@link #refresh(File...)} rescans directories and re-indexes changed boards in parallel.
+ */
+public final class BoardIndex {
+    private static final String FILENAME_BOARDS_CACHE = "boards.cache";
+    private static final String BOARD_SUFFIX = ".board";
+
+    private static BoardIndex instance;
+
+    private final File cacheFile;
+    private final Map<String, BoardInfo> boards = new ConcurrentHashMap<>();
+    private volatile boolean changed = false;
+
+    BoardIndex(final File cacheFile) {
+        this.cacheFile = cacheFile;
+        load();
+    }
+
+    /**
+     * @return the board index, loading it from the cache file on first use
+     */
+    public static synchronized BoardIndex getInstance() {
+        if (instance == null) {
+            instance = new BoardIndex(new MegaMekFile(Configuration.boardsDir(), FILENAME_BOARDS_CACHE).getFile());
+        }
+        return instance;
+    }
+
+    /**
+     * @return the board directories to index: the data boards directory and, if it exists, the one in
+     * the user data directory
+     */
+    public static List<File> getBoardDirectories() {
+        final List<File> result = new ArrayList<>();
+        result.add(Configuration.boardsDir());
+        final File userBoards = new File(Configuration.userdataDir(), Configuration.boardsDir().toString());
+        if (userBoards.isDirectory()) {
+            result.add(userBoards);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the metadata of a board file, indexing it first if it is new or was changed since it
+     * was indexed. Boards indexed this way are saved with the next {@link #refresh(File...)}.
+     *
+     * @param boardFile the board file
+     * @return the board metadata, or null if the file does not exist
+     */
+    public @Nullable BoardInfo get(final File boardFile) {
+        if (!boardFile.isFile()) {
+            return null;
+        }
+        final String key = boardFile.getAbsolutePath();
+        BoardInfo info = boards.get(key);
+        if ((info == null) || !info.isCurrent(boardFile)) {
+            info = BoardInfo.create(boardFile);
+            boards.put(key, info);
+            changed = true;
+        }
+        return info;
+    }
+
+    /**
+     * Returns the metadata of a board file if it is indexed and was not changed since, without
+     * reading the file.
+     *
+     * @param boardFile the board file
+     * @return the board metadata, or null if the file is not indexed or was changed
+     */
+    public @Nullable BoardInfo getIndexed(final File boardFile) {
+        final BoardInfo info = boards.get(boardFile.getAbsolutePath());
+        return ((info != null) && info.isCurrent(boardFile)) ? info : null;
+    }
+
+    /**
+     * Scans the given directories and their subdirectories for board files, indexes the new and changed
+     * boards in parallel, drops boards that no longer exist below them and saves the index if anything
+     * changed.
+     *
+     * @param directories the directories to scan
+     * @return the metadata of all boards in the directories
+     */
+    public List<BoardInfo> refresh(final File... directories) {
+        final List<File> files = new ArrayList<>();
+        for (File directory : directories) {
+            collectBoardFiles(directory, files);
+        }
+
+        final Set<String> found = new HashSet<>();
+        final List<File> stale = new ArrayList<>();
+        for (File file : files) {
+            final String key = file.getAbsolutePath();
+            found.add(key);
+            final BoardInfo info = boards.get(key);
+            if ((info == null) || !info.isCurrent(file)) {
+                stale.add(file);
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            LogManager.getLogger().info("Indexing " + stale.size() + " new or changed boards");
+            stale.parallelStream().map(BoardInfo::create).forEach(info -> boards.put(info.getPath(), info));
+            changed = true;
+        }
+
+        for (File directory : directories) {
+            final String prefix = directory.getAbsolutePath() + File.separator;
+            changed |= boards.keySet().removeIf(key -> key.startsWith(prefix) && !found.contains(key));
+        }
+
+        if (changed) {
+            save();
+        }
+
+        return files.stream().map(file -> boards.get(file.getAbsolutePath()))
+                .filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private static void collectBoardFiles(final File directory, final List<File> files) {
+        final File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                collectBoardFiles(child, files);
+            } else if (child.getName().endsWith(BOARD_SUFFIX)) {
+                files.add(child);
+            }
+        }
+    }
+
+    private void load() {
+        if (!cacheFile.exists()) {
+            return;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final BoardInfo info = (BoardInfo) in.readObject();
+                boards.put(info.getPath(), info);
+            }
+        } catch (Exception e) {
+            // An outdated or damaged index is simply rebuilt
+            LogManager.getLogger().warn("Unable to load the board index, it will be rebuilt: " + e.getMessage());
+            boards.clear();
+        }
+    }
+
+    private synchronized void save() {
+        final List<BoardInfo> snapshot = new ArrayList<>(boards.values());
+        changed = false;
+        final File tempFile = new File(cacheFile.getPath() + ".tmp");
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(snapshot.size());
+            for (BoardInfo info : snapshot) {
+                out.writeObject(info);
+            }
+        } catch (Exception e) {
+            LogManager.getLogger().error("Unable to save the board index", e);
+            return;
+        }
+        try {
+            Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LogManager.getLogger().error("Unable to save the board index", e);
+        }
+    }
+
+    /**
+     * The indexed metadata of a single board file.
+     */
+    public static final class BoardInfo implements Serializable {
+        private static final long serialVersionUID = 3342406398135306912L;
+
+        private final String path;
+        private final long lastModified;
+        private final long length;
+        private final int width;
+        private final int height;
+        private final String[] tags;
+
+        private BoardInfo(final File file, final int width, final int height, final String[] tags) {
+            path = file.getAbsolutePath();
+            lastModified = file.lastModified();
+            length = file.length();
+            this.width = width;
+            this.height = height;
+            this.tags = tags;
+        }
+
+        /**
+         * Reads the size and tags of a board file. Like {@link Board#load(InputStream, StringBuffer, boolean)},
+         * it accepts tags anywhere before the end line, but the hex lines are only skipped, not parsed.
+         */
+        static BoardInfo create(final File file) {
+            int width = 0;
+            int height = 0;
+            final Set<String> tags = new LinkedHashSet<>();
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.regionMatches(true, 0, "hex", 0, 3)) {
+                        continue;
+                    } else if (line.regionMatches(true, 0, "size", 0, 4)) {
+                        final String[] args = line.split("\\s+");
+                        if (args.length >= 3) {
+                            width = Integer.parseInt(args[1]);
+                            height = Integer.parseInt(args[2]);
+                        }
+                    } else if (line.regionMatches(true, 0, "tag", 0, 3)) {
+                        final int start = line.indexOf('"');
+                        final int end = line.lastIndexOf('"');
+                        if (end > start) {
+                            tags.add(line.substring(start + 1, end));
+                        }
+                    } else if (line.equalsIgnoreCase("end")) {
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                LogManager.getLogger().error("Error parsing board: " + file.getAbsolutePath(), e);
+            }
+            return new BoardInfo(file, width, height, tags.toArray(new String[0]));
+        }
+
+        boolean isCurrent(final File file) {
+            return (file.lastModified() == lastModified) && (file.length() == length);
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public File getFile() {
+            return new File(path);
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * @return the dimensions of the board, or null if the file does not state a valid size
+         */
+        public @Nullable BoardDimensions getSize() {
+            return ((width > 0) && (height > 0)) ? new BoardDimensions(width, height) : null;
+        }
+
+        public boolean isSize(final BoardDimensions size) {
+            return (width == size.width()) && (height == size.height());
+        }
+
+        public Set<String> getTags() {
+            return new HashSet<>(Arrays.asList(tags));
+        }
+
+        @Override
+        public String toString() {
+            return "BoardInfo - " + path + " (" + width + "x" + height + ")";
+        }
+    }
+}
@@ -179,7 +179,15 @@ public class Coords implements Serializable {
      * @param d the destination coordinate.
      */
     public int direction(Coords d) {
-        return (int) Math.round(radian(d) / HEXSIDE) % 6;
+        return direction(x, y, d.x, d.y);
+    }
+
+    /**
+     * Returns the direction in which the coordinate (destX, destY) lies as seen from
+     * (srcX, srcY); 0 if the coordinates are equal.
+     */
+    public static int direction(int srcX, int srcY, int destX, int destY) {
+        return (int) Math.round(radian(srcX, srcY, destX, destY) / HEXSIDE) % 6;
     }
     
     /**
@@ -232,17 +240,26 @@ public class Coords implements Serializable {
      * @param d the destination coordinate.
      */
     public double radian(Coords d) {
-        final IdealHex src = IdealHex.get(this);
-        final IdealHex dst = IdealHex.get(d);
+        return radian(x, y, d.x, d.y);
+    }
+
+    /**
+     * Returns the radian direction of the coordinate (destX, destY) as seen from (srcX, srcY).
+     */
+    public static double radian(int srcX, int srcY, int destX, int destY) {
+        final double srcCx = IdealHex.centerX(srcX);
+        final double srcCy = IdealHex.centerY(srcX, srcY);
+        final double dstCx = IdealHex.centerX(destX);
+        final double dstCy = IdealHex.centerY(destX, destY);
 
         // don't divide by 0
-        if (src.cy == dst.cy) {
-            return (src.cx < dst.cx) ? Math.PI / 2 : Math.PI * 1.5;
+        if (srcCy == dstCy) {
+            return (srcCx < dstCx) ? Math.PI / 2 : Math.PI * 1.5;
         }
 
-        double r = Math.atan((dst.cx - src.cx) / (src.cy - dst.cy));
+        double r = Math.atan((dstCx - srcCx) / (srcCy - dstCy));
         // flip if we're upside down
-        if (src.cy < dst.cy) {
+        if (srcCy < dstCy) {
             r = (r + Math.PI) % (Math.PI * 2);
         }
         // account for negative angles
@@ -272,10 +289,15 @@ public class Coords implements Serializable {
 
     /** Returns the distance to the coordinate given as distx, disty. */
     public int distance(int distx, int disty) {
+        return distance(x, y, distx, disty);
+    }
+
+    /** Returns the distance between the coordinates (x, y) and (distx, disty). */
+    public static int distance(int x, int y, int distx, int disty) {
         // based on
         // http://www.rossmack.com/ab/RPG/traveller/AstroHexDistance.asp
         int xd = Math.abs(x - distx);
-        int yo = (xd / 2) + (!isXOdd() && ((distx & 1) == 1) ? 1 : 0);
+        int yo = (xd / 2) + (((x & 1) == 0) && ((distx & 1) == 1) ? 1 : 0);
         int ymin = y - yo;
         int ymax = ymin + xd;
         int ym = 0;
@@ -366,29 +388,9 @@ public class Coords implements Serializable {
      * @return The list of intervening coordinates.
      */
     public static ArrayList<Coords> intervening(Coords src, Coords dest, boolean split) {
-        IdealHex iSrc = IdealHex.get(src);
-        IdealHex iDest = IdealHex.get(dest);
-
-        int[] directions = new int[3];
-        int centerDirection = src.direction(dest);
-        if (split) {
-            // HACK to make left appear before right in the sequence reliably
-            centerDirection = (int) Math.round(src.radian(dest) + 0.0001
-                    / HEXSIDE) % 6;
-        }
-        directions[2] = centerDirection; // center last
-        directions[1] = (centerDirection + 5) % 6;
-        directions[0] = (centerDirection + 1) % 6;
-
         ArrayList<Coords> hexes = new ArrayList<>();
-        Coords current = src;
-
-        hexes.add(current);
-        while (!dest.equals(current)) {
-            current = Coords.nextHex(current, iSrc, iDest, directions);
-            hexes.add(current);
-        }
-
+        PackedCoords.visitIntervening(PackedCoords.pack(src), PackedCoords.pack(dest), split,
+                hex -> hexes.add(PackedCoords.toCoords(hex)));
         return hexes;
     }
 
@@ -492,14 +494,9 @@ public class Coords implements Serializable {
             // then, "draw" the hex sides in sequence, moving north first to draw the west side, 
             // then rotating clockwise and moving northeast to draw the northwest side and so on, 
             // until we circle around. The length of a hex side is equivalent to the radius
-            Coords currentHex = translated(4, dist);
-
-            for (int direction = 0; direction < 6; direction++) {
-                for (int translation = 0; translation < dist; translation++) {
-                    currentHex = currentHex.translated(direction);
-                    retval.add(currentHex);
-                }
-            }
+            retval.ensureCapacity(6 * dist);
+            PackedCoords.forEachAtDistance(PackedCoords.pack(this), dist,
+                    hex -> retval.add(PackedCoords.toCoords(hex)));
         }
         return retval;
     }
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the entity ids by the hexes they occupy. Every hex maps to an immutable, sorted array of
+ * ids that is replaced as a whole on every change, so readers never lock: the server rules and bot
+ * threads can query the index while it is updated. Updates to a single hex are atomic; while an entity
+ * is moved, a reader may briefly see it in both its old and new hexes, or in neither.
+ *
+ * Besides the entities in a hex, the index answers which entities are within a radius, on a ring or
+ * along a line of hexes, returning their ids as primitive arrays.
+ */
+public final class EntitySpatialIndex implements Serializable {
+    private static final long serialVersionUID = -2917357614474335406L;
+    private static final int[] NONE = new int[0];
+
+    private final Map<Coords, int[]> idsByHex = new ConcurrentHashMap<>();
+
+    /**
+     * Moves an entity in the index from its old hexes to its new hexes.
+     *
+     * @param entityId     the id of the entity
+     * @param oldPositions the hexes the entity occupied before, may be null
+     * @param newPositions the hexes the entity occupies now, may be null
+     */
+    public void update(int entityId, Collection<Coords> oldPositions, Collection<Coords> newPositions) {
+        if (oldPositions != null) {
+            for (Coords hex : oldPositions) {
+                if ((newPositions == null) || !newPositions.contains(hex)) {
+                    idsByHex.computeIfPresent(hex, (c, ids) -> without(ids, entityId));
+                }
+            }
+        }
+        if (newPositions != null) {
+            for (Coords hex : newPositions) {
+                idsByHex.merge(hex, new int[] { entityId }, (ids, added) -> with(ids, entityId));
+            }
+        }
+    }
+
+    /**
+     * Removes an entity from the given hexes.
+     *
+     * @param entityId  the id of the entity
+     * @param positions the hexes the entity occupies
+     */
+    public void remove(int entityId, Collection<Coords> positions) {
+        update(entityId, positions, null);
+    }
+
+    /**
+     * Removes all entities from the index.
+     */
+    public void clear() {
+        idsByHex.clear();
+    }
+
+    /**
+     * @return true if no entity is in the index
+     */
+    public boolean isEmpty() {
+        return idsByHex.isEmpty();
+    }
+
+    /**
+     * @return the hexes that hold at least one entity
+     */
+    public Set<Coords> getOccupiedHexes() {
+        return idsByHex.keySet();
+    }
+
+    /**
+     * @param hex the hex
+     * @return the ids of the entities in the hex, in ascending order
+     */
+    public int[] idsAt(Coords hex) {
+        int[] ids = (hex == null) ? null : idsByHex.get(hex);
+        return (ids == null) ? NONE : ids.clone();
+    }
+
+    /**
+     * @param hex      the hex
+     * @param entityId the id of an entity
+     * @return true if the entity is in the hex
+     */
+    public boolean contains(Coords hex, int entityId) {
+        int[] ids = (hex == null) ? null : idsByHex.get(hex);
+        return (ids != null) && (Arrays.binarySearch(ids, entityId) >= 0);
+    }
+
+    /**
+     * @param center the center hex
+     * @param radius the largest distance from the center
+     * @return the ids of the entities at most the given distance from the center, in ascending order
+     */
+    public int[] idsWithin(Coords center, int radius) {
+        return idsAtDistance(center, 0, radius);
+    }
+
+    /**
+     * @param center the center hex
+     * @param radius the distance from the center
+     * @return the ids of the entities at exactly the given distance from the center, in ascending order
+     */
+    public int[] idsOnRing(Coords center, int radius) {
+        return idsAtDistance(center, radius, radius);
+    }
+
+    /**
+     * @param from the first hex of the line
+     * @param to   the last hex of the line
+     * @return the ids of the entities in the hexes crossed by the straight line between the centers of the
+     * two hexes, including both ends, in the order of the line
+     */
+    public int[] idsAlong(Coords from, Coords to) {
+        if ((from == null) || (to == null) || idsByHex.isEmpty()) {
+            return NONE;
+        }
+        IdBuffer result = new IdBuffer();
+        List<Coords> line = from.equals(to) ? List.of(from) : Coords.intervening(from, to);
+        for (Coords hex : line) {
+            int[] ids = idsByHex.get(hex);
+            if (ids != null) {
+                for (int id : ids) {
+                    if (!result.contains(id)) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+        return result.toArray();
+    }
+
+    /**
+     * Collects the ids of the entities between the given distances from the center. When there are fewer
+     * occupied hexes than hexes in the area, the occupied hexes are filtered by distance instead of looking
+     * up every hex of the area, so large radii on sparse boards stay cheap.
+     */
+    private int[] idsAtDistance(Coords center, int minDistance, int maxDistance) {
+        if ((center == null) || (maxDistance < minDistance) || (maxDistance < 0) || idsByHex.isEmpty()) {
+            return NONE;
+        }
+        IdBuffer result = new IdBuffer();
+        long areaHexes = hexesBetween(Math.max(0, minDistance), maxDistance);
+        if (areaHexes > idsByHex.size()) {
+            for (Map.Entry<Coords, int[]> entry : idsByHex.entrySet()) {
+                int distance = center.distance(entry.getKey());
+                if ((distance >= minDistance) && (distance <= maxDistance)) {
+                    result.addAll(entry.getValue());
+                }
+            }
+        } else {
+            for (int distance = Math.max(0, minDistance); distance <= maxDistance; distance++) {
+                for (Coords hex : center.allAtDistance(distance)) {
+                    int[] ids = idsByHex.get(hex);
+                    if (ids != null) {
+                        result.addAll(ids);
+                    }
+                }
+            }
+        }
+        return result.toSortedUniqueArray();
+    }
+
+    /**
+     * @return the number of hexes whose distance from a hex is between the given distances
+     */
+    private static long hexesBetween(int minDistance, int maxDistance) {
+        return hexesWithin(maxDistance) - ((minDistance > 0) ? hexesWithin(minDistance - 1) : 0);
+    }
+
+    private static long hexesWithin(long radius) {
+        return (3 * radius * (radius + 1)) + 1;
+    }
+
+    private static int[] with(int[] ids, int id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int insert = -index - 1;
+        int[] result = new int[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insert);
+        result[insert] = id;
+        System.arraycopy(ids, insert, result, insert + 1, ids.length - insert);
+        return result;
+    }
+
+    /**
+     * @return the ids without the given id, or null to remove the hex from the index
+     */
+    private static int[] without(int[] ids, int id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        } else if (ids.length == 1) {
+            return null;
+        }
+        int[] result = new int[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index, ids.length - index - 1);
+        return result;
+    }
+
+    /**
+     * A growable array of ids.
+     */
+    private static final class IdBuffer {
+        private int[] ids = new int[8];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void addAll(int[] added) {
+            for (int id : added) {
+                add(id);
+            }
+        }
+
+        boolean contains(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        int[] toSortedUniqueArray() {
+            Arrays.sort(ids, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if ((unique == 0) || (ids[i] != ids[unique - 1])) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            return Arrays.copyOf(ids, unique);
+        }
+    }
+}
@@ -13,6 +13,7 @@ package megamek.common;
 
 import megamek.common.annotations.Nullable;
 import megamek.common.options.GameOptions;
+import megamek.common.util.CaseInsensitiveLookup;
 import megamek.common.weapons.autocannons.HVACWeapon;
 import megamek.common.weapons.defensivepods.BPodWeapon;
 import megamek.common.weapons.defensivepods.MPodWeapon;
@@ -198,6 +199,13 @@ public class EquipmentType implements ITechnology {
     // static list of eq
     protected static Vector<EquipmentType> allTypes;
     protected static Hashtable<String, EquipmentType> lookupHash;
+    /** All lookup names as given, in the order they were last added */
+    private static Map<String, EquipmentType> lookupNames;
+    /**
+     * The lookup used by {@link #get(String)} once all types are initialized. It is replaced, never
+     * changed, so that it can be read without locking.
+     */
+    private static volatile CaseInsensitiveLookup<EquipmentType> registry;
     
     /**
     * Keeps track of page numbers for rules references.
@@ -700,25 +708,45 @@ public class EquipmentType implements ITechnology {
     }
 
     public void addLookupName(String s) {
-        EquipmentType.lookupHash.put(s.toLowerCase(), this); // static variable
+        synchronized (EquipmentType.class) {
+            EquipmentType.lookupHash.put(s.toLowerCase(), this); // static variable
+            lookupNames.remove(s);
+            lookupNames.put(s, this);
+            if (registry != null) {
+                // a type created after initialization; rare, so the lookup is simply rebuilt
+                registry = new CaseInsensitiveLookup<>(lookupNames);
+            }
+        }
         namesVector.addElement(s); // member variable
     }
 
-    public static EquipmentType get(String key) {
-        if (null == EquipmentType.lookupHash) {
-            EquipmentType.initializeTypes();
-        }
-        return EquipmentType.lookupHash.get(key.toLowerCase());
+    /**
+     * Returns the equipment type with the given lookup name, ignoring case. After all types have been
+     * initialized this neither locks nor allocates.
+     *
+     * @param key the lookup name
+     * @return the equipment type, or null if there is none with this name
+     */
+    public static @Nullable EquipmentType get(String key) {
+        final CaseInsensitiveLookup<EquipmentType> lookup = registry;
+        return (lookup != null) ? lookup.get(key) : getWhileInitializing(key);
+    }
+
+    private static synchronized @Nullable EquipmentType getWhileInitializing(String key) {
+        EquipmentType.initializeTypes();
+        // Types being initialized may look up those created before them
+        return (registry != null) ? registry.get(key) : EquipmentType.lookupHash.get(key.toLowerCase());
     }
 
     public Enumeration<String> getNames() {
         return namesVector.elements();
     }
 
-    public static void initializeTypes() {
+    public static synchronized void initializeTypes() {
         if (null == EquipmentType.allTypes) {
             EquipmentType.allTypes = new Vector<>();
             EquipmentType.lookupHash = new Hashtable<>();
+            EquipmentType.lookupNames = new LinkedHashMap<>();
 
             WeaponType.initializeTypes();
             AmmoType.initializeTypes();
@@ -731,6 +759,7 @@ public class EquipmentType implements ITechnology {
                             .guessStaticTechLevel(et.getRulesRefs()));
                 }
             }
+            registry = new CaseInsensitiveLookup<>(lookupNames);
         }
     }
 
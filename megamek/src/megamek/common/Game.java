@@ -73,7 +73,8 @@ public class Game implements Serializable {
 
     private Hashtable<Integer, Player> playerIds = new Hashtable<>();
 
-    private final Map<Coords, HashSet<Integer>> entityPosLookup = new HashMap<>();
+    /** The entity ids by position; rebuilt from the entities when needed, e.g. after deserialization */
+    private transient volatile EntitySpatialIndex entityPosLookup;
 
     /**
      * have the entities been deployed?
@@ -1447,7 +1448,7 @@ public class Game implements Serializable {
 
         entities.clear();
         entityIds.clear();
-        entityPosLookup.clear();
+        getEntityIndex().clear();
 
         vOutOfGame.removeAllElements();
 
@@ -1572,37 +1573,56 @@ public class Game implements Serializable {
      *            Flag that determines whether the ability to target is ignored
      * @return <code>List<Entity></code>
      */
-    public synchronized List<Entity> getEntitiesVector(Coords c, boolean ignore) {
+    public List<Entity> getEntitiesVector(Coords c, boolean ignore) {
         //checkPositionCacheConsistency();
-        // Make sure the look-up is initialized
-        if (entityPosLookup.isEmpty() && !entities.isEmpty()) {
-            resetEntityPositionLookup();
-        }
-        Set<Integer> posEntities = entityPosLookup.get(c);
         List<Entity> vector = new ArrayList<>();
-        if (posEntities != null) {
-            for (Integer eId : posEntities) {
-                Entity e = getEntity(eId);
-                
-                // if the entity with the given ID doesn't exist, we will update the lookup table
-                // and move on
-                if (e == null) {
-                    posEntities.remove(eId);
-                    continue;
-                }
-                
-                if (e.isTargetable() || ignore) {
-                    vector.add(e);
-
-                    // Sanity check
-                    HashSet<Coords> positions = e.getOccupiedCoords();
-                    if (!positions.contains(c)) {
-                        LogManager.getLogger().error(e.getDisplayName() + " is not in " + c + "!");
+        for (int eId : getEntityIndex().idsAt(c)) {
+            Entity e = getEntity(eId);
+            // Entities that were removed from the game since are skipped
+            if ((e != null) && (e.isTargetable() || ignore)) {
+                vector.add(e);
+            }
+        }
+        return Collections.unmodifiableList(vector);
+    }
+
+    /**
+     * Returns the index of the entity ids by position. Reading the index doesn't lock the game, so
+     * it can be queried from bot threads, e.g. for the entities within a radius or along a line.
+     *
+     * @return the entity position index of this game
+     */
+    public EntitySpatialIndex getEntityIndex() {
+        EntitySpatialIndex index = entityPosLookup;
+        if (index == null) {
+            synchronized (this) {
+                index = entityPosLookup;
+                if (index == null) {
+                    index = new EntitySpatialIndex();
+                    for (Entity e : entities) {
+                        index.update(e.getId(), null, e.getOccupiedCoords());
                     }
+                    entityPosLookup = index;
                 }
             }
         }
-        return Collections.unmodifiableList(vector);
+        return index;
+    }
+
+    /**
+     * @param center the center hex
+     * @param radius the largest distance from the center
+     * @return the entities at most the given distance from the center
+     */
+    public List<Entity> getEntitiesWithin(Coords center, int radius) {
+        List<Entity> result = new ArrayList<>();
+        for (int eId : getEntityIndex().idsWithin(center, radius)) {
+            Entity e = getEntity(eId);
+            if (e != null) {
+                result.add(e);
+            }
+        }
+        return result;
     }
     
     /**
@@ -2630,6 +2650,42 @@ public class Game implements Serializable {
         gameReports.set(v);
     }
 
+    /**
+     * Stores a page of past reports, e.g. after a client connects to an existing game.
+     */
+    public void addReportPage(ReportPage page) {
+        gameReports.set(page);
+        processGameEvent(new GameReportPageEvent(this, page.getFirstRound(), page.getLastRound()));
+    }
+
+    /**
+     * @return true if the reports of the round exist but have not been received from the server yet
+     */
+    public boolean isReportRoundMissing(int round) {
+        return gameReports.isMissing(round);
+    }
+
+    /**
+     * @return the reports of the rounds from first to last, inclusive
+     */
+    public List<Vector<Report>> getReports(int firstRound, int lastRound) {
+        return gameReports.get(firstRound, lastRound);
+    }
+
+    /**
+     * @return the number of rounds with reports
+     */
+    public int getReportRoundCount() {
+        return gameReports.size();
+    }
+
+    /**
+     * @return the latest round whose reports have not been fetched from the server yet, or 0 if there is none
+     */
+    public int getLastMissingReportRound() {
+        return gameReports.getLastMissingRound();
+    }
+
     /**
      * Clears out all the current reports, paving the way for a new game.
      */
@@ -3337,13 +3393,21 @@ public class Game implements Serializable {
         smokeCloudList.add(cloud);
     }
 
+    /**
+     * Adds several smoke clouds at once, which is much faster than adding them one by one.
+     */
+    public void addSmokeClouds(Collection<SmokeCloud> clouds) {
+        smokeCloudList.addAll(clouds);
+    }
+
     public List<SmokeCloud> getSmokeCloudList() {
         return smokeCloudList;
     }
     
     public void removeSmokeClouds(List<SmokeCloud> cloudsToRemove) {
-        for (SmokeCloud cloud : cloudsToRemove) {
-            smokeCloudList.remove(cloud);
+        if (!cloudsToRemove.isEmpty()) {
+            // The list is copied on every change, so remove all clouds in one go
+            smokeCloudList.removeAll(new HashSet<>(cloudsToRemove));
         }
     }
 
@@ -3360,52 +3424,27 @@ public class Game implements Serializable {
         if (newPositions.equals(oldPositions)) {
             return;
         }
-
-        // Remove the old cached location(s)
-        if (oldPositions != null) {
-            for (Coords pos : oldPositions) {
-                HashSet<Integer> posEntities = entityPosLookup.get(pos);
-                if (posEntities != null) {
-                    posEntities.remove(e.getId());
-                }
-            }
-        }
-
-        // Add Entity for each position
-        for (Coords pos : newPositions) {
-            HashSet<Integer> posEntities = entityPosLookup.get(pos);
-            if (posEntities == null) {
-                posEntities = new HashSet<>();
-                posEntities.add(e.getId());
-                entityPosLookup.put(pos, posEntities);
-            } else {
-                posEntities.add(e.getId());
-            }
-        }
+        getEntityIndex().update(e.getId(), oldPositions, newPositions);
     }
 
     private void removeEntityPositionLookup(Entity e) {
         // Remove Entity from cache
-        for (Coords pos : e.getOccupiedCoords()) {
-            HashSet<Integer> posEntities = entityPosLookup.get(pos);
-            if (posEntities != null) {
-                posEntities.remove(e.getId());
-            }
-        }
+        getEntityIndex().remove(e.getId(), e.getOccupiedCoords());
     }
 
-    private void resetEntityPositionLookup() {
-        entityPosLookup.clear();
-        for (Entity e : entities) {
-            updateEntityPositionLookup(e, null);
-        }
+    private synchronized void resetEntityPositionLookup() {
+        entityPosLookup = null;
+        getEntityIndex();
     }
 
     private int countEntitiesInCache(List<Integer> entitiesInCache) {
         int count = 0;
-        for (Coords c : entityPosLookup.keySet()) {
-            count += entityPosLookup.get(c).size();
-            entitiesInCache.addAll(entityPosLookup.get(c));
+        EntitySpatialIndex index = getEntityIndex();
+        for (Coords c : index.getOccupiedHexes()) {
+            for (int eId : index.idsAt(c)) {
+                count++;
+                entitiesInCache.add(eId);
+            }
         }
         return count;
     }
@@ -3447,16 +3486,15 @@ public class Game implements Serializable {
         for (Entity e : entities) {
             HashSet<Coords> positions = e.getOccupiedCoords();
             for (Coords c : positions) {
-                HashSet<Integer> ents = entityPosLookup.get(c);
-                if ((ents != null) && !ents.contains(e.getId())) {
+                if (!getEntityIndex().contains(c, e.getId())) {
                     LogManager.getLogger().warn("Entity " + e.getId() + " is in "
                             + e.getPosition() + " however the position cache "
                             + "does not have it in that position!");
                 }
             }
         }
-        for (Coords c : entityPosLookup.keySet()) {
-            for (Integer eId : entityPosLookup.get(c)) {
+        for (Coords c : getEntityIndex().getOccupiedHexes()) {
+            for (int eId : getEntityIndex().idsAt(c)) {
                 Entity e = getEntity(eId);
                 if (e == null) {
                     continue;
@@ -16,6 +16,9 @@ package megamek.common;
 import org.apache.logging.log4j.LogManager;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Vector;
 
 /**
@@ -25,6 +28,8 @@ import java.util.Vector;
 public class GameReports implements Serializable {
     private static final long serialVersionUID = -2388197938278797669L;
     private Vector<Vector<Report>> reports;
+    /** Rounds whose reports a client knows exist but has not fetched from the server yet */
+    private transient BitSet missingRounds;
 
     GameReports() {
         reports = new Vector<>();
@@ -69,16 +74,78 @@ public class GameReports implements Serializable {
         return reports;
     }
 
+    /**
+     * @return The reports of the rounds from first to last, inclusive, or of as many of them as there are.
+     */
+    public List<Vector<Report>> get(int firstRound, int lastRound) {
+        List<Vector<Report>> rounds = new ArrayList<>();
+        for (int round = Math.max(1, firstRound); round <= Math.min(lastRound, reports.size()); round++) {
+            rounds.add(reports.elementAt(round - 1));
+        }
+        return rounds;
+    }
+
+    /**
+     * @return The number of rounds with reports.
+     */
+    public int size() {
+        return reports.size();
+    }
+
     /**
      * Set the reports vector from outside all at once.
      * @param v
      */
     public void set(Vector<Vector<Report>> v) {
         reports = v;
+        missingRounds = null;
+    }
+
+    /**
+     * Stores a page of reports received from the server. Rounds of the history that have not been received yet
+     * are held as empty placeholders until their page arrives.
+     */
+    public void set(ReportPage page) {
+        if (missingRounds == null) {
+            missingRounds = new BitSet();
+        }
+        while (reports.size() < page.getTotalRounds()) {
+            reports.addElement(new Vector<>());
+            missingRounds.set(reports.size());
+        }
+
+        int round = page.getFirstRound();
+        for (Vector<Report> roundReports : page.getRounds()) {
+            if (round <= reports.size()) {
+                reports.setElementAt(roundReports, round - 1);
+            } else {
+                reports.addElement(roundReports);
+            }
+            missingRounds.clear(round);
+            round++;
+        }
+    }
+
+    /**
+     * @return The latest round whose reports have not been fetched from the server yet, or 0 if there is none.
+     */
+    public int getLastMissingRound() {
+        if (missingRounds == null) {
+            return 0;
+        }
+        return Math.max(0, missingRounds.previousSetBit(reports.size()));
+    }
+
+    /**
+     * @return true if the round's reports are known to exist but have not been fetched yet
+     */
+    public boolean isMissing(int round) {
+        return (missingRounds != null) && missingRounds.get(Math.max(1, round));
     }
 
     public void clear() {
         reports = new Vector<>();
+        missingRounds = null;
     }
 
 }
@@ -34,6 +34,8 @@ public class Hex implements Serializable {
     private String theme;
     private String originalTheme;
     private int fireTurn;
+    /** Incremented whenever the terrains of this hex change, so that cached terrain costs can be validated */
+    private transient int terrainModificationCount;
     //endregion Variable Declarations
 
     //region Constructors
@@ -466,6 +468,7 @@ public class Hex implements Serializable {
      */
     public void addTerrain(Terrain terrain) {
         terrains.put(terrain.getType(), terrain);
+        terrainModificationCount++;
     }
 
     /**
@@ -473,6 +476,7 @@ public class Hex implements Serializable {
      */
     public void removeTerrain(int type) {
         terrains.remove(type);
+        terrainModificationCount++;
     }
 
     /**
@@ -480,6 +484,14 @@ public class Hex implements Serializable {
      */
     public void removeAllTerrains() {
         terrains.clear();
+        terrainModificationCount++;
+    }
+
+    /**
+     * @return A counter that changes whenever a terrain is added to or removed from this hex
+     */
+    public int getTerrainModificationCount() {
+        return terrainModificationCount;
     }
 
     /**
@@ -44,8 +44,8 @@ public class IdealHex {
         double oy = c.getY() * 2 + (c.isXOdd() ? 1 : 0);
 
         // center
-        cx = ox + (XCONST * 2);
-        cy = oy + 1;
+        cx = centerX(c.getX());
+        cy = centerY(c.getX(), c.getY());
 
         x[0] = ox + XCONST;
         x[1] = ox + (XCONST * 3);
@@ -62,6 +62,39 @@ public class IdealHex {
         y[5] = y[2];
     }
 
+    /**
+     * Returns the x value of the center of the hex at the given coordinates.
+     */
+    public static double centerX(int hexX) {
+        return hexX * XCONST * 3 + (XCONST * 2);
+    }
+
+    /**
+     * Returns the y value of the center of the hex at the given coordinates.
+     */
+    public static double centerY(int hexX, int hexY) {
+        double oy = hexY * 2 + (((hexX & 1) == 1) ? 1 : 0);
+        return oy + 1;
+    }
+
+    /**
+     * Returns true if the hex at the given coordinates is intersected by the
+     * line. This gives the same result as {@link #isIntersectedBy(double, double, double, double)}
+     * without creating the hex.
+     */
+    public static boolean isIntersectedBy(int hexX, int hexY, double x0, double y0, double x1, double y1) {
+        final double ox = hexX * XCONST * 3;
+        final double oy = hexY * 2 + (((hexX & 1) == 1) ? 1 : 0);
+        final double cy = oy + 1;
+        final int side1 = turns(x0, y0, x1, y1, ox + XCONST, oy);
+        return (side1 == STRAIGHT)
+                || (turns(x0, y0, x1, y1, ox + (XCONST * 3), oy) != side1)
+                || (turns(x0, y0, x1, y1, ox + (XCONST * 4), cy) != side1)
+                || (turns(x0, y0, x1, y1, ox + (XCONST * 3), oy + 2) != side1)
+                || (turns(x0, y0, x1, y1, ox + XCONST, oy + 2) != side1)
+                || (turns(x0, y0, x1, y1, ox, cy) != side1);
+    }
+
     /**
      * Returns true if this hex is intersected by the line
      */
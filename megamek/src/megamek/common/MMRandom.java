@@ -13,7 +13,10 @@
  */
 package megamek.common;
 
+import megamek.common.annotations.Nullable;
+
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Used by Compute to generate random numbers, usually dice rolls. The base
@@ -29,6 +32,7 @@ public abstract class MMRandom {
     public static final int R_SUN = 0;
     public static final int R_CRYPTO = 1;
     public static final int R_POOL36 = 2;
+    public static final int R_SPLITTABLE = 3;
 
     /**
      * Gives you the type asked for, defaulting to SunRandom if there are any
@@ -42,6 +46,8 @@ public abstract class MMRandom {
                     return new MMRandom.CryptoRandom();
                 case R_POOL36:
                     return new MMRandom.Pool36Random();
+                case R_SPLITTABLE:
+                    return RandomStream.SERVER_RULES.get();
                 case R_SUN:
                 default:
                     return new MMRandom.SunRandom();
@@ -165,6 +171,70 @@ public abstract class MMRandom {
         }
     }
 
+    /**
+     * Uses java.util.SplittableRandom, which is much cheaper than SecureRandom
+     * and can be seeded for reproducible results. Independent generators for
+     * other threads or subsystems are made with {@link #fork()}, so that they
+     * never contend on or perturb this one.
+     */
+    public static class SplitRandom extends MMRandom {
+        private SplittableRandom random;
+
+        public SplitRandom() {
+            random = new SplittableRandom();
+        }
+
+        public SplitRandom(long seed) {
+            random = new SplittableRandom(seed);
+        }
+
+        private SplitRandom(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public synchronized int randomInt(int maxValue) {
+            return random.nextInt(maxValue);
+        }
+
+        @Override
+        public synchronized float randomFloat() {
+            // SplittableRandom has no nextFloat, so use the top 24 bits like java.util.Random does
+            return (random.nextInt() >>> 8) * 0x1.0p-24f;
+        }
+
+        /**
+         * @return a random double in [0, 1)
+         */
+        public synchronized double randomDouble() {
+            return random.nextDouble();
+        }
+
+        /**
+         * @return a random long, e.g. to seed another generator
+         */
+        public synchronized long randomLong() {
+            return random.nextLong();
+        }
+
+        /**
+         * Restarts this generator in place, so that anyone holding on to it sees the new sequence.
+         *
+         * @param seed the new seed, or null for an unseeded generator
+         */
+        public synchronized void setSeed(@Nullable Long seed) {
+            random = (seed == null) ? new SplittableRandom() : new SplittableRandom(seed);
+        }
+
+        /**
+         * @return a new generator whose numbers are independent of this one's. Forking advances this
+         * generator, so only the same sequence of forks from the same seed gives the same children.
+         */
+        public synchronized SplitRandom fork() {
+            return new SplitRandom(random.split());
+        }
+    }
+
     /**
      * Behaves like SunRandom for everything but d6(2) calls. Then, it takes
      * numbers from an array of the 36 possible results of two dice, shuffled.
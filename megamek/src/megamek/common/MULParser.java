@@ -28,7 +28,8 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
@@ -334,26 +335,102 @@ public class MULParser {
     }
     //endregion Constructors
 
+    /**
+     * Streams through the file, reading one entity, pilot or crew element at a time into DOM elements
+     * for parsing, so that the file is never held in memory as a whole. This gives the same result as
+     * parsing the DOM of the whole file with {@link #parse(Element, GameOptions)}.
+     */
     private void parse(final InputStream fin, final @Nullable GameOptions options) throws Exception {
-        Document xmlDoc;
-
+        final XMLStreamReader reader;
+        final Document document;
         try {
-            final DocumentBuilder db = MegaMekXmlUtil.newSafeDocumentBuilder();
-            xmlDoc = db.parse(fin);
+            document = MegaMekXmlUtil.newSafeDocumentBuilder().newDocument();
+            reader = MegaMekXmlUtil.createSafeXmlStreamReader(fin);
+            if (!MegaMekXmlUtil.nextChildElement(reader)) {
+                throw new XMLStreamException("No root element");
+            }
         } catch (Exception e) {
             warning.append("Error parsing MUL file!\n");
             throw e;
         }
 
-        final Element element = xmlDoc.getDocumentElement();
-        element.normalize();
+        try {
+            final String version = reader.getAttributeValue(null, VERSION);
+            if ((version == null) || version.isBlank()) {
+                warning.append("Warning: No version specified, correct parsing ")
+                        .append("not guaranteed!\n");
+            }
+
+            final String rootName = reader.getLocalName();
+            if (rootName.equalsIgnoreCase(RECORD)) {
+                streamRecord(reader, document, options);
+            } else if (rootName.equalsIgnoreCase(UNIT)) {
+                streamUnit(reader, document, options, entities);
+            } else if (rootName.equalsIgnoreCase(ENTITY)) {
+                parseEntity(MegaMekXmlUtil.readElement(reader, document), options, entities);
+            } else {
+                warning.append("Error: root element isn't a Record, Unit, or Entity tag! Nothing to parse!\n");
+            }
+        } catch (XMLStreamException e) {
+            warning.append("Error parsing MUL file!\n");
+            throw e;
+        } finally {
+            reader.close();
+            logWarnings();
+        }
+    }
+
+    /**
+     * Streams through a Record tag, see {@link #parseRecord(Element, GameOptions)}.
+     */
+    private void streamRecord(final XMLStreamReader reader, final Document document,
+                              final @Nullable GameOptions options) throws XMLStreamException {
+        while (MegaMekXmlUtil.nextChildElement(reader)) {
+            final String nodeName = reader.getLocalName();
+            if (nodeName.equalsIgnoreCase(UNIT)) {
+                streamUnit(reader, document, options, entities);
+            } else if (nodeName.equalsIgnoreCase(SURVIVORS)) {
+                streamUnit(reader, document, options, survivors);
+            } else if (nodeName.equalsIgnoreCase(ALLIES)) {
+                streamUnit(reader, document, options, allies);
+            } else if (nodeName.equalsIgnoreCase(SALVAGE)) {
+                streamUnit(reader, document, options, salvage);
+            } else if (nodeName.equalsIgnoreCase(RETREATED)) {
+                streamUnit(reader, document, options, retreated);
+            } else if (nodeName.equalsIgnoreCase(DEVASTATED)) {
+                streamUnit(reader, document, options, devastated);
+            } else if (nodeName.equalsIgnoreCase(KILLS)) {
+                parseKills(MegaMekXmlUtil.readElement(reader, document));
+            } else if (nodeName.equalsIgnoreCase(ENTITY)) {
+                parseUnit(MegaMekXmlUtil.readElement(reader, document), options, entities);
+            } else if (nodeName.equalsIgnoreCase(PILOT)) {
+                parsePilot(MegaMekXmlUtil.readElement(reader, document), options);
+            } else if (nodeName.equalsIgnoreCase(CREW)) {
+                parseCrew(MegaMekXmlUtil.readElement(reader, document), options);
+            } else {
+                MegaMekXmlUtil.skipElement(reader);
+            }
+        }
+    }
 
-        final String version = element.getAttribute(VERSION);
-        if (version.isBlank()) {
-            warning.append("Warning: No version specified, correct parsing ")
-                    .append("not guaranteed!\n");
+    /**
+     * Streams through a Unit tag, see {@link #parseUnit(Element, GameOptions, Vector)}.
+     */
+    private void streamUnit(final XMLStreamReader reader, final Document document,
+                            final @Nullable GameOptions options, final Vector<Entity> list)
+            throws XMLStreamException {
+        while (MegaMekXmlUtil.nextChildElement(reader)) {
+            final String nodeName = reader.getLocalName();
+            if (nodeName.equalsIgnoreCase(ENTITY)) {
+                parseEntity(MegaMekXmlUtil.readElement(reader, document), options, list);
+            } else if (nodeName.equalsIgnoreCase(PILOT)) {
+                parsePilot(MegaMekXmlUtil.readElement(reader, document), options);
+            } else if (nodeName.equalsIgnoreCase(CREW)) {
+                parseCrew(MegaMekXmlUtil.readElement(reader, document), options);
+            } else {
+                MegaMekXmlUtil.skipElement(reader);
+            }
         }
-        parse(element, options);
     }
 
     private void parse(final Element element, final @Nullable GameOptions options) {
@@ -368,7 +445,13 @@ public class MULParser {
             warning.append("Error: root element isn't a Record, Unit, or Entity tag! Nothing to parse!\n");
         }
 
-        // Finally, output the warning if there is any
+        logWarnings();
+    }
+
+    /**
+     * Outputs the warning, if there is any.
+     */
+    private void logWarnings() {
         if (hasWarningMessage()) {
             LogManager.getLogger().warn(getWarningMessage());
         }
@@ -14,6 +14,7 @@
 package megamek.common;
 
 import megamek.client.ui.swing.lobby.LobbyUtility;
+import megamek.common.annotations.Nullable;
 import megamek.common.util.BuildingTemplate;
 import megamek.utils.MegaMekXmlUtil;
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * MapSettings.java
@@ -281,6 +283,10 @@ public class MapSettings implements Serializable {
     @XmlElement(name = "ALGORITHM")
     private int algorithmToUse = 0;
 
+    /** the seed of the generated boards, or null to draw a new seed for every board */
+    @XmlElement(name = "SEED")
+    private Long seed = null;
+
     /** a tileset theme to apply */
     @XmlElement(name = "THEME")
     private String theme = "";
@@ -474,6 +480,7 @@ public class MapSettings implements Serializable {
         minCraters = other.getMinCraters();
         maxCraters = other.getMaxCraters();
         algorithmToUse = other.getAlgorithmToUse();
+        seed = other.getSeed();
         theme = other.getTheme();
         probFlood = other.getProbFlood();
         probForestFire = other.getProbForestFire();
@@ -1016,7 +1023,8 @@ public class MapSettings implements Serializable {
                 && (cityMaxFloors == other.getCityMaxFloors()) && (cityDensity == other.getCityDensity())
                 && (probFlood == other.getProbFlood()) && (probForestFire == other.getProbForestFire())
                 && (probFreeze == other.getProbFreeze()) && (probDrought == other.getProbDrought())
-                && (algorithmToUse == other.getAlgorithmToUse()) && (mountainHeightMin == other.getMountainHeightMin())
+                && (algorithmToUse == other.getAlgorithmToUse()) && Objects.equals(seed, other.getSeed())
+                && (mountainHeightMin == other.getMountainHeightMin())
                 && (mountainHeightMax == other.getMountainHeightMax()) && (mountainPeaks == other.getMountainPeaks())
                 && (mountainStyle == other.getMountainStyle()) && (mountainWidthMin == other.getMountainWidthMin())
                 && (mountainWidthMax == other.getMountainWidthMax()) && (boardBuildings.equals(other.getBoardBuildings()));
@@ -1294,6 +1302,13 @@ public class MapSettings implements Serializable {
         return algorithmToUse;
     }
 
+    /**
+     * @return the seed of the generated boards, or null if every board gets a new seed
+     */
+    public @Nullable Long getSeed() {
+        return seed;
+    }
+
     public int getProbFlood() {
         return probFlood;
     }
@@ -1547,6 +1562,16 @@ public class MapSettings implements Serializable {
         algorithmToUse = alg;
     }
 
+    /**
+     * Sets the seed of the generated boards. With a seed, the same settings always generate the same
+     * boards.
+     *
+     * @param seed the seed, or null to draw a new seed for every board
+     */
+    public void setSeed(@Nullable Long seed) {
+        this.seed = seed;
+    }
+
     public void setCityParams(int cityBlocks, String cityType, int cityMinCF, int cityMaxCF, int cityMinFloors,
             int cityMaxFloors, int cityDensity, int townSize) {
         this.cityBlocks = cityBlocks;
@@ -71,7 +71,8 @@ import org.apache.logging.log4j.LogManager;
 
 public class MechFileParser {
     private Entity m_entity = null;
-    private static Vector<String> canonUnitNames = null;
+    /** The sorted names of the official units; published only once it is complete */
+    private static volatile List<String> canonUnitNames = null;
     public static final String FILENAME_OFFICIAL_UNITS = "OfficialUnitList.txt";
 
     public MechFileParser(File f) throws EntityLoadingException {
@@ -797,30 +798,7 @@ public class MechFileParser {
         
         // Check if it's canon; if it is, mark it as such.
         ent.setCanon(false);// Guilty until proven innocent
-        try {
-            if (canonUnitNames == null) {
-                canonUnitNames = new Vector<>();
-                // init the list.
-                try (BufferedReader br = new BufferedReader(new FileReader(new MegaMekFile(
-                            Configuration.docsDir(), FILENAME_OFFICIAL_UNITS).getFile()))) {
-                    String s;
-                    String name;
-                    while ((s = br.readLine()) != null) {
-                        int nIndex1 = s.indexOf('|');
-                        if (nIndex1 > -1) {
-                            name = s.substring(0, nIndex1);
-                            canonUnitNames.addElement(name);
-                        }
-                    }
-                    Collections.sort(canonUnitNames);
-                } catch (Exception ignored) {
-
-                }
-            }
-        } catch (Exception ignored) {
-
-        }
-        int index = Collections.binarySearch(canonUnitNames, ent.getShortNameRaw());
+        int index = Collections.binarySearch(getCanonUnitNames(), ent.getShortNameRaw());
         if (index >= 0) {
             ent.setCanon(true);
         }        
@@ -949,6 +927,42 @@ public class MechFileParser {
         return entity;
     }
 
+    /**
+     * @return the sorted names of the official units. The list is read on first use; units may be
+     * parsed on several threads at once, so it is filled and sorted before it is shared.
+     */
+    private static List<String> getCanonUnitNames() {
+        List<String> names = canonUnitNames;
+        if (names == null) {
+            synchronized (MechFileParser.class) {
+                names = canonUnitNames;
+                if (names == null) {
+                    names = readCanonUnitNames();
+                    canonUnitNames = names;
+                }
+            }
+        }
+        return names;
+    }
+
+    private static List<String> readCanonUnitNames() {
+        List<String> names = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(new MegaMekFile(
+                    Configuration.docsDir(), FILENAME_OFFICIAL_UNITS).getFile()))) {
+            String s;
+            while ((s = br.readLine()) != null) {
+                int nIndex1 = s.indexOf('|');
+                if (nIndex1 > -1) {
+                    names.add(s.substring(0, nIndex1));
+                }
+            }
+        } catch (Exception ignored) {
+
+        }
+        Collections.sort(names);
+        return Collections.unmodifiableList(names);
+    }
+
     public static void dispose() {
         canonUnitNames = null;
     }
@@ -230,6 +230,9 @@ public class MechSummary implements Serializable {
         return (m_aCost);
     }
 
+    /**
+     * @return the modification time of the source file when this summary was created, or 0 if it is unknown
+     */
     public long getModified() {
         return (m_lModified);
     }
@@ -44,7 +44,7 @@ public class MechSummaryCache {
     private static boolean disposeInstance = false;
     private static boolean interrupted = false;
 
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
     private boolean initializing = false;
 
     private MechSummary[] m_data;
@@ -312,7 +312,12 @@ public class MechSummaryCache {
 
             initialized = true;
 
-            for (Listener listener : listeners) {
+            // Listeners may be added while the others are notified
+            List<Listener> toNotify;
+            synchronized (listeners) {
+                toNotify = new ArrayList<>(listeners);
+            }
+            for (Listener listener : toNotify) {
                 listener.doneLoading();
             }
 
@@ -378,6 +383,7 @@ public class MechSummaryCache {
         ms.setUnitType(UnitType.getTypeName(e.getUnitType()));
         ms.setSourceFile(f);
         ms.setEntryName(entry);
+        ms.setModified(f.lastModified());
         ms.setYear(e.getYear());
         ms.setType(e.getTechLevel());
         if (TechConstants.convertFromNormalToSimple(e.getTechLevel()) == TechConstants.T_SIMPLE_UNOFFICIAL) {
@@ -19,6 +19,7 @@
 package megamek.common;
 
 import megamek.common.MovePath.MoveStepType;
+import megamek.common.options.OptionHandle;
 import megamek.common.options.OptionsConstants;
 import megamek.common.pathfinder.CachedEntityState;
 import org.apache.logging.log4j.LogManager;
@@ -37,6 +38,19 @@ import java.util.Vector;
  */
 public class MoveStep implements Serializable {
     private static final long serialVersionUID = -6075640793056182285L;
+
+    /** Options read while compiling steps, resolved once so that each read is an array access */
+    private static final OptionHandle NO_NIGHT_MOVE_PEN =
+            OptionHandle.forBoolean(OptionsConstants.ADVGRNDMOV_NO_NIGHT_MOVE_PEN);
+    private static final OptionHandle TACOPS_LEAPING =
+            OptionHandle.forBoolean(OptionsConstants.ADVGRNDMOV_TACOPS_LEAPING);
+    private static final OptionHandle TACOPS_WALK_BACKWARDS =
+            OptionHandle.forBoolean(OptionsConstants.ADVGRNDMOV_TACOPS_WALK_BACKWARDS);
+    private static final OptionHandle TACOPS_SPRINT =
+            OptionHandle.forBoolean(OptionsConstants.ADVGRNDMOV_TACOPS_SPRINT);
+    private static final OptionHandle VEHICLE_ADVANCED_MANEUVERS =
+            OptionHandle.forBoolean(OptionsConstants.ADVGRNDMOV_VEHICLE_ADVANCED_MANEUVERS);
+
     private MoveStepType type = MoveStepType.NONE;
     private int targetId = Entity.NONE;
     private int targetType = Targetable.TYPE_ENTITY;
@@ -702,7 +716,7 @@ public class MoveStep implements Serializable {
         // WiGEs get bonus MP for each string of three consecutive hexes they descend.
         if (entity.getMovementMode() == EntityMovementMode.WIGE
                 && getClearance() > 0
-                && game.getOptions().booleanOption(OptionsConstants.ADVGRNDMOV_VEHICLE_ADVANCED_MANEUVERS)) {
+                && game.getOptions().booleanOption(VEHICLE_ADVANCED_MANEUVERS)) {
 
             if (game.getBoard().getHex(getPosition()).ceiling()
                     < game.getBoard().getHex(prev.getPosition()).ceiling()) {
@@ -2427,7 +2441,7 @@ public class MoveStep implements Serializable {
                 }
             } else if ((getMpUsed() <= sprintMP)
                     && !isRunProhibited() && !isEvading()
-                    && game.getOptions().booleanOption(OptionsConstants.ADVGRNDMOV_TACOPS_SPRINT)) {
+                    && game.getOptions().booleanOption(TACOPS_SPRINT)) {
                 setUsingMASC(true);
                 setTargetNumberMASC(entity.getMASCTarget());
                 if (entity.getMovementMode() == EntityMovementMode.VTOL) {
@@ -2926,7 +2940,7 @@ public class MoveStep implements Serializable {
 
 
         boolean applyNightPen =
-                !game.getOptions().booleanOption(OptionsConstants.ADVGRNDMOV_NO_NIGHT_MOVE_PEN);
+                !game.getOptions().booleanOption(NO_NIGHT_MOVE_PEN);
         boolean carefulExempt =
                 (moveMode == EntityMovementMode.VTOL) || isJumping();
 
@@ -2973,7 +2987,8 @@ public class MoveStep implements Serializable {
             if ((moveMode != EntityMovementMode.BIPED_SWIM)
                     && (moveMode != EntityMovementMode.QUAD_SWIM)
                     && getClearance() == 0) {
-                mp += destHex.movementCost(getEntity());
+                mp += game.getBoard().getMovementCostCache().getTerrainCost(destHex, getPosition(),
+                        getEntity(), cachedEntityState.getTerrainCostProfile());
             }
 
             // if this is an amphibious unit crossing water, increment movement cost by 1
@@ -3026,7 +3041,7 @@ public class MoveStep implements Serializable {
         // non-WIGEs pay for elevation differences
         if ((nSrcEl != nDestEl) && (moveMode != EntityMovementMode.WIGE)) {
             int delta_e = Math.abs(nSrcEl - nDestEl);
-            if (game.getOptions().booleanOption(OptionsConstants.ADVGRNDMOV_TACOPS_LEAPING) && isMech
+            if (game.getOptions().booleanOption(TACOPS_LEAPING) && isMech
                     && (delta_e > 2) && (nDestEl < nSrcEl)) {
                 // leaping (moving down more than 2 hexes) always costs 4 mp
                 // regardless of anything else
@@ -3232,10 +3247,8 @@ public class MoveStep implements Serializable {
         if (!(entity instanceof VTOL)
                 && isThisStepBackwards()
                 && !(isJumping() && (entity.getJumpType() == Mech.JUMP_BOOSTER))
-                && (((destAlt != srcAlt) && !game.getOptions().booleanOption(
-                OptionsConstants.ADVGRNDMOV_TACOPS_WALK_BACKWARDS)) || (game.getOptions()
-                .booleanOption(OptionsConstants.ADVGRNDMOV_TACOPS_WALK_BACKWARDS) && (Math
-                .abs(destAlt - srcAlt) > 1)))) {
+                && (((destAlt != srcAlt) && !game.getOptions().booleanOption(TACOPS_WALK_BACKWARDS))
+                || (game.getOptions().booleanOption(TACOPS_WALK_BACKWARDS) && (Math.abs(destAlt - srcAlt) > 1)))) {
             return false;
         }
 
@@ -3390,7 +3403,7 @@ public class MoveStep implements Serializable {
                 && !(entity instanceof VTOL)
                 && !(isJumping() && (entity.getJumpType() == Mech.JUMP_BOOSTER))) {
             // Generally forbidden without TacOps Expanded Backward Movement p.22
-            if (!game.getOptions().booleanOption(OptionsConstants.ADVGRNDMOV_TACOPS_WALK_BACKWARDS)) {
+            if (!game.getOptions().booleanOption(TACOPS_WALK_BACKWARDS)) {
                 return false;
             }
             // Even with Expanded Backward Movement, ...
@@ -4031,12 +4044,12 @@ public class MoveStep implements Serializable {
      * Helper function to determine whether sprint is available as a game option to the entity
      */
     public boolean canUseSprint(Game game) {
-        if (!game.getOptions().booleanOption(OptionsConstants.ADVGRNDMOV_TACOPS_SPRINT)) {
+        if (!game.getOptions().booleanOption(TACOPS_SPRINT)) {
             return false;
         }
         if (entity instanceof Tank
                 || (entity instanceof QuadVee && entity.getConversionMode() == QuadVee.CONV_MODE_VEHICLE)) {
-            return  game.getOptions().booleanOption(OptionsConstants.ADVGRNDMOV_VEHICLE_ADVANCED_MANEUVERS);
+            return  game.getOptions().booleanOption(VEHICLE_ADVANCED_MANEUVERS);
         }
         if (entity instanceof LandAirMech) {
             return entity.getConversionMode() == LandAirMech.CONV_MODE_MECH
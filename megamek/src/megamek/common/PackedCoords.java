@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Hex geometry on coordinates packed into a single int, for loops that would otherwise create many
+ * short-lived {@link Coords} and lists of them, such as pathfinding, line of sight and area effects.
+ * The x value is stored in the upper and the y value in the lower 16 bits, so both must lie between
+ * -32768 and 32767; this includes the off-board coordinates that hex geometry may produce. Equal
+ * coordinates have equal packed values, so packed coordinates can be compared with == and used as
+ * keys of primitive collections.
+ *
+ * The ring, area and line iterations visit the hexes in the same order as the corresponding
+ * {@link Coords} methods return them, without creating any objects. Code that still needs Coords
+ * objects can get shared instances through {@link #toCoords(int)}.
+ */
+public final class PackedCoords {
+
+    /** The largest number of hexes for which shared Coords instances are kept */
+    private static final int MAX_INTERNED_HEXES = 1 << 20;
+
+    /** The shared Coords instances, replaced by a larger table when a larger board is used */
+    private static volatile InternTable internTable = new InternTable(0, 0);
+
+    private PackedCoords() {
+    }
+
+    /** Returns the packed form of the coordinates (x, y). */
+    public static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    /** Returns the packed form of the given coordinates. */
+    public static int pack(Coords coords) {
+        return pack(coords.getX(), coords.getY());
+    }
+
+    /** Returns the x value of the packed coordinates. */
+    public static int x(int packed) {
+        return packed >> 16;
+    }
+
+    /** Returns the y value of the packed coordinates. */
+    public static int y(int packed) {
+        return (short) packed;
+    }
+
+    /**
+     * Returns the packed coordinates as a Coords. On-board coordinates of boards up to the size given
+     * to {@link #ensureInternedSize(int, int)} return a shared instance; others return a new one.
+     */
+    public static Coords toCoords(int packed) {
+        return internTable.get(x(packed), y(packed));
+    }
+
+    /**
+     * Makes {@link #toCoords(int)} return shared instances for all coordinates of a board of the
+     * given size. Boards of more than about a million hexes are not covered.
+     */
+    public static void ensureInternedSize(int width, int height) {
+        final InternTable table = internTable;
+        if (((table.width < width) || (table.height < height))
+                && ((long) Math.max(width, table.width) * Math.max(height, table.height) <= MAX_INTERNED_HEXES)) {
+            synchronized (PackedCoords.class) {
+                if ((internTable.width < width) || (internTable.height < height)) {
+                    internTable = new InternTable(Math.max(width, internTable.width),
+                            Math.max(height, internTable.height));
+                }
+            }
+        }
+    }
+
+    /** Returns the packed coordinates adjacent to the given ones in the direction dir. */
+    public static int translated(int packed, int dir) {
+        return translated(packed, dir, 1);
+    }
+
+    /** Returns the packed coordinates the given distance away in the direction dir. */
+    public static int translated(int packed, int dir, int distance) {
+        final int x = x(packed);
+        final int y = y(packed);
+        return pack(Coords.xInDir(x, y, dir, distance), Coords.yInDir(x, y, dir, distance));
+    }
+
+    /** Returns the distance between the packed coordinates. */
+    public static int distance(int first, int second) {
+        return Coords.distance(x(first), y(first), x(second), y(second));
+    }
+
+    /** Returns the direction in which the destination lies as seen from the source; 0 if they are equal. */
+    public static int direction(int src, int dest) {
+        return Coords.direction(x(src), y(src), x(dest), y(dest));
+    }
+
+    /** Returns true if the packed coordinates lie on a board of the given size. */
+    public static boolean isOnBoard(int packed, int width, int height) {
+        final int x = x(packed);
+        final int y = y(packed);
+        return (x >= 0) && (y >= 0) && (x < width) && (y < height);
+    }
+
+    /**
+     * Visits the six adjacent coordinates in the order of {@link Coords#allAdjacent()}, regardless
+     * of whether they're on the board or not.
+     */
+    public static void forEachAdjacent(int center, IntConsumer visitor) {
+        forEachAtDistance(center, 1, visitor);
+    }
+
+    /**
+     * Visits all coordinates at the given distance in the order of {@link Coords#allAtDistance(int)},
+     * regardless of whether they're on the board or not. Visits nothing for distance < 0 and the
+     * center itself for distance == 0.
+     */
+    public static void forEachAtDistance(int center, int distance, IntConsumer visitor) {
+        if (distance == 0) {
+            visitor.accept(center);
+        } else if (distance > 0) {
+            // see Coords.allAtDistance()
+            int current = translated(center, 4, distance);
+            for (int direction = 0; direction < 6; direction++) {
+                for (int translation = 0; translation < distance; translation++) {
+                    current = translated(current, direction);
+                    visitor.accept(current);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits all coordinates at the given distance or less, ring by ring from the center outward,
+     * regardless of whether they're on the board or not.
+     */
+    public static void forEachWithin(int center, int distance, IntConsumer visitor) {
+        for (int radius = 0; radius <= distance; radius++) {
+            forEachAtDistance(center, radius, visitor);
+        }
+    }
+
+    /**
+     * Visits the coordinates of the hexes crossed by a straight line from the center of src to the
+     * center of dest, including src and dest, in the order of {@link Coords#intervening(Coords, Coords, boolean)}.
+     * The visit ends early when the visitor returns false.
+     *
+     * @param src     the start of the line
+     * @param dest    the end of the line
+     * @param split   true to make left appear before right in the sequence reliably
+     * @param visitor receives the coordinates and returns false to end the visit
+     * @return false if the visitor ended the visit, true otherwise
+     */
+    public static boolean visitIntervening(int src, int dest, boolean split, IntPredicate visitor) {
+        final int srcX = x(src);
+        final int srcY = y(src);
+        final int destX = x(dest);
+        final int destY = y(dest);
+
+        int centerDirection = Coords.direction(srcX, srcY, destX, destY);
+        if (split) {
+            // see Coords.intervening()
+            centerDirection = (int) Math.round(Coords.radian(srcX, srcY, destX, destY) + 0.0001
+                    / Coords.HEXSIDE) % 6;
+        }
+        // the side directions must be checked before the center
+        final int left = (centerDirection + 1) % 6;
+        final int right = (centerDirection + 5) % 6;
+
+        final double x0 = IdealHex.centerX(srcX);
+        final double y0 = IdealHex.centerY(srcX, srcY);
+        final double x1 = IdealHex.centerX(destX);
+        final double y1 = IdealHex.centerY(destX, destY);
+
+        int current = src;
+        if (!visitor.test(current)) {
+            return false;
+        }
+        while (current != dest) {
+            current = nextHex(current, x0, y0, x1, y1, left, right, centerDirection);
+            if (!visitor.test(current)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the first of the hexes in the three directions, sides first, that is crossed by the
+     * line; see {@link Coords#nextHex(Coords, IdealHex, IdealHex, int[])}.
+     */
+    private static int nextHex(int current, double x0, double y0, double x1, double y1,
+                               int left, int right, int center) {
+        int testing = translated(current, left);
+        if (IdealHex.isIntersectedBy(x(testing), y(testing), x0, y0, x1, y1)) {
+            return testing;
+        }
+        testing = translated(current, right);
+        if (IdealHex.isIntersectedBy(x(testing), y(testing), x0, y0, x1, y1)) {
+            return testing;
+        }
+        testing = translated(current, center);
+        if (IdealHex.isIntersectedBy(x(testing), y(testing), x0, y0, x1, y1)) {
+            return testing;
+        }
+        // if we're here then something's fishy!
+        throw new RuntimeException("Couldn't find the next hex!");
+    }
+
+    private static final class InternTable {
+        private final int width;
+        private final int height;
+        private final Coords[] coords;
+
+        private InternTable(int width, int height) {
+            this.width = width;
+            this.height = height;
+            coords = new Coords[width * height];
+        }
+
+        private Coords get(int x, int y) {
+            if ((x < 0) || (y < 0) || (x >= width) || (y >= height)) {
+                return new Coords(x, y);
+            }
+            final int index = y * width + x;
+            Coords result = coords[index];
+            if (result == null) {
+                // Created on first use; should two threads race here, both get equal instances
+                result = new Coords(x, y);
+                coords[index] = result;
+            }
+            return result;
+        }
+    }
+}
@@ -20,11 +20,10 @@ import megamek.common.options.Quirks;
 import megamek.common.options.WeaponQuirks;
 import megamek.utils.MegaMekXmlUtil;
 import org.apache.logging.log4j.LogManager;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -179,7 +178,11 @@ public class QuirksHandler {
         return unitId.substring(0, unitId.lastIndexOf("~")) + "~" + newUnitType;
     }
 
-    private static Map<String, List<QuirkEntry>> loadQuirksFile(final String path) throws Exception {
+    /**
+     * Reads a quirks file. The file is streamed, building the quirk entries of each unit as its
+     * element is read, so that the file is never held in memory as a whole.
+     */
+    static Map<String, List<QuirkEntry>> loadQuirksFile(final String path) throws Exception {
         final Map<String, List<QuirkEntry>> quirkMap = new HashMap<>();
 
         final File file = new File(path);
@@ -188,132 +191,189 @@ public class QuirksHandler {
             return quirkMap;
         }
 
-        // Build the XML document.
         StringBuilder log = new StringBuilder();
-        try {
-            DocumentBuilder builder = MegaMekXmlUtil.newSafeDocumentBuilder();
+        StringBuilder unitLog = new StringBuilder();
+        try (InputStream is = new FileInputStream(file)) {
+            XMLStreamReader reader = MegaMekXmlUtil.createSafeXmlStreamReader(is);
             log.append("Parsing ").append(path);
-            Document doc = builder.parse(file);
-            log.append("\n...Parsing finished.");
-
-            // Get the list of units.
-            NodeList listOfEntries = doc.getElementsByTagName(UNIT);
-            int totalEntries = listOfEntries.getLength();
-            log.append("\n\tTotal number of unit tags: ").append(totalEntries);
-            for (int unitCount = 0; unitCount < totalEntries; unitCount++) {
 
-                // Get the first element of this node.
-                Element unitList = (Element) listOfEntries.item(unitCount);
-
-                // Get the chassis
-                Element chassisElement = (Element) unitList.getElementsByTagName(CHASSIS).item(0);
-                if (chassisElement == null) {
-                    log.append("\n\tMissing <chassis> element #").append(unitCount);
-                    continue;
-                }
-                String chassis = chassisElement.getTextContent().trim();
-
-                // Get the model.
-                Element modelElement = (Element) unitList.getElementsByTagName(MODEL).item(0);
-                // default to "all" model for entries that don't list a model... backwards compatibility with older quirks files
-                String model = MODEL_ALL;
-                if (modelElement != null) {
-                    model = modelElement.getTextContent().trim();
+            int unitCount = 0;
+            while (reader.hasNext()) {
+                if ((reader.next() == XMLStreamConstants.START_ELEMENT) && reader.getLocalName().equals(UNIT)) {
+                    readUnitQuirks(reader).addTo(quirkMap, unitCount, unitLog);
+                    unitCount++;
                 }
+            }
+            reader.close();
+            log.append("\n...Parsing finished.");
+            log.append("\n\tTotal number of unit tags: ").append(unitCount);
+            log.append(unitLog);
+            log.append("\n\tTotal number of quirk entries: ").append(quirkMap.size());
+            return quirkMap;
+        } catch (Exception e) {
+            LogManager.getLogger().error("", e);
+            throw e;
+        } finally {
+            LogManager.getLogger().info(log.toString());
+        }
+    }
 
-                Element typeElement = (Element) unitList.getElementsByTagName(UNIT_TYPE).item(0);
-                // default to "Mech" type for entries that don't list a type... backwards compatibility with older quirks files
-                String unitType = "Mech";
-                if (typeElement != null) {
-                    unitType = typeElement.getTextContent().trim();
+    /**
+     * Reads the unit element the reader is positioned at. Like the elements of the unit themselves,
+     * the quirks may appear at any depth within it.
+     */
+    private static UnitQuirks readUnitQuirks(final XMLStreamReader reader) throws XMLStreamException {
+        UnitQuirks unit = new UnitQuirks();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case CHASSIS:
+                        unit.chassis = firstText(unit.chassis, reader);
+                        break;
+                    case MODEL:
+                        unit.model = firstText(unit.model, reader);
+                        break;
+                    case UNIT_TYPE:
+                        unit.unitType = firstText(unit.unitType, reader);
+                        break;
+                    case QUIRK:
+                        unit.quirks.add(MegaMekXmlUtil.readTextContent(reader));
+                        break;
+                    case WEAPON_QUIRK:
+                        unit.weaponQuirks.add(readWeaponQuirk(reader, unit));
+                        break;
+                    default:
+                        depth++;
+                        break;
                 }
+            }
+        }
+        return unit;
+    }
 
-                // Generate the unit ID
-                String unitId = getUnitId(chassis, model, unitType);
-
-                // Get the quirks.
-                NodeList quirkNodes = unitList.getElementsByTagName(QUIRK);
-                NodeList weapQuirkNodes = unitList.getElementsByTagName(WEAPON_QUIRK);
-                List<QuirkEntry> quirkList = new ArrayList<>(quirkNodes.getLength() + weapQuirkNodes.getLength());
-
-                // Add the quirks.
-                for (int quirkCount = 0; quirkCount < quirkNodes.getLength(); quirkCount++) {
-                    // Create the quirk entry and add it to the list.
-                    Element quirkElement = (Element) quirkNodes.item(quirkCount);
-                    String qeText = quirkElement.getTextContent().trim();
-                    if ((quirkElement.getTextContent() == null) || qeText.isEmpty()) {
-                        log.append("\n\t\t").append(unitId).append(": no text content!");
-                        continue;
-                    }
-                    QuirkEntry quirkEntry = new QuirkEntry(qeText, unitId);
-                    quirkList.add(quirkEntry);
+    /**
+     * Reads a weapon quirk element into its name, location, slot and weapon name; missing parts are
+     * null.
+     */
+    private static String[] readWeaponQuirk(final XMLStreamReader reader, final UnitQuirks unit)
+            throws XMLStreamException {
+        String[] weaponQuirk = new String[4];
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case WEAPON_QUIRK_NAME:
+                        weaponQuirk[0] = firstText(weaponQuirk[0], reader);
+                        break;
+                    case LOCATION:
+                        weaponQuirk[1] = firstText(weaponQuirk[1], reader);
+                        break;
+                    case SLOT:
+                        weaponQuirk[2] = firstText(weaponQuirk[2], reader);
+                        break;
+                    case WEAPON_NAME:
+                        weaponQuirk[3] = firstText(weaponQuirk[3], reader);
+                        break;
+                    case QUIRK:
+                        // a quirk tag anywhere within the unit is a unit quirk
+                        unit.quirks.add(MegaMekXmlUtil.readTextContent(reader));
+                        break;
+                    default:
+                        depth++;
+                        break;
                 }
+            }
+        }
+        return weaponQuirk;
+    }
 
-                // Add the weapon quirks.
-                for (int quirkCount = 0; quirkCount < weapQuirkNodes.getLength(); quirkCount++) {
-                    Element quirkElement = (Element) weapQuirkNodes.item(quirkCount);
-
-                    // Get the name of the quirk.
-                    Element nameElement = (Element) quirkElement.getElementsByTagName(WEAPON_QUIRK_NAME).item(0);
-                    if (nameElement == null) {
-                        log.append("\n\t\t").append(unitId).append(": no weapon quirk name!");
-                        continue;
-                    }
-                    String weaponQuirkName = nameElement.getTextContent().trim();
-
-                    // Get the weapon's location.
-                    Element locElement = (Element) quirkElement.getElementsByTagName(LOCATION).item(0);
-                    if (locElement == null) {
-                        log.append("\n\t\t").append(unitId).append(": no weapon quirk loc!");
-                        continue;
-                    }
-                    String location = locElement.getTextContent().trim();
+    /**
+     * @return the already read value if there is one (only the first element of a kind counts),
+     * otherwise the trimmed text of the current element
+     */
+    private static String firstText(final @Nullable String value, final XMLStreamReader reader)
+            throws XMLStreamException {
+        String text = MegaMekXmlUtil.readTextContent(reader).trim();
+        return (value != null) ? value : text;
+    }
 
-                    // Get the weapon's critical slot.
-                    Element slotElement = (Element) quirkElement.getElementsByTagName(SLOT).item(0);
-                    if (slotElement == null) {
-                        log.append("\n\t\t").append(unitId).append(": no weapon quirk slot!");
-                        continue;
-                    }
-                    String slot = slotElement.getTextContent().trim();
-                    if (slot.length() < 1) {
-                        throw new IllegalArgumentException(unitId
-                                + " weapon quirk " + weaponQuirkName
-                                + " has an illegal slot entry!");
-                    }
+    /**
+     * The parts of a unit element of a quirks file, as read from the file.
+     */
+    private static class UnitQuirks {
+        private String chassis;
+        private String model;
+        private String unitType;
+        private final List<String> quirks = new ArrayList<>();
+        private final List<String[]> weaponQuirks = new ArrayList<>();
+
+        /**
+         * Creates the quirk entries of this unit and adds them to the map.
+         *
+         * @param quirkMap  the quirks by unit ID
+         * @param unitCount the index of this unit in the file
+         * @param log       the log of the file
+         */
+        void addTo(final Map<String, List<QuirkEntry>> quirkMap, final int unitCount,
+                   final StringBuilder log) {
+            if (chassis == null) {
+                log.append("\n\tMissing <chassis> element #").append(unitCount);
+                return;
+            }
 
-                    // Get the weapon's name.
-                    Element weapElement = (Element) quirkElement.getElementsByTagName(WEAPON_NAME).item(0);
-                    if (weapElement == null) {
-                        log.append("\n\t\t").append(unitId).append(": no weapon quirk weapon name!");
-                        continue;
-                    }
-                    String weaponName = weapElement.getTextContent().trim();
+            // default to "all" model and "Mech" type for entries that don't list them... backwards
+            // compatibility with older quirks files
+            String unitId = getUnitId(chassis, (model == null) ? MODEL_ALL : model,
+                    (unitType == null) ? "Mech" : unitType);
 
-                    // Add the weapon quirk to the list.
-                    QuirkEntry weaponQuirk = new QuirkEntry(weaponQuirkName, location,
-                            Integer.parseInt(slot), weaponName, unitId);
-                    quirkList.add(weaponQuirk);
+            List<QuirkEntry> quirkList = new ArrayList<>(quirks.size() + weaponQuirks.size());
+            for (String quirk : quirks) {
+                String qeText = quirk.trim();
+                if (qeText.isEmpty()) {
+                    log.append("\n\t\t").append(unitId).append(": no text content!");
+                    continue;
                 }
+                quirkList.add(new QuirkEntry(qeText, unitId));
+            }
 
-                // Add the unit to the default quirks list.
-                if (quirkList.isEmpty()) {
-                    log.append("\n\t\tNo quirks found for ")
-                            .append((unitId.length() > 0) ? unitId : "<BlankUnitId>");
+            for (String[] weaponQuirk : weaponQuirks) {
+                if (weaponQuirk[0] == null) {
+                    log.append("\n\t\t").append(unitId).append(": no weapon quirk name!");
+                    continue;
+                } else if (weaponQuirk[1] == null) {
+                    log.append("\n\t\t").append(unitId).append(": no weapon quirk loc!");
+                    continue;
+                } else if (weaponQuirk[2] == null) {
+                    log.append("\n\t\t").append(unitId).append(": no weapon quirk slot!");
+                    continue;
+                } else if (weaponQuirk[2].length() < 1) {
+                    throw new IllegalArgumentException(unitId
+                            + " weapon quirk " + weaponQuirk[0]
+                            + " has an illegal slot entry!");
+                } else if (weaponQuirk[3] == null) {
+                    log.append("\n\t\t").append(unitId).append(": no weapon quirk weapon name!");
+                    continue;
                 }
+                quirkList.add(new QuirkEntry(weaponQuirk[0], weaponQuirk[1],
+                        Integer.parseInt(weaponQuirk[2]), weaponQuirk[3], unitId));
+            }
 
-                if (quirkMap.containsKey(unitId)) {
-                    log.append("\n\t\t").append(unitId).append(": duplicate entry added!");
-                }
-                quirkMap.put(unitId, quirkList);
+            if (quirkList.isEmpty()) {
+                log.append("\n\t\tNo quirks found for ")
+                        .append((unitId.length() > 0) ? unitId : "<BlankUnitId>");
             }
-            log.append("\n\tTotal number of quirk entries: ").append(quirkMap.size());
-            return quirkMap;
-        } catch (Exception e) {
-            LogManager.getLogger().error("", e);
-            throw e;
-        } finally {
-            LogManager.getLogger().info(log.toString());
+
+            if (quirkMap.containsKey(unitId)) {
+                log.append("\n\t\t").append(unitId).append(": duplicate entry added!");
+            }
+            quirkMap.put(unitId, quirkList);
         }
     }
 
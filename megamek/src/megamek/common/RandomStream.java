@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * Named random number streams for the subsystems that need random numbers. Each stream is its own
+ * {@link MMRandom.SplitRandom}, so bots, map generation and unit generation neither contend with nor change the
+ * game's authoritative dice rolls, which come from {@link #SERVER_RULES} when the RNG type is
+ * {@link MMRandom#R_SPLITTABLE}.
+ *
+ * Calling {@link #setSeed(long)} reseeds every stream from one seed, which makes seeded runs reproducible. The
+ * streams are reseeded in place, so generators obtained from {@link #get()} before the call, such as the one
+ * {@link Compute} rolls with, follow the new seed. Code that rolls on several threads at once should use
+ * {@link #forCurrentThread()}, which gives each thread its own fork of the stream.
+ */
+public enum RandomStream {
+    SERVER_RULES,
+    BOT_SIMULATION,
+    MAP_GENERATION,
+    UNIT_GENERATION;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static volatile Long seed;
+
+    private final MMRandom.SplitRandom random = new MMRandom.SplitRandom();
+    private int generation;
+    private final ThreadLocal<ThreadFork> threadForks = new ThreadLocal<>();
+
+    /**
+     * @return the shared generator of this stream
+     */
+    public MMRandom.SplitRandom get() {
+        return random;
+    }
+
+    /**
+     * @return a generator for the calling thread, forked from this stream the first time the thread asks for it
+     */
+    public MMRandom.SplitRandom forCurrentThread() {
+        ThreadFork fork = threadForks.get();
+        synchronized (this) {
+            if ((fork == null) || (fork.generation != generation)) {
+                fork = new ThreadFork(random.fork(), generation);
+                threadForks.set(fork);
+            }
+        }
+        return fork.random;
+    }
+
+    /**
+     * Reseeds every stream. Each stream gets its own seed derived from the given one, and forks made before the
+     * call are replaced the next time their thread asks for one.
+     */
+    public static void setSeed(long seed) {
+        reseed(seed);
+    }
+
+    /**
+     * Goes back to unseeded streams, as they are when the program starts.
+     */
+    public static void clearSeed() {
+        reseed(null);
+    }
+
+    /**
+     * @return the seed last given to {@link #setSeed(long)}, or null if the streams are unseeded
+     */
+    public static @Nullable Long getSeed() {
+        return seed;
+    }
+
+    private static synchronized void reseed(@Nullable Long seed) {
+        RandomStream.seed = seed;
+        for (RandomStream stream : values()) {
+            stream.reset(seed);
+        }
+    }
+
+    private synchronized void reset(@Nullable Long seed) {
+        random.setSeed((seed == null) ? null : (seed + ((ordinal() + 1) * GOLDEN_GAMMA)));
+        generation++;
+    }
+
+    private static class ThreadFork {
+        private final MMRandom.SplitRandom random;
+        private final int generation;
+
+        private ThreadFork(MMRandom.SplitRandom random, int generation) {
+            this.random = random;
+            this.generation = generation;
+        }
+    }
+}
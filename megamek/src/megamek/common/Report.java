@@ -608,6 +608,41 @@ public class Report implements Serializable {
         return sb;
     }
 
+    //region Compact encoding
+    // Raw field access for ReportPage, which packs reports into per-round byte blobs
+
+    int getIndentation() {
+        return indentation;
+    }
+
+    void setIndentation(int indentation) {
+        this.indentation = indentation;
+    }
+
+    /**
+     * @return the data value at the given index as stored, which is null once it has been hidden
+     */
+    String getRawData(int index) {
+        return tagData.elementAt(index);
+    }
+
+    String getTagTranslate() {
+        return tagTranslate;
+    }
+
+    void setTagTranslate(String tagTranslate) {
+        this.tagTranslate = tagTranslate;
+    }
+
+    String getImageCode() {
+        return imageCode;
+    }
+
+    void setImageCode(String imageCode) {
+        this.imageCode = imageCode;
+    }
+    //endregion Compact encoding
+
     public static void indentAll(Vector<Report> vDesc, int amount) {
         // Just avoid an error condition.
         if (vDesc == null) {
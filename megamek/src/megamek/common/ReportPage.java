@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A page of past round reports, sent to clients that (re)connect to a running game instead of the full report
+ * history. The newest page is sent right away and older pages are requested by the client as needed.
+ *
+ * Each round is packed into a compressed byte blob: the strings used in the round are interned into a table, and
+ * every report is stored as its message id plus packed indexes into that table. This is many times smaller than
+ * the serialized report vectors, which carry a vector, a hashtable and a vector of recipients per report. Only
+ * what clients use survives packing; the subject, type and obscured recipients of a report are server side
+ * bookkeeping and are not part of the page.
+ */
+public class ReportPage implements Serializable {
+    private static final long serialVersionUID = 4212894539457421877L;
+
+    /** The number of rounds sent in each page */
+    public static final int ROUNDS_PER_PAGE = 5;
+
+    private static final int NO_STRING = -1;
+
+    private final int firstRound;
+    private final int totalRounds;
+    private final byte[][] roundData;
+
+    /**
+     * @param firstRound  The round of the first report vector in the list
+     * @param totalRounds The number of rounds in the full report history
+     * @param rounds      The reports of consecutive rounds, starting at the first round
+     */
+    public ReportPage(int firstRound, int totalRounds, List<Vector<Report>> rounds) {
+        this.firstRound = firstRound;
+        this.totalRounds = totalRounds;
+        roundData = new byte[rounds.size()][];
+        for (int i = 0; i < rounds.size(); i++) {
+            roundData[i] = pack(rounds.get(i));
+        }
+    }
+
+    /**
+     * @return The first round contained in the page of history that ends with the given round
+     */
+    public static int getPageStart(int lastRound) {
+        return Math.max(1, lastRound - ROUNDS_PER_PAGE + 1);
+    }
+
+    public int getFirstRound() {
+        return firstRound;
+    }
+
+    public int getLastRound() {
+        return firstRound + roundData.length - 1;
+    }
+
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    /**
+     * @return The reports of every round in this page, in order, starting with the first round
+     */
+    public List<Vector<Report>> getRounds() {
+        List<Vector<Report>> rounds = new ArrayList<>(roundData.length);
+        for (byte[] data : roundData) {
+            rounds.add(unpack(data));
+        }
+        return rounds;
+    }
+
+    static byte[] pack(Vector<Report> reports) {
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        ByteArrayOutputStream reportBytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(reportBytes)) {
+            writeVarInt(out, reports.size());
+            for (Report report : reports) {
+                writeVarInt(out, report.messageId + 1);
+                writeVarInt(out, report.getIndentation());
+                writeVarInt(out, report.newlines);
+                writeVarInt(out, intern(report.getTagTranslate(), stringIndexes, strings) + 1);
+                writeVarInt(out, intern(report.getImageCode(), stringIndexes, strings) + 1);
+                writeVarInt(out, report.dataCount());
+                for (int index = 0; index < report.dataCount(); index++) {
+                    // The low bit flags double-blind sensitive values
+                    int stringIndex = intern(report.getRawData(index), stringIndexes, strings) + 1;
+                    writeVarInt(out, (stringIndex << 1) | (report.isValueObscured(index) ? 1 : 0));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not pack reports", e);
+        }
+
+        ByteArrayOutputStream blob = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(blob))) {
+            writeVarInt(out, strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+            reportBytes.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not pack reports", e);
+        }
+        return blob.toByteArray();
+    }
+
+    static Vector<Report> unpack(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            String[] strings = new String[readVarInt(in)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readVarInt(in)];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int count = readVarInt(in);
+            Vector<Report> reports = new Vector<>(count);
+            for (int i = 0; i < count; i++) {
+                // Reports lose their type in transit, and clients treat them as public
+                Report report = new Report(readVarInt(in) - 1, Report.PUBLIC);
+                report.setIndentation(readVarInt(in));
+                report.newlines = readVarInt(in);
+                String tagTranslate = lookup(strings, readVarInt(in) - 1);
+                report.setImageCode(lookup(strings, readVarInt(in) - 1));
+                int dataCount = readVarInt(in);
+                for (int index = 0; index < dataCount; index++) {
+                    int packed = readVarInt(in);
+                    report.add(lookup(strings, (packed >>> 1) - 1), (packed & 1) != 0);
+                }
+                report.setTagTranslate(tagTranslate);
+                reports.add(report);
+            }
+            return reports;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not unpack reports", e);
+        }
+    }
+
+    private static int intern(String string, Map<String, Integer> stringIndexes, List<String> strings) {
+        if (string == null) {
+            return NO_STRING;
+        }
+        return stringIndexes.computeIfAbsent(string, s -> {
+            strings.add(s);
+            return strings.size() - 1;
+        });
+    }
+
+    private static String lookup(String[] strings, int index) {
+        return (index == NO_STRING) ? null : strings[index];
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -55,6 +55,10 @@ public class GameListenerAdapter implements GameListener {
     public void gameReport(GameReportEvent e) {
     }
 
+    @Override
+    public void gameReportPage(GameReportPageEvent e) {
+    }
+
     @Override
     public void gameEnd(GameEndEvent e) {
     }
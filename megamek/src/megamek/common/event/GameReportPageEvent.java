@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.event;
+
+import megamek.common.ReportPage;
+
+/**
+ * Fired when a page of past round reports has been stored in the game, such as when a client that joined a
+ * running game receives the older rounds it asked the server for.
+ *
+ * @see megamek.common.Game#addReportPage(ReportPage)
+ */
+public class GameReportPageEvent extends GameEvent {
+    private static final long serialVersionUID = 4425863591820184737L;
+
+    private final int firstRound;
+    private final int lastRound;
+
+    /**
+     * @param source     event source
+     * @param firstRound the first round of the page
+     * @param lastRound  the last round of the page
+     */
+    public GameReportPageEvent(Object source, int firstRound, int lastRound) {
+        super(source);
+        this.firstRound = firstRound;
+        this.lastRound = lastRound;
+    }
+
+    /**
+     * @return the first round whose reports have arrived
+     */
+    public int getFirstRound() {
+        return firstRound;
+    }
+
+    /**
+     * @return the last round whose reports have arrived
+     */
+    public int getLastRound() {
+        return lastRound;
+    }
+
+    @Override
+    public void fireEvent(GameListener gl) {
+        gl.gameReportPage(this);
+    }
+
+    @Override
+    public String getEventName() {
+        return "Game Report Page";
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+import org.apache.logging.log4j.LogManager;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated timings and counters of the server, the network layer and the bots, such as the time spent
+ * handling each packet command, waiting for the server lock, in each phase and in each attack handler
+ * class. Recording is cheap and lock-free but off by default; it is switched on by
+ * {@link #setEnabled(boolean)}, which the dedicated server does for its -metrics option. The aggregates
+ * can be read through {@link #getSummary()}, over JMX once {@link #registerMBean()} was called, or from
+ * the metrics endpoint of the dedicated server.
+ *
+ * The same measurements are also emitted as JDK Flight Recorder events, see {@link MetricsEvents}.
+ */
+public final class Metrics implements MetricsMBean {
+    public static final String PACKET_HANDLING = "server.packet.";
+    public static final String LOCK_WAIT = "server.lockWait";
+    public static final String PHASE = "server.phase.";
+    public static final String ATTACK_HANDLER = "server.attackHandler.";
+    public static final String SERIALIZATION = "net.serialize";
+    /** Followed by "server.connection." and the connection ID, or "client.connection." and a number */
+    public static final String BYTES_SENT = "net.bytesSent.";
+    public static final String BOT_TURN = "bot.turn";
+
+    private static final String OBJECT_NAME = "megamek:type=Metrics";
+    private static final Metrics instance = new Metrics();
+    private static boolean registered = false;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private volatile boolean enabled = false;
+
+    private Metrics() { }
+
+    /**
+     * @return the metrics of this process
+     */
+    public static Metrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, so that they can be read with JMX tools
+     * such as JConsole. Further calls do nothing.
+     */
+    public static synchronized void registerMBean() {
+        if (!registered) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(instance, new ObjectName(OBJECT_NAME));
+                registered = true;
+            } catch (Exception ex) {
+                LogManager.getLogger().error("Failed to register the metrics MBean", ex);
+            }
+        }
+    }
+
+    /**
+     * @return true if measurements are recorded
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switches recording on or off. While it is off, {@link #recordTime(String, long)} and
+     * {@link #addCount(String, long)} do nothing.
+     *
+     * @param enabled true to record measurements
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Adds a measured duration to the named timer.
+     *
+     * @param name  the name of the timer
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordTime(String name, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        timers.computeIfAbsent(name, n -> new Timer()).record(nanos);
+    }
+
+    /**
+     * Adds an amount to the named counter.
+     *
+     * @param name   the name of the counter
+     * @param amount the amount to add
+     */
+    public void addCount(String name, long amount) {
+        if (!enabled) {
+            return;
+        }
+        counters.computeIfAbsent(name, n -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * Removes the named counter, such as the counter of a connection that was closed.
+     *
+     * @param name the name of the counter
+     */
+    public void removeCount(String name) {
+        counters.remove(name);
+    }
+
+    /**
+     * Moves the value of a counter to another name, adding it to the value already recorded there.
+     *
+     * @param name    the current name of the counter
+     * @param newName the new name of the counter
+     */
+    public void renameCount(String name, String newName) {
+        LongAdder counter = counters.remove(name);
+        if (counter != null) {
+            counters.computeIfAbsent(newName, n -> new LongAdder()).add(counter.sum());
+        }
+    }
+
+    /**
+     * @return the timers by name, sorted by name
+     */
+    public Map<String, Timer> getTimers() {
+        return new TreeMap<>(timers);
+    }
+
+    /**
+     * @return the current values of the counters by name, sorted by name
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((name, counter) -> result.put(name, counter.sum()));
+        return result;
+    }
+
+    @Override
+    public String getSummary() {
+        StringBuilder result = new StringBuilder();
+        getTimers().forEach((name, timer) -> result.append(name).append(' ').append(timer).append('\n'));
+        getCounters().forEach((name, value) -> result.append(name).append(" value=").append(value).append('\n'));
+        return result.toString();
+    }
+
+    @Override
+    public long getTotalMillis(String name) {
+        Timer timer = timers.get(name);
+        return (timer == null) ? 0 : timer.getTotalMillis();
+    }
+
+    @Override
+    public void reset() {
+        timers.clear();
+        counters.clear();
+    }
+
+    /**
+     * The count, total and maximum of the durations recorded under one name.
+     */
+    public static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+        }
+
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + " totalMs=" + getTotalMillis() + " maxMs=" + getMaxMillis();
+        }
+    }
+}
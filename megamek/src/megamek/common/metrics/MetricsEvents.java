@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * JDK Flight Recorder events for the measurements of {@link Metrics}. They cost next to nothing unless a
+ * recording is running, e.g. one started with <tt>-XX:StartFlightRecording</tt> or from JDK Mission
+ * Control, which then shows them in the MegaMek category.
+ */
+public final class MetricsEvents {
+    private static final String CATEGORY = "MegaMek";
+
+    private MetricsEvents() { }
+
+    @Name("megamek.PacketHandled")
+    @Label("Packet Handled")
+    @Description("A packet handled by the server while holding the server lock")
+    @Category({ CATEGORY, "Server" })
+    public static final class PacketHandled extends Event {
+        @Label("Command")
+        public int command;
+
+        @Label("Connection")
+        public int connectionId;
+
+        @Label("Lock Wait")
+        @Timespan
+        public long lockWait;
+    }
+
+    @Name("megamek.Phase")
+    @Label("Phase")
+    @Description("A game phase on the server, from its start until the next phase starts")
+    @Category({ CATEGORY, "Server" })
+    public static final class Phase extends Event {
+        @Label("Phase")
+        public String phase;
+
+        @Label("Round")
+        public int round;
+    }
+
+    @Name("megamek.AttackHandler")
+    @Label("Attack Handler")
+    @Description("The resolution of one attack by an attack handler")
+    @Category({ CATEGORY, "Server" })
+    public static final class AttackHandler extends Event {
+        @Label("Handler")
+        public String handler;
+
+        @Label("Attacker")
+        public int attackerId;
+    }
+
+    @Name("megamek.PacketSerialized")
+    @Label("Packet Serialized")
+    @Description("The marshalling of a packet to be sent over a connection")
+    @Category({ CATEGORY, "Network" })
+    public static final class PacketSerialized extends Event {
+        @Label("Command")
+        public int command;
+
+        @Label("Connection")
+        public int connectionId;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+
+        @Label("Compressed")
+        public boolean compressed;
+    }
+
+    @Name("megamek.BotTurn")
+    @Label("Bot Turn")
+    @Description("The calculation of a turn by a bot")
+    @Category({ CATEGORY, "Bot" })
+    public static final class BotTurn extends Event {
+        @Label("Player")
+        public String player;
+
+        @Label("Phase")
+        public String phase;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.metrics;
+
+/**
+ * The JMX view of the {@link Metrics}.
+ */
+public interface MetricsMBean {
+    /**
+     * @return one line per timer and counter, sorted by name
+     */
+    String getSummary();
+
+    /**
+     * @param name the name of a timer
+     * @return the total time recorded by the timer in milliseconds, or 0 if there is no such timer
+     */
+    long getTotalMillis(String name);
+
+    /**
+     * Removes all timers and counters.
+     */
+    void reset();
+}
@@ -27,9 +27,12 @@ import java.net.SocketException;
 import java.util.Enumeration;
 import java.util.LinkedList;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import megamek.common.metrics.Metrics;
+import megamek.common.metrics.MetricsEvents;
 import megamek.common.net.marshall.PacketMarshaller;
 import megamek.common.net.marshall.PacketMarshallerFactory;
 import megamek.common.util.CircularIntegerBuffer;
@@ -116,6 +119,18 @@ public abstract class AbstractConnection {
      */
     private boolean zipData = true;
 
+    /**
+     * Numbers the client connections of this process, as they all have the same ID until they are
+     * connected
+     */
+    private static final AtomicInteger clientConnections = new AtomicInteger();
+
+    /**
+     * The name of the {@link Metrics} counter of the bytes sent through this connection. Server and
+     * client connections are counted apart, so that the connections of a hosted game don't share counters.
+     */
+    private volatile String bytesSentCounter;
+
     /**
      * Creates new client (connection from client to server) connection
      *
@@ -127,6 +142,7 @@ public abstract class AbstractConnection {
         this.host = host;
         this.port = port;
         this.id = id;
+        bytesSentCounter = Metrics.BYTES_SENT + "client.connection." + clientConnections.incrementAndGet();
         setMarshallingType(DEFAULT_MARSHALLING);
     }
 
@@ -139,6 +155,7 @@ public abstract class AbstractConnection {
     public AbstractConnection(Socket socket, int id) {
         this.socket = socket;
         this.id = id;
+        bytesSentCounter = serverBytesSentCounter(id);
         setMarshallingType(DEFAULT_MARSHALLING);
     }
 
@@ -204,6 +221,7 @@ public abstract class AbstractConnection {
             }
             socket = null;
         }
+        Metrics.getInstance().removeCount(bytesSentCounter);
         processConnectionEvent(new DisconnectedEvent(this));
     }
 
@@ -229,6 +247,15 @@ public abstract class AbstractConnection {
      */
     public void setId(int id) {
         this.id = id;
+        if (isServer()) {
+            String oldCounter = bytesSentCounter;
+            bytesSentCounter = serverBytesSentCounter(id);
+            Metrics.getInstance().renameCount(oldCounter, bytesSentCounter);
+        }
+    }
+
+    private static String serverBytesSentCounter(int id) {
+        return Metrics.BYTES_SENT + "server.connection." + id;
     }
 
     /**
@@ -598,6 +625,9 @@ public abstract class AbstractConnection {
 
         public SendPacket(Packet packet) {
             command = packet.getCommand();
+            MetricsEvents.PacketSerialized event = new MetricsEvents.PacketSerialized();
+            long start = System.nanoTime();
+            event.begin();
             ByteArrayOutputStream bos = new ByteArrayOutputStream();
             OutputStream out;
             try {
@@ -614,6 +644,17 @@ public abstract class AbstractConnection {
             } catch (Exception e) {
                 e.printStackTrace();
             }
+            event.end();
+            long size = (data == null) ? 0 : data.length;
+            Metrics.getInstance().recordTime(Metrics.SERIALIZATION, System.nanoTime() - start);
+            Metrics.getInstance().addCount(bytesSentCounter, size);
+            if (event.shouldCommit()) {
+                event.command = command;
+                event.connectionId = getId();
+                event.bytes = size;
+                event.compressed = zipped;
+                event.commit();
+            }
         }
 
         @Override
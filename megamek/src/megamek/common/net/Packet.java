@@ -87,6 +87,8 @@ public class Packet {
     public static final int COMMAND_SENDING_REPORTS_SPECIAL = 320;
     public static final int COMMAND_SENDING_REPORTS_TACTICAL_GENIUS = 330;
     public static final int COMMAND_SENDING_REPORTS_ALL = 340;
+    public static final int COMMAND_SENDING_REPORTS_PAGE = 342;
+    public static final int COMMAND_REQUEST_REPORTS_PAGE = 344;
 
     public static final int COMMAND_SENDING_GAME_SETTINGS = 350;
     public static final int COMMAND_SENDING_MAP_DIMENSIONS = 360;
@@ -202,6 +202,12 @@ public abstract class AbstractOptions implements Serializable {
         return getOption(name).stringValue();
     }
 
+    /**
+     * Called whenever the value of one of these options has been set.
+     */
+    protected void optionValueChanged(IOption option) {
+    }
+
     IOptionsInfo getOptionsInfo() {
         return getOptionsInfoImp();
     }
@@ -41,6 +41,8 @@ public class GameOptions extends AbstractOptions {
     private static final long serialVersionUID = 4916321960852747706L;
     private static final String GAME_OPTIONS_FILE_NAME = "mmconf/gameoptions.xml"; 
 
+    private transient volatile GameOptionsSnapshot snapshot;
+
     public GameOptions() {
         super();
     }
@@ -316,6 +318,44 @@ public class GameOptions extends AbstractOptions {
         addOption(rpg, OptionsConstants.RPG_BEGIN_SHUTDOWN, false);
     }
 
+    /**
+     * Returns a snapshot of the current option values. Setting the value of any option drops the snapshot, and
+     * the next call takes a new one, so a snapshot is never out of date when it is handed out.
+     *
+     * @return an immutable, array-backed copy of the option values
+     */
+    public GameOptionsSnapshot getSnapshot() {
+        final GameOptionsSnapshot current = snapshot;
+        return (current != null) ? current : takeSnapshot();
+    }
+
+    private synchronized GameOptionsSnapshot takeSnapshot() {
+        if (snapshot == null) {
+            snapshot = new GameOptionsSnapshot(this);
+        }
+        return snapshot;
+    }
+
+    @Override
+    protected synchronized void optionValueChanged(IOption option) {
+        // An option set while a snapshot is being taken waits for it here, and then drops it
+        snapshot = null;
+    }
+
+    /**
+     * @return the value of the option in the current snapshot; see {@link #getSnapshot()}
+     */
+    public boolean booleanOption(OptionHandle handle) {
+        return getSnapshot().booleanOption(handle);
+    }
+
+    /**
+     * @return the value of the option in the current snapshot; see {@link #getSnapshot()}
+     */
+    public int intOption(OptionHandle handle) {
+        return getSnapshot().intOption(handle);
+    }
+
     public Vector<IOption> loadOptions() {
         return loadOptions(new File(GAME_OPTIONS_FILE_NAME), true);
     }
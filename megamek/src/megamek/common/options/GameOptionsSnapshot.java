@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.options;
+
+/**
+ * An immutable copy of the values of a {@link GameOptions}, stored in arrays indexed by {@link OptionHandle}.
+ * A GameOptions keeps its snapshot until an option value is set, so reads are plain array accesses without
+ * hashing or locking, and bot worker threads can read it concurrently with the game thread.
+ *
+ * The values are read through the name based lookups of the source, so a snapshot always agrees with them,
+ * even for a subclass or test double that overrides those lookups.
+ */
+public final class GameOptionsSnapshot {
+    private final boolean[] booleans;
+    private final int[] ints;
+    private final float[] floats;
+    private final String[] strings;
+
+    GameOptionsSnapshot(AbstractOptions options) {
+        final int count = OptionHandle.getOptionCount();
+        booleans = new boolean[count];
+        ints = new int[count];
+        floats = new float[count];
+        strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            final String name = OptionHandle.getOptionName(i);
+            booleans[i] = options.booleanOption(name);
+            if (OptionHandle.getOptionType(i) == IOption.INTEGER) {
+                ints[i] = options.intOption(name);
+            } else if (OptionHandle.getOptionType(i) == IOption.FLOAT) {
+                floats[i] = options.floatOption(name);
+            }
+            final String value = options.stringOption(name);
+            strings[i] = (value == null) ? "" : value;
+        }
+    }
+
+    public boolean booleanOption(OptionHandle handle) {
+        return booleans[handle.getIndex()];
+    }
+
+    public int intOption(OptionHandle handle) {
+        return ints[handle.getIndex()];
+    }
+
+    public float floatOption(OptionHandle handle) {
+        return floats[handle.getIndex()];
+    }
+
+    public String stringOption(OptionHandle handle) {
+        return strings[handle.getIndex()];
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.options;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A game option name that has been resolved once to a fixed index in {@link GameOptionsSnapshot}. Handles are
+ * meant to be kept in static final fields next to the code that reads them, so that hot paths can read an option
+ * with an array access instead of a hashtable lookup by name.
+ *
+ * The type of the option is checked when the handle is created, so a misspelled name or a handle of the wrong
+ * type fails when the owning class is loaded rather than when the option is first read.
+ */
+public final class OptionHandle {
+    private final String name;
+    private final int index;
+    private final int type;
+
+    private OptionHandle(String name, int index, int type) {
+        this.name = name;
+        this.index = index;
+        this.type = type;
+    }
+
+    /**
+     * @return a handle for a boolean game option
+     * @throws IllegalArgumentException if there is no boolean game option with the given name
+     */
+    public static OptionHandle forBoolean(String name) {
+        return resolve(name, IOption.BOOLEAN);
+    }
+
+    /**
+     * @return a handle for an integer game option
+     * @throws IllegalArgumentException if there is no integer game option with the given name
+     */
+    public static OptionHandle forInt(String name) {
+        return resolve(name, IOption.INTEGER);
+    }
+
+    /**
+     * @return a handle for a float game option
+     * @throws IllegalArgumentException if there is no float game option with the given name
+     */
+    public static OptionHandle forFloat(String name) {
+        return resolve(name, IOption.FLOAT);
+    }
+
+    /**
+     * @return a handle for a string or choice game option
+     * @throws IllegalArgumentException if there is no string or choice game option with the given name
+     */
+    public static OptionHandle forString(String name) {
+        final OptionHandle handle = resolve(name, -1);
+        if ((handle.type != IOption.STRING) && (handle.type != IOption.CHOICE)) {
+            throw new IllegalArgumentException("Game option " + name + " is not a string option");
+        }
+        return handle;
+    }
+
+    private static OptionHandle resolve(String name, int expectedType) {
+        final Integer index = Layout.INDEXES.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown game option " + name);
+        }
+        final int type = Layout.TYPES[index];
+        if ((expectedType >= 0) && (type != expectedType)) {
+            throw new IllegalArgumentException("Game option " + name + " has type " + type
+                    + ", expected " + expectedType);
+        }
+        return new OptionHandle(name, index, type);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the number of game options, which is the length of the arrays in a snapshot
+     */
+    static int getOptionCount() {
+        return Layout.NAMES.length;
+    }
+
+    /**
+     * @return the name of the game option at the given index
+     */
+    static String getOptionName(int index) {
+        return Layout.NAMES[index];
+    }
+
+    /**
+     * @return the type of the game option at the given index
+     */
+    static int getOptionType(int index) {
+        return Layout.TYPES[index];
+    }
+
+    @Override
+    public String toString() {
+        return "OptionHandle - " + name;
+    }
+
+    /**
+     * The fixed order of the game options, taken from a default GameOptions instance the first time a handle
+     * is resolved. Names are sorted so the order does not depend on hashtable iteration.
+     */
+    private static final class Layout {
+        private static final String[] NAMES;
+        private static final int[] TYPES;
+        private static final Map<String, Integer> INDEXES = new HashMap<>();
+
+        static {
+            final GameOptions defaults = new GameOptions();
+            final List<String> names = new ArrayList<>();
+            for (Enumeration<IOption> e = defaults.getOptions(); e.hasMoreElements(); ) {
+                names.add(e.nextElement().getName());
+            }
+            Collections.sort(names);
+            NAMES = names.toArray(new String[0]);
+            TYPES = new int[NAMES.length];
+            for (int i = 0; i < NAMES.length; i++) {
+                TYPES[i] = defaults.getOption(NAMES[i]).getType();
+                INDEXES.put(NAMES[i], i);
+            }
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class CachedEntityState {
     private Integer torsoJumpJets;
     private Integer jumpMPNoGravity;
     private Integer numBreachedLegs;
+    private Integer terrainCostProfile;
     
     public CachedEntityState(Entity entity) {
         backingEntity = entity;
@@ -164,4 +165,16 @@ public class CachedEntityState {
         
         return numBreachedLegs;
     }
+    
+    /**
+     * The backing entity's terrain cost profile, used to look up cached terrain costs.
+     * @see MovementCostCache#getTerrainCostProfile(Entity)
+     */
+    public int getTerrainCostProfile() {
+        if (terrainCostProfile == null) {
+            terrainCostProfile = MovementCostCache.getTerrainCostProfile(backingEntity);
+        }
+        
+        return terrainCostProfile;
+    }
 }
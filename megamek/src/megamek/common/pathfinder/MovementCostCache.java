@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.Board;
+import megamek.common.Coords;
+import megamek.common.Entity;
+import megamek.common.EntityMovementMode;
+import megamek.common.Hex;
+import megamek.common.Mech;
+import megamek.common.MiscType;
+import megamek.common.event.BoardEvent;
+import megamek.common.event.BoardListener;
+import megamek.common.options.OptionsConstants;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the terrain MP cost of entering each hex of a board, so that pathfinders compiling thousands of move
+ * steps don't walk the terrain of the same hexes over and over.
+ *
+ * The cost of entering a hex depends on more than the movement mode: pilot abilities, quirks, super-heavy mechs
+ * and some equipment all change it. Entities are therefore grouped into terrain cost profiles (see
+ * {@link #getTerrainCostProfile(Entity)}) that capture everything {@link Hex#movementCost(Entity)} looks at, and
+ * each profile gets its own lazily filled table. Entries are dropped on board hex change events (which building
+ * collapses also fire), and every lookup also checks the hex's terrain modification count so that hexes changed
+ * in place, without an event, are never served stale.
+ */
+public class MovementCostCache implements BoardListener {
+    private static final int SUPER_HEAVY_MECH = 1;
+    private static final int MOUNTAINEER = 1 << 1;
+    private static final int FOOT_CAVALRY = 1 << 2;
+    private static final int FOREST_RANGER = 1 << 3;
+    private static final int ANIMAL_MIMIC = 1 << 4;
+    private static final int SWAMP_BEAST = 1 << 5;
+    private static final int QUAD = 1 << 6;
+    private static final int ANIMALISTIC = 1 << 7;
+    private static final int NAVAL = 1 << 8;
+    private static final int AIRBORNE_VTOL_OR_WIGE = 1 << 9;
+    private static final int DUNE_BUGGY = 1 << 10;
+    private static final int MOVEMENT_MODE_SHIFT = 16;
+
+    private final Board board;
+    private final Map<Integer, CostTable> tables = new ConcurrentHashMap<>();
+
+    public MovementCostCache(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * @return A key that is the same for any two entities that pay the same terrain costs in every hex
+     */
+    public static int getTerrainCostProfile(Entity entity) {
+        int profile = entity.getMovementMode().ordinal() << MOVEMENT_MODE_SHIFT;
+        if ((entity instanceof Mech) && entity.isSuperHeavy()) {
+            profile |= SUPER_HEAVY_MECH;
+        }
+        if (entity.hasAbility(OptionsConstants.PILOT_TM_MOUNTAINEER)) {
+            profile |= MOUNTAINEER;
+        }
+        if (entity.hasAbility(OptionsConstants.INFANTRY_FOOT_CAV)) {
+            profile |= FOOT_CAVALRY;
+        }
+        if (entity.hasAbility(OptionsConstants.PILOT_TM_FOREST_RANGER)) {
+            profile |= FOREST_RANGER;
+        }
+        if (entity.hasAbility(OptionsConstants.PILOT_ANIMAL_MIMIC)) {
+            profile |= ANIMAL_MIMIC;
+        }
+        if (entity.hasAbility(OptionsConstants.PILOT_TM_SWAMP_BEAST)) {
+            profile |= SWAMP_BEAST;
+        }
+        if (entity.entityIsQuad()) {
+            profile |= QUAD;
+        }
+        if ((entity.getMovementMode() == EntityMovementMode.BIPED) && entity.hasQuirk("animalistic")) {
+            profile |= ANIMALISTIC;
+        }
+        if (entity.isNaval()) {
+            profile |= NAVAL;
+        }
+        if (entity.isAirborneVTOLorWIGE()) {
+            profile |= AIRBORNE_VTOL_OR_WIGE;
+        }
+        if (entity.hasWorkingMisc(MiscType.F_DUNE_BUGGY)) {
+            profile |= DUNE_BUGGY;
+        }
+        return profile;
+    }
+
+    /**
+     * @param hex     The hex being entered
+     * @param coords  The position of the hex on this cache's board
+     * @param entity  The entity entering the hex
+     * @param profile The entity's terrain cost profile
+     * @return The terrain MP cost of entering the hex, as per {@link Hex#movementCost(Entity)}
+     */
+    public int getTerrainCost(Hex hex, Coords coords, Entity entity, int profile) {
+        final int width = board.getWidth();
+        final int size = width * board.getHeight();
+        if ((coords == null) || !board.contains(coords)) {
+            return hex.movementCost(entity);
+        }
+
+        CostTable table = tables.computeIfAbsent(profile, p -> new CostTable(size));
+        if (table.size() != size) {
+            table = new CostTable(size);
+            tables.put(profile, table);
+        }
+        return table.getCost((coords.getY() * width) + coords.getX(), hex, entity);
+    }
+
+    /**
+     * Drops every cached cost.
+     */
+    public void clear() {
+        tables.clear();
+    }
+
+    @Override
+    public void boardNewBoard(BoardEvent b) {
+        clear();
+    }
+
+    @Override
+    public void boardChangedHex(BoardEvent b) {
+        final Coords coords = b.getCoords();
+        if ((coords == null) || !board.contains(coords)) {
+            clear();
+            return;
+        }
+        final int index = (coords.getY() * board.getWidth()) + coords.getX();
+        tables.values().forEach(table -> table.invalidate(index));
+    }
+
+    @Override
+    public void boardChangedAllHexes(BoardEvent b) {
+        clear();
+    }
+
+    /**
+     * One table per terrain cost profile. Each slot holds an immutable entry, so lookups need no lock: a
+     * thread either sees a complete entry or none, and two threads filling the same slot store the same cost.
+     */
+    private static class CostTable {
+        private final AtomicReferenceArray<CostEntry> entries;
+
+        private CostTable(int size) {
+            entries = new AtomicReferenceArray<>(size);
+        }
+
+        private int size() {
+            return entries.length();
+        }
+
+        private int getCost(int index, Hex hex, Entity entity) {
+            CostEntry entry = entries.get(index);
+            if ((entry == null) || (entry.hex != hex)
+                    || (entry.modificationCount != hex.getTerrainModificationCount())) {
+                entry = new CostEntry(hex, hex.getTerrainModificationCount(), hex.movementCost(entity));
+                entries.set(index, entry);
+            }
+            return entry.cost;
+        }
+
+        private void invalidate(int index) {
+            if (index < entries.length()) {
+                entries.set(index, null);
+            }
+        }
+    }
+
+    private static class CostEntry {
+        private final Hex hex;
+        private final int modificationCount;
+        private final int cost;
+
+        private CostEntry(Hex hex, int modificationCount, int cost) {
+            this.hex = hex;
+            this.modificationCount = modificationCount;
+            this.cost = cost;
+        }
+    }
+}
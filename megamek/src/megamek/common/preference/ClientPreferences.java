@@ -32,6 +32,7 @@ public class ClientPreferences extends PreferenceStoreProxy {
     public static final String LOCALE = "Locale";
     public static final String MAP_TILESET = "MapTileset";
     public static final String MAX_PATHFINDER_TIME = "MaxPathfinderTime";
+    public static final String BOT_TURN_TIME_LIMIT = "BotTurnTimeLimit";
     public static final String DATA_DIRECTORY = "DataDirectory";
     public static final String LOG_DIRECTORY = "LogDirectory";
     public static final String MECH_DIRECTORY = "MechDirectory";
@@ -66,6 +67,7 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setDefault(LAST_SERVER_PORT, 2346);
         store.setDefault(MAP_TILESET, "saxarba.tileset");
         store.setDefault(MAX_PATHFINDER_TIME, MovePath.DEFAULT_PATHFINDER_TIME_LIMIT);
+        store.setDefault(BOT_TURN_TIME_LIMIT, 0);
         store.setDefault(DATA_DIRECTORY, "data");
         store.setDefault(LOG_DIRECTORY, "logs");
         store.setDefault(MECH_DIRECTORY, store.getDefaultString(DATA_DIRECTORY) + File.separator + "mechfiles");
@@ -139,6 +141,14 @@ public class ClientPreferences extends PreferenceStoreProxy {
         return store.getInt(MAX_PATHFINDER_TIME);
     }
 
+    /**
+     * @return the time in milliseconds a bot may spend on one turn before it submits the best move
+     * found so far, or 0 for no limit
+     */
+    public int getBotTurnTimeLimit() {
+        return store.getInt(BOT_TURN_TIME_LIMIT);
+    }
+
     public String getDataDirectory() {
         return store.getString(DATA_DIRECTORY);
     }
@@ -249,6 +259,10 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setValue(MAX_PATHFINDER_TIME, i);
     }
 
+    public void setBotTurnTimeLimit(int millis) {
+        store.setValue(BOT_TURN_TIME_LIMIT, millis);
+    }
+
     public void setGameLogFilename(String name) {
         store.setValue(GAMELOG_FILENAME, name);
     }
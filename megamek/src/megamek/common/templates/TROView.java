@@ -46,11 +46,16 @@ public class TROView {
 
     private Template template;
     private final Map<String, Object> model = new HashMap<>();
-    private final EntityVerifier verifier = EntityVerifier
-            .getInstance(new MegaMekFile(Configuration.unitsDir(), EntityVerifier.CONFIG_FILENAME).getFile());
+    private final EntityVerifier verifier = VerifierHolder.verifier;
 
     private boolean includeFluff = true;
 
+    /** The verifier options are only read once, as loading them is slower than filling in a template */
+    private static class VerifierHolder {
+        private static final EntityVerifier verifier = EntityVerifier
+                .getInstance(new MegaMekFile(Configuration.unitsDir(), EntityVerifier.CONFIG_FILENAME).getFile());
+    }
+
     protected TROView() {
     }
 
@@ -80,8 +85,7 @@ public class TROView {
         }
         if (null != view.getTemplateFileName(html)) {
             try {
-                view.template = TemplateConfiguration.getInstance()
-                        .getTemplate("tro/" + view.getTemplateFileName(html));
+                view.template = TemplateConfiguration.getTemplate("tro/" + view.getTemplateFileName(html));
             } catch (final IOException e) {
                 LogManager.getLogger().error("", e);
             }
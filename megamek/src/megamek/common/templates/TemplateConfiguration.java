@@ -15,23 +15,51 @@
 package megamek.common.templates;
 
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import freemarker.template.TemplateExceptionHandler;
 
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Configuration for FreeMarker templates
  *
+ * The templates are loaded from the classpath and do not change while running, so each is parsed once
+ * and the {@link Template} is reused for all later readouts. Templates can be processed by several
+ * threads at the same time.
+ *
  * @author Neoancient
  *
  */
 public final class TemplateConfiguration {
 
-    private static Configuration configuration = null;
+    private static final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    private static class ConfigurationHolder {
+        private static final Configuration configuration = createConfiguration();
+    }
 
     public static Configuration getInstance() {
-        if (null == configuration) {
-            configuration = createConfiguration();
+        return ConfigurationHolder.configuration;
+    }
+
+    /**
+     * Returns the template with the given name, parsing it on first use.
+     *
+     * @param name the path of the template, relative to the template directory
+     * @return the template
+     * @throws IOException if the template cannot be found or parsed
+     */
+    public static Template getTemplate(String name) throws IOException {
+        Template template = templates.get(name);
+        if (template == null) {
+            template = getInstance().getTemplate(name);
+            if (template != null) {
+                templates.putIfAbsent(name, template);
+            }
         }
-        return configuration;
+        return template;
     }
 
     private static Configuration createConfiguration() {
@@ -41,6 +69,8 @@ public final class TemplateConfiguration {
         cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
         cfg.setLogTemplateExceptions(false);
         cfg.setWrapUncheckedExceptions(true);
+        // The templates are part of the program and never need to be checked for changes
+        cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
         return cfg;
     }
 }
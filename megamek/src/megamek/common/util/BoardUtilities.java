@@ -21,6 +21,7 @@ import megamek.common.util.generator.ElevationGenerator;
 import megamek.common.util.generator.SimplexGenerator;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 public class BoardUtilities {
     private static final List<ElevationGenerator> elevationGenerators = new ArrayList<>();
@@ -29,6 +30,38 @@ public class BoardUtilities {
         elevationGenerators.add(new SimplexGenerator());
     }
 
+    /**
+     * The random numbers of the current stage of a seeded map generation on this thread; unset outside
+     * of {@link #generateRandom(MapSettings, long)}, in which case the game's random numbers are used.
+     */
+    private static final ThreadLocal<MMRandom.SplitRandom> stageRandom = new ThreadLocal<>();
+
+    /**
+     * @return a random number from 0 (inclusive) to maxValue (exclusive), taken from the current stage of
+     * a seeded map generation if there is one
+     */
+    static int randomInt(int maxValue) {
+        MMRandom.SplitRandom random = stageRandom.get();
+        return (random == null) ? Compute.randomInt(maxValue) : random.randomInt(maxValue);
+    }
+
+    /**
+     * @return a seed for an elevation generator, from the current stage of a seeded map generation if
+     * there is one
+     */
+    private static long randomSeed() {
+        MMRandom.SplitRandom random = stageRandom.get();
+        return (random == null) ? RandomStream.MAP_GENERATION.get().randomLong() : random.randomLong();
+    }
+
+    /**
+     * Starts the next stage of a seeded map generation. Each stage draws from its own fork of the map's
+     * generator, so the random numbers used by one stage don't change those of the later stages.
+     */
+    private static void beginStage(MMRandom.SplitRandom mapRandom) {
+        stageRandom.set(mapRandom.fork());
+    }
+
     /** @return how many elevation generator algorithms there are; three built-in */
     public static int getAmountElevationGenerators() {
         return 3 + elevationGenerators.size();
@@ -109,11 +142,63 @@ public class BoardUtilities {
     }
 
     /**
-     * Generates a Random Board
+     * Generates a Random Board from the seed of the settings or, if they have none, seeded from the map
+     * generation random stream
      *
      * @param mapSettings The parameters for random board creation.
      */
     public static Board generateRandom(MapSettings mapSettings) {
+        Long seed = mapSettings.getSeed();
+        return generateRandom(mapSettings, (seed != null) ? seed : RandomStream.MAP_GENERATION.get().randomLong());
+    }
+
+    /**
+     * Generates the given number of random boards in parallel. The seeds are drawn in order before any
+     * board is generated, from the seed of the settings if they have one and from the map generation
+     * random stream otherwise, so the boards only depend on that seed or stream and not on the order in
+     * which the threads finish.
+     *
+     * @param mapSettings The parameters for random board creation.
+     * @param count the number of boards
+     * @return the boards
+     */
+    public static Board[] generateRandom(MapSettings mapSettings, int count) {
+        MMRandom.SplitRandom seedRandom = (mapSettings.getSeed() != null)
+                ? new MMRandom.SplitRandom(mapSettings.getSeed())
+                : RandomStream.MAP_GENERATION.get();
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = seedRandom.randomLong();
+        }
+        Board[] result = new Board[count];
+        IntStream.range(0, count).parallel()
+                .forEach(i -> result[i] = generateRandom(mapSettings, seeds[i]));
+        return result;
+    }
+
+    /**
+     * Generates a Random Board from an explicit seed. The same settings and seed always give the same
+     * board. The generation runs in stages (elevation, mountains and cliffs, terrain, craters and river,
+     * special effects, city), each drawing from its own fork of the seed.
+     *
+     * @param mapSettings The parameters for random board creation.
+     * @param seed The seed of the board
+     */
+    public static Board generateRandom(MapSettings mapSettings, long seed) {
+        MMRandom.SplitRandom previous = stageRandom.get();
+        try {
+            return generateStaged(mapSettings, new MMRandom.SplitRandom(seed));
+        } finally {
+            if (previous == null) {
+                stageRandom.remove();
+            } else {
+                stageRandom.set(previous);
+            }
+        }
+    }
+
+    private static Board generateStaged(MapSettings mapSettings, MMRandom.SplitRandom mapRandom) {
+        beginStage(mapRandom);
         int[][] elevationMap = new int[mapSettings.getBoardWidth()][mapSettings.getBoardHeight()];
         double sizeScale = (double) (mapSettings.getBoardWidth() * mapSettings.getBoardHeight())
                 / (16d * 17d);
@@ -152,22 +237,23 @@ public class BoardUtilities {
             }
         }
 
+        beginStage(mapRandom);
         int peaks = mapSettings.getMountainPeaks();
         while (peaks > 0) {
             peaks--;
             int mountainHeight = mapSettings.getMountainHeightMin()
-                    + Compute.randomInt(1 + mapSettings.getMountainHeightMax()
+                    + randomInt(1 + mapSettings.getMountainHeightMax()
                             - mapSettings.getMountainHeightMin());
             int mountainWidth = mapSettings.getMountainWidthMin()
-                    + Compute.randomInt(1 + mapSettings.getMountainWidthMax()
+                    + randomInt(1 + mapSettings.getMountainWidthMax()
                             - mapSettings.getMountainWidthMin());
             int mapWidth = result.getWidth();
             int mapHeight = result.getHeight();
 
             // put the peak somewhere in the middle of the map...
             Coords peak = new Coords(mapWidth / 4
-                    + Compute.randomInt((mapWidth + 1) / 2), mapHeight / 4
-                    + Compute.randomInt((mapHeight + 1) / 2));
+                    + randomInt((mapWidth + 1) / 2), mapHeight / 4
+                    + randomInt((mapHeight + 1) / 2));
 
             generateMountain(result, mountainWidth, peak, mountainHeight,
                     mapSettings.getMountainStyle());
@@ -178,9 +264,10 @@ public class BoardUtilities {
         }
 
         // Add the woods
+        beginStage(mapRandom);
         int count = mapSettings.getMinForestSpots();
         if (mapSettings.getMaxForestSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxForestSpots());
+            count += randomInt(mapSettings.getMaxForestSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -192,7 +279,7 @@ public class BoardUtilities {
         // Add foliage (1 elevation high woods)
         count = mapSettings.getMinFoliageSpots();
         if (mapSettings.getMaxFoliageSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxFoliageSpots());
+            count += randomInt(mapSettings.getMaxFoliageSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -204,7 +291,7 @@ public class BoardUtilities {
         // Add the rough
         count = mapSettings.getMinRoughSpots();
         if (mapSettings.getMaxRoughSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxRoughSpots());
+            count += randomInt(mapSettings.getMaxRoughSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -216,7 +303,7 @@ public class BoardUtilities {
         // Add the sand
         count = mapSettings.getMinSandSpots();
         if (mapSettings.getMaxSandSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxSandSpots());
+            count += randomInt(mapSettings.getMaxSandSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -228,7 +315,7 @@ public class BoardUtilities {
         // Add the planted field
         count = mapSettings.getMinPlantedFieldSpots();
         if (mapSettings.getMaxPlantedFieldSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxPlantedFieldSpots());
+            count += randomInt(mapSettings.getMaxPlantedFieldSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -240,7 +327,7 @@ public class BoardUtilities {
         // Add the swamp
         count = mapSettings.getMinSwampSpots();
         if (mapSettings.getMaxSwampSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxSwampSpots());
+            count += randomInt(mapSettings.getMaxSwampSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -252,7 +339,7 @@ public class BoardUtilities {
         // Add the Fortified hexes
         count = mapSettings.getMinFortifiedSpots();
         if (mapSettings.getMaxFortifiedSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxFortifiedSpots());
+            count += randomInt(mapSettings.getMaxFortifiedSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -264,7 +351,7 @@ public class BoardUtilities {
         // Add the rubble
         count = mapSettings.getMinRubbleSpots();
         if (mapSettings.getMaxRubbleSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxRubbleSpots());
+            count += randomInt(mapSettings.getMaxRubbleSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -276,7 +363,7 @@ public class BoardUtilities {
         // Add the water
         count = mapSettings.getMinWaterSpots();
         if (mapSettings.getMaxWaterSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxWaterSpots());
+            count += randomInt(mapSettings.getMaxWaterSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -287,7 +374,7 @@ public class BoardUtilities {
         // Add the pavements
         count = mapSettings.getMinPavementSpots();
         if (mapSettings.getMaxPavementSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxPavementSpots());
+            count += randomInt(mapSettings.getMaxPavementSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -298,7 +385,7 @@ public class BoardUtilities {
         // Add the ice
         count = mapSettings.getMinIceSpots();
         if (mapSettings.getMaxIceSpots() > 0) {
-            count += Compute.randomInt(mapSettings.getMaxIceSpots());
+            count += randomInt(mapSettings.getMaxIceSpots());
         }
         count = (int) Math.round(count * sizeScale);
         for (int i = 0; i < count; i++) {
@@ -307,36 +394,39 @@ public class BoardUtilities {
         }
 
         // Add the craters
-        if (Compute.randomInt(100) < mapSettings.getProbCrater()) {
+        beginStage(mapRandom);
+        if (randomInt(100) < mapSettings.getProbCrater()) {
             addCraters(result, mapSettings.getMinRadius(), mapSettings.getMaxRadius(),
                     (int) (mapSettings.getMinCraters() * sizeScale),
                     (int) (mapSettings.getMaxCraters() * sizeScale));
         }
 
         // Add the river
-        if (Compute.randomInt(100) < mapSettings.getProbRiver()) {
+        if (randomInt(100) < mapSettings.getProbRiver()) {
             addRiver(result, reverseHex);
         }
 
         // Add special effects
-        if (Compute.randomInt(100) < mapSettings.getProbFlood()) {
+        beginStage(mapRandom);
+        if (randomInt(100) < mapSettings.getProbFlood()) {
             postProcessFlood(nb, mapSettings.getFxMod());
         }
 
-        if (Compute.randomInt(100) < mapSettings.getProbDrought()) {
+        if (randomInt(100) < mapSettings.getProbDrought()) {
             postProcessDrought(nb, mapSettings.getFxMod());
         }
 
-        if (Compute.randomInt(100) < mapSettings.getProbFreeze()) {
+        if (randomInt(100) < mapSettings.getProbFreeze()) {
             postProcessDeepFreeze(nb, mapSettings.getFxMod());
         }
 
-        if (Compute.randomInt(100) < mapSettings.getProbForestFire()) {
+        if (randomInt(100) < mapSettings.getProbForestFire()) {
             postProcessForestFire(nb, mapSettings.getFxMod());
         }
 
         // Add the road
-        boolean roadNeeded = Compute.randomInt(100) < mapSettings.getProbRoad();
+        beginStage(mapRandom);
+        boolean roadNeeded = randomInt(100) < mapSettings.getProbRoad();
 
         // add buildings
         ArrayList<BuildingTemplate> buildings = mapSettings.getBoardBuildings();
@@ -395,15 +485,16 @@ public class BoardUtilities {
      */
     protected static void placeSomeTerrain(Board board, int terrainType, int probMore, int minHexes,
                                            int maxHexes, Map<Hex, Point> reverseHex, boolean exclusive) {
-        Point p = new Point(Compute.randomInt(board.getWidth()), Compute.randomInt(board.getHeight()));
+        Point p = new Point(randomInt(board.getWidth()), randomInt(board.getHeight()));
         int count = minHexes;
         if ((maxHexes - minHexes) > 0) {
-            count += Compute.randomInt(maxHexes - minHexes);
+            count += randomInt(maxHexes - minHexes);
         }
         Hex field;
 
-        HashSet<Hex> alreadyUsed = new HashSet<>();
-        HashSet<Hex> unUsed = new HashSet<>();
+        // Hexes hash by identity, so only linked sets iterate in the same order for the same seed
+        HashSet<Hex> alreadyUsed = new LinkedHashSet<>();
+        HashSet<Hex> unUsed = new LinkedHashSet<>();
         field = board.getHex(p.x, p.y);
         if (!field.containsTerrain(terrainType)) {
             unUsed.add(field);
@@ -415,7 +506,7 @@ public class BoardUtilities {
             if (unUsed.isEmpty()) {
                 return;
             }
-            int which = Compute.randomInt(unUsed.size());
+            int which = randomInt(unUsed.size());
             Iterator<Hex> iter = unUsed.iterator();
             for (int n = 0; n < (which - 1); n++) {
                 iter.next();
@@ -424,7 +515,7 @@ public class BoardUtilities {
             if (exclusive) {
                 field.removeAllTerrains();
             }
-            int tempInt = (Compute.randomInt(100) < probMore) ? 2 : 1;
+            int tempInt = (randomInt(100) < probMore) ? 2 : 1;
             Terrain tempTerrain = new Terrain(terrainType, tempInt);
             field.addTerrain(tempTerrain);
             if (terrainType == Terrains.WOODS) {
@@ -468,15 +559,15 @@ public class BoardUtilities {
      */
     protected static void placeFoliage(Board board, int terrainType, int probMore, int minHexes,
                                        int maxHexes, Map<Hex, Point> reverseHex, boolean exclusive) {
-        Point p = new Point(Compute.randomInt(board.getWidth()), Compute.randomInt(board.getHeight()));
+        Point p = new Point(randomInt(board.getWidth()), randomInt(board.getHeight()));
         int count = minHexes;
         if ((maxHexes - minHexes) > 0) {
-            count += Compute.randomInt(maxHexes - minHexes);
+            count += randomInt(maxHexes - minHexes);
         }
         Hex field;
 
-        HashSet<Hex> alreadyUsed = new HashSet<>();
-        HashSet<Hex> unUsed = new HashSet<>();
+        HashSet<Hex> alreadyUsed = new LinkedHashSet<>();
+        HashSet<Hex> unUsed = new LinkedHashSet<>();
         field = board.getHex(p.x, p.y);
         if (!field.containsTerrain(terrainType)) {
             unUsed.add(field);
@@ -488,7 +579,7 @@ public class BoardUtilities {
             if (unUsed.isEmpty()) {
                 return;
             }
-            int which = Compute.randomInt(unUsed.size());
+            int which = randomInt(unUsed.size());
             Iterator<Hex> iter = unUsed.iterator();
             for (int n = 0; n < (which - 1); n++) {
                 iter.next();
@@ -497,7 +588,7 @@ public class BoardUtilities {
             if (exclusive) {
                 field.removeAllTerrains();
             }
-            int tempInt = (Compute.randomInt(100) < probMore) ? 2 : 1;
+            int tempInt = (randomInt(100) < probMore) ? 2 : 1;
             Terrain tempTerrain = new Terrain(terrainType, tempInt);
             field.addTerrain(tempTerrain);
             field.addTerrain(new Terrain(Terrains.FOLIAGE_ELEV, 1));
@@ -522,7 +613,7 @@ public class BoardUtilities {
     private static void findAllUnused(Board board, int terrainType, Set<Hex> alreadyUsed,
                                       Set<Hex> unUsed, Hex searchFrom, Map<Hex, Point> reverseHex) {
         Hex field;
-        Set<Hex> notYetUsed = new HashSet<>();
+        Set<Hex> notYetUsed = new LinkedHashSet<>();
 
         notYetUsed.add(searchFrom);
         do {
@@ -553,7 +644,7 @@ public class BoardUtilities {
         // Calculate number of craters to generate.
         int numberCraters = minCraters;
         if (maxCraters > minCraters) {
-            numberCraters += Compute.randomInt(maxCraters - minCraters);
+            numberCraters += randomInt(maxCraters - minCraters);
         }
 
         // Stay within the board boundaries.
@@ -566,16 +657,16 @@ public class BoardUtilities {
         for (int i = 0; i < numberCraters; i++) {
 
             // Locate the center of the crater.
-            Point center = new Point(Compute.randomInt(width), Compute.randomInt(height));
+            Point center = new Point(randomInt(width), randomInt(height));
 
             // What is the diameter of this crater?
-            int radius = Compute.randomInt(maxRadius - minRadius) + minRadius;
+            int radius = randomInt(maxRadius - minRadius) + minRadius;
 
             // Terrestrial crater depth to radius ratio is typically 1:5 to 1:7.
             // Hexes are 30m across and levels are 6m high.
             // This ends up with rather deep craters (a 6-diameter crater can have a depth of 4-6).  For gamability
             // and verisimilitude, we're making crater's more shallow than is typical (1:8 to 1:10 ratio).
-            int divisor = Compute.randomInt(2) + 8;
+            int divisor = randomInt(2) + 8;
             int radiusM = radius * 30;
             int maxDepthM = Math.max(6, radiusM / divisor);
             int maxDepth = maxDepthM / 6;
@@ -680,7 +771,7 @@ public class BoardUtilities {
      */
     public static void addRiver(Board board, Map<Hex, Point> reverseHex) {
         int minElevation = Integer.MAX_VALUE;
-        HashSet<Hex> riverHexes = new HashSet<>();
+        HashSet<Hex> riverHexes = new LinkedHashSet<>();
         Hex field;
         Point p = null;
         int direction = 0;
@@ -695,22 +786,22 @@ public class BoardUtilities {
             return;
         }
         /* First select start and the direction */
-        switch (Compute.randomInt(4)) {
+        switch (randomInt(4)) {
             case 0:
-                p = new Point(0, Compute.randomInt(5) - 2 + height / 2);
-                direction = Compute.randomInt(2) + 1;
+                p = new Point(0, randomInt(5) - 2 + height / 2);
+                direction = randomInt(2) + 1;
                 nextLeft = direction - 1;
                 nextRight = direction + 1;
                 break;
             case 1:
-                p = new Point(width - 1, Compute.randomInt(5) - 2 + height / 2);
-                direction = Compute.randomInt(2) + 4;
+                p = new Point(width - 1, randomInt(5) - 2 + height / 2);
+                direction = randomInt(2) + 4;
                 nextLeft = direction - 1;
                 nextRight = (direction + 1) % 6;
                 break;
             case 2:
             case 3:
-                p = new Point(Compute.randomInt(5) - 2 + width / 2, 0);
+                p = new Point(randomInt(5) - 2 + width / 2, 0);
                 direction = 2;
                 nextRight = 3;
                 nextLeft = 4;
@@ -726,11 +817,11 @@ public class BoardUtilities {
             riverHexes.add(field);
             p = reverseHex.get(field);
             /* then maybe the left and right neighbours */
-            riverHexes.addAll(extendRiverToSide(board, p, Compute.randomInt(3),
+            riverHexes.addAll(extendRiverToSide(board, p, randomInt(3),
                     nextLeft, reverseHex));
-            riverHexes.addAll(extendRiverToSide(board, p, Compute.randomInt(3),
+            riverHexes.addAll(extendRiverToSide(board, p, randomInt(3),
                     nextRight, reverseHex));
-            switch (Compute.randomInt(4)) {
+            switch (randomInt(4)) {
                 case 0:
                     field = board.getHexInDir(p.x, p.y, (direction + 5) % 6);
                     break;
@@ -745,7 +836,7 @@ public class BoardUtilities {
         } while (field != null);
 
         /* search the elevation for the river */
-        HashSet<Hex> tmpRiverHexes = new HashSet<>(riverHexes);
+        HashSet<Hex> tmpRiverHexes = new LinkedHashSet<>(riverHexes);
         while (!tmpRiverHexes.isEmpty()) {
             Iterator<Hex> iter = tmpRiverHexes.iterator();
             field = iter.next();
@@ -784,7 +875,7 @@ public class BoardUtilities {
     private static Set<Hex> extendRiverToSide(Board board, Point hexloc, int width, int direction,
                                               Map<Hex, Point> reverseHex) {
         Point current = new Point(hexloc);
-        Set<Hex> result = new HashSet<>();
+        Set<Hex> result = new LinkedHashSet<>();
         Hex hex;
 
         hex = board.getHexInDir(current.x, current.y, direction);
@@ -844,7 +935,7 @@ public class BoardUtilities {
             } else if (field.containsTerrain(Terrains.SWAMP)) {
                 field.removeTerrain(Terrains.SWAMP);
                 if (field.terrainsPresent() == 0) {
-                    if (Compute.randomInt(100) < 30) {
+                    if (randomInt(100) < 30) {
                         // if no other terrains present, 30% chance to change to
                         // rough
                         field.addTerrain(new Terrain(Terrains.ROUGH, 1));
@@ -869,7 +960,7 @@ public class BoardUtilities {
             field = hexSet[n];
             level = field.terrainLevel(Terrains.WOODS);
             if (level != Terrain.LEVEL_NONE) {
-                severity = Compute.randomInt(5) - 2 + modifier;
+                severity = randomInt(5) - 2 + modifier;
                 newlevel = level - severity;
 
                 if (newlevel <= level) {
@@ -895,7 +986,7 @@ public class BoardUtilities {
         int n;
         Hex field;
         int level, newlevel;
-        int severity = 1 + Compute.randomInt(3) + modifier;
+        int severity = 1 + randomInt(3) + modifier;
         if (severity < 0) {
             return;
         }
@@ -905,7 +996,7 @@ public class BoardUtilities {
             if (field.containsTerrain(Terrains.SWAMP)) {
                 field.removeTerrain(Terrains.SWAMP); // any swamps are dried
                                                         // up to hardened mud
-                if ((field.terrainsPresent() == 0) && (Compute.randomInt(100) < 30)) {
+                if ((field.terrainsPresent() == 0) && (randomInt(100) < 30)) {
                     // if no other terrains present, 30% chance to change to
                     // rough
                     field.addTerrain(new Terrain(Terrains.ROUGH, 1));
@@ -990,7 +1081,7 @@ public class BoardUtilities {
 
                 findCliffNeighbours(board, c, candidate, ignore);
                 // is the candidate interesting (at least 3 hexes)?
-                if ((candidate.size() >= 3) && (Compute.randomInt(100) < modifier)) {
+                if ((candidate.size() >= 3) && (randomInt(100) < modifier)) {
                     if (elevation > 0) {
                         elevation--;
                     } else {
@@ -1091,7 +1182,7 @@ public class BoardUtilities {
                                          int invertProb, int invertNegative, int[][] elevationMap,
                                          int algorithm) {
         int minLevel = 0;
-        boolean invert = (Compute.randomInt(100) < invertProb);
+        boolean invert = (randomInt(100) < invertProb);
 
         /* init elevation map with 0 */
         for (int w = 0; w < width; w++) {
@@ -1114,7 +1205,8 @@ public class BoardUtilities {
             default:
                 // Non-hardcoded generators, if we have any
                 if ((algorithm > 2) && (algorithm - 3 < elevationGenerators.size())) {
-                    elevationGenerators.get(algorithm - 3).generate(hilliness, width, height, elevationMap);
+                    elevationGenerators.get(algorithm - 3).generate(hilliness, width, height, elevationMap,
+                            randomSeed());
                 }
         }
 
@@ -1136,7 +1228,8 @@ public class BoardUtilities {
         int[] elevationCount = new int[range + 1];
         for (int w = 0; w < width; w++) {
             for (int h = 0; h < height; h++) {
-                elevationMap[w][h] = (int) Math.ceil(elevationMap[w][h] * scale) + inc;
+                // Rounding up may take the highest hexes one level above the range
+                elevationMap[w][h] = Math.min(range, (int) Math.ceil(elevationMap[w][h] * scale) + inc);
                 elevationCount[elevationMap[w][h]]++;
             }
         }
@@ -1179,7 +1272,7 @@ public class BoardUtilities {
                 int distance = c.distance(centre);
                 int elev = (100 * height * (width - distance)) / width;
                 elev = (elev / 100)
-                        + (Compute.randomInt(100) < (elev % 100) ? 1 : 0);
+                        + (randomInt(100) < (elev % 100) ? 1 : 0);
 
                 Hex hex = board.getHex(c);
 
@@ -1349,23 +1442,23 @@ public class BoardUtilities {
             /*
              * select which side should be decremented, and which incremented
              */
-            sideA = (Compute.randomInt(2) == 0) ? -1 : 1;
+            sideA = (randomInt(2) == 0) ? -1 : 1;
             sideB = -sideA;
-            type = Compute.randomInt(6);
+            type = randomInt(6);
             /*
              * 6 different lines in rectangular area from border to border
              * possible
              */
             switch (type) {
                 case 0: /* left to upper border */
-                    p1.setLocation(0, Compute.randomInt(height));
-                    p2.setLocation(Compute.randomInt(width), height - 1);
+                    p1.setLocation(0, randomInt(height));
+                    p2.setLocation(randomInt(width), height - 1);
                     markSides(p1, p2, sideB, sideA, elevationMap, height);
                     markRect(p2.x, width, sideA, elevationMap, height);
                     break;
                 case 1: /* upper to lower border */
-                    p1.setLocation(Compute.randomInt(width), 0);
-                    p2.setLocation(Compute.randomInt(width), height - 1);
+                    p1.setLocation(randomInt(width), 0);
+                    p2.setLocation(randomInt(width), height - 1);
                     if (p1.x < p2.x) {
                         markSides(p1, p2, sideA, sideB, elevationMap, height);
                     } else {
@@ -1375,25 +1468,25 @@ public class BoardUtilities {
                     markRect(p2.x, width, sideB, elevationMap, height);
                     break;
                 case 2: /* upper to right border */
-                    p1.setLocation(Compute.randomInt(width), height - 1);
-                    p2.setLocation(width, Compute.randomInt(height));
+                    p1.setLocation(randomInt(width), height - 1);
+                    p2.setLocation(width, randomInt(height));
                     markSides(p1, p2, sideB, sideA, elevationMap, height);
                     markRect(0, p1.x, sideA, elevationMap, height);
                     break;
                 case 3: /* left to right border */
-                    p1.setLocation(0, Compute.randomInt(height));
-                    p2.setLocation(width, Compute.randomInt(height));
+                    p1.setLocation(0, randomInt(height));
+                    p2.setLocation(width, randomInt(height));
                     markSides(p1, p2, sideA, sideB, elevationMap, height);
                     break;
                 case 4: /* left to lower border */
-                    p1.setLocation(0, Compute.randomInt(height));
-                    p2.setLocation(Compute.randomInt(width), 0);
+                    p1.setLocation(0, randomInt(height));
+                    p2.setLocation(randomInt(width), 0);
                     markSides(p1, p2, sideB, sideA, elevationMap, height);
                     markRect(p2.x, width, sideB, elevationMap, height);
                     break;
                 case 5: /* lower to right border */
-                    p1.setLocation(Compute.randomInt(width), 0);
-                    p2.setLocation(width, Compute.randomInt(height));
+                    p1.setLocation(randomInt(width), 0);
+                    p2.setLocation(width, randomInt(height));
                     markSides(p1, p2, sideB, sideA, elevationMap, height);
                     markRect(0, p1.x, sideB, elevationMap, height);
                     break;
@@ -1569,8 +1662,7 @@ public class BoardUtilities {
      */
     private static int normRNG(int factor) {
         factor++;
-        return (2 * (Compute.randomInt(factor) + Compute.randomInt(factor) + Compute
-                .randomInt(factor)) - 3 * (factor - 1)) / 32;
+        return (2 * (randomInt(factor) + randomInt(factor) + randomInt(factor)) - 3 * (factor - 1)) / 32;
     }
 
     /**
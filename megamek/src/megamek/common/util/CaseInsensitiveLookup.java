@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util;
+
+import megamek.common.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable map from names to values that ignores the case of the names. Lookups hash and compare
+ * the characters of the name directly, so unlike a map keyed by lower-cased names they need no copy of
+ * the name. As the map never changes after it is created, it can be read from any number of threads
+ * without locking.
+ *
+ * The names are held in an open addressing table of indices into the value array.
+ */
+public final class CaseInsensitiveLookup<V> {
+    private static final int EMPTY = -1;
+
+    private final String[] names;
+    private final Object[] values;
+    private final int[] table;
+    private final int mask;
+    private final int size;
+
+    /**
+     * Creates a lookup holding the given entries. When several names differ only in case, the value of
+     * the one that comes last in the map's iteration order is kept.
+     *
+     * @param entries the names and their values
+     */
+    public CaseInsensitiveLookup(Map<String, ? extends V> entries) {
+        int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        mask = capacity - 1;
+        String[] nameList = new String[entries.size()];
+        Object[] valueList = new Object[entries.size()];
+
+        int size = 0;
+        for (Map.Entry<String, ? extends V> entry : entries.entrySet()) {
+            int slot = find(nameList, entry.getKey());
+            if (table[slot] == EMPTY) {
+                table[slot] = size;
+                nameList[size] = entry.getKey();
+                size++;
+            }
+            valueList[table[slot]] = entry.getValue();
+        }
+        names = nameList;
+        values = valueList;
+        this.size = size;
+    }
+
+    /**
+     * @param name the name, in any case
+     * @return the value stored for the name, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(@Nullable CharSequence name) {
+        if (name == null) {
+            return null;
+        }
+        int index = table[find(names, name)];
+        return (index == EMPTY) ? null : (V) values[index];
+    }
+
+    /**
+     * @return the number of distinct names in this lookup
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the slot holding the name, or the empty slot where it would be stored
+     */
+    private int find(String[] nameList, CharSequence name) {
+        int slot = hash(name) & mask;
+        while ((table[slot] != EMPTY) && !equalsIgnoreCase(nameList[table[slot]], name)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(CharSequence name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(name.charAt(i));
+        }
+        // spread the bits, as only the lowest ones select the slot
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean equalsIgnoreCase(String stored, CharSequence name) {
+        if (stored.length() != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (Character.toLowerCase(stored.charAt(i)) != Character.toLowerCase(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util;
+
+import org.apache.logging.log4j.LogManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the initialization of independent subsystems, such as the equipment types or the unit cache, in
+ * parallel on a bounded pool of threads. Each task names the tasks it depends on and is only started
+ * once they have finished. Readiness of every task is exposed as a future, so that code needing a
+ * subsystem can wait for it (or be notified) instead of initializing it on first use. When all tasks
+ * have finished, the time taken by each is logged.
+ *
+ * Subsystems that load on their own threads are added with {@link #addAsync}, so that no thread waits
+ * for them.
+ *
+ * Tasks must be added before {@link #start()} is called. A failing task is logged; the tasks depending
+ * on it are still run, as subsystems generally also initialize on first use.
+ */
+public class StartupOrchestrator {
+
+    /**
+     * A subsystem initialization that may throw.
+     */
+    @FunctionalInterface
+    public interface StartupTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * A subsystem initialization that runs on threads of its own. It starts the subsystem and returns
+     * right away; the returned stage completes when the subsystem is ready.
+     */
+    @FunctionalInterface
+    public interface AsyncStartupTask {
+        CompletionStage<?> start() throws Exception;
+    }
+
+    private final int threads;
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+    private final CompletableFuture<Void> allReady = new CompletableFuture<>();
+    private ExecutorService pool;
+    private long startTime;
+
+    /**
+     * Creates an orchestrator running at most one task per available processor, but no more than four,
+     * at the same time.
+     */
+    public StartupOrchestrator() {
+        this(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * @param threads the number of tasks that may run at the same time
+     */
+    public StartupOrchestrator(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Adds a task.
+     *
+     * @param name         the name of the task, used for its readiness and in the log
+     * @param task         the initialization to run
+     * @param dependencies the names of tasks, added before this one, that must finish before it starts
+     * @return this orchestrator
+     * @throws IllegalStateException if the orchestrator was already started, the name is taken or a
+     *                               dependency is unknown
+     */
+    public StartupOrchestrator add(String name, StartupTask task, String... dependencies) {
+        return addAsync(name, () -> {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        }, dependencies);
+    }
+
+    /**
+     * Adds a task for a subsystem that initializes on its own threads. The task only takes up a thread
+     * of this orchestrator while it starts the subsystem, and counts as finished when the stage it
+     * returns completes.
+     *
+     * @param name         the name of the task, used for its readiness and in the log
+     * @param task         starts the subsystem and returns its readiness
+     * @param dependencies the names of tasks, added before this one, that must finish before it starts
+     * @return this orchestrator
+     * @throws IllegalStateException if the orchestrator was already started, the name is taken or a
+     *                               dependency is unknown
+     */
+    public synchronized StartupOrchestrator addAsync(String name, AsyncStartupTask task,
+                                                     String... dependencies) {
+        if (pool != null) {
+            throw new IllegalStateException("Cannot add startup task " + name + " after starting");
+        } else if (tasks.containsKey(name)) {
+            throw new IllegalStateException("Duplicate startup task " + name);
+        }
+        List<Task> required = new ArrayList<>();
+        for (String dependency : dependencies) {
+            Task requiredTask = tasks.get(dependency);
+            if (requiredTask == null) {
+                throw new IllegalStateException("Startup task " + name + " depends on unknown task " + dependency);
+            }
+            required.add(requiredTask);
+        }
+        tasks.put(name, new Task(name, task, required));
+        return this;
+    }
+
+    /**
+     * Starts all tasks whose dependencies are met and returns immediately. The others follow as their
+     * dependencies finish. Calling this again has no effect.
+     */
+    public synchronized void start() {
+        if (pool != null) {
+            return;
+        }
+        pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Startup Worker");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        startTime = System.nanoTime();
+        List<CompletableFuture<Void>> all = new ArrayList<>();
+        for (Task task : tasks.values()) {
+            CompletableFuture<?>[] required = task.dependencies.stream().map(t -> t.done)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(required).whenComplete((r, ex) -> pool.execute(task::run));
+            all.add(task.done);
+        }
+        CompletableFuture.allOf(all.toArray(new CompletableFuture[0])).whenComplete((r, ex) -> {
+            pool.shutdown();
+            LogManager.getLogger().info(getTimingSummary());
+            allReady.complete(null);
+        });
+    }
+
+    /**
+     * Returns the readiness of a task. The future completes when the task has finished, also when it
+     * failed. Tasks that were never added count as ready, so callers need not know which subsystems
+     * were initialized at startup.
+     *
+     * @param name the name of the task
+     * @return a future completing when the task has finished
+     */
+    public synchronized CompletableFuture<Void> whenReady(String name) {
+        Task task = tasks.get(name);
+        return (task == null) ? CompletableFuture.completedFuture(null) : task.done;
+    }
+
+    /**
+     * @return a future completing when all tasks have finished
+     */
+    public synchronized CompletableFuture<Void> whenAllReady() {
+        return tasks.isEmpty() ? CompletableFuture.completedFuture(null) : allReady;
+    }
+
+    /**
+     * @return true if the task has finished or was never added
+     */
+    public boolean isReady(String name) {
+        return whenReady(name).isDone();
+    }
+
+    /**
+     * @return the time taken by each finished task and the time spent waiting for its dependencies
+     */
+    public synchronized String getTimingSummary() {
+        StringBuilder summary = new StringBuilder("Startup timing:");
+        long end = startTime;
+        for (Task task : tasks.values()) {
+            summary.append("\n\t").append(task.name).append(": ");
+            if (!task.done.isDone()) {
+                summary.append("not finished");
+                continue;
+            }
+            summary.append(millis(task.end - task.begin)).append(" ms, started after ")
+                    .append(millis(task.begin - startTime)).append(" ms");
+            if (task.failed) {
+                summary.append(", FAILED");
+            }
+            end = Math.max(end, task.end);
+        }
+        summary.append("\n\tTotal: ").append(millis(end - startTime)).append(" ms on ").append(threads)
+                .append(" threads");
+        return summary.toString();
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static class Task {
+        private final String name;
+        private final AsyncStartupTask task;
+        private final List<Task> dependencies;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile long begin;
+        private volatile long end;
+        private volatile boolean failed;
+
+        Task(String name, AsyncStartupTask task, List<Task> dependencies) {
+            this.name = name;
+            this.task = task;
+            this.dependencies = dependencies;
+        }
+
+        void run() {
+            begin = System.nanoTime();
+            CompletionStage<?> ready;
+            try {
+                ready = task.start();
+            } catch (Throwable ex) {
+                // Errors such as a missing class must not keep the task and its dependents from finishing
+                ready = CompletableFuture.failedFuture(ex);
+            }
+            ready.whenComplete((result, ex) -> {
+                try {
+                    if (ex != null) {
+                        failed = true;
+                        LogManager.getLogger().error("Startup task " + name + " failed", ex);
+                    }
+                } finally {
+                    end = System.nanoTime();
+                    done.complete(null);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util;
+
+import megamek.common.Entity;
+import megamek.common.MechFileParser;
+import megamek.common.MechSummary;
+import megamek.common.annotations.Nullable;
+import org.apache.logging.log4j.LogManager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a task on every unit of a unit list in parallel, such as validating the units or converting them
+ * to another format, and writes the text produced for each unit through a single writer. The units are
+ * processed in a fixed order (by name, then source file and entry) and their text is written in that
+ * order, so that the output is the same however many threads are used.
+ *
+ * Progress and throughput are logged while the batch runs.
+ */
+public class UnitBatchRunner {
+
+    /** Sorts units by name, then by the file and the entry they are loaded from */
+    public static final Comparator<MechSummary> UNIT_ORDER = Comparator.comparing(MechSummary::getName)
+            .thenComparing(unit -> unit.getSourceFile().getPath())
+            .thenComparing(unit -> (unit.getEntryName() == null) ? "" : unit.getEntryName());
+
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    /**
+     * The work done for a single unit of a batch.
+     */
+    @FunctionalInterface
+    public interface UnitTask {
+        /**
+         * Processes a unit. This is called on the worker threads of the batch.
+         *
+         * @param unit the unit to process
+         * @return the text to write for the unit, including any line breaks, or null to write nothing
+         * @throws Exception when the unit cannot be processed; the unit is logged and counted as failed
+         */
+        @Nullable String process(BatchUnit unit) throws Exception;
+    }
+
+    /**
+     * A unit of a batch. The entity is only parsed when a task first asks for it and is then reused.
+     */
+    public static class BatchUnit {
+        private final MechSummary summary;
+        private Entity entity;
+
+        BatchUnit(MechSummary summary) {
+            this.summary = summary;
+        }
+
+        public MechSummary getSummary() {
+            return summary;
+        }
+
+        /**
+         * @return the entity of this unit, parsed from its source file
+         * @throws Exception when the unit file cannot be parsed
+         */
+        public Entity getEntity() throws Exception {
+            if (entity == null) {
+                entity = new MechFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            }
+            return entity;
+        }
+    }
+
+    private final String name;
+    private final int threads;
+
+    private int processed;
+    private int failed;
+    private long elapsedNanos;
+
+    /**
+     * Creates a batch runner using one thread per available processor.
+     *
+     * @param name the name of the batch, used in the log
+     */
+    public UnitBatchRunner(String name) {
+        this(name, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param name    the name of the batch, used in the log
+     * @param threads the number of worker threads
+     */
+    public UnitBatchRunner(String name, int threads) {
+        this.name = name;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Runs the task on all given units and writes their text to the writer in {@link #UNIT_ORDER}. The
+     * writer is only used by the calling thread.
+     *
+     * @param units the units to process
+     * @param task  the task to run for each unit
+     * @param out   the writer receiving the text of the units
+     * @return the number of units that failed
+     * @throws IOException when writing fails
+     */
+    public int run(MechSummary[] units, UnitTask task, Writer out) throws IOException {
+        MechSummary[] sorted = Arrays.copyOf(units, units.length);
+        Arrays.sort(sorted, UNIT_ORDER);
+        processed = 0;
+        failed = 0;
+        long start = System.nanoTime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + " Worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<String>> results = new ArrayList<>(sorted.length);
+            for (MechSummary unit : sorted) {
+                results.add(workers.submit(() -> task.process(new BatchUnit(unit))));
+            }
+            for (int i = 0; i < sorted.length; i++) {
+                String text = result(sorted[i], results.get(i));
+                if (text != null) {
+                    out.write(text);
+                }
+                processed++;
+                if (processed % PROGRESS_INTERVAL == 0) {
+                    LogManager.getLogger().info(name + ": " + processed + " of " + sorted.length + " units, "
+                            + unitsPerSecond(System.nanoTime() - start) + " units/s");
+                }
+            }
+            out.flush();
+        } finally {
+            workers.shutdownNow();
+        }
+
+        elapsedNanos = System.nanoTime() - start;
+        LogManager.getLogger().info(name + ": processed " + processed + " units in "
+                + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms (" + unitsPerSecond(elapsedNanos)
+                + " units/s) on " + threads + " threads, " + failed + " failed");
+        return failed;
+    }
+
+    /**
+     * @return the number of units processed by the last run
+     */
+    public int getProcessedCount() {
+        return processed;
+    }
+
+    /**
+     * @return the number of units that failed in the last run
+     */
+    public int getFailedCount() {
+        return failed;
+    }
+
+    /**
+     * @return the duration of the last run in milliseconds
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    private @Nullable String result(MechSummary unit, Future<String> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException ex) {
+            failed++;
+            LogManager.getLogger().error(name + ": failed to process " + unit.getName() + " from "
+                    + unit.getSourceFile(), ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failed++;
+        }
+        return null;
+    }
+
+    private long unitsPerSecond(long nanos) {
+        return (nanos > 0) ? (processed * TimeUnit.SECONDS.toNanos(1) / nanos) : processed;
+    }
+}
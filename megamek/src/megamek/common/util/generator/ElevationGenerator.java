@@ -29,4 +29,19 @@ public interface ElevationGenerator {
      * @param elevationMap the target elevation map, indexed as <tt>elevationMap[width][height]</tt>
      */
     void generate(int hilliness, int width, int height, int[][] elevationMap);
+
+    /**
+     * Generate a map of given width and height from the given seed and put it into the supplied
+     * elevation map. Generators that support reproducible maps must return the same elevations for
+     * the same seed; the default ignores the seed.
+     *
+     * @param hilliness 1-100
+     * @param width width of the map, in hexes
+     * @param height height of the map, in hexes
+     * @param elevationMap the target elevation map, indexed as <tt>elevationMap[width][height]</tt>
+     * @param seed the seed of the map
+     */
+    default void generate(int hilliness, int width, int height, int[][] elevationMap, long seed) {
+        generate(hilliness, width, height, elevationMap);
+    }
 }
@@ -14,6 +14,7 @@
 package megamek.common.util.generator;
 
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import megamek.common.util.SimplexNoise;
 
@@ -22,6 +23,8 @@ public class SimplexGenerator implements ElevationGenerator {
     private static final double DIST_H = 0.75;
     /** Vertical distance between hexagons */
     private static final double DIST_V = Math.sqrt(3) / 2.0;
+    /** Maps with at least this many hexes have their noise computed in parallel */
+    private static final int PARALLEL_THRESHOLD = 64 * 64;
     
     private Random rnd;
     
@@ -45,12 +48,26 @@ public class SimplexGenerator implements ElevationGenerator {
 
     @Override
     public void generate(int hilliness, int width, int height, int[][] elevationMap) {
-        double noiseStartX = rnd.nextDouble() * 1000000;
-        double noiseStartY = rnd.nextDouble() * 1000000;
-        double noiseScale = (200.0 + rnd.nextDouble() * 30.0) / (4.0 + hilliness / 5.0);
-        hilliness = Math.max(hilliness, 1);
-        
-        for (int w = 0; w < width; ++ w) {
+        generate(hilliness, width, height, elevationMap, rnd.nextLong());
+    }
+
+    /**
+     * The noise is a pure function of the seed and the hex position, so the columns of large maps
+     * are computed in parallel without changing the result.
+     */
+    @Override
+    public void generate(int hilliness, int width, int height, int[][] elevationMap, long seed) {
+        Random seeded = new Random(seed);
+        double noiseStartX = seeded.nextDouble() * 1000000;
+        double noiseStartY = seeded.nextDouble() * 1000000;
+        double noiseScale = (200.0 + seeded.nextDouble() * 30.0) / (4.0 + hilliness / 5.0);
+        int exponentHilliness = Math.max(hilliness, 1);
+
+        IntStream columns = IntStream.range(0, width);
+        if (width * height >= PARALLEL_THRESHOLD) {
+            columns = columns.parallel();
+        }
+        columns.forEach(w -> {
             for (int h = 0; h < height; ++ h) {
                 double x = DIST_H * w;
                 double y = DIST_V * (2 * h + (w & 1)) / 2.0;
@@ -64,11 +81,11 @@ public class SimplexGenerator implements ElevationGenerator {
                     val = 0;
                 } else {
                     // Hilliness - make the hilltops more extreme thus the lower values more common
-                    val = Math.pow(val / 7.0, 10.0 / hilliness + 1.0) * 7.0; 
+                    val = Math.pow(val / 7.0, 10.0 / exponentHilliness + 1.0) * 7.0; 
                 }
                 // Give the map scaler enough value range to work with
                 elevationMap[w][h] = (int) (val * 1000);
             }
-        }
+        });
     }
 }
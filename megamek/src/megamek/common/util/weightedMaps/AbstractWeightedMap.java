@@ -46,4 +46,14 @@ public abstract class AbstractWeightedMap<K extends Number, T> extends TreeMap<K
         final Map.Entry<K, T> item = ceilingEntry(key);
         return (item == null) ? null : item.getValue();
     }
+
+    /**
+     * Freezes the current contents of this map into a table with constant time sampling. Later changes to
+     * this map are not reflected in the returned table.
+     *
+     * @return the compiled table for the items in this map
+     */
+    public CompiledWeightedTable<T> compile() {
+        return new CompiledWeightedTable<>(this);
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.common.util.weightedMaps;
+
+import megamek.common.RandomStream;
+import megamek.common.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * An immutable weighted table compiled from an {@link AbstractWeightedMap} using Vose's alias method. Each item
+ * owns one column of the table; a column holds the probability of keeping its own item and the index of the
+ * item to use otherwise. Selecting an item is a single random draw and two array reads, regardless of the
+ * number of items, and the table holds no boxed keys.
+ *
+ * Generators should fill a weighted map while loading their data and then freeze it with
+ * {@link AbstractWeightedMap#compile()}. The table is safe to share between threads.
+ *
+ * @param <T> The values in the table
+ */
+public final class CompiledWeightedTable<T> implements Serializable {
+    //region Variable Declarations
+    private static final long serialVersionUID = -1417386474021473590L;
+
+    private final Object[] items;
+    private final double[] probabilities;
+    private final int[] aliases;
+    //endregion Variable Declarations
+
+    //region Constructors
+    CompiledWeightedTable(final AbstractWeightedMap<?, T> map) {
+        final int size = map.size();
+        items = new Object[size];
+        probabilities = new double[size];
+        aliases = new int[size];
+
+        // The map stores the running total as the key, so each weight is the difference to the previous key
+        final double[] scaled = new double[size];
+        final double total = map.isEmpty() ? 0.0 : map.lastKey().doubleValue();
+        double previous = 0.0;
+        int index = 0;
+        for (final Map.Entry<? extends Number, T> entry : map.entrySet()) {
+            final double cumulative = entry.getKey().doubleValue();
+            items[index] = entry.getValue();
+            scaled[index] = (cumulative - previous) * size / total;
+            previous = cumulative;
+            index++;
+        }
+
+        // Vose's method: pair each under-full column with an over-full one that tops it up
+        final int[] small = new int[size];
+        final int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while ((smallCount > 0) && (largeCount > 0)) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Anything left over is full up to rounding error
+        while (largeCount > 0) {
+            final int column = large[--largeCount];
+            probabilities[column] = 1.0;
+            aliases[column] = column;
+        }
+        while (smallCount > 0) {
+            final int column = small[--smallCount];
+            probabilities[column] = 1.0;
+            aliases[column] = column;
+        }
+    }
+    //endregion Constructors
+
+    public int size() {
+        return items.length;
+    }
+
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * @return a random item from the table, or null if it is empty. The roll comes from the calling thread's fork
+     * of {@link RandomStream#UNIT_GENERATION}, so it follows the seed of the random streams.
+     */
+    public @Nullable T randomItem() {
+        return isEmpty() ? null
+                : randomItem(RandomStream.UNIT_GENERATION.forCurrentThread().randomDouble() * items.length);
+    }
+
+    /**
+     * @param roll a value in [0, size): the integer part picks the column and the fraction decides between the
+     *             column's own item and its alias (used for simplification and unit testing reasons)
+     * @return the item selected by the roll
+     */
+    @SuppressWarnings(value = "unchecked")
+    @Nullable T randomItem(final double roll) {
+        final int column = Math.min((int) roll, items.length - 1);
+        return (T) items[((roll - column) < probabilities[column]) ? column : aliases[column]];
+    }
+}
@@ -13,6 +13,9 @@
  */
 package megamek.server;
 
+import megamek.MegaMek;
+import megamek.common.RandomStream;
+import megamek.common.metrics.Metrics;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.util.AbstractCommandLineParser;
 import megamek.common.util.EmailService;
@@ -25,7 +28,7 @@ import java.util.Properties;
 public class DedicatedServer {
     private static final String INCORRECT_ARGUMENTS_MESSAGE = "Incorrect arguments:";
     private static final String ARGUMENTS_DESCRIPTION_MESSAGE = "Arguments syntax:\n\t "
-            + "[-password <pass>] [-port <port>] [-mail <javamail.properties>] [<saved game>]";
+            + "[-password <pass>] [-port <port>] [-mail <javamail.properties>] [-metrics <port>] [-seed <seed>] [<saved game>]";
 
     public static void start(String[] args) {
         CommandLineParser cp = new CommandLineParser(args);
@@ -61,6 +64,12 @@ public class DedicatedServer {
             }
         }
 
+        if (cp.getSeed() != null) {
+            // the dice only follow the seed with RNG type 3 (SplitRandom)
+            RandomStream.setSeed(cp.getSeed());
+            LogManager.getLogger().info("Random streams seeded with " + cp.getSeed());
+        }
+
         // kick off a RNG check
         megamek.common.Compute.d6();
         // start server
@@ -75,8 +84,25 @@ public class DedicatedServer {
             return;
         }
         if (null != saveGameFileName) {
+            // the saved units refer to the equipment types
+            MegaMek.getStartup().whenReady(MegaMek.STARTUP_EQUIPMENT).join();
             dedicated.loadGame(new File(saveGameFileName));
         }
+
+        if (cp.getMetricsPort() != -1) {
+            Metrics.getInstance().setEnabled(true);
+            Metrics.registerMBean();
+            try {
+                MetricsEndpoint endpoint = new MetricsEndpoint(cp.getMetricsPort());
+                dedicated.setMetricsEndpoint(endpoint);
+                // The dedicated server is usually ended by stopping the process
+                Runtime.getRuntime().addShutdownHook(new Thread(endpoint::stop, "Metrics Endpoint Shutdown"));
+                LogManager.getLogger().info("Serving metrics at http://localhost:" + cp.getMetricsPort() + "/metrics");
+            } catch (Exception ex) {
+                LogManager.getLogger().error("Error: could not start the metrics endpoint at localhost:"
+                        + cp.getMetricsPort(), ex);
+            }
+        }
     }
 
     public static void main(String[] args) {
@@ -89,12 +115,16 @@ public class DedicatedServer {
         private String password;
         private String announceUrl = "";
         private String mailProperties;
+        private int metricsPort = -1;
+        private Long seed;
 
         // Options
         private static final String OPTION_PORT = "port";
         private static final String OPTION_PASSWORD = "password";
         private static final String OPTION_ANNOUNCE = "announce";
         private static final String OPTION_MAIL = "mail";
+        private static final String OPTION_METRICS = "metrics";
+        private static final String OPTION_SEED = "seed";
 
         public CommandLineParser(String[] args) {
             super(args);
@@ -124,6 +154,22 @@ public class DedicatedServer {
             return mailProperties;
         }
 
+        /**
+         *
+         * @return the local port of the metrics endpoint or <code>-1</code> if it wasn't set
+         */
+        public int getMetricsPort() {
+            return metricsPort;
+        }
+
+        /**
+         *
+         * @return the seed for the random streams or <code>null</code> if it wasn't set
+         */
+        public Long getSeed() {
+            return seed;
+        }
+
         /**
          *
          * @return the game file name option value or <code>null</code> if it wasn't set
@@ -155,6 +201,14 @@ public class DedicatedServer {
                                 nextToken();
                                 parseMail();
                                 break;
+                            case OPTION_METRICS:
+                                nextToken();
+                                parseMetrics();
+                                break;
+                            case OPTION_SEED:
+                                nextToken();
+                                parseSeed();
+                                break;
                         }
                         break;
                     case TOK_LITERAL:
@@ -212,5 +266,34 @@ public class DedicatedServer {
             }
         }
 
+        private void parseMetrics() throws ParseException {
+            if (getToken() == TOK_LITERAL) {
+                int newPort = -1;
+                try {
+                    newPort = Integer.decode(getTokenValue());
+                } catch (NumberFormatException ignored) {
+                    //ignore, leave at -1
+                }
+                if ((newPort < 0) || (newPort > 65535)) {
+                    throw new ParseException("invalid metrics port number");
+                }
+                metricsPort = newPort;
+            } else {
+                throw new ParseException("metrics port number expected");
+            }
+        }
+
+        private void parseSeed() throws ParseException {
+            if (getToken() == TOK_LITERAL) {
+                try {
+                    seed = Long.decode(getTokenValue());
+                } catch (NumberFormatException ex) {
+                    throw new ParseException("invalid seed");
+                }
+            } else {
+                throw new ParseException("seed expected");
+            }
+        }
+
     }
 }
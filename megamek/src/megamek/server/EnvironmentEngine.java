@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.server;
+
+import megamek.common.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the {@link DynamicTerrainProcessor}s in the end phase. Before they run, the board is scanned
+ * once for the hexes the processors work on, such as burning hexes, screens and quicksand, so that
+ * each processor only visits its worklist instead of every hex of the board. On large boards this
+ * scan is split over several threads.
+ *
+ * While the processors run, hex changes are not sent one by one but collected and sent to the
+ * clients in a single packet, at the end or as soon as the server sends any other packet, such as an
+ * entity update, so that the clients still receive the packets in the order of the changes.
+ *
+ * New smoke clouds are likewise added to the game together after each processor, as the game's list
+ * of clouds is copied whenever it changes. A cloud created by a processor is therefore neither in the
+ * game's list of clouds nor known to the clients until that processor has finished. No processor
+ * reads the clouds it creates: the fire processor drifts the existing clouds before fires spread and
+ * create new ones, and the smoke processor, which runs after it, sees the new clouds.
+ */
+public class EnvironmentEngine {
+
+    /** Boards with at least this many hexes are scanned in parallel */
+    private static final int PARALLEL_SCAN_HEXES = 1 << 16;
+
+    private final Server server;
+    private final List<DynamicTerrainProcessor> processors = new ArrayList<>();
+    private final Worklist burningHexes = new Worklist(hex -> hex.containsTerrain(Terrains.FIRE));
+    private final Worklist screenHexes = new Worklist(hex -> hex.containsTerrain(Terrains.SCREEN));
+    private final Worklist quicksandHexes = new Worklist(hex -> hex.terrainLevel(Terrains.SWAMP) > 1);
+    private final List<Worklist> worklists = List.of(burningHexes, screenHexes, quicksandHexes);
+    private final List<SmokeCloud> newSmokeClouds = new ArrayList<>();
+    private boolean collectingChanges;
+
+    EnvironmentEngine(Server server) {
+        this.server = server;
+    }
+
+    /**
+     * Adds a processor. Processors run in the order they are added.
+     */
+    void addProcessor(DynamicTerrainProcessor processor) {
+        processors.add(processor);
+    }
+
+    /**
+     * Finds the active hexes, runs all processors and sends the hexes they changed.
+     *
+     * @param vPhaseReport reports for the server to send out
+     */
+    void doEndPhaseChanges(Vector<Report> vPhaseReport) {
+        final Set<Coords> changedHexes = server.getHexUpdateSet();
+        changedHexes.clear();
+        findActiveHexes(server.getGame().getBoard());
+        collectingChanges = true;
+        try {
+            for (DynamicTerrainProcessor processor : processors) {
+                processor.doEndPhaseChanges(vPhaseReport);
+                addNewSmokeClouds();
+            }
+        } finally {
+            collectingChanges = false;
+            addNewSmokeClouds();
+        }
+        if (!changedHexes.isEmpty()) {
+            server.sendChangedHexes(changedHexes);
+        }
+    }
+
+    /**
+     * @return true while the processors run; changed hexes should then be added to the server's hex
+     * update set instead of being sent right away, and new smoke clouds given to
+     * {@link #smokeCloudCreated(SmokeCloud)}. The server sends the collected hexes before any other
+     * packet.
+     */
+    public boolean isCollectingChanges() {
+        return collectingChanges;
+    }
+
+    /**
+     * Adds a hex that was set on fire while the processors run to the burning hexes.
+     */
+    public void hexIgnited(Coords coords) {
+        if (collectingChanges) {
+            burningHexes.add(PackedCoords.pack(coords));
+        }
+    }
+
+    /**
+     * Queues a smoke cloud created while the processors run. It is added to the game and sent to the
+     * clients when the current processor has finished; until then the processor does not find it in
+     * the game's list of clouds.
+     */
+    public void smokeCloudCreated(SmokeCloud cloud) {
+        newSmokeClouds.add(cloud);
+    }
+
+    /**
+     * @return the hexes that contain fire or were set on fire during this end phase
+     */
+    public Worklist getBurningHexes() {
+        return burningHexes;
+    }
+
+    /**
+     * @return the hexes that contain a screen
+     */
+    public Worklist getScreenHexes() {
+        return screenHexes;
+    }
+
+    /**
+     * @return the hexes that contain quicksand (swamp of level 2 or 3)
+     */
+    public Worklist getQuicksandHexes() {
+        return quicksandHexes;
+    }
+
+    /**
+     * Fills the worklists with the hexes of the board.
+     */
+    void findActiveHexes(Board board) {
+        final int width = board.getWidth();
+        final int height = board.getHeight();
+        IntStream columns = IntStream.range(0, width);
+        if ((long) width * height >= PARALLEL_SCAN_HEXES) {
+            columns = columns.parallel();
+        }
+        // The parallel scan keeps the board order, so the worklists don't depend on the thread count
+        final int[] activeHexes = columns.flatMap(x -> IntStream.range(0, height)
+                .filter(y -> isActive(board.getHex(x, y)))
+                .map(y -> PackedCoords.pack(x, y))).toArray();
+
+        for (Worklist worklist : worklists) {
+            worklist.clear();
+        }
+        for (int packed : activeHexes) {
+            final Hex hex = board.getHex(PackedCoords.x(packed), PackedCoords.y(packed));
+            for (Worklist worklist : worklists) {
+                if (worklist.isActive.test(hex)) {
+                    worklist.add(packed);
+                }
+            }
+        }
+    }
+
+    private void addNewSmokeClouds() {
+        if (!newSmokeClouds.isEmpty()) {
+            server.getGame().addSmokeClouds(newSmokeClouds);
+            for (SmokeCloud cloud : newSmokeClouds) {
+                server.sendSmokeCloudAdded(cloud);
+            }
+            newSmokeClouds.clear();
+        }
+    }
+
+    private boolean isActive(Hex hex) {
+        for (Worklist worklist : worklists) {
+            if (worklist.isActive.test(hex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The packed coordinates (see {@link PackedCoords}) of the hexes a processor works on. As the
+     * hexes may change while they are processed, processors should check each hex again.
+     */
+    public static final class Worklist {
+        private final Predicate<Hex> isActive;
+        private final TreeSet<Integer> hexes = new TreeSet<>();
+
+        Worklist(Predicate<Hex> isActive) {
+            this.isActive = isActive;
+        }
+
+        void add(int packed) {
+            hexes.add(packed);
+        }
+
+        void clear() {
+            hexes.clear();
+        }
+
+        /**
+         * @return the number of hexes in this worklist
+         */
+        public int size() {
+            return hexes.size();
+        }
+
+        /**
+         * Visits the hexes in the order of a scan of the board by x, then y. Hexes that are added
+         * during the visit are visited as well if they come after the current hex, just like a scan
+         * of the whole board would find them.
+         *
+         * @param visitor receives the packed coordinates of each hex
+         */
+        public void forEach(IntConsumer visitor) {
+            // Packed on-board coordinates sort by x, then y
+            Integer current = hexes.isEmpty() ? null : hexes.first();
+            while (current != null) {
+                visitor.accept(current);
+                current = hexes.higher(current);
+            }
+        }
+    }
+}
@@ -49,11 +49,9 @@ public class FireProcessor extends DynamicTerrainProcessor {
      */
     private void resolveFire() {
         Board board = game.getBoard();
-        int width = board.getWidth();
-        int height = board.getHeight();
+        EnvironmentEngine.Worklist burningHexes = server.getEnvironmentEngine().getBurningHexes();
         int windDirection = game.getPlanetaryConditions().getWindDirection();
         int windStrength = game.getPlanetaryConditions().getWindStrength();
-        Report r;
 
         // Get the position map of all entities in the game.
         Hashtable<Coords, Vector<Entity>> positionMap = game.getPositionMap();
@@ -77,7 +75,7 @@ public class FireProcessor extends DynamicTerrainProcessor {
 
                     // Does the building burn down?
                     if (cf == 0) {
-                        r = new Report(5120, Report.PUBLIC);
+                        Report r = new Report(5120, Report.PUBLIC);
                         r.add(bldg.getName());
                         vPhaseReport.addElement(r);
                     } else if (!server.checkForCollapse(bldg, positionMap, coords, false, vPhaseReport)) {
@@ -88,96 +86,96 @@ public class FireProcessor extends DynamicTerrainProcessor {
             }
         }
 
-        // Cycle through all hexes, checking for fire and the spread of fire
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
-
-                if (currentHex.containsTerrain(Terrains.FIRE)) {
-                    //If the woods has been cleared, or the building
-                    // has collapsed put non-inferno fires out.
-                    if ((currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_NORMAL)
-                            && !currentHex.isIgnitable()) {
-                        server.removeFire(currentCoords, "lack of fuel");
-                        continue;
-                    }
+        // Cycle through all burning hexes, checking for the spread of fire
+        burningHexes.forEach(packedCoords -> {
+            int currentXCoord = PackedCoords.x(packedCoords);
+            int currentYCoord = PackedCoords.y(packedCoords);
+            Coords currentCoords = PackedCoords.toCoords(packedCoords);
+            Hex currentHex = board.getHex(currentXCoord, currentYCoord);
+
+            if (currentHex.containsTerrain(Terrains.FIRE)) {
+                //If the woods has been cleared, or the building
+                // has collapsed put non-inferno fires out.
+                if ((currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_NORMAL)
+                        && !currentHex.isIgnitable()) {
+                    server.removeFire(currentCoords, "lack of fuel");
+                    return;
+                }
 
-                    //only check spread for fires that didn't start this turn
-                    if (currentHex.getFireTurn() > 0) {
-                        //optional rule, woods burn down
-                        Vector<Report> burnReports = null;
-                        if ((currentHex.containsTerrain(Terrains.WOODS)
-                                || currentHex.containsTerrain(Terrains.JUNGLE))
-                                && game.getOptions().booleanOption(OptionsConstants.ADVANCED_WOODS_BURN_DOWN)) {
-                            burnReports = burnDownWoods(currentCoords);
-                        }
-                        //report and check for fire spread
-                        r = new Report(5125, Report.PUBLIC);
-                        if ((currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO)
-                                || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_BOMB)
-                                || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_IV)) {
-                            r.messageId = 5130;
-                        }
-                        r.add(currentCoords.getBoardNum());
-                        vPhaseReport.addElement(r);
-                        if (burnReports != null) {
-                            vPhaseReport.addAll(burnReports);
-                        }
-                        spreadFire(currentXCoord, currentYCoord, windDirection, windStrength);
+                //only check spread for fires that didn't start this turn
+                if (currentHex.getFireTurn() > 0) {
+                    //optional rule, woods burn down
+                    Vector<Report> burnReports = null;
+                    if ((currentHex.containsTerrain(Terrains.WOODS)
+                            || currentHex.containsTerrain(Terrains.JUNGLE))
+                            && game.getOptions().booleanOption(OptionsConstants.ADVANCED_WOODS_BURN_DOWN)) {
+                        burnReports = burnDownWoods(currentCoords);
+                    }
+                    //report and check for fire spread
+                    Report r = new Report(5125, Report.PUBLIC);
+                    if ((currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO)
+                            || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_BOMB)
+                            || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_IV)) {
+                        r.messageId = 5130;
                     }
+                    r.add(currentCoords.getBoardNum());
+                    vPhaseReport.addElement(r);
+                    if (burnReports != null) {
+                        vPhaseReport.addAll(burnReports);
+                    }
+                    spreadFire(currentXCoord, currentYCoord, windDirection, windStrength);
                 }
             }
-        }
-
-        // Cycle through all hexes again, reporting new fires, spreading smoke, and incrementing the fire turn.
-        // Can't do this in first loop because new fires may be spread
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
-
-                if (currentHex.containsTerrain(Terrains.FIRE)) {
-                    Building bldg = game.getBoard().getBuildingAt(currentCoords);
-                    // Was the fire started this turn?
-                    if (currentHex.getFireTurn() == 0) {
-                        // Report fire started this round
-                        r = new Report(5135, Report.PUBLIC);
-                        r.add(currentCoords.getBoardNum());
-                        vPhaseReport.addElement(r);
+        });
+
+        // Cycle through the burning hexes again, reporting new fires, spreading smoke, and incrementing the fire turn.
+        // Can't do this in first loop because new fires may be spread; these were added to the burning hexes
+        burningHexes.forEach(packedCoords -> {
+            int currentXCoord = PackedCoords.x(packedCoords);
+            int currentYCoord = PackedCoords.y(packedCoords);
+            Coords currentCoords = PackedCoords.toCoords(packedCoords);
+            Hex currentHex = board.getHex(currentXCoord, currentYCoord);
+
+            if (currentHex.containsTerrain(Terrains.FIRE)) {
+                Building bldg = game.getBoard().getBuildingAt(currentCoords);
+                // Was the fire started this turn?
+                if (currentHex.getFireTurn() == 0) {
+                    // Report fire started this round
+                    Report r = new Report(5135, Report.PUBLIC);
+                    r.add(currentCoords.getBoardNum());
+                    vPhaseReport.addElement(r);
 
-                        // If the hex contains a building, set it on fire.
-                        if (bldg != null) {
-                            bldg.setBurning(true, currentCoords);
-                        }
+                    // If the hex contains a building, set it on fire.
+                    if (bldg != null) {
+                        bldg.setBurning(true, currentCoords);
                     }
+                }
 
-                    // Check for any explosions
-                    server.checkExplodeIndustrialZone(currentCoords, vPhaseReport);
-
-                    // Add smoke, unless tornado or optional rules
-                    boolean containsForest = (currentHex.containsTerrain(Terrains.WOODS)
-                            || currentHex.containsTerrain(Terrains.JUNGLE));
-                    boolean bInferno = currentHex.terrainLevel(Terrains.FIRE) == 2;
-                    if ((game.getPlanetaryConditions().getWindStrength() < PlanetaryConditions.WI_TORNADO_F13)
-                            && !(game.getOptions().booleanOption(OptionsConstants.ADVCOMBAT_FOREST_FIRES_NO_SMOKE)
-                                    && containsForest && (bldg == null))) {
-                        ArrayList<Coords> smokeList = new ArrayList<>();
+                // Check for any explosions
+                server.checkExplodeIndustrialZone(currentCoords, vPhaseReport);
 
-                        smokeList.add(currentCoords.translated(windDirection));
-                        smokeList.add(currentCoords.translated((windDirection + 1) % 6));
-                        smokeList.add(currentCoords.translated((windDirection + 5) % 6));
+                // Add smoke, unless tornado or optional rules
+                boolean containsForest = (currentHex.containsTerrain(Terrains.WOODS)
+                        || currentHex.containsTerrain(Terrains.JUNGLE));
+                boolean bInferno = currentHex.terrainLevel(Terrains.FIRE) == 2;
+                if ((game.getPlanetaryConditions().getWindStrength() < PlanetaryConditions.WI_TORNADO_F13)
+                        && !(game.getOptions().booleanOption(OptionsConstants.ADVCOMBAT_FOREST_FIRES_NO_SMOKE)
+                                && containsForest && (bldg == null))) {
+                    ArrayList<Coords> smokeList = new ArrayList<>();
 
-                        server.addSmoke(smokeList, windDirection, bInferno);
-                        board.initializeAround(currentXCoord, currentYCoord);
-                    }
+                    smokeList.add(currentCoords.translated(windDirection));
+                    smokeList.add(currentCoords.translated((windDirection + 1) % 6));
+                    smokeList.add(currentCoords.translated((windDirection + 5) % 6));
 
-                    // increment the fire turn counter
-                    currentHex.incrementFireTurn();
-                    server.getHexUpdateSet().add(currentCoords);
+                    server.addSmoke(smokeList, windDirection, bInferno);
+                    board.initializeAround(currentXCoord, currentYCoord);
                 }
+
+                // increment the fire turn counter
+                currentHex.incrementFireTurn();
+                server.getHexUpdateSet().add(currentCoords);
             }
-        }
+        });
     }
 
     public Vector<Report> burnDownWoods(Coords coords) {
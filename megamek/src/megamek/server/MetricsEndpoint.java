@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import megamek.common.metrics.Metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A small HTTP endpoint of the dedicated server that serves the {@link Metrics} summary as plain text
+ * at <tt>/metrics</tt>. It only listens on the loopback address, so it is reachable from the server
+ * machine (or through an SSH tunnel) but not from the players.
+ */
+public class MetricsEndpoint {
+    private static final String PATH = "/metrics";
+
+    private final HttpServer httpServer;
+    private boolean stopped = false;
+
+    /**
+     * Starts the endpoint.
+     *
+     * @param port the local port to listen on
+     * @throws IOException if the port can't be bound
+     */
+    public MetricsEndpoint(int port) throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.createContext(PATH, this::handle);
+        httpServer.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = Metrics.getInstance().getSummary().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Stops the endpoint. Further calls do nothing.
+     */
+    public synchronized void stop() {
+        if (!stopped) {
+            stopped = true;
+            httpServer.stop(0);
+        }
+    }
+}
@@ -41,31 +41,26 @@ public class QuicksandProcessor extends DynamicTerrainProcessor {
      */
     private void resolveQuicksand() {
         Board board = game.getBoard();
-        int width = board.getWidth();
-        int height = board.getHeight();
 
-        // Cycle through all hexes, checking for screens
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
+        // Cycle through all hexes with quicksand
+        server.getEnvironmentEngine().getQuicksandHexes().forEach(packedCoords -> {
+            Coords currentCoords = PackedCoords.toCoords(packedCoords);
+            Hex currentHex = board.getHex(currentCoords);
 
-                // Check for quicksand that has been around at least one turn (terrain level of 3),
-                // then for any new quicksand this turn (terrain level of 2)
-                if (currentHex.terrainLevel(Terrains.SWAMP) == 3) {
-                    // sink any units that occupy this hex
-                    for (Entity entity : game.getEntitiesVector(currentCoords)) {
-                        if (entity.isStuck()) {
-                            server.doSinkEntity(entity);
-                        }
+            // Check for quicksand that has been around at least one turn (terrain level of 3),
+            // then for any new quicksand this turn (terrain level of 2)
+            if (currentHex.terrainLevel(Terrains.SWAMP) == 3) {
+                // sink any units that occupy this hex
+                for (Entity entity : game.getEntitiesVector(currentCoords)) {
+                    if (entity.isStuck()) {
+                        server.doSinkEntity(entity);
                     }
-                } else if (currentHex.terrainLevel(Terrains.SWAMP) == 2) {
-                    currentHex.removeTerrain(Terrains.SWAMP);
-                    currentHex.addTerrain(new Terrain(Terrains.SWAMP, 3));
-                    server.getHexUpdateSet().add(currentCoords);
                 }
+            } else if (currentHex.terrainLevel(Terrains.SWAMP) == 2) {
+                currentHex.removeTerrain(Terrains.SWAMP);
+                currentHex.addTerrain(new Terrain(Terrains.SWAMP, 3));
+                server.getHexUpdateSet().add(currentCoords);
             }
-
-        }
+        });
     }
 }
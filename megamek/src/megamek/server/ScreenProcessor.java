@@ -41,28 +41,23 @@ public class ScreenProcessor extends DynamicTerrainProcessor {
      */
     private void resolveScreen() {
         Board board = game.getBoard();
-        int width = board.getWidth();
-        int height = board.getHeight();
 
-        // Cycle through all hexes, checking for screens
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
+        // Cycle through all hexes with screens
+        server.getEnvironmentEngine().getScreenHexes().forEach(packedCoords -> {
+            Coords currentCoords = PackedCoords.toCoords(packedCoords);
+            Hex currentHex = board.getHex(currentCoords);
 
-                // check for existence of screen
-                if (currentHex.containsTerrain(Terrains.SCREEN)) {
-                    if (Compute.d6(2) > 6) {
-                        Report r = new Report(9075, Report.PUBLIC);
-                        r.add(currentCoords.getBoardNum());
-                        vPhaseReport.addElement(r);
+            // check for existence of screen
+            if (currentHex.containsTerrain(Terrains.SCREEN)) {
+                if (Compute.d6(2) > 6) {
+                    Report r = new Report(9075, Report.PUBLIC);
+                    r.add(currentCoords.getBoardNum());
+                    vPhaseReport.addElement(r);
 
-                        currentHex.removeTerrain(Terrains.SCREEN);
-                        server.getHexUpdateSet().add(currentCoords);
-                    }
+                    currentHex.removeTerrain(Terrains.SCREEN);
+                    server.getHexUpdateSet().add(currentCoords);
                 }
             }
-
-        }
+        });
     }
 }
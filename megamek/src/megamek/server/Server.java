@@ -33,6 +33,8 @@ import megamek.common.event.GameListener;
 import megamek.common.event.GameVictoryEvent;
 import megamek.common.force.Force;
 import megamek.common.force.Forces;
+import megamek.common.metrics.Metrics;
+import megamek.common.metrics.MetricsEvents;
 import megamek.common.icons.Camouflage;
 import megamek.common.net.*;
 import megamek.common.options.GameOptions;
@@ -118,6 +120,9 @@ public class Server implements Runnable {
 
     private EmailService mailer;
 
+    /** The metrics endpoint of the dedicated server, stopped when the server dies */
+    private MetricsEndpoint metricsEndpoint;
+
 
     private static class ReceivedPacket {
         public int connId;
@@ -147,8 +152,22 @@ public class Server implements Runnable {
             while (!shouldStop) {
                 while (!packetQueue.isEmpty()) {
                     ReceivedPacket rp = packetQueue.poll();
+                    MetricsEvents.PacketHandled event = new MetricsEvents.PacketHandled();
+                    long waitStart = System.nanoTime();
                     synchronized (serverLock) {
+                        long acquired = System.nanoTime();
+                        event.begin();
                         handle(rp.connId, rp.packet);
+                        event.end();
+                        Metrics.getInstance().recordTime(Metrics.LOCK_WAIT, acquired - waitStart);
+                        Metrics.getInstance().recordTime(Metrics.PACKET_HANDLING + rp.packet.getCommand(),
+                                System.nanoTime() - acquired);
+                        if (event.shouldCommit()) {
+                            event.command = rp.packet.getCommand();
+                            event.connectionId = rp.connId;
+                            event.lockWait = acquired - waitStart;
+                            event.commit();
+                        }
                     }
                 }
                 try {
@@ -171,6 +190,10 @@ public class Server implements Runnable {
 
     private final ConcurrentLinkedQueue<ReceivedPacket> packetQueue = new ConcurrentLinkedQueue<>();
 
+    /** The timing of the current phase, for the metrics */
+    private MetricsEvents.Phase phaseEvent;
+    private long phaseStart;
+
     /**
      * Special packet queue for client feedback requests.
      */
@@ -208,7 +231,7 @@ public class Server implements Runnable {
     // canceling each other
     private Vector<PhysicalResult> physicalResults = new Vector<>();
 
-    private Vector<DynamicTerrainProcessor> terrainProcessors = new Vector<>();
+    private final EnvironmentEngine environmentEngine = new EnvironmentEngine(this);
 
     private Timer watchdogTimer = new Timer("Watchdog Timer");
 
@@ -401,13 +424,13 @@ public class Server implements Runnable {
         registerCommand(new JoinTeamCommand(this));
 
         // register terrain processors
-        terrainProcessors.add(new FireProcessor(this));
-        terrainProcessors.add(new SmokeProcessor(this));
-        terrainProcessors.add(new GeyserProcessor(this));
-        terrainProcessors.add(new ElevatorProcessor(this));
-        terrainProcessors.add(new ScreenProcessor(this));
-        terrainProcessors.add(new WeatherProcessor(this));
-        terrainProcessors.add(new QuicksandProcessor(this));
+        environmentEngine.addProcessor(new FireProcessor(this));
+        environmentEngine.addProcessor(new SmokeProcessor(this));
+        environmentEngine.addProcessor(new GeyserProcessor(this));
+        environmentEngine.addProcessor(new ElevatorProcessor(this));
+        environmentEngine.addProcessor(new ScreenProcessor(this));
+        environmentEngine.addProcessor(new WeatherProcessor(this));
+        environmentEngine.addProcessor(new QuicksandProcessor(this));
 
         packetPump = new PacketPump();
         packetPumpThread = new Thread(packetPump, "Packet Pump");
@@ -575,6 +598,11 @@ public class Server implements Runnable {
             mailer.shutdown();
         }
 
+        if (metricsEndpoint != null) {
+            metricsEndpoint.stop();
+            metricsEndpoint = null;
+        }
+
         connections.removeAllElements();
         connectionIds.clear();
         if (serverBrowserUpdateTimer != null) {
@@ -589,6 +617,13 @@ public class Server implements Runnable {
         System.out.flush();
     }
 
+    /**
+     * Sets the metrics endpoint to stop when the server dies.
+     */
+    void setMetricsEndpoint(MetricsEndpoint metricsEndpoint) {
+        this.metricsEndpoint = metricsEndpoint;
+    }
+
     /**
      * Returns an enumeration of all the command names
      */
@@ -857,7 +892,7 @@ public class Server implements Runnable {
             } else {
                 send(connId, new Packet(Packet.COMMAND_ROUND_UPDATE, game.getRoundCount()));
                 send(connId, createBoardPacket());
-                send(connId, createAllReportsPacket(player));
+                send(connId, createReportPagePacket(player, game.getReportRoundCount()));
 
                 // Send entities *before* other phase changes.
                 if (doBlind()) {
@@ -2118,8 +2153,10 @@ public class Server implements Runnable {
      * @param phase the <code>int</code> id of the phase to change to
      */
     private void changePhase(GamePhase phase) {
+        endPhaseMetrics();
         game.setLastPhase(game.getPhase());
         game.setPhase(phase);
+        startPhaseMetrics(phase);
 
         // prepare for the phase
         prepareForPhase(phase);
@@ -2319,11 +2356,7 @@ public class Server implements Runnable {
                 // more important updates when you have 300+ messages of smoke filling
                 // whatever hex. Please don't move it above the other things again.
                 // Thanks! Ralgith - 2018/03/15
-                hexUpdateSet.clear();
-                for (DynamicTerrainProcessor tp : terrainProcessors) {
-                    tp.doEndPhaseChanges(vPhaseReport);
-                }
-                sendChangedHexes(hexUpdateSet);
+                environmentEngine.doEndPhaseChanges(vPhaseReport);
 
                 checkForObservers();
                 transmitAllPlayerUpdates();
@@ -2592,6 +2625,29 @@ public class Server implements Runnable {
         }
     }
 
+    /**
+     * Starts timing the given phase until the next phase change.
+     */
+    private void startPhaseMetrics(GamePhase phase) {
+        phaseStart = System.nanoTime();
+        phaseEvent = new MetricsEvents.Phase();
+        phaseEvent.phase = phase.name();
+        phaseEvent.round = game.getRoundCount();
+        phaseEvent.begin();
+    }
+
+    /**
+     * Records the duration of the phase that is ending, if it was timed.
+     */
+    private void endPhaseMetrics() {
+        if (phaseEvent != null) {
+            phaseEvent.end();
+            Metrics.getInstance().recordTime(Metrics.PHASE + phaseEvent.phase, System.nanoTime() - phaseStart);
+            phaseEvent.commit();
+            phaseEvent = null;
+        }
+    }
+
     /**
      * Ends this phase and moves on to the next.
      */
@@ -3182,6 +3238,7 @@ public class Server implements Runnable {
         mapSettings.chooseSurpriseBoards();
         Board[] sheetBoards = new Board[mapSettings.getMapWidth() * mapSettings.getMapHeight()];
         List<Boolean> rotateBoard = new ArrayList<>();
+        List<Integer> generatedSheets = new ArrayList<>();
         for (int i = 0; i < (mapSettings.getMapWidth() * mapSettings.getMapHeight()); i++) {
             sheetBoards[i] = new Board();
             String name = mapSettings.getBoardsSelectedVector().get(i);
@@ -3195,13 +3252,18 @@ public class Server implements Runnable {
             }
             if (name.startsWith(MapSettings.BOARD_GENERATED)
                     || (mapSettings.getMedium() == MapSettings.MEDIUM_SPACE)) {
-                sheetBoards[i] = BoardUtilities.generateRandom(mapSettings);
+                generatedSheets.add(i);
             } else {
                 sheetBoards[i].load(new MegaMekFile(Configuration.boardsDir(), name + ".board").getFile());
                 BoardUtilities.flip(sheetBoards[i], isRotated, isRotated);
             }
             rotateBoard.add(isRotated);
         }
+        // Generate the random sheets in parallel
+        Board[] generatedBoards = BoardUtilities.generateRandom(mapSettings, generatedSheets.size());
+        for (int i = 0; i < generatedBoards.length; i++) {
+            sheetBoards[generatedSheets.get(i)] = generatedBoards[i];
+        }
         Board newBoard = BoardUtilities.combine(mapSettings.getBoardWidth(),
                 mapSettings.getBoardHeight(), mapSettings.getMapWidth(),
                 mapSettings.getMapHeight(), sheetBoards, rotateBoard,
@@ -28614,6 +28676,7 @@ public class Server implements Runnable {
             vReport.add(r);
         }
         hex.addTerrain(new Terrain(Terrains.FIRE, fireLevel));
+        environmentEngine.hexIgnited(c);
         sendChangedHex(c);
     }
 
@@ -28696,65 +28759,21 @@ public class Server implements Runnable {
     }
 
     /**
-     * Recursively scan the specified path to determine the board sizes
-     * available.
-     *
-     * @param searchDir The directory to search below this path (may be null for all
-     *                  in base path).
-     * @param sizes     Where to store the discovered board sizes
-     */
-    private void getBoardSizesInDir(final File searchDir, TreeSet<BoardDimensions> sizes) {
-        if (searchDir == null) {
-            throw new IllegalArgumentException("must provide searchDir");
-        }
-
-        if (sizes == null) {
-            throw new IllegalArgumentException("must provide sizes");
-        }
-
-        String[] file_list = searchDir.list();
-
-        if (file_list != null) {
-            for (String filename : file_list) {
-                File query_file = new File(searchDir, filename);
-
-                if (query_file.isDirectory()) {
-                    getBoardSizesInDir(query_file, sizes);
-                } else {
-                    try {
-                        if (filename.endsWith(".board")) {
-                            BoardDimensions size = Board.getSize(query_file);
-                            if (size == null) {
-                                throw new Exception();
-                            }
-                            sizes.add(Board.getSize(query_file));
-                        }
-                    } catch (Exception e) {
-                        LogManager.getLogger().error("Error parsing board: " + query_file.getAbsolutePath(), e);
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Get a list of the available board sizes from the boards data directory.
+     * Get a list of the available board sizes from the boards data directories.
      *
      * @return A Set containing all the available board sizes.
      */
     private Set<BoardDimensions> getBoardSizes() {
         TreeSet<BoardDimensions> board_sizes = new TreeSet<>();
-
-        File boards_dir = Configuration.boardsDir();
-        // Slightly overkill sanity check...
-        if (boards_dir.isDirectory()) {
-            getBoardSizesInDir(boards_dir, board_sizes);
-        }
-        boards_dir = new File(Configuration.userdataDir(), Configuration.boardsDir().toString());
-        if (boards_dir.isDirectory()) {
-            getBoardSizesInDir(boards_dir, board_sizes);
+        List<File> boardDirs = BoardIndex.getBoardDirectories();
+        for (BoardIndex.BoardInfo board : BoardIndex.getInstance().refresh(boardDirs.toArray(new File[0]))) {
+            BoardDimensions size = board.getSize();
+            if (size == null) {
+                LogManager.getLogger().error("Error parsing board: " + board.getPath());
+            } else {
+                board_sizes.add(size);
+            }
         }
-
         return board_sizes;
     }
 
@@ -28816,7 +28835,8 @@ public class Server implements Runnable {
             if ((eTarget.getECMRange() > 0) && (eTarget.getPosition() != null)) {
                 int ecmRange = eTarget.getECMRange();
                 Coords pos = eTarget.getPosition();
-                for (Entity ent : game.getEntitiesVector()) {
+                // The index also finds units by their secondary hexes, so check the position again
+                for (Entity ent : game.getEntitiesWithin(pos, ecmRange)) {
                     if ((ent.getPosition() != null)
                         && (pos.distance(ent.getPosition()) <= ecmRange)) {
                         if (!vCanSee.contains(ent.getOwner())) {
@@ -29288,14 +29308,14 @@ public class Server implements Runnable {
      *         that round. The reports returned this way are properly filtered for
      *         double blind.
      */
-    private Vector<Vector<Report>> filterPastReports(
-            Vector<Vector<Report>> pastReports, Player p) {
+    private List<Vector<Report>> filterPastReports(
+            List<Vector<Report>> pastReports, Player p) {
         // Only actually bother with the filtering if double-blind is in effect.
         if (!doBlind()) {
             return pastReports;
         }
         // Perform filtering
-        Vector<Vector<Report>> filteredReports = new Vector<>();
+        List<Vector<Report>> filteredReports = new Vector<>();
         for (Vector<Report> roundReports : pastReports) {
             Vector<Report> filteredRoundReports = new Vector<>();
             for (Report r : roundReports) {
@@ -29306,7 +29326,7 @@ public class Server implements Runnable {
                     filteredRoundReports.addElement(r);
                 }
             }
-            filteredReports.addElement(filteredRoundReports);
+            filteredReports.add(filteredRoundReports);
         }
         return filteredReports;
     }
@@ -30495,10 +30515,14 @@ public class Server implements Runnable {
     }
 
     /**
-     * Creates a packet containing all the round reports
+     * Creates a packet containing the page of round reports that ends with the given round
      */
-    private Packet createAllReportsPacket(Player p) {
-        return new Packet(Packet.COMMAND_SENDING_REPORTS_ALL, filterPastReports(game.getAllReports(), p));
+    private Packet createReportPagePacket(Player p, int lastRound) {
+        int totalRounds = game.getReportRoundCount();
+        lastRound = Math.min(lastRound, totalRounds);
+        int firstRound = ReportPage.getPageStart(lastRound);
+        List<Vector<Report>> rounds = filterPastReports(game.getReports(firstRound, lastRound), p);
+        return new Packet(Packet.COMMAND_SENDING_REPORTS_PAGE, new ReportPage(firstRound, totalRounds, rounds));
     }
 
     /**
@@ -30684,7 +30708,25 @@ public class Server implements Runnable {
      * Sends notification to clients that the specified hex has changed.
      */
     public void sendChangedHex(Coords coords) {
-        send(createHexChangePacket(coords, game.getBoard().getHex(coords)));
+        if (environmentEngine.isCollectingChanges() && game.getBoard().contains(coords)) {
+            // Sent together with all other end phase hex changes
+            hexUpdateSet.add(coords);
+        } else {
+            send(createHexChangePacket(coords, game.getBoard().getHex(coords)));
+        }
+    }
+
+    /**
+     * Sends the hex changes collected while the end phase processors run. This is done before any
+     * other packet is sent, so that the clients receive the changed hexes before the entity updates
+     * and reports that may refer to them, just as if the hexes had been sent one by one.
+     */
+    private void flushChangedHexes() {
+        if (environmentEngine.isCollectingChanges() && !hexUpdateSet.isEmpty()) {
+            Set<Coords> changedHexes = new LinkedHashSet<>(hexUpdateSet);
+            hexUpdateSet.clear();
+            sendChangedHexes(changedHexes);
+        }
     }
 
     /**
@@ -30822,6 +30864,7 @@ public class Server implements Runnable {
         if (connections == null) {
             return;
         }
+        flushChangedHexes();
         for (Enumeration<AbstractConnection> connEnum = connections.elements(); connEnum.hasMoreElements(); ) {
             AbstractConnection conn = connEnum.nextElement();
             conn.send(packet);
@@ -30861,6 +30904,7 @@ public class Server implements Runnable {
             return;
         }
 
+        flushChangedHexes();
         for (Enumeration<AbstractConnection> connEnum = connections.elements(); connEnum.hasMoreElements(); ) {
             AbstractConnection conn = connEnum.nextElement();
             Player p = game.getPlayer(conn.getId());
@@ -30879,6 +30923,7 @@ public class Server implements Runnable {
      */
     public void send(int connId, Packet packet) {
         if (getClient(connId) != null) {
+            flushChangedHexes();
             getClient(connId).send(packet);
         }
         // What should we do if we've lost this client?
@@ -31233,6 +31278,15 @@ public class Server implements Runnable {
             case Packet.COMMAND_RESET_ROUND_DEPLOYMENT:
                 game.setupRoundDeployment();
                 break;
+            case Packet.COMMAND_REQUEST_REPORTS_PAGE:
+                // A pending connection has no player yet, and double blind reports are filtered per player
+                if (player == null) {
+                    LogManager.getLogger().error("Rejecting report page request from connection " + connId
+                            + " without a player");
+                    break;
+                }
+                send(connId, createReportPagePacket(player, packet.getIntValue(0)));
+                break;
             case Packet.COMMAND_SPECIAL_HEX_DISPLAY_DELETE:
                 game.getBoard().removeSpecialHexDisplay((Coords) packet.getObject(0),
                         (SpecialHexDisplay) packet.getObject(1));
@@ -35116,6 +35170,27 @@ public class Server implements Runnable {
         handleAttacks(false);
     }
 
+    /**
+     * Lets the attack handler resolve its attack in the current phase and records the time it took.
+     *
+     * @return true if the handler should be kept for the next phase
+     */
+    private boolean handleAttack(AttackHandler ah, Vector<Report> reports) {
+        MetricsEvents.AttackHandler event = new MetricsEvents.AttackHandler();
+        long start = System.nanoTime();
+        event.begin();
+        boolean keep = ah.handle(game.getPhase(), reports);
+        event.end();
+        Metrics.getInstance().recordTime(Metrics.ATTACK_HANDLER + ah.getClass().getSimpleName(),
+                System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            event.handler = ah.getClass().getName();
+            event.attackerId = ah.getAttackerId();
+            event.commit();
+        }
+        return keep;
+    }
+
     private void handleAttacks(boolean pointblankShot) {
         Report r;
         int lastAttackerId = -1;
@@ -35143,7 +35218,7 @@ public class Server implements Runnable {
                     ah.setAnnouncedEntityFiring(true);
                     lastAttackerId = aId;
                 }
-                boolean keep = ah.handle(game.getPhase(), handleAttackReports);
+                boolean keep = handleAttack(ah, handleAttackReports);
                 if (keep) {
                     keptAttacks.add(ah);
                 }
@@ -35177,7 +35252,7 @@ public class Server implements Runnable {
                     ah.setAnnouncedEntityFiring(true);
                     lastAttackerId = aId;
                 }
-                boolean keep = ah.handle(game.getPhase(), handleAttackReports);
+                boolean keep = handleAttack(ah, handleAttackReports);
                 if (keep) {
                     keptAttacks.add(ah);
                 }
@@ -35212,9 +35287,7 @@ public class Server implements Runnable {
      * @param duration How long the smoke will last.
      */
     public void createSmoke(Coords coords, int level, int duration) {
-        SmokeCloud cloud = new SmokeCloud(coords, level, duration);
-        game.addSmokeCloud(cloud);
-        sendSmokeCloudAdded(cloud);
+        addSmokeCloud(new SmokeCloud(coords, level, duration));
     }
 
     /**
@@ -35225,9 +35298,18 @@ public class Server implements Runnable {
      * @param duration duration How long the smoke will last.
      */
     public void createSmoke(ArrayList<Coords> coords, int level, int duration) {
-        SmokeCloud cloud = new SmokeCloud(coords, level, duration);
-        game.addSmokeCloud(cloud);
-        sendSmokeCloudAdded(cloud);
+        addSmokeCloud(new SmokeCloud(coords, level, duration));
+    }
+
+    private void addSmokeCloud(SmokeCloud cloud) {
+        if (environmentEngine.isCollectingChanges()) {
+            // Added together with the other clouds created by the current end phase processor, so
+            // the cloud is not in the game's list of clouds until that processor has finished
+            environmentEngine.smokeCloudCreated(cloud);
+        } else {
+            game.addSmokeCloud(cloud);
+            sendSmokeCloudAdded(cloud);
+        }
     }
 
     /**
@@ -35394,4 +35476,8 @@ public class Server implements Runnable {
     public Set<Coords> getHexUpdateSet() {
         return hexUpdateSet;
     }
+
+    public EnvironmentEngine getEnvironmentEngine() {
+        return environmentEngine;
+    }
 }
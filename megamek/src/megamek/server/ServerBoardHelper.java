@@ -19,72 +19,59 @@
 package megamek.server;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import megamek.common.Board;
 import megamek.common.BoardDimensions;
-import megamek.common.Configuration;
+import megamek.common.BoardIndex;
+import megamek.common.BoardIndex.BoardInfo;
 import megamek.common.MapSettings;
+import megamek.common.annotations.Nullable;
 import megamek.common.util.StringUtil;
-import megamek.common.util.fileUtils.MegaMekFile;
 
 class ServerBoardHelper {
     
     /**
      * Returns a list of path names of available boards of the size set in the given
      * mapSettings. The path names are minus the '.board' extension and relative to
-     * the boards data directory.
+     * the boards data directory. The sizes are taken from the {@link BoardIndex}, which
+     * is refreshed first so that only new or changed boards are read.
      */
     static ArrayList<String> scanForBoards(MapSettings mapSettings) {
         BoardDimensions boardSize = mapSettings.getBoardSize();
         ArrayList<String> result = new ArrayList<>();
-        
-        // Scan the Megamek boards directory
-        File boardDir = Configuration.boardsDir();
-        scanForBoardsInDir(boardDir, "", boardSize, result);
-        
-        // Scan the userData directory
-        boardDir = new File(Configuration.userdataDir(), Configuration.boardsDir().toString());
-        if (boardDir.isDirectory()) {
-            scanForBoardsInDir(boardDir, "", boardSize, result);
+
+        // Scan the Megamek boards directory and the userData directory
+        List<File> boardDirs = BoardIndex.getBoardDirectories();
+        List<BoardInfo> boards = BoardIndex.getInstance().refresh(boardDirs.toArray(new File[0]));
+        for (BoardInfo board : boards) {
+            if (board.isSize(boardSize)) {
+                String name = getBoardName(boardDirs, board.getFile());
+                if (name != null) {
+                    result.add(name);
+                }
+            }
         }
-        
+
         result.sort(StringUtil.stringComparator());
         return result;
     }
-    
+
     /**
-     * Scans the given boardDir directory for map boards of the given size and
-     * returns them by adding them to the given boards list. Removes the .board extension.
+     * Returns the path name of the given board file relative to the board directory it is in,
+     * with a leading separator and without the .board extension, or null if it is in none of
+     * the given directories.
      */
-    static List<String> scanForBoardsInDir(final File boardDir, final String basePath,
-                                            final BoardDimensions dimensions, List<String> boards) {
-        if (boardDir == null) {
-            throw new IllegalArgumentException("must provide searchDir");
-        } else if (basePath == null) {
-            throw new IllegalArgumentException("must provide basePath");
-        } else if (dimensions == null) {
-            throw new IllegalArgumentException("must provide dimensions");
-        } else if (boards == null) {
-            throw new IllegalArgumentException("must provide boards");
-        }
-
-        String[] fileList = boardDir.list();
-        if (fileList != null) {
-            for (String filename : fileList) {
-                File filePath = new MegaMekFile(boardDir, filename).getFile();
-                if (filePath.isDirectory()) {
-                    scanForBoardsInDir(filePath, basePath + File.separator + filename, dimensions, boards);
-                } else {
-                    if (filename.endsWith(".board")) {
-                        if (Board.boardIsSize(filePath, dimensions)) {
-                            boards.add(basePath + File.separator + filename.substring(0, filename.lastIndexOf(".")));
-                        }
-                    }
-                }
+    static @Nullable String getBoardName(List<File> boardDirs, File boardFile) {
+        for (File boardDir : boardDirs) {
+            Path dirPath = boardDir.getAbsoluteFile().toPath();
+            Path filePath = boardFile.getAbsoluteFile().toPath();
+            if (filePath.startsWith(dirPath)) {
+                String relative = dirPath.relativize(filePath).toString();
+                return File.separator + relative.substring(0, relative.lastIndexOf("."));
             }
         }
-        return boards;
+        return null;
     }
 }
@@ -144,111 +144,125 @@ public class WeatherProcessor extends DynamicTerrainProcessor {
             vPhaseReport.addElement(r);
         }
 
-        // Cycle through all hexes, checking for the appropriate weather changes
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
-
-                //check for fires and potentially put them out
-                if (currentHex.containsTerrain(Terrains.FIRE)) {
-                    //only standard fires get put out
-                    if (currentHex.terrainLevel(Terrains.FIRE)
-                            == Terrains.FIRE_LVL_NORMAL) {
-                        if (conditions.putOutFire()) {
-                            server.removeFire(currentCoords, "weather conditions");
-                        }
-                    // Downgrade Inferno fires so they can burn out
-                    } else if (currentHex.terrainLevel(Terrains.FIRE) 
-                            == Terrains.FIRE_LVL_INFERNO) {
-                        //inferno fires should become regular fires
-                        currentHex.removeTerrain(Terrains.FIRE);
-                        currentHex.addTerrain(new Terrain(Terrains.FIRE, 1));
-                        server.getHexUpdateSet().add(currentCoords);
-                    // Check Inferno Bombs
-                    } else if (currentHex.terrainLevel(Terrains.FIRE) 
-                            == Terrains.FIRE_LVL_INFERNO_BOMB) {
-                        if (currentHex.getFireTurn() > 30) {
-                            server.removeFire(currentCoords, 
-                                    "inferno bomb burning out");
-                        }
-                    }
-                    // Inferno IV doesn't burn out, TO pg 356
+        if (lightSnow || deepSnow || ice || (conditions.getWindStrength() > PlanetaryConditions.WI_MOD_GALE)) {
+            // Cycle through all hexes, checking for the appropriate weather changes
+            for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
+                for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
+                    resolveWeather(new Coords(currentXCoord, currentYCoord),
+                            board.getHex(currentXCoord, currentYCoord), conditions, lightSnow, deepSnow, ice);
                 }
+            }
+        } else {
+            // Without snow, ice or storms only burning hexes can change
+            server.getEnvironmentEngine().getBurningHexes().forEach(packedCoords -> {
+                Coords currentCoords = PackedCoords.toCoords(packedCoords);
+                resolveWeather(currentCoords, board.getHex(currentCoords), conditions, false, false, false);
+            });
+        }
+        debugTime("resolve weather 1 end", true);
+    }
 
-                if (ice && !currentHex.containsTerrain(Terrains.ICE)
-                        && currentHex.containsTerrain(Terrains.WATER)) {
-                    currentHex.addTerrain(new Terrain(Terrains.ICE, 1));
-                    server.getHexUpdateSet().add(currentCoords);
+    /**
+     * Makes the weather changes to a single hex.
+     */
+    private void resolveWeather(Coords currentCoords, Hex currentHex, PlanetaryConditions conditions,
+                                boolean lightSnow, boolean deepSnow, boolean ice) {
+        //check for fires and potentially put them out
+        if (currentHex.containsTerrain(Terrains.FIRE)) {
+            //only standard fires get put out
+            if (currentHex.terrainLevel(Terrains.FIRE)
+                    == Terrains.FIRE_LVL_NORMAL) {
+                if (conditions.putOutFire()) {
+                    server.removeFire(currentCoords, "weather conditions");
                 }
-
-                if (lightSnow
-                        && !currentHex.containsTerrain(Terrains.SNOW)
-                        && !(currentHex.containsTerrain(Terrains.WATER) 
-                                && !currentHex.containsTerrain(Terrains.ICE))
-                        && !currentHex.containsTerrain(Terrains.MAGMA)) {
-                    currentHex.addTerrain(new Terrain(Terrains.SNOW, 1));
-                    server.getHexUpdateSet().add(currentCoords);
+            // Downgrade Inferno fires so they can burn out
+            } else if (currentHex.terrainLevel(Terrains.FIRE) 
+                    == Terrains.FIRE_LVL_INFERNO) {
+                //inferno fires should become regular fires
+                currentHex.removeTerrain(Terrains.FIRE);
+                currentHex.addTerrain(new Terrain(Terrains.FIRE, 1));
+                server.getHexUpdateSet().add(currentCoords);
+            // Check Inferno Bombs
+            } else if (currentHex.terrainLevel(Terrains.FIRE) 
+                    == Terrains.FIRE_LVL_INFERNO_BOMB) {
+                if (currentHex.getFireTurn() > 30) {
+                    server.removeFire(currentCoords, 
+                            "inferno bomb burning out");
                 }
+            }
+            // Inferno IV doesn't burn out, TO pg 356
+        }
 
-                if (deepSnow && !(currentHex.terrainLevel(Terrains.SNOW) > 1)
-                        && !(currentHex.containsTerrain(Terrains.WATER) 
-                                && !currentHex.containsTerrain(Terrains.ICE))
-                        && !currentHex.containsTerrain(Terrains.MAGMA)) {
-                    currentHex.addTerrain(new Terrain(Terrains.SNOW, 2));
-                    server.getHexUpdateSet().add(currentCoords);
-                }
+        if (ice && !currentHex.containsTerrain(Terrains.ICE)
+                && currentHex.containsTerrain(Terrains.WATER)) {
+            currentHex.addTerrain(new Terrain(Terrains.ICE, 1));
+            server.getHexUpdateSet().add(currentCoords);
+        }
 
-                //check for the melting of any snow or ice
-                if (currentHex.terrainLevel(Terrains.SNOW) > 1
-                        && currentHex.containsTerrain(Terrains.FIRE) 
-                        && currentHex.getFireTurn() == 3) {
-                    currentHex.removeTerrain(Terrains.SNOW);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                            && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                    }
-                }
+        if (lightSnow
+                && !currentHex.containsTerrain(Terrains.SNOW)
+                && !(currentHex.containsTerrain(Terrains.WATER) 
+                        && !currentHex.containsTerrain(Terrains.ICE))
+                && !currentHex.containsTerrain(Terrains.MAGMA)) {
+            currentHex.addTerrain(new Terrain(Terrains.SNOW, 1));
+            server.getHexUpdateSet().add(currentCoords);
+        }
 
-                if (currentHex.terrainLevel(Terrains.SNOW) == 1
-                        && currentHex.containsTerrain(Terrains.FIRE) 
-                        && currentHex.getFireTurn() == 1) {
-                    currentHex.removeTerrain(Terrains.SNOW);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                            && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                    }
-                }
+        if (deepSnow && !(currentHex.terrainLevel(Terrains.SNOW) > 1)
+                && !(currentHex.containsTerrain(Terrains.WATER) 
+                        && !currentHex.containsTerrain(Terrains.ICE))
+                && !currentHex.containsTerrain(Terrains.MAGMA)) {
+            currentHex.addTerrain(new Terrain(Terrains.SNOW, 2));
+            server.getHexUpdateSet().add(currentCoords);
+        }
 
-                if (currentHex.containsTerrain(Terrains.ICE)
-                        && currentHex.containsTerrain(Terrains.FIRE) 
-                        && currentHex.getFireTurn() == 2) {
-                    currentHex.removeTerrain(Terrains.ICE);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                            && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                    }
-                }
+        //check for the melting of any snow or ice
+        if (currentHex.terrainLevel(Terrains.SNOW) > 1
+                && currentHex.containsTerrain(Terrains.FIRE) 
+                && currentHex.getFireTurn() == 3) {
+            currentHex.removeTerrain(Terrains.SNOW);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                    && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+            }
+        }
+
+        if (currentHex.terrainLevel(Terrains.SNOW) == 1
+                && currentHex.containsTerrain(Terrains.FIRE) 
+                && currentHex.getFireTurn() == 1) {
+            currentHex.removeTerrain(Terrains.SNOW);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                    && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+            }
+        }
 
-                //check for rapids/torrents created by wind
-                //FIXME: This doesn't seem to be doing anything
-                if (conditions.getWindStrength() > PlanetaryConditions.WI_MOD_GALE
-                        && currentHex.containsTerrain(Terrains.WATER) 
-                        && currentHex.depth(true) > 0) {
-
-                    if (conditions.getWindStrength() > PlanetaryConditions.WI_STORM) {
-                        if (!(currentHex.terrainLevel(Terrains.RAPIDS) > 1)) {
-                            currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 2));
-                        }
-                    } else {
-                        if (!currentHex.containsTerrain(Terrains.RAPIDS)) {
-                            currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 1));
-                        }
-                    }
+        if (currentHex.containsTerrain(Terrains.ICE)
+                && currentHex.containsTerrain(Terrains.FIRE) 
+                && currentHex.getFireTurn() == 2) {
+            currentHex.removeTerrain(Terrains.ICE);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                    && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+            }
+        }
+
+        //check for rapids/torrents created by wind
+        //FIXME: This doesn't seem to be doing anything
+        if (conditions.getWindStrength() > PlanetaryConditions.WI_MOD_GALE
+                && currentHex.containsTerrain(Terrains.WATER) 
+                && currentHex.depth(true) > 0) {
+
+            if (conditions.getWindStrength() > PlanetaryConditions.WI_STORM) {
+                if (!(currentHex.terrainLevel(Terrains.RAPIDS) > 1)) {
+                    currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 2));
+                }
+            } else {
+                if (!currentHex.containsTerrain(Terrains.RAPIDS)) {
+                    currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 1));
                 }
             }
         }
-        debugTime("resolve weather 1 end", true);
     }
 
 }
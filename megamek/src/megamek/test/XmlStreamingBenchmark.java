@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.test;
+
+import megamek.client.ratgenerator.RATGenerator;
+import megamek.common.*;
+import megamek.utils.MegaMekXmlUtil;
+import org.w3c.dom.Document;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+/**
+ * Compares reading the large XML inputs into a DOM document with streaming them, in time and in bytes
+ * allocated by the reading thread. The inputs are the canon quirks file, the force generator era files
+ * and a MUL file written for the purpose from the first units of the unit cache. For the MUL file, the
+ * entities read by streaming are also checked against those read from the DOM document. For the quirks
+ * and era files, only the parsing into a DOM document is timed, as the DOM loaders no longer exist; the
+ * streamed figures include building the quirks and force generator records.
+ *
+ * Usage: XmlStreamingBenchmark [number of units in the MUL file, default 500]
+ */
+public class XmlStreamingBenchmark {
+    private static final int ROUNDS = 5;
+
+    @FunctionalInterface
+    private interface Run {
+        void run() throws Exception;
+    }
+
+    public static void main(String... args) throws Exception {
+        int unitCount = (args.length > 0) ? Integer.parseInt(args[0]) : 500;
+        EquipmentType.initializeTypes();
+        MechSummaryCache cache = MechSummaryCache.getInstance(true);
+        while (!cache.isInitialized()) {
+            Thread.sleep(100);
+        }
+
+        File quirks = new File(Configuration.dataDir(), "canonUnitQuirks.xml");
+        measure("Quirks DOM (parse only)", () -> MegaMekXmlUtil.newSafeDocumentBuilder().parse(quirks));
+        measure("Quirks streamed + loaded", QuirksHandler::initQuirksList);
+
+        File[] eraFiles = Configuration.forceGeneratorDir().listFiles((dir, name) -> name.matches("\\d+\\.xml"));
+        if (eraFiles != null) {
+            measure("RAT eras DOM (parse only)", () -> {
+                for (File eraFile : eraFiles) {
+                    MegaMekXmlUtil.newSafeDocumentBuilder().parse(eraFile);
+                }
+            });
+            RATGenerator generator = RATGenerator.getInstance();
+            while (!generator.isInitialized()) {
+                Thread.sleep(100);
+            }
+            measure("RAT eras streamed + loaded", () -> generator.reloadFromDir(Configuration.forceGeneratorDir()));
+        }
+
+        ArrayList<Entity> units = new ArrayList<>();
+        for (MechSummary summary : cache.getAllMechs()) {
+            if (units.size() >= unitCount) {
+                break;
+            }
+            units.add(new MechFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity());
+        }
+        File mul = File.createTempFile("benchmark", ".mul");
+        mul.deleteOnExit();
+        EntityListFile.saveTo(mul, units);
+        System.out.println("MUL file of " + units.size() + " units, " + (mul.length() >> 10) + " KiB");
+
+        measure("MUL from DOM document", () -> new MULParser(
+                MegaMekXmlUtil.newSafeDocumentBuilder().parse(mul).getDocumentElement(), null));
+        measure("MUL streamed", () -> new MULParser(mul, null));
+
+        Document document = MegaMekXmlUtil.newSafeDocumentBuilder().parse(mul);
+        Vector<Entity> fromDom = new MULParser(document.getDocumentElement(), null).getEntities();
+        Vector<Entity> streamed = new MULParser(mul, null).getEntities();
+        System.out.println("MUL entities identical: " + describe(fromDom).equals(describe(streamed)));
+        System.exit(0);
+    }
+
+    private static List<String> describe(List<Entity> entities) {
+        List<String> result = new ArrayList<>();
+        for (Entity entity : entities) {
+            result.add(entity.getShortName() + " " + entity.getExternalIdAsString() + " " + entity.getCrew().getName()
+                    + " " + entity.getCrew().getGunnery() + "/" + entity.getCrew().getPiloting()
+                    + " " + entity.getTotalArmor() + " " + entity.getTotalInternal());
+        }
+        return result;
+    }
+
+    private static void measure(String name, Run run) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        run.run();
+        long bestNanos = Long.MAX_VALUE;
+        long bytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocated = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            run.run();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            bytes = Math.min(bytes, threads.getThreadAllocatedBytes(threadId) - allocated);
+        }
+        System.out.printf("%-24s %8.1f ms %10d KiB allocated%n", name, bestNanos / 1e6, bytes >> 10);
+    }
+}
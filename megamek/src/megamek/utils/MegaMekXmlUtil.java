@@ -31,12 +31,20 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.transform.sax.SAXSource;
 
 import megamek.common.annotations.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXNotRecognizedException;
@@ -47,6 +55,7 @@ public class MegaMekXmlUtil {
     //region Variable Declarations
     private static DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY;
     private static SAXParserFactory SAX_PARSER_FACTORY;
+    private static XMLInputFactory XML_INPUT_FACTORY;
 
     private static final String[] INDENTS = new String[] {
             "",
@@ -139,6 +148,151 @@ public class MegaMekXmlUtil {
     public static Source createSafeXmlSource(InputStream inputStream) {
         return new SAXSource(createSafeXMLReader(), new InputSource(inputStream));
     }
+
+    /**
+     * Creates a streaming reader that is safe from external entities and entity expansion attacks,
+     * for files that are too large to be held in memory as a whole. Like the DOM parser, the reader
+     * is not namespace aware, so element names are read as they are written. Adjacent text, including
+     * CDATA sections, is reported as a single event.
+     *
+     * @param inputStream the stream to read
+     * @return the reader, positioned at the start of the document
+     * @throws XMLStreamException if the stream cannot be read
+     */
+    public static XMLStreamReader createSafeXmlStreamReader(InputStream inputStream) throws XMLStreamException {
+        XMLInputFactory xif = XML_INPUT_FACTORY;
+        if (null == xif) {
+            // As for the DocumentBuilderFactory, creating this twice is harmless
+            xif = XMLInputFactory.newInstance();
+            xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            xif.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+            xif.setProperty(XMLInputFactory.IS_COALESCING, true);
+            XML_INPUT_FACTORY = xif;
+        }
+        return xif.createXMLStreamReader(inputStream);
+    }
+
+    /**
+     * Reads the element the reader is positioned at, including all its descendants, into a DOM
+     * element. This allows streaming through a large file while handing its (small) parts to code
+     * working on DOM elements. The element's text is normalized as by {@link Node#normalize()} and
+     * comments and processing instructions are left out.
+     *
+     * @param reader   a reader positioned at a start element; it is left at the matching end element
+     * @param document the document creating the element
+     * @return the element, not attached to the document
+     * @throws XMLStreamException if the element cannot be read
+     */
+    public static Element readElement(XMLStreamReader reader, Document document) throws XMLStreamException {
+        final Element root = createElement(reader, document);
+        Element current = root;
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    final Element child = createElement(reader, document);
+                    current.appendChild(child);
+                    current = child;
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    if (depth > 0) {
+                        current = (Element) current.getParentNode();
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (current.getLastChild() instanceof Text) {
+                        ((Text) current.getLastChild()).appendData(reader.getText());
+                    } else if (reader.getTextLength() > 0) {
+                        current.appendChild(document.createTextNode(reader.getText()));
+                    }
+                    break;
+                case XMLStreamConstants.END_DOCUMENT:
+                    throw new XMLStreamException("Unexpected end of document in " + root.getTagName());
+                default:
+                    break;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Reads the text content of the element the reader is positioned at, which like
+     * {@link Node#getTextContent()} includes the text of all descendants.
+     *
+     * @param reader a reader positioned at a start element; it is left at the matching end element
+     * @return the text content, which may be empty
+     * @throws XMLStreamException if the element cannot be read
+     */
+    public static String readTextContent(XMLStreamReader reader) throws XMLStreamException {
+        final StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                case XMLStreamConstants.END_DOCUMENT:
+                    throw new XMLStreamException("Unexpected end of document");
+                default:
+                    break;
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Moves the reader to the next child element of the current element, skipping text, comments and
+     * processing instructions.
+     *
+     * @param reader a reader positioned at a start element, or the end of a child element
+     * @return true if the reader is at the start of the next child element, false if it is at the end
+     * of the current element (or at the end of the document)
+     * @throws XMLStreamException if the element cannot be read
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    return true;
+                case XMLStreamConstants.END_ELEMENT:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips the element the reader is positioned at, including all its descendants.
+     *
+     * @param reader a reader positioned at a start element; it is left at the matching end element
+     * @throws XMLStreamException if the element cannot be read
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        readTextContent(reader);
+    }
+
+    private static Element createElement(XMLStreamReader reader, Document document) {
+        final Element element = document.createElement(reader.getLocalName());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+        return element;
+    }
     //region XML Writing
     //region Open Tag
     /**
@@ -13,10 +13,12 @@
  */
 package megamek.client.bot.princess;
 
+import megamek.client.bot.BotClient;
 import megamek.client.bot.princess.FireControl.FireControlType;
 import megamek.client.bot.princess.UnitBehavior.BehaviorType;
 import megamek.common.*;
 import megamek.common.options.GameOptions;
+import megamek.common.options.MockGameOptions;
 import megamek.common.options.PilotOptions;
 import megamek.common.util.StringUtil;
 import org.junit.Assert;
@@ -382,7 +384,7 @@ public class BasicPathRankerTest {
                .when(boardCenter)
                .direction(Mockito.nullable(Coords.class));
 
-        final GameOptions mockGameOptions = Mockito.mock(GameOptions.class);
+        final GameOptions mockGameOptions = MockGameOptions.create();
         Mockito.when(mockGameOptions.booleanOption(Mockito.eq("no_clan_physical"))).thenReturn(false);
 
         final Game mockGame = Mockito.mock(Game.class);
@@ -1274,7 +1276,7 @@ public class BasicPathRankerTest {
         final Game mockGame = Mockito.mock(Game.class);
         
         Mockito.when(mockGame.getBoard()).thenReturn(mockBoard);
-        final GameOptions mockGameOptions = Mockito.mock(GameOptions.class);
+        final GameOptions mockGameOptions = MockGameOptions.create();
         Mockito.when(mockGame.getOptions()).thenReturn(mockGameOptions);
         Mockito.when(mockGameOptions.booleanOption(Mockito.anyString())).thenReturn(false);
          
@@ -1491,4 +1493,54 @@ public class BasicPathRankerTest {
         Mockito.when(mockPath.getLastStepMovementType()).thenReturn(EntityMovementType.MOVE_FLYING);
         Assert.assertEquals(0.0, testRanker.checkPathForHazards(mockPath, mockUnit, mockGame), TOLERANCE);
     }
+
+    private MovePath mockPathTo(final Entity mover, final Coords end, final int hexesMoved) {
+        final MovePath mockPath = Mockito.mock(MovePath.class);
+        Mockito.when(mockPath.getEntity()).thenReturn(mover);
+        Mockito.when(mockPath.getFinalCoords()).thenReturn(end);
+        Mockito.when(mockPath.getHexesMoved()).thenReturn(hexesMoved);
+        Mockito.when(mockPath.getKey()).thenReturn(new MovePath.Key(end, 0, 2));
+        return mockPath;
+    }
+
+    @Test
+    public void testDistinctOutcomesFirst() {
+        final BasicPathRanker testRanker = new BasicPathRanker(mockPrincess);
+        final Game mockGame = Mockito.mock(Game.class);
+        final Entity mockMover = Mockito.mock(BipedMech.class);
+        final Entity mockEnemy = Mockito.mock(BipedMech.class);
+        Mockito.when(mockEnemy.getPosition()).thenReturn(new Coords(10, 0));
+
+        // Ends far out of range of the enemy.
+        final MovePath farPath = mockPathTo(mockMover, new Coords(0, 0), 3);
+        // Both end in range at the same hex, the second one moving more hexes.
+        final MovePath shortPath = mockPathTo(mockMover, new Coords(8, 0), 2);
+        final MovePath longPath = mockPathTo(mockMover, new Coords(8, 0), 4);
+        // Ends just out of range.
+        final MovePath closePath = mockPathTo(mockMover, new Coords(6, 0), 1);
+
+        final List<MovePath> ordered = testRanker.distinctOutcomesFirst(
+                List.of(farPath, shortPath, longPath, closePath), mockGame, 3, List.of(mockEnemy));
+        Assert.assertEquals(List.of(longPath, closePath, farPath, shortPath), ordered);
+    }
+
+    @Test
+    public void testRankValidPathsStopsAtDeadline() {
+        final BasicPathRanker testRanker = Mockito.spy(new BasicPathRanker(mockPrincess));
+        Mockito.doAnswer(invocation -> new RankedPath(1, invocation.getArgument(0), "test"))
+                .when(testRanker).rankPath(Mockito.any(MovePath.class), Mockito.any(Game.class), Mockito.anyInt(),
+                        Mockito.anyDouble(), Mockito.anyList(), Mockito.any());
+        final Game mockGame = Mockito.mock(Game.class);
+        final Entity mockMover = Mockito.mock(BipedMech.class);
+        final List<MovePath> paths = List.of(mockPathTo(mockMover, new Coords(0, 0), 1),
+                mockPathTo(mockMover, new Coords(1, 0), 1), mockPathTo(mockMover, new Coords(2, 0), 1));
+
+        Assert.assertEquals(3, testRanker.rankValidPaths(paths, mockGame, 3, 0, new ArrayList<>(), null,
+                BotClient.NO_DEADLINE).size());
+        // Past the deadline, only the first path is ranked so that there is a path to use
+        final List<RankedPath> ranked = testRanker.rankValidPaths(paths, mockGame, 3, 0, new ArrayList<>(), null,
+                System.nanoTime() - 1);
+        Assert.assertEquals(1, ranked.size());
+        Assert.assertSame(paths.get(0), ranked.get(0).getPath());
+    }
 }
@@ -16,6 +16,7 @@ package megamek.client.bot.princess;
 import megamek.client.bot.princess.PathRanker.PathRankerType;
 import megamek.common.*;
 import megamek.common.options.GameOptions;
+import megamek.common.options.MockGameOptions;
 import megamek.common.options.OptionsConstants;
 import megamek.common.options.PilotOptions;
 import megamek.common.util.StringUtil;
@@ -175,7 +176,7 @@ public class FireControlTest {
         mockTargetCoords = new Coords(10, 0);
         Mockito.when(mockTargetState.getPosition()).thenReturn(mockTargetCoords);
 
-        mockGameOptions = Mockito.mock(GameOptions.class);
+        mockGameOptions = MockGameOptions.create();
         // logic within getFullFiringPlan checks if this feature is turned on then checks whether the
         // weapon type is AMS
         // since it's more of a pain to set up all the weapon types, we simply pretend the feature is turned on 
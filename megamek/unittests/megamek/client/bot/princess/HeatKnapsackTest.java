@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022 - The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with MegaMek. If not, see <http://www.gnu.org/licenses/>.
+ */
+package megamek.client.bot.princess;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class HeatKnapsackTest {
+
+    private static final double TOLERANCE = 0.00001;
+
+    @Test
+    public void testSelectionForEveryHeatLevel() {
+        // LRM 5, medium laser, PPC
+        final int[] heat = { 1, 3, 10 };
+        final double[] utility = { 1.8, 3.0, 10.6 };
+        final HeatKnapsack knapsack = new HeatKnapsack(heat, utility, 14);
+
+        Assert.assertArrayEquals(new int[0], knapsack.getSelection(0));
+        Assert.assertArrayEquals(new int[] { 0 }, knapsack.getSelection(2));
+        Assert.assertArrayEquals(new int[] { 1 }, knapsack.getSelection(3));
+        Assert.assertArrayEquals(new int[] { 0, 1 }, knapsack.getSelection(9));
+        Assert.assertArrayEquals(new int[] { 2 }, knapsack.getSelection(10));
+        Assert.assertArrayEquals(new int[] { 0, 2 }, knapsack.getSelection(11));
+        Assert.assertArrayEquals(new int[] { 1, 2 }, knapsack.getSelection(13));
+        Assert.assertArrayEquals(new int[] { 0, 1, 2 }, knapsack.getSelection(14));
+        Assert.assertEquals(15.4, knapsack.getBestUtility(14), TOLERANCE);
+
+        // Budgets above the maximum are capped, budgets below zero select nothing.
+        Assert.assertArrayEquals(new int[] { 0, 1, 2 }, knapsack.getSelection(30));
+        Assert.assertArrayEquals(new int[0], knapsack.getSelection(-1));
+    }
+
+    @Test
+    public void testUselessItemsNotSelected() {
+        final int[] heat = { 0, 2, 0 };
+        final double[] utility = { 0, -1.0, 2.0 };
+        final HeatKnapsack knapsack = new HeatKnapsack(heat, utility, 5);
+
+        Assert.assertArrayEquals(new int[] { 2 }, knapsack.getSelection(5));
+        Assert.assertEquals(2.0, knapsack.getBestUtility(0), TOLERANCE);
+    }
+}
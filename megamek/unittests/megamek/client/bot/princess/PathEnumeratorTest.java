@@ -0,0 +1,96 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.client.bot.princess;
+
+import megamek.common.*;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(JUnit4.class)
+public class PathEnumeratorTest {
+
+    private Princess princess;
+
+    @After
+    public void tearDown() {
+        // stops the precognition thread
+        if (princess != null) {
+            princess.die();
+        }
+    }
+
+    @Test
+    public void testRecalculateWhileClearing() throws Exception {
+        Board board = new Board(16, 16);
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                board.setHex(x, y, new Hex());
+            }
+        }
+        Game game = new Game();
+        game.setBoard(board);
+        princess = new Princess("test", "localhost", 0);
+        princess.getGame().setBoard(board);
+
+        Mech mech = new BipedMech();
+        mech.setGame(game);
+        mech.setWeight(50);
+        mech.setEngine(new Engine(200, Engine.NORMAL_ENGINE, 0));
+        mech.setOriginalWalkMP(4);
+        mech.setId(1);
+        mech.setPosition(new Coords(8, 8));
+        mech.setFacing(0);
+        mech.setDeployed(true);
+        // already moved, so no long range paths are needed
+        mech.setDone(true);
+        game.addEntity(mech);
+
+        PathEnumerator enumerator = new PathEnumerator(princess, game);
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(workers.submit(() -> enumerator.recalculateMovesForWorker(mech)));
+                results.add(workers.submit(() -> {
+                    enumerator.clear();
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        // once things settle, the results of the unit are complete and consistent
+        Assert.assertTrue(enumerator.recalculateMovesForWorker(mech));
+        List<MovePath> paths = enumerator.getUnitPaths().get(mech.getId());
+        Assert.assertNotNull(paths);
+        Assert.assertFalse(paths.isEmpty());
+        Assert.assertFalse(enumerator.getUnitPotentialLocations().get(mech.getId()).isEmpty());
+        Assert.assertNotNull(enumerator.getUnitMovableAreas().get(mech.getId()));
+        Assert.assertNotNull(enumerator.getLastKnownCoords(mech.getId()));
+    }
+}
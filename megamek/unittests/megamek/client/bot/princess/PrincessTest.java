@@ -17,6 +17,7 @@ import megamek.client.bot.princess.PathRanker.PathRankerType;
 import megamek.common.*;
 import megamek.common.enums.GamePhase;
 import megamek.common.options.GameOptions;
+import megamek.common.options.MockGameOptions;
 import megamek.common.options.OptionsConstants;
 import org.junit.Assert;
 import org.junit.Before;
@@ -267,7 +268,7 @@ public class PrincessTest {
 
         // Test a list of normal units.
         Game mockGame = Mockito.mock(Game.class);
-        GameOptions mockOptions = Mockito.mock(GameOptions.class);
+        GameOptions mockOptions = MockGameOptions.create();
         Mockito.when(mockGame.getOptions()).thenReturn(mockOptions);
         Mockito.when(mockOptions.booleanOption(OptionsConstants.INIT_SIMULTANEOUS_MOVEMENT)).thenReturn(false);
         Mockito.when(mockGame.getPhase()).thenReturn(GamePhase.MOVEMENT);
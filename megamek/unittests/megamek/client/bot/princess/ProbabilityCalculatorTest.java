@@ -0,0 +1,78 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.client.bot.princess;
+
+import megamek.common.Compute;
+import megamek.common.Mech;
+import megamek.common.ToHitData;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ProbabilityCalculatorTest {
+
+    private static final double TOLERANCE = 0.00001;
+
+    @Test
+    public void testHitOddsMatchCompute() {
+        for (int toHit = -2; toHit <= 14; toHit++) {
+            Assert.assertEquals(Compute.oddsAbove(toHit, false) / 100,
+                    ProbabilityCalculator.getHitOdds(toHit, false), TOLERANCE);
+            Assert.assertEquals(Compute.oddsAbove(toHit, true) / 100,
+                    ProbabilityCalculator.getHitOdds(toHit, true), TOLERANCE);
+        }
+        Assert.assertEquals(0, ProbabilityCalculator.getHitOdds(ToHitData.AUTOMATIC_FAIL, false), TOLERANCE);
+        Assert.assertEquals(1, ProbabilityCalculator.getHitOdds(ToHitData.AUTOMATIC_SUCCESS, false), TOLERANCE);
+    }
+
+    @Test
+    public void testLocationOddsMatchHitProbability() {
+        for (int facing = 0; facing < 6; facing++) {
+            for (int location = Mech.LOC_HEAD; location <= Mech.LOC_LLEG; location++) {
+                Assert.assertEquals(ProbabilityCalculator.getHitProbability(facing, location),
+                        ProbabilityCalculator.getLocationOdds(facing, location), TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    public void testArmorState() {
+        Assert.assertEquals(ProbabilityCalculator.ARMOR_STATE_INTACT,
+                ProbabilityCalculator.getArmorState(5, 12, 6));
+        Assert.assertEquals(ProbabilityCalculator.ARMOR_STATE_BREACHED,
+                ProbabilityCalculator.getArmorState(15, 12, 6));
+        Assert.assertEquals(ProbabilityCalculator.ARMOR_STATE_DESTROYED,
+                ProbabilityCalculator.getArmorState(20, 12, 6));
+    }
+
+    @Test
+    public void testExpectedCriticals() {
+        final double hitOdds = Compute.oddsAbove(8) / 100;
+        final double locationOdds = ProbabilityCalculator.getHitProbability(0, Mech.LOC_CT);
+
+        Assert.assertEquals(0, ProbabilityCalculator.getExpectedCriticals(8, false, 0, Mech.LOC_CT,
+                ProbabilityCalculator.ARMOR_STATE_INTACT), TOLERANCE);
+        Assert.assertEquals(hitOdds * locationOdds * ProbabilityCalculator.getExpectedCriticalHitCount(),
+                ProbabilityCalculator.getExpectedCriticals(8, false, 0, Mech.LOC_CT,
+                        ProbabilityCalculator.ARMOR_STATE_BREACHED), TOLERANCE);
+        Assert.assertEquals(hitOdds * locationOdds,
+                ProbabilityCalculator.getExpectedCriticals(8, false, 0, Mech.LOC_CT,
+                        ProbabilityCalculator.ARMOR_STATE_DESTROYED), TOLERANCE);
+        Assert.assertEquals(hitOdds * locationOdds,
+                ProbabilityCalculator.getLocationKillOdds(8, false, 0, Mech.LOC_CT), TOLERANCE);
+        Assert.assertEquals(0, ProbabilityCalculator.getLocationKillOdds(13, false, 0, Mech.LOC_CT), TOLERANCE);
+    }
+}
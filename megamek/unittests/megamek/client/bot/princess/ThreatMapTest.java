@@ -0,0 +1,97 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.client.bot.princess;
+
+import megamek.common.BipedMech;
+import megamek.common.Board;
+import megamek.common.Coords;
+import megamek.common.Entity;
+import megamek.common.Game;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(JUnit4.class)
+public class ThreatMapTest {
+
+    private ThreatMap createThreatMap(Entity mover, boolean useExtremeRange, boolean useLOSRange) {
+        Game game = new Game();
+        game.setBoard(new Board(16, 16));
+        ThreatMap threatMap = new ThreatMap();
+        threatMap.update(game, mover, List.of(), useExtremeRange, useLOSRange);
+        return threatMap;
+    }
+
+    @Test
+    public void testActiveOnlyForItsRangeOptions() {
+        Entity mover = new BipedMech();
+        ThreatMap threatMap = createThreatMap(mover, false, false);
+
+        Assert.assertTrue(threatMap.isActive(false, false));
+        Assert.assertFalse(threatMap.isActive(true, false));
+        Assert.assertFalse(threatMap.isActive(false, true));
+
+        // other range options are not looked up in the map
+        AtomicInteger estimates = new AtomicInteger();
+        Coords coords = new Coords(3, 4);
+        threatMap.getIncomingDamage(mover, coords, 0, true, false, () -> estimates.incrementAndGet());
+        threatMap.getIncomingDamage(mover, coords, 0, true, false, () -> estimates.incrementAndGet());
+        Assert.assertEquals(2, estimates.get());
+    }
+
+    @Test
+    public void testRangesForgottenWhenMovableAreaChanges() {
+        Entity enemy = new BipedMech();
+        enemy.setId(5);
+        ThreatMap threatMap = createThreatMap(new BipedMech(), false, false);
+
+        AtomicInteger lookups = new AtomicInteger();
+        Coords coords = new Coords(3, 4);
+        Assert.assertEquals(2, threatMap.getRange(enemy, coords, c -> 2 + lookups.getAndIncrement()));
+        Assert.assertEquals(2, threatMap.getRange(enemy, coords, c -> 2 + lookups.getAndIncrement()));
+        Assert.assertEquals(1, lookups.get());
+
+        threatMap.movableAreaChanged(6);
+        Assert.assertEquals(2, threatMap.getRange(enemy, coords, c -> 2 + lookups.getAndIncrement()));
+
+        threatMap.movableAreaChanged(enemy.getId());
+        Assert.assertEquals(3, threatMap.getRange(enemy, coords, c -> 2 + lookups.getAndIncrement()));
+    }
+
+    @Test
+    public void testMissingMovableAreaCached() {
+        Entity enemy = new BipedMech();
+        enemy.setId(5);
+        ThreatMap threatMap = createThreatMap(new BipedMech(), false, false);
+
+        AtomicInteger lookups = new AtomicInteger();
+        Coords coords = new Coords(3, 4);
+        for (int finderResult : new int[] { -1, -2, -7 }) {
+            threatMap.movableAreaChanged(enemy.getId());
+            Assert.assertEquals(-1, threatMap.getRange(enemy, coords, c -> {
+                lookups.incrementAndGet();
+                return finderResult;
+            }));
+            Assert.assertEquals(-1, threatMap.getRange(enemy, coords, c -> {
+                lookups.incrementAndGet();
+                return finderResult;
+            }));
+        }
+        Assert.assertEquals(3, lookups.get());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.client.ui.swing.lobby;
+
+import megamek.common.Board;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@RunWith(JUnit4.class)
+public class MapPreviewCacheTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    /** Collects the render tasks so that the test decides when they run */
+    private static class QueuedExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            List<Runnable> current = new ArrayList<>(tasks);
+            tasks.clear();
+            current.forEach(Runnable::run);
+        }
+    }
+
+    /** Counts the rendered previews; the images are as wide as the board and tall as the zoom level */
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private BufferedImage render(Board board, int zoom) {
+        renders.incrementAndGet();
+        BufferedImage image = new BufferedImage(board.getWidth(), zoom + 1, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, Color.GREEN.getRGB());
+        return image;
+    }
+
+    private MapPreviewCache createCache(File cacheDir, Executor renderPool, Supplier<File> coloursFile) {
+        return new MapPreviewCache(cacheDir, Long.MAX_VALUE, renderPool, coloursFile, this::render);
+    }
+
+    private static void writeFile(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBoard(File file, int width) throws IOException {
+        StringBuilder board = new StringBuilder("size " + width + " 1\n");
+        for (int i = 0; i < width; i++) {
+            board.append(String.format("hex %02d01 0 \"\" \"\"\n", i + 1));
+        }
+        board.append("end\n");
+        writeFile(file, board.toString());
+    }
+
+    private static File[] previewFiles(File cacheDir) {
+        File[] files = cacheDir.listFiles((dir, name) -> name.endsWith(".png"));
+        return (files == null) ? new File[0] : files;
+    }
+
+    @Test
+    public void testKeyChangesWithBoardAndColours() throws IOException {
+        File boardFile = tmpFolder.newFile("test.board");
+        File colours = tmpFolder.newFile("minimap.txt");
+        writeBoard(boardFile, 2);
+        writeFile(colours, "unitsize 7\n");
+        MapPreviewCache cache = createCache(tmpFolder.newFolder("previews"), Runnable::run, () -> colours);
+
+        String key = cache.key(boardFile, 2, false);
+        Assert.assertEquals(key, cache.key(boardFile, 2, false));
+        Assert.assertNotEquals(key, cache.key(boardFile, 3, false));
+        Assert.assertNotEquals(key, cache.key(boardFile, 2, true));
+
+        // Editing the board changes its key even when the modification time is kept
+        long modified = boardFile.lastModified();
+        writeBoard(boardFile, 3);
+        Assert.assertTrue(boardFile.setLastModified(modified));
+        String editedKey = cache.key(boardFile, 2, false);
+        Assert.assertNotEquals(key, editedKey);
+
+        // A copy of the board shares its key
+        File copy = tmpFolder.newFile("copy.board");
+        writeBoard(copy, 3);
+        Assert.assertEquals(editedKey, cache.key(copy, 2, false));
+
+        // Editing the colour file changes the key
+        writeFile(colours, "unitsize 9\nbackground 0 0 0\n");
+        Assert.assertNotEquals(editedKey, cache.key(boardFile, 2, false));
+    }
+
+    @Test
+    public void testDiskRoundTrip() throws IOException {
+        File boardFile = tmpFolder.newFile("test.board");
+        writeBoard(boardFile, 4);
+        File cacheDir = tmpFolder.newFolder("previews");
+        MapPreviewCache cache = createCache(cacheDir, Runnable::run, () -> null);
+
+        MapPreviewCache.Preview preview = cache.getPreview(boardFile, 2, false);
+        Assert.assertTrue(preview.isValid());
+        Assert.assertEquals(4, preview.getImage().getWidth());
+        Assert.assertEquals(1, renders.get());
+        Assert.assertSame(preview, cache.getPreview(boardFile, 2, false));
+        File[] files = previewFiles(cacheDir);
+        Assert.assertEquals(1, files.length);
+        Assert.assertTrue(files[0].getName().startsWith(cache.key(boardFile, 2, false)));
+        // No temporary files are left behind
+        Assert.assertEquals(1, cacheDir.listFiles().length);
+
+        // A new cache reads the preview from disk instead of rendering it again
+        MapPreviewCache reloaded = createCache(cacheDir, Runnable::run, () -> null);
+        long written = files[0].lastModified();
+        Assert.assertTrue(files[0].setLastModified(written - 10000));
+        MapPreviewCache.Preview read = reloaded.getPreview(boardFile, 2, false);
+        Assert.assertNotSame(preview, read);
+        Assert.assertEquals(1, renders.get());
+        Assert.assertTrue(read.isValid());
+        Assert.assertEquals(preview.getImage().getWidth(), read.getImage().getWidth());
+        Assert.assertEquals(preview.getImage().getHeight(), read.getImage().getHeight());
+        Assert.assertEquals(preview.getImage().getRGB(0, 0), read.getImage().getRGB(0, 0));
+        // Reading a preview marks it as recently used
+        Assert.assertTrue(files[0].lastModified() > written - 10000);
+        Assert.assertEquals(1, previewFiles(cacheDir).length);
+    }
+
+    @Test
+    public void testFailedWriteLeavesNoFiles() throws IOException {
+        File boardFile = tmpFolder.newFile("test.board");
+        writeBoard(boardFile, 2);
+        File cacheDir = tmpFolder.newFolder("previews");
+        // An image without pixels cannot be written as PNG
+        MapPreviewCache cache = new MapPreviewCache(cacheDir, Long.MAX_VALUE, Runnable::run, () -> null,
+                (board, zoom) -> null);
+
+        Assert.assertNull(cache.getPreview(boardFile, 2, false).getImage());
+        Assert.assertEquals(0, cacheDir.listFiles().length);
+    }
+
+    @Test
+    public void testConcurrentRequestsShareRender() throws Exception {
+        File boardFile = tmpFolder.newFile("test.board");
+        writeBoard(boardFile, 2);
+        File cacheDir = tmpFolder.newFolder("previews");
+        QueuedExecutor renderPool = new QueuedExecutor();
+        MapPreviewCache cache = createCache(cacheDir, renderPool, () -> null);
+
+        CompletableFuture<MapPreviewCache.Preview> first = cache.requestPreview(boardFile, 1, false);
+        CompletableFuture<MapPreviewCache.Preview> second = cache.requestPreview(boardFile, 1, false);
+        CompletableFuture<MapPreviewCache.Preview> rotated = cache.requestPreview(boardFile, 1, true);
+        Assert.assertSame(first, second);
+        Assert.assertNotSame(first, rotated);
+        Assert.assertEquals(2, renderPool.tasks.size());
+        Assert.assertFalse(first.isDone());
+
+        renderPool.runAll();
+        Assert.assertEquals(2, renders.get());
+        Assert.assertSame(first.get(), second.get());
+        Assert.assertEquals(2, previewFiles(cacheDir).length);
+
+        // Later requests are answered from memory without a render task
+        CompletableFuture<MapPreviewCache.Preview> later = cache.requestPreview(boardFile, 1, false);
+        Assert.assertTrue(later.isDone());
+        Assert.assertSame(first.get(), later.get());
+        Assert.assertTrue(renderPool.tasks.isEmpty());
+        Assert.assertEquals(2, renders.get());
+    }
+}
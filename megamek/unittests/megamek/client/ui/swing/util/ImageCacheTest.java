@@ -0,0 +1,132 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.client.ui.swing.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ImageCacheTest {
+
+    // Integer keys that differ by a multiple of 8 fall into the same of the 8 segments
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        // 2 entries per segment
+        ImageCache<Integer, String> cache = new ImageCache<>(16);
+        cache.put(0, "a");
+        cache.put(8, "b");
+        // Using the first entry makes the second the least recently used one
+        Assert.assertEquals("a", cache.get(0));
+        cache.put(16, "c");
+
+        Assert.assertEquals("a", cache.get(0));
+        Assert.assertNull(cache.get(8));
+        Assert.assertEquals("c", cache.get(16));
+        Assert.assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testEntryLimitIsPerSegment() {
+        ImageCache<Integer, String> cache = new ImageCache<>(16);
+        // Other segments don't take from the share of segment 0
+        for (int key = 1; key < 8; key++) {
+            cache.put(key, "other");
+        }
+        cache.put(0, "a");
+        cache.put(8, "b");
+        Assert.assertEquals(9, cache.size());
+        Assert.assertEquals(0, cache.getEvictionCount());
+
+        cache.put(16, "c");
+        Assert.assertEquals(9, cache.size());
+        Assert.assertNull(cache.get(0));
+    }
+
+    @Test
+    public void testByteLimitIsPerSegment() {
+        // 100 bytes per segment
+        ImageCache<Integer, String> cache = new ImageCache<>(800, String::length);
+        cache.put(0, "x".repeat(60));
+        cache.put(1, "x".repeat(60));
+        Assert.assertEquals(120, cache.getBytes());
+        Assert.assertEquals(0, cache.getEvictionCount());
+
+        // 60 + 50 bytes go over the budget of segment 0, so its oldest entry is evicted
+        cache.put(8, "x".repeat(50));
+        Assert.assertNull(cache.get(0));
+        Assert.assertNotNull(cache.get(1));
+        Assert.assertNotNull(cache.get(8));
+        Assert.assertEquals(110, cache.getBytes());
+        Assert.assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testValueLargerThanSegmentIsNotStored() {
+        ImageCache<Integer, String> cache = new ImageCache<>(800, String::length);
+        cache.put(0, "small");
+        String large = "x".repeat(101);
+
+        Assert.assertSame(large, cache.put(8, large));
+        Assert.assertNull(cache.get(8));
+        Assert.assertEquals("small", cache.get(0));
+        Assert.assertEquals(5, cache.getBytes());
+
+        // Replacing a stored value by one that is too large removes the old value
+        cache.put(0, large);
+        Assert.assertNull(cache.get(0));
+        Assert.assertEquals(0, cache.getBytes());
+        Assert.assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testRemoveAndClearReleaseBytes() {
+        ImageCache<Integer, String> cache = new ImageCache<>(800, String::length);
+        cache.put(0, "x".repeat(30));
+        cache.put(1, "x".repeat(20));
+        cache.put(2, "x".repeat(10));
+        // Replacing a value only counts the new one
+        cache.put(2, "x".repeat(5));
+        Assert.assertEquals(55, cache.getBytes());
+
+        cache.remove(1);
+        cache.remove(99);
+        Assert.assertEquals(35, cache.getBytes());
+        Assert.assertEquals(2, cache.size());
+
+        cache.clear();
+        Assert.assertEquals(0, cache.getBytes());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCounters() {
+        ImageCache<Integer, String> cache = new ImageCache<>(16);
+        cache.put(0, "a");
+        cache.get(0);
+        cache.get(0);
+        cache.get(1);
+        // Null keys are neither hits nor misses
+        cache.get(null);
+
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(0, cache.getEvictionCount());
+        Assert.assertNull(cache.put(null, "b"));
+        Assert.assertNull(cache.put(1, null));
+        Assert.assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.client.ui.swing.util;
+
+import megamek.client.ui.swing.util.ReadoutCache.Readout;
+import megamek.common.BipedMech;
+import megamek.common.Entity;
+import megamek.common.MechSummary;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@RunWith(JUnit4.class)
+public class ReadoutCacheTest {
+
+    /** Collects the render tasks so that the test decides when they run */
+    private static class QueuedExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            List<Runnable> current = new ArrayList<>(tasks);
+            tasks.clear();
+            current.forEach(Runnable::run);
+        }
+    }
+
+    private final List<String> parsed = new ArrayList<>();
+    private final List<String> rendered = new ArrayList<>();
+
+    /** Each readout is 50 characters, i.e. 100 bytes */
+    private ReadoutCache createCache(long maxBytes, Executor renderPool) {
+        return new ReadoutCache(maxBytes, renderPool, unit -> {
+            parsed.add(unit.getName());
+            return new BipedMech();
+        }, (readout, entity) -> {
+            rendered.add(readout.name());
+            return String.join("", Collections.nCopies(50, readout.name().substring(0, 1)));
+        });
+    }
+
+    private static MechSummary createUnit(String name, long modified) {
+        MechSummary unit = new MechSummary();
+        unit.setName(name);
+        unit.setSourceFile(new File(name + ".mtf"));
+        unit.setModified(modified);
+        return unit;
+    }
+
+    @Test
+    public void testEvictionByBytes() {
+        // Room for three readouts
+        ReadoutCache cache = createCache(300, Runnable::run);
+        Entity entity = new BipedMech();
+        MechSummary first = createUnit("First", 1);
+        MechSummary second = createUnit("Second", 1);
+
+        cache.getReadout(first, entity, Readout.SUMMARY);
+        cache.getReadout(first, entity, Readout.TRO);
+        cache.getReadout(second, entity, Readout.SUMMARY);
+        Assert.assertEquals(3, rendered.size());
+
+        // Using the first summary makes the first TRO the least recently used readout
+        cache.getReadout(first, entity, Readout.SUMMARY);
+        Assert.assertEquals(3, rendered.size());
+        cache.getReadout(second, entity, Readout.TRO);
+        Assert.assertEquals(4, rendered.size());
+
+        cache.getReadout(first, entity, Readout.SUMMARY);
+        cache.getReadout(second, entity, Readout.SUMMARY);
+        cache.getReadout(second, entity, Readout.TRO);
+        Assert.assertEquals(4, rendered.size());
+        cache.getReadout(first, entity, Readout.TRO);
+        Assert.assertEquals(5, rendered.size());
+
+        // After a clear, everything is rendered again
+        cache.clear();
+        cache.getReadout(second, entity, Readout.TRO);
+        Assert.assertEquals(6, rendered.size());
+    }
+
+    @Test
+    public void testChangedUnitFileGetsNewReadouts() {
+        ReadoutCache cache = createCache(1 << 20, Runnable::run);
+        MechSummary unit = createUnit("Unit", 1000);
+
+        Entity entity = cache.getEntity(unit);
+        Assert.assertNotNull(entity);
+        Assert.assertSame(entity, cache.getEntity(unit));
+        Assert.assertEquals(Arrays.asList("Unit"), parsed);
+        Assert.assertEquals(Readout.values().length, rendered.size());
+        cache.getReadout(unit, entity, Readout.TRO);
+        Assert.assertEquals(Readout.values().length, rendered.size());
+
+        // The unit cache creates a new summary with the new modification time when the file changes
+        MechSummary edited = createUnit("Unit", 2000);
+        Entity editedEntity = cache.getEntity(edited);
+        Assert.assertNotSame(entity, editedEntity);
+        Assert.assertEquals(Arrays.asList("Unit", "Unit"), parsed);
+        Assert.assertEquals(2 * Readout.values().length, rendered.size());
+
+        // An equal summary with the same modification time shares the cached entity
+        Assert.assertSame(editedEntity, cache.getEntity(createUnit("Unit", 2000)));
+        Assert.assertEquals(2, parsed.size());
+    }
+
+    @Test
+    public void testPrerenderSkipsSupersededUnits() {
+        QueuedExecutor renderPool = new QueuedExecutor();
+        ReadoutCache cache = createCache(1 << 20, renderPool);
+        MechSummary first = createUnit("First", 1);
+        MechSummary second = createUnit("Second", 1);
+        MechSummary third = createUnit("Third", 1);
+
+        cache.prerender(Arrays.asList(first, second));
+        // Units that are already waiting are not queued twice
+        cache.prerender(Arrays.asList(second, third));
+        Assert.assertEquals(3, renderPool.tasks.size());
+
+        renderPool.runAll();
+        // The first unit was superseded before its task started
+        Assert.assertEquals(Arrays.asList("Second", "Third"), parsed);
+        Assert.assertEquals(2 * Readout.values().length, rendered.size());
+
+        // Prerendered units are cached; units that were skipped can be requested again
+        cache.getEntity(second);
+        cache.prerender(Arrays.asList(third, first));
+        Assert.assertEquals(1, renderPool.tasks.size());
+        renderPool.runAll();
+        Assert.assertEquals(Arrays.asList("Second", "Third", "First"), parsed);
+    }
+}
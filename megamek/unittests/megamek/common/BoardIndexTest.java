@@ -0,0 +1,82 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+@RunWith(JUnit4.class)
+public class BoardIndexTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private static void writeBoard(File file, String... hexes) throws IOException {
+        StringBuilder board = new StringBuilder("size " + hexes.length + " 1\n");
+        for (int i = 0; i < hexes.length; i++) {
+            board.append(String.format("hex %02d01 0 \"%s\" \"\"\n", i + 1, hexes[i]));
+        }
+        board.append("tag \"Woods\"\nend\n");
+        Files.write(file.toPath(), board.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testIndexAndRefresh() throws IOException {
+        File boards = tmpFolder.newFolder("boards");
+        File subFolder = new File(boards, "2x1");
+        Assert.assertTrue(subFolder.mkdir());
+        File boardFile = new File(subFolder, "test.board");
+        writeBoard(boardFile, "woods:1", "");
+        File cacheFile = new File(tmpFolder.getRoot(), "boards.cache");
+
+        BoardIndex index = new BoardIndex(cacheFile);
+        List<BoardIndex.BoardInfo> infos = index.refresh(boards);
+        Assert.assertEquals(1, infos.size());
+        BoardIndex.BoardInfo info = infos.get(0);
+        Assert.assertTrue(info.isSize(new BoardDimensions(2, 1)));
+        Assert.assertTrue(info.getTags().contains("Woods"));
+        Assert.assertTrue(cacheFile.exists());
+
+        // A fresh index reads the saved entries instead of the board files. The board is turned into a
+        // 1x2 board of the same length and modification time, so reading it would give the new size.
+        BoardIndex reloaded = new BoardIndex(cacheFile);
+        long modified = boardFile.lastModified();
+        long length = boardFile.length();
+        String content = new String(Files.readAllBytes(boardFile.toPath()), StandardCharsets.UTF_8);
+        Files.write(boardFile.toPath(), content.replace("size 2 1", "size 1 2").replace("hex 0201", "hex 0102")
+                .getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(boardFile.setLastModified(modified));
+        Assert.assertEquals(length, boardFile.length());
+        Assert.assertEquals(2, reloaded.get(boardFile).getWidth());
+        Assert.assertEquals(1, reloaded.get(boardFile).getHeight());
+
+        // Changed boards are indexed again, deleted boards are dropped
+        writeBoard(boardFile, "woods:1", "woods:2", "");
+        Assert.assertTrue(boardFile.setLastModified(boardFile.lastModified() + 2000));
+        Assert.assertEquals(3, reloaded.refresh(boards).get(0).getWidth());
+        Assert.assertTrue(boardFile.delete());
+        Assert.assertTrue(reloaded.refresh(boards).isEmpty());
+        Assert.assertNull(reloaded.get(boardFile));
+    }
+}
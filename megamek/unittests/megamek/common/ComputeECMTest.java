@@ -16,6 +16,7 @@ package megamek.common;
 
 import junit.framework.TestCase;
 import megamek.common.options.GameOptions;
+import megamek.common.options.MockGameOptions;
 import megamek.server.SmokeCloud;
 
 import org.junit.Test;
@@ -44,7 +45,7 @@ public class ComputeECMTest {
         Mockito.when(mockBoard.inSpace()).thenReturn(false);
         
         // Mock Options
-        GameOptions mockOptions = Mockito.mock(GameOptions.class);
+        GameOptions mockOptions = MockGameOptions.create();
         Mockito.when(mockOptions.booleanOption(Mockito.anyString()))
                 .thenReturn(false);
         Mockito.when(mockOptions.booleanOption("tacops_eccm")).thenReturn(true);
@@ -202,7 +203,7 @@ public class ComputeECMTest {
         Mockito.when(mockBoard.inSpace()).thenReturn(false);
         
         // Mock Options
-        GameOptions mockOptions = Mockito.mock(GameOptions.class);
+        GameOptions mockOptions = MockGameOptions.create();
         Mockito.when(mockOptions.booleanOption(Mockito.anyString()))
                 .thenReturn(false);
         Mockito.when(mockOptions.booleanOption("tacops_eccm")).thenReturn(true);
@@ -450,7 +451,7 @@ public class ComputeECMTest {
         Mockito.when(mockBoard.inSpace()).thenReturn(false);
         
         // Mock Options
-        GameOptions mockOptions = Mockito.mock(GameOptions.class);
+        GameOptions mockOptions = MockGameOptions.create();
         Mockito.when(mockOptions.booleanOption(Mockito.anyString()))
                 .thenReturn(false);
         Mockito.when(mockOptions.booleanOption("tacops_eccm")).thenReturn(true);
@@ -16,6 +16,7 @@ package megamek.common;
 
 import junit.framework.TestCase;
 import megamek.common.options.GameOptions;
+import megamek.common.options.MockGameOptions;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -41,7 +42,7 @@ public class CrewTest {
 
         // Test a case with the 'alternate_pilot_bv_mod' option turned off.
         mockGame = Mockito.mock(Game.class);
-        GameOptions mockOptions = Mockito.mock(GameOptions.class);
+        GameOptions mockOptions = MockGameOptions.create();
         Mockito.when(mockOptions.booleanOption(Mockito.eq("alternate_pilot_bv_mod"))).thenReturn(false);
         Mockito.when(mockGame.getOptions()).thenReturn(mockOptions);
         expected = 1.0;
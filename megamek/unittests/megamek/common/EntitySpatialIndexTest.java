@@ -0,0 +1,79 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.Set;
+
+@RunWith(JUnit4.class)
+public class EntitySpatialIndexTest {
+
+    @Test
+    public void testUpdateAndRemove() {
+        EntitySpatialIndex index = new EntitySpatialIndex();
+        Coords start = new Coords(5, 5);
+        Coords end = new Coords(6, 5);
+
+        index.update(3, null, Set.of(start));
+        index.update(1, null, Set.of(start));
+        Assert.assertArrayEquals(new int[] { 1, 3 }, index.idsAt(start));
+
+        index.update(3, Set.of(start), Set.of(end));
+        Assert.assertArrayEquals(new int[] { 1 }, index.idsAt(start));
+        Assert.assertArrayEquals(new int[] { 3 }, index.idsAt(end));
+        Assert.assertTrue(index.contains(end, 3));
+
+        index.remove(1, Set.of(start));
+        Assert.assertArrayEquals(new int[0], index.idsAt(start));
+        Assert.assertEquals(Set.of(end), index.getOccupiedHexes());
+    }
+
+    @Test
+    public void testRadiusAndRingQueries() {
+        EntitySpatialIndex index = new EntitySpatialIndex();
+        Coords center = new Coords(10, 10);
+        index.update(1, null, Set.of(center));
+        index.update(2, null, List.of(center.translated(0, 2)));
+        index.update(3, null, List.of(center.translated(3, 5)));
+        // A large unit in two hexes is only reported once
+        index.update(4, null, List.of(center.translated(1, 2), center.translated(1, 3)));
+
+        Assert.assertArrayEquals(new int[] { 1, 2, 4 }, index.idsWithin(center, 2));
+        Assert.assertArrayEquals(new int[] { 1, 2, 3, 4 }, index.idsWithin(center, 5));
+        Assert.assertArrayEquals(new int[] { 2, 4 }, index.idsOnRing(center, 2));
+        Assert.assertArrayEquals(new int[] { 4 }, index.idsOnRing(center, 3));
+        // Radii larger than the number of occupied hexes filter the occupied hexes instead
+        Assert.assertArrayEquals(new int[] { 1, 2, 3, 4 }, index.idsWithin(center, 50));
+        Assert.assertArrayEquals(new int[] { 3 }, index.idsOnRing(center, 5));
+        Assert.assertArrayEquals(new int[0], index.idsOnRing(center, 50));
+    }
+
+    @Test
+    public void testRayQuery() {
+        EntitySpatialIndex index = new EntitySpatialIndex();
+        Coords from = new Coords(2, 2);
+        Coords to = from.translated(3, 4);
+        index.update(7, null, List.of(to));
+        index.update(5, null, List.of(from.translated(3, 2)));
+        index.update(9, null, List.of(from.translated(0, 2)));
+
+        Assert.assertArrayEquals(new int[] { 5, 7 }, index.idsAlong(from, to));
+        Assert.assertArrayEquals(new int[] { 7, 5 }, index.idsAlong(to, from));
+    }
+}
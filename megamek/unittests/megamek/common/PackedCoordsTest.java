@@ -0,0 +1,130 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(JUnit4.class)
+public class PackedCoordsTest {
+
+    @Test
+    public void testPacking() {
+        int[] values = { 0, 1, -1, 17, -2, 32767, -32768 };
+        for (int x : values) {
+            for (int y : values) {
+                int packed = PackedCoords.pack(x, y);
+                Assert.assertEquals(x, PackedCoords.x(packed));
+                Assert.assertEquals(y, PackedCoords.y(packed));
+                Assert.assertEquals(new Coords(x, y), PackedCoords.toCoords(packed));
+            }
+        }
+    }
+
+    @Test
+    public void testGeometryMatchesCoords() {
+        for (int x = -2; x < 6; x++) {
+            for (int y = -2; y < 6; y++) {
+                Coords center = new Coords(x, y);
+                int packed = PackedCoords.pack(center);
+                for (int dir = 0; dir < 6; dir++) {
+                    Assert.assertEquals(PackedCoords.pack(center.translated(dir, 3)),
+                            PackedCoords.translated(packed, dir, 3));
+                }
+                for (int dist = 0; dist < 4; dist++) {
+                    List<Coords> ring = new ArrayList<>();
+                    PackedCoords.forEachAtDistance(packed, dist, hex -> ring.add(PackedCoords.toCoords(hex)));
+                    Assert.assertEquals(referenceRing(center, dist), ring);
+                }
+                Coords other = new Coords(3, 1);
+                Assert.assertEquals(center.distance(other), PackedCoords.distance(packed, PackedCoords.pack(other)));
+                Assert.assertEquals(center.direction(other), PackedCoords.direction(packed, PackedCoords.pack(other)));
+            }
+        }
+    }
+
+    @Test
+    public void testInterveningMatchesReference() {
+        for (int x1 = 0; x1 < 7; x1++) {
+            for (int y1 = 0; y1 < 7; y1++) {
+                for (int x2 = 0; x2 < 7; x2++) {
+                    for (int y2 = 0; y2 < 7; y2++) {
+                        Coords src = new Coords(x1, y1);
+                        Coords dest = new Coords(x2, y2);
+                        Assert.assertEquals(referenceIntervening(src, dest, false), Coords.intervening(src, dest));
+                        Assert.assertEquals(referenceIntervening(src, dest, true),
+                                Coords.intervening(src, dest, true));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInterveningStopsEarly() {
+        List<Integer> visited = new ArrayList<>();
+        boolean completed = PackedCoords.visitIntervening(PackedCoords.pack(0, 0), PackedCoords.pack(0, 5), false,
+                hex -> visited.add(hex) && (PackedCoords.y(hex) < 2));
+        Assert.assertFalse(completed);
+        Assert.assertEquals(3, visited.size());
+    }
+
+    @Test
+    public void testInterning() {
+        PackedCoords.ensureInternedSize(10, 10);
+        Assert.assertSame(PackedCoords.toCoords(PackedCoords.pack(4, 7)), PackedCoords.toCoords(PackedCoords.pack(4, 7)));
+        Assert.assertEquals(new Coords(-1, 3), PackedCoords.toCoords(PackedCoords.pack(-1, 3)));
+    }
+
+    /** The ring as computed before the packed geometry */
+    private static List<Coords> referenceRing(Coords center, int dist) {
+        List<Coords> result = new ArrayList<>();
+        if (dist == 0) {
+            result.add(center);
+            return result;
+        }
+        Coords current = center.translated(4, dist);
+        for (int direction = 0; direction < 6; direction++) {
+            for (int translation = 0; translation < dist; translation++) {
+                current = current.translated(direction);
+                result.add(current);
+            }
+        }
+        return result;
+    }
+
+    /** The intervening hexes as computed before the packed geometry */
+    private static List<Coords> referenceIntervening(Coords src, Coords dest, boolean split) {
+        IdealHex iSrc = new IdealHex(src);
+        IdealHex iDest = new IdealHex(dest);
+        int centerDirection = src.direction(dest);
+        if (split) {
+            centerDirection = (int) Math.round(src.radian(dest) + 0.0001 / Coords.HEXSIDE) % 6;
+        }
+        int[] directions = { (centerDirection + 1) % 6, (centerDirection + 5) % 6, centerDirection };
+        List<Coords> hexes = new ArrayList<>();
+        Coords current = src;
+        hexes.add(current);
+        while (!dest.equals(current)) {
+            current = Coords.nextHex(current, iSrc, iDest, directions);
+            hexes.add(current);
+        }
+        return hexes;
+    }
+}
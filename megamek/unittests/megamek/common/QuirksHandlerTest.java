@@ -0,0 +1,94 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common;
+
+import megamek.utils.MegaMekXmlUtil;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RunWith(JUnit4.class)
+public class QuirksHandlerTest {
+
+    /**
+     * Reads the quirks file into a DOM and collects the quirks of every unit, as the quirks were read
+     * before the file was streamed.
+     */
+    private static Map<String, List<String>> readWithDom(File file) throws Exception {
+        Document doc = MegaMekXmlUtil.newSafeDocumentBuilder().parse(file);
+        Map<String, List<String>> result = new HashMap<>();
+        NodeList units = doc.getElementsByTagName("unit");
+        for (int i = 0; i < units.getLength(); i++) {
+            Element unit = (Element) units.item(i);
+            Element chassis = (Element) unit.getElementsByTagName("chassis").item(0);
+            if (chassis == null) {
+                continue;
+            }
+            Element model = (Element) unit.getElementsByTagName("model").item(0);
+            Element type = (Element) unit.getElementsByTagName("unitType").item(0);
+            String unitId = QuirksHandler.getUnitId(chassis.getTextContent().trim(),
+                    (model == null) ? "all" : model.getTextContent().trim(),
+                    (type == null) ? "Mech" : type.getTextContent().trim());
+            List<String> quirks = new ArrayList<>();
+            NodeList quirkNodes = unit.getElementsByTagName("quirk");
+            for (int q = 0; q < quirkNodes.getLength(); q++) {
+                String quirk = quirkNodes.item(q).getTextContent().trim();
+                if (!quirk.isEmpty()) {
+                    quirks.add(quirk);
+                }
+            }
+            NodeList weaponQuirks = unit.getElementsByTagName("weaponQuirk");
+            for (int q = 0; q < weaponQuirks.getLength(); q++) {
+                Element weaponQuirk = (Element) weaponQuirks.item(q);
+                quirks.add(weaponQuirk.getElementsByTagName("weaponQuirkName").item(0).getTextContent().trim()
+                        + "|" + weaponQuirk.getElementsByTagName("location").item(0).getTextContent().trim()
+                        + "|" + Integer.parseInt(weaponQuirk.getElementsByTagName("slot").item(0).getTextContent().trim())
+                        + "|" + weaponQuirk.getElementsByTagName("weaponName").item(0).getTextContent().trim());
+            }
+            result.put(unitId, quirks);
+        }
+        return result;
+    }
+
+    @Test
+    public void testStreamedCanonQuirksMatchDom() throws Exception {
+        File file = new File(Configuration.dataDir(), "canonUnitQuirks.xml");
+        Map<String, List<String>> expected = readWithDom(file);
+
+        Map<String, List<QuirkEntry>> streamed = QuirksHandler.loadQuirksFile(file.getPath());
+        Map<String, List<String>> actual = new HashMap<>();
+        for (Map.Entry<String, List<QuirkEntry>> unit : streamed.entrySet()) {
+            List<String> quirks = new ArrayList<>();
+            for (QuirkEntry quirk : unit.getValue()) {
+                quirks.add(quirk.isWeaponQuirk()
+                        ? quirk.getQuirk() + "|" + quirk.getLocation() + "|" + quirk.getSlot() + "|" + quirk.getWeaponName()
+                        : quirk.getQuirk());
+            }
+            actual.put(unit.getKey(), quirks);
+        }
+
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(expected, actual);
+    }
+}
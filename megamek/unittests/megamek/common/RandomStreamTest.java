@@ -0,0 +1,100 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+
+@RunWith(JUnit4.class)
+public class RandomStreamTest {
+
+    @After
+    public void tearDown() {
+        // the streams and Compute's generator are global, so don't leave them seeded for other tests
+        RandomStream.clearSeed();
+        Compute.setRNG(MMRandom.R_DEFAULT);
+    }
+
+    private static int[] roll(MMRandom random) {
+        int[] rolls = new int[20];
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = random.randomInt(1000);
+        }
+        return rolls;
+    }
+
+    @Test
+    public void testSeededStreamsAreReproducible() {
+        RandomStream.setSeed(42);
+        int[] rules = roll(RandomStream.SERVER_RULES.get());
+        int[] maps = roll(RandomStream.MAP_GENERATION.get());
+
+        RandomStream.setSeed(42);
+        // Rolling on another stream first must not change the rules stream
+        roll(RandomStream.BOT_SIMULATION.get());
+        Assert.assertArrayEquals(rules, roll(RandomStream.SERVER_RULES.get()));
+        Assert.assertArrayEquals(maps, roll(RandomStream.MAP_GENERATION.get()));
+        Assert.assertFalse(Arrays.equals(rules, maps));
+    }
+
+    @Test
+    public void testComputeFollowsReseeding() {
+        Compute.setRNG(MMRandom.R_SPLITTABLE);
+        RandomStream.setSeed(1234);
+        int[] rolls = new int[20];
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = Compute.randomInt(1000);
+        }
+
+        // Compute keeps the generator it was given, which must pick up the new seed
+        RandomStream.setSeed(1234);
+        for (int roll : rolls) {
+            Assert.assertEquals(roll, Compute.randomInt(1000));
+        }
+        Assert.assertEquals(Long.valueOf(1234), RandomStream.getSeed());
+
+        RandomStream.clearSeed();
+        Assert.assertNull(RandomStream.getSeed());
+    }
+
+    @Test
+    public void testThreadForksAreIndependent() throws InterruptedException {
+        RandomStream.setSeed(7);
+        MMRandom.SplitRandom mine = RandomStream.BOT_SIMULATION.forCurrentThread();
+        Assert.assertSame(mine, RandomStream.BOT_SIMULATION.forCurrentThread());
+
+        MMRandom.SplitRandom[] theirs = new MMRandom.SplitRandom[1];
+        Thread other = new Thread(() -> theirs[0] = RandomStream.BOT_SIMULATION.forCurrentThread());
+        other.start();
+        other.join();
+        Assert.assertNotSame(mine, theirs[0]);
+
+        RandomStream.setSeed(7);
+        Assert.assertNotSame(mine, RandomStream.BOT_SIMULATION.forCurrentThread());
+    }
+
+    @Test
+    public void testRandomFloatRange() {
+        MMRandom random = new MMRandom.SplitRandom(1);
+        for (int i = 0; i < 1000; i++) {
+            float value = random.randomFloat();
+            Assert.assertTrue((value >= 0) && (value < 1));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.Vector;
+
+@RunWith(JUnit4.class)
+public class ReportPageTest {
+
+    @Test
+    public void testPackedReportsRoundTrip() {
+        Report first = new Report(3100);
+        first.indent(2);
+        first.newlines = 0;
+        first.add(7);
+        first.add("Atlas AS7-D", false);
+        first.add("Hidden value", true);
+        first.hideData(2);
+
+        Report second = new Report(1005, Report.PUBLIC);
+        second.add("Messages.key", "Messages");
+
+        Vector<Report> round = new Vector<>();
+        round.add(first);
+        round.add(second);
+
+        Vector<Report> unpacked = ReportPage.unpack(ReportPage.pack(round));
+        Assert.assertEquals(2, unpacked.size());
+
+        Report copy = unpacked.get(0);
+        Assert.assertEquals(3100, copy.messageId);
+        Assert.assertEquals(first.getIndentation(), copy.getIndentation());
+        Assert.assertEquals(0, copy.newlines);
+        Assert.assertEquals(3, copy.dataCount());
+        Assert.assertEquals("7", copy.getRawData(0));
+        Assert.assertEquals("Atlas AS7-D", copy.getRawData(1));
+        Assert.assertNull(copy.getRawData(2));
+        Assert.assertTrue(copy.isValueObscured(0));
+        Assert.assertFalse(copy.isValueObscured(1));
+        Assert.assertTrue(copy.isValueObscured(2));
+        Assert.assertNull(copy.getTagTranslate());
+
+        Assert.assertEquals("Messages", unpacked.get(1).getTagTranslate());
+        Assert.assertEquals("Messages.key", unpacked.get(1).getRawData(0));
+    }
+
+    @Test
+    public void testPagedHistory() {
+        GameReports history = new GameReports();
+        Vector<Report> latest = new Vector<>();
+        latest.add(new Report(1000));
+        history.set(new ReportPage(7, 7, List.of(latest)));
+
+        Assert.assertEquals(7, history.size());
+        Assert.assertEquals(6, history.getLastMissingRound());
+        Assert.assertTrue(history.get(3).isEmpty());
+        Assert.assertTrue(history.isMissing(3));
+        Assert.assertTrue(history.isMissing(0));
+        Assert.assertFalse(history.isMissing(7));
+        Assert.assertEquals(1000, history.get(7).get(0).messageId);
+
+        Vector<Report> older = new Vector<>();
+        older.add(new Report(1001));
+        history.set(new ReportPage(ReportPage.getPageStart(6), 7,
+                List.of(older, older, older, older, older)));
+        Assert.assertEquals(2, ReportPage.getPageStart(6));
+        Assert.assertEquals(1, history.getLastMissingRound());
+        Assert.assertFalse(history.isMissing(3));
+
+        history.set(new ReportPage(1, 7, List.of(older)));
+        Assert.assertEquals(0, history.getLastMissingRound());
+        Assert.assertFalse(history.isMissing(0));
+        Assert.assertEquals(1001, history.get(1).get(0).messageId);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.TimeUnit;
+
+@RunWith(JUnit4.class)
+public class MetricsTest {
+
+    @Test
+    public void testTimersAndCounters() {
+        Metrics metrics = Metrics.getInstance();
+        metrics.reset();
+        metrics.setEnabled(false);
+        metrics.recordTime("test.timer", TimeUnit.MILLISECONDS.toNanos(5));
+        Assert.assertTrue(metrics.getTimers().isEmpty());
+
+        metrics.setEnabled(true);
+        metrics.recordTime("test.timer", TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordTime("test.timer", TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.addCount("test.counter", 100);
+        metrics.addCount("test.counter", 28);
+
+        Metrics.Timer timer = metrics.getTimers().get("test.timer");
+        Assert.assertEquals(2, timer.getCount());
+        Assert.assertEquals(25, timer.getTotalMillis());
+        Assert.assertEquals(20, timer.getMaxMillis());
+        Assert.assertEquals(25, metrics.getTotalMillis("test.timer"));
+        Assert.assertEquals(0, metrics.getTotalMillis("test.missing"));
+        Assert.assertEquals(Long.valueOf(128), metrics.getCounters().get("test.counter"));
+        Assert.assertTrue(metrics.getSummary().contains("test.timer count=2 totalMs=25 maxMs=20"));
+
+        metrics.renameCount("test.counter", "test.renamed");
+        Assert.assertEquals(Long.valueOf(128), metrics.getCounters().get("test.renamed"));
+        metrics.removeCount("test.renamed");
+        Assert.assertFalse(metrics.getCounters().containsKey("test.renamed"));
+
+        metrics.reset();
+        metrics.setEnabled(false);
+        Assert.assertTrue(metrics.getTimers().isEmpty());
+        Assert.assertTrue(metrics.getCounters().isEmpty());
+    }
+}
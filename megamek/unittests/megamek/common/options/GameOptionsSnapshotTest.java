@@ -0,0 +1,68 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common.options;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class GameOptionsSnapshotTest {
+
+    private static final OptionHandle FRIENDLY_FIRE = OptionHandle.forBoolean(OptionsConstants.BASE_FRIENDLY_FIRE);
+    private static final OptionHandle TURN_LIMIT = OptionHandle.forInt(OptionsConstants.VICTORY_GAME_TURN_LIMIT);
+    private static final OptionHandle TECHLEVEL = OptionHandle.forString(OptionsConstants.ALLOWED_TECHLEVEL);
+
+    @Test
+    public void testSnapshotMatchesNamedLookups() {
+        GameOptions options = new GameOptions();
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).setValue(true);
+        options.getOption(OptionsConstants.VICTORY_GAME_TURN_LIMIT).setValue(25);
+
+        Assert.assertTrue(options.booleanOption(FRIENDLY_FIRE));
+        Assert.assertEquals(25, options.intOption(TURN_LIMIT));
+        Assert.assertTrue(options.booleanOption(TURN_LIMIT));
+        Assert.assertEquals(options.stringOption(OptionsConstants.ALLOWED_TECHLEVEL),
+                options.getSnapshot().stringOption(TECHLEVEL));
+    }
+
+    @Test
+    public void testSnapshotFollowsValueChanges() {
+        GameOptions options = new GameOptions();
+        GameOptionsSnapshot before = options.getSnapshot();
+        Assert.assertSame(before, options.getSnapshot());
+
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).setValue(true);
+        Assert.assertTrue(options.booleanOption(FRIENDLY_FIRE));
+        Assert.assertFalse(before.booleanOption(FRIENDLY_FIRE));
+
+        options.getOption(OptionsConstants.BASE_FRIENDLY_FIRE).clearValue();
+        Assert.assertFalse(options.booleanOption(FRIENDLY_FIRE));
+    }
+
+    @Test
+    public void testInvalidHandlesAreRejected() {
+        try {
+            OptionHandle.forInt(OptionsConstants.BASE_FRIENDLY_FIRE);
+            Assert.fail("Resolved a boolean option as an integer");
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            OptionHandle.forBoolean("no_such_option");
+            Assert.fail("Resolved an unknown option");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
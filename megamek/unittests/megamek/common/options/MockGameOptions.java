@@ -0,0 +1,36 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common.options;
+
+import org.mockito.Mockito;
+
+/**
+ * Creates mocked {@link GameOptions} for tests. Option handles and the snapshot answer from the name based
+ * lookups, so tests only need to stub options by name, whichever way the code under test reads them.
+ */
+public final class MockGameOptions {
+
+    private MockGameOptions() {
+    }
+
+    public static GameOptions create() {
+        final GameOptions options = Mockito.mock(GameOptions.class);
+        Mockito.when(options.booleanOption(Mockito.any(OptionHandle.class))).thenAnswer(
+                invocation -> options.booleanOption(invocation.<OptionHandle>getArgument(0).getName()));
+        Mockito.when(options.intOption(Mockito.any(OptionHandle.class))).thenAnswer(
+                invocation -> options.intOption(invocation.<OptionHandle>getArgument(0).getName()));
+        Mockito.when(options.getSnapshot()).thenAnswer(invocation -> new GameOptionsSnapshot(options));
+        return options;
+    }
+}
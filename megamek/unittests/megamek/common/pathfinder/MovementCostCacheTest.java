@@ -0,0 +1,182 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common.pathfinder;
+
+import megamek.common.BipedMech;
+import megamek.common.Board;
+import megamek.common.Coords;
+import megamek.common.Engine;
+import megamek.common.Entity;
+import megamek.common.EntityMovementMode;
+import megamek.common.Game;
+import megamek.common.Hex;
+import megamek.common.Mech;
+import megamek.common.MovePath;
+import megamek.common.MovePath.MoveStepType;
+import megamek.common.Terrain;
+import megamek.common.Terrains;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class MovementCostCacheTest {
+
+    /** Counts how often the uncached terrain cost is computed */
+    private static class CountingHex extends Hex {
+        private int calls;
+
+        private CountingHex(Coords coords) {
+            super(0, "", "", coords);
+        }
+
+        @Override
+        public int movementCost(Entity entity) {
+            calls++;
+            return super.movementCost(entity);
+        }
+    }
+
+    private static Board createBoard(String centerTerrain) {
+        Hex[] hexes = new Hex[9];
+        for (int y = 0; y < 3; y++) {
+            for (int x = 0; x < 3; x++) {
+                Coords coords = new Coords(x, y);
+                hexes[(y * 3) + x] = ((x == 1) && (y == 1)) ? new Hex(0, centerTerrain, "", coords)
+                        : new CountingHex(coords);
+            }
+        }
+        Board board = new Board();
+        board.newData(3, 3, hexes, null);
+        return board;
+    }
+
+    private static Mech createMech(Board board) {
+        Game game = new Game();
+        game.setBoard(board);
+        Mech mech = new BipedMech();
+        mech.setGame(game);
+        mech.setWeight(50);
+        mech.setEngine(new Engine(200, Engine.NORMAL_ENGINE, 0));
+        mech.setOriginalWalkMP(4);
+        mech.setId(1);
+        mech.setPosition(new Coords(1, 2));
+        mech.setFacing(0);
+        mech.setDeployed(true);
+        game.addEntity(mech);
+        return mech;
+    }
+
+    private static int cachedCost(Board board, Coords coords, Entity entity) {
+        return board.getMovementCostCache().getTerrainCost(board.getHex(coords), coords, entity,
+                MovementCostCache.getTerrainCostProfile(entity));
+    }
+
+    /** @return the MP used by a step from the mech's position into the hex north of it */
+    private static int stepCost(Mech mech) {
+        return new MovePath(mech.getGame(), mech).addStep(MoveStepType.FORWARDS).getLastStep().getMpUsed();
+    }
+
+    @Test
+    public void testHexChangeEventsInvalidateEntries() {
+        Board board = createBoard("");
+        Mech mech = createMech(board);
+        Coords coords = new Coords(0, 0);
+        Coords other = new Coords(2, 2);
+        CountingHex hex = (CountingHex) board.getHex(coords);
+        CountingHex otherHex = (CountingHex) board.getHex(other);
+
+        Assert.assertEquals(0, cachedCost(board, coords, mech));
+        Assert.assertEquals(0, cachedCost(board, coords, mech));
+        Assert.assertEquals(0, cachedCost(board, other, mech));
+        Assert.assertEquals(1, hex.calls);
+        Assert.assertEquals(1, otherHex.calls);
+
+        // Setting the same hex changes neither its identity nor its terrain; only the event drops the entry
+        board.setHex(coords, hex);
+        Assert.assertEquals(0, cachedCost(board, coords, mech));
+        Assert.assertEquals(0, cachedCost(board, other, mech));
+        Assert.assertEquals(2, hex.calls);
+        Assert.assertEquals(1, otherHex.calls);
+
+        // A change of all hexes drops every entry
+        board.setTheme("grass");
+        Assert.assertEquals(0, cachedCost(board, coords, mech));
+        Assert.assertEquals(0, cachedCost(board, other, mech));
+        Assert.assertEquals(3, hex.calls);
+        Assert.assertEquals(2, otherHex.calls);
+
+        // Each terrain cost profile has its own entries
+        Mech quad = createMech(board);
+        quad.setId(2);
+        quad.setMovementMode(EntityMovementMode.QUAD);
+        Assert.assertNotEquals(MovementCostCache.getTerrainCostProfile(mech),
+                MovementCostCache.getTerrainCostProfile(quad));
+        Assert.assertEquals(0, cachedCost(board, coords, quad));
+        Assert.assertEquals(4, hex.calls);
+        Assert.assertEquals(0, cachedCost(board, coords, mech));
+        Assert.assertEquals(4, hex.calls);
+    }
+
+    @Test
+    public void testTerrainChangedInPlace() {
+        Board board = createBoard("");
+        Mech mech = createMech(board);
+        Coords center = new Coords(1, 1);
+        Hex hex = board.getHex(center);
+        int clearStep = stepCost(mech);
+        Assert.assertEquals(0, cachedCost(board, center, mech));
+
+        // Terrain added without a board event is picked up through the modification count
+        hex.addTerrain(new Terrain(Terrains.WOODS, 2));
+        Assert.assertEquals(hex.movementCost(mech), cachedCost(board, center, mech));
+        Assert.assertEquals(2, cachedCost(board, center, mech));
+        Assert.assertEquals(clearStep + 2, stepCost(mech));
+
+        // Replacing the hex fires an event and the new hex is used
+        board.setHex(center, new Hex(0, "rough:1", "", center));
+        Assert.assertEquals(board.getHex(center).movementCost(mech), cachedCost(board, center, mech));
+        Assert.assertEquals(clearStep + board.getHex(center).movementCost(mech), stepCost(mech));
+
+        hex.removeTerrain(Terrains.WOODS);
+        board.setHex(center, hex);
+        Assert.assertEquals(0, cachedCost(board, center, mech));
+        Assert.assertEquals(clearStep, stepCost(mech));
+    }
+
+    @Test
+    public void testBuildingCollapse() {
+        Board board = createBoard("building:2;bldg_cf:40;bldg_elev:1");
+        Mech mech = createMech(board);
+        Coords center = new Coords(1, 1);
+        Hex hex = board.getHex(center);
+        Assert.assertNotNull(board.getBuildingAt(center));
+        int buildingCost = hex.movementCost(mech);
+        Assert.assertEquals(buildingCost, cachedCost(board, center, mech));
+        Assert.assertTrue(stepCost(mech) > 0);
+
+        board.collapseBuilding(center);
+        Assert.assertNull(board.getBuildingAt(center));
+        Assert.assertTrue(hex.containsTerrain(Terrains.RUBBLE));
+        int rubbleCost = hex.movementCost(mech);
+        Assert.assertNotEquals(buildingCost, rubbleCost);
+        Assert.assertEquals(rubbleCost, cachedCost(board, center, mech));
+
+        // Moving into the rubble costs the same as entering a fresh hex with the same terrain
+        Board fresh = createBoard("rubble:1");
+        Mech freshMech = createMech(fresh);
+        Assert.assertEquals(stepCost(freshMech), stepCost(mech));
+    }
+}
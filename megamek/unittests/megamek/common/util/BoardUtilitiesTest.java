@@ -1,5 +1,7 @@
 package megamek.common.util;
 
+import megamek.common.Board;
+import megamek.common.MapSettings;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -58,4 +60,35 @@ public class BoardUtilitiesTest {
         expected = 0;
         Assert.assertEquals(expected, BoardUtilities.craterProfile(distanceFromCenter, craterRadius, maxDepth));
     }
+
+    @Test
+    public void testSeededGenerationIsReproducible() {
+        assertSameBoard(BoardUtilities.generateRandom(seededSettings(42L)),
+                BoardUtilities.generateRandom(seededSettings(42L)));
+
+        Board[] first = BoardUtilities.generateRandom(seededSettings(7L), 2);
+        Board[] second = BoardUtilities.generateRandom(seededSettings(7L), 2);
+        assertSameBoard(first[0], second[0]);
+        assertSameBoard(first[1], second[1]);
+    }
+
+    /** Creates new settings for each board so that no state is shared between the generations. */
+    private static MapSettings seededSettings(long seed) {
+        MapSettings mapSettings = MapSettings.getInstance();
+        mapSettings.setBoardSize(20, 20);
+        mapSettings.setAlgorithmToUse(3);
+        mapSettings.setSeed(seed);
+        return mapSettings;
+    }
+
+    private static void assertSameBoard(Board first, Board second) {
+        Assert.assertEquals(first.getWidth(), second.getWidth());
+        Assert.assertEquals(first.getHeight(), second.getHeight());
+        for (int y = 0; y < first.getHeight(); y++) {
+            for (int x = 0; x < first.getWidth(); x++) {
+                Assert.assertEquals(first.getHex(x, y).getLevel(), second.getHex(x, y).getLevel());
+                Assert.assertEquals(first.getHex(x, y).toString(), second.getHex(x, y).toString());
+            }
+        }
+    }
 }
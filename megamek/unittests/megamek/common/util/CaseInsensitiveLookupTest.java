@@ -0,0 +1,56 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RunWith(JUnit4.class)
+public class CaseInsensitiveLookupTest {
+
+    @Test
+    public void testLookupIgnoresCase() {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            entries.put("ISMediumLaser" + i, i);
+        }
+        CaseInsensitiveLookup<Integer> lookup = new CaseInsensitiveLookup<>(entries);
+
+        Assert.assertEquals(500, lookup.size());
+        for (int i = 0; i < 500; i++) {
+            Assert.assertEquals(Integer.valueOf(i), lookup.get("ISMediumLaser" + i));
+            Assert.assertEquals(Integer.valueOf(i), lookup.get("ismediumlaser" + i));
+            Assert.assertEquals(Integer.valueOf(i), lookup.get(new StringBuilder("ISMEDIUMLASER" + i)));
+        }
+        Assert.assertNull(lookup.get("ISMediumLaser500"));
+        Assert.assertNull(lookup.get(""));
+        Assert.assertNull(lookup.get(null));
+    }
+
+    @Test
+    public void testLastNameDifferingInCaseWins() {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        entries.put("Heat Sink", 1);
+        entries.put("HEAT SINK", 2);
+        CaseInsensitiveLookup<Integer> lookup = new CaseInsensitiveLookup<>(entries);
+
+        Assert.assertEquals(1, lookup.size());
+        Assert.assertEquals(Integer.valueOf(2), lookup.get("heat sink"));
+    }
+}
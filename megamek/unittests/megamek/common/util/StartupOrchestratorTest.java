@@ -0,0 +1,95 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(JUnit4.class)
+public class StartupOrchestratorTest {
+
+    @Test
+    public void testTasksRunAfterTheirDependencies() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        StartupOrchestrator startup = new StartupOrchestrator(3);
+        startup.add("A", () -> {
+            Thread.sleep(50);
+            order.add("A");
+        });
+        startup.add("B", () -> order.add("B"));
+        startup.add("C", () -> {
+            throw new IllegalStateException("C fails");
+        }, "A");
+        startup.add("D", () -> order.add("D"), "B", "C");
+        startup.start();
+
+        startup.whenAllReady().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(3, order.size());
+        Assert.assertEquals("D", order.get(2));
+        Assert.assertTrue(startup.isReady("C"));
+        Assert.assertTrue(startup.isReady("Not a task"));
+        Assert.assertTrue(startup.getTimingSummary().contains("C: "));
+    }
+
+    @Test
+    public void testAsyncTaskIsReadyWhenItsStageCompletes() throws Exception {
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        List<String> order = new CopyOnWriteArrayList<>();
+        StartupOrchestrator startup = new StartupOrchestrator(1);
+        startup.addAsync("A", () -> loaded);
+        startup.add("B", () -> order.add("B"), "A");
+        startup.start();
+
+        Thread.sleep(50);
+        Assert.assertFalse(startup.isReady("A"));
+        Assert.assertTrue(order.isEmpty());
+        loaded.complete(null);
+        startup.whenAllReady().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(List.of("B"), order);
+    }
+
+    @Test
+    public void testTaskThrowingAnErrorStillFinishes() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        StartupOrchestrator startup = new StartupOrchestrator(1);
+        startup.add("A", () -> {
+            throw new NoClassDefFoundError("A is missing");
+        });
+        startup.add("B", () -> order.add("B"), "A");
+        startup.start();
+
+        startup.whenAllReady().get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(startup.isReady("A"));
+        Assert.assertEquals(List.of("B"), order);
+        Assert.assertTrue(startup.getTimingSummary().contains("FAILED"));
+    }
+
+    @Test
+    public void testUnknownDependencyIsRejected() {
+        StartupOrchestrator startup = new StartupOrchestrator(1);
+        try {
+            startup.add("A", () -> { }, "B");
+            Assert.fail("Expected an IllegalStateException");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+    }
+}
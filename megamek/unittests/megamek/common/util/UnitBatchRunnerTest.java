@@ -0,0 +1,53 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.common.util;
+
+import megamek.common.MechSummary;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+
+@RunWith(JUnit4.class)
+public class UnitBatchRunnerTest {
+
+    private static MechSummary unit(String name) {
+        MechSummary unit = new MechSummary();
+        unit.setName(name);
+        unit.setSourceFile(new File(name + ".blk"));
+        return unit;
+    }
+
+    @Test
+    public void testOutputIsSortedAndFailuresAreSkipped() throws IOException {
+        MechSummary[] units = { unit("Wasp"), unit("Atlas"), unit("Broken"), unit("Locust"), unit("Hunchback") };
+        StringWriter out = new StringWriter();
+        UnitBatchRunner runner = new UnitBatchRunner("Test", 3);
+        int failed = runner.run(units, unit -> {
+            String name = unit.getSummary().getName();
+            if (name.equals("Broken")) {
+                throw new IllegalStateException("Cannot process " + name);
+            }
+            return name + "\n";
+        }, out);
+
+        Assert.assertEquals(1, failed);
+        Assert.assertEquals(5, runner.getProcessedCount());
+        Assert.assertEquals("Atlas\nHunchback\nLocust\nWasp\n", out.toString());
+    }
+}
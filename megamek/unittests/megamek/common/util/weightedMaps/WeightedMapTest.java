@@ -72,4 +72,27 @@ public class WeightedMapTest {
         assertEquals(5, weightedDoubleMap.randomItem(16.5d).intValue());
         assertNull(weightedDoubleMap.randomItem(16.51d));
     }
+
+    @Test
+    public void testCompiledWeightedTable() {
+        WeightedIntMap<Integer> weightedIntMap = new WeightedIntMap<>();
+        for (int i = 0; i < 6; i++) {
+            weightedIntMap.add(i, i);
+        }
+        CompiledWeightedTable<Integer> table = weightedIntMap.compile();
+        assertEquals(5, table.size());
+
+        // Sweeping the roll evenly over every column must select each item in proportion to its weight
+        final int steps = 1500;
+        int[] counts = new int[6];
+        for (int step = 0; step < steps * table.size(); step++) {
+            counts[table.randomItem((step + 0.5d) / steps)]++;
+        }
+        assertEquals(0, counts[0]);
+        for (int i = 1; i < 6; i++) {
+            assertEquals(i * steps * table.size() / 15, counts[i]);
+        }
+
+        assertNull(new WeightedIntMap<Integer>().compile().randomItem());
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * MegaMek - Copyright (C) 2000-2011 Ben Mazur (bmazur@sev.org)
+ *
+ *  This program is free software; you can redistribute it and/or modify it
+ *  under the terms of the GNU General Public License as published by the Free
+ *  Software Foundation; either version 2 of the License, or (at your option)
+ *  any later version.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ *  or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ *  for more details.
+ */
+package megamek.server;
+
+import megamek.common.Board;
+import megamek.common.Coords;
+import megamek.common.Hex;
+import megamek.common.PackedCoords;
+import megamek.common.Terrain;
+import megamek.common.Terrains;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+@RunWith(JUnit4.class)
+public class EnvironmentEngineTest {
+
+    @Test
+    public void testActiveHexesInBoardOrder() {
+        // large enough to be scanned in parallel
+        final int width = 300;
+        final int height = 250;
+        Board board = new Board(width, height);
+        Random random = new Random(5);
+        List<Integer> expectedFires = new ArrayList<>();
+        List<Integer> expectedScreens = new ArrayList<>();
+        List<Integer> expectedQuicksand = new ArrayList<>();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                Hex hex = new Hex();
+                if (random.nextInt(50) == 0) {
+                    hex.addTerrain(new Terrain(Terrains.FIRE, Terrains.FIRE_LVL_NORMAL));
+                    expectedFires.add(PackedCoords.pack(x, y));
+                }
+                if (random.nextInt(100) == 0) {
+                    hex.addTerrain(new Terrain(Terrains.SCREEN, 1));
+                    expectedScreens.add(PackedCoords.pack(x, y));
+                }
+                int swamp = random.nextInt(200);
+                if (swamp < 3) {
+                    hex.addTerrain(new Terrain(Terrains.SWAMP, swamp + 1));
+                    if (swamp > 0) {
+                        expectedQuicksand.add(PackedCoords.pack(x, y));
+                    }
+                }
+                board.setHex(x, y, hex);
+            }
+        }
+
+        EnvironmentEngine engine = new EnvironmentEngine(null);
+        engine.findActiveHexes(board);
+        Assert.assertEquals(expectedFires, visit(engine.getBurningHexes()));
+        Assert.assertEquals(expectedScreens, visit(engine.getScreenHexes()));
+        Assert.assertEquals(expectedQuicksand, visit(engine.getQuicksandHexes()));
+
+        // a new scan replaces the earlier worklists
+        engine.findActiveHexes(new Board(1, 1, new Hex()));
+        Assert.assertEquals(0, engine.getBurningHexes().size());
+    }
+
+    @Test
+    public void testWorklistVisitsHexesAddedAhead() {
+        EnvironmentEngine.Worklist worklist = new EnvironmentEngine.Worklist(hex -> true);
+        worklist.add(PackedCoords.pack(3, 5));
+        worklist.add(PackedCoords.pack(1, 7));
+        List<Integer> visited = new ArrayList<>();
+        worklist.forEach(packed -> {
+            visited.add(packed);
+            if (packed == PackedCoords.pack(1, 7)) {
+                // behind the current hex, so only visited next time
+                worklist.add(PackedCoords.pack(0, 9));
+                // ahead of the current hex
+                worklist.add(PackedCoords.pack(2, 0));
+            }
+        });
+        Assert.assertEquals(List.of(PackedCoords.pack(1, 7), PackedCoords.pack(2, 0), PackedCoords.pack(3, 5)),
+                visited);
+        Assert.assertEquals(4, worklist.size());
+    }
+
+    @Test
+    public void testWorklistSpreadMatchesFullScan() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Board scanned = createBurningBoard(seed);
+            Board worked = createBurningBoard(seed);
+
+            // Spread the fires by scanning every hex of the board, as the processors used to
+            List<Integer> scanOrder = new ArrayList<>();
+            Random scanDice = new Random(seed);
+            for (int x = 0; x < scanned.getWidth(); x++) {
+                for (int y = 0; y < scanned.getHeight(); y++) {
+                    if (scanned.getHex(x, y).containsTerrain(Terrains.FIRE)) {
+                        scanOrder.add(PackedCoords.pack(x, y));
+                        spreadFire(scanned, new Coords(x, y), scanDice, ignited -> { });
+                    }
+                }
+            }
+
+            // Spread them again from the worklist, adding the hexes as they are set on fire
+            EnvironmentEngine engine = new EnvironmentEngine(null);
+            engine.findActiveHexes(worked);
+            EnvironmentEngine.Worklist burningHexes = engine.getBurningHexes();
+            List<Integer> worklistOrder = new ArrayList<>();
+            Random worklistDice = new Random(seed);
+            burningHexes.forEach(packed -> {
+                worklistOrder.add(packed);
+                spreadFire(worked, new Coords(PackedCoords.x(packed), PackedCoords.y(packed)), worklistDice,
+                        ignited -> burningHexes.add(PackedCoords.pack(ignited)));
+            });
+
+            Assert.assertEquals(scanOrder, worklistOrder);
+            for (int x = 0; x < scanned.getWidth(); x++) {
+                for (int y = 0; y < scanned.getHeight(); y++) {
+                    Assert.assertEquals(scanned.getHex(x, y).containsTerrain(Terrains.FIRE),
+                            worked.getHex(x, y).containsTerrain(Terrains.FIRE));
+                }
+            }
+        }
+    }
+
+    /** Creates a board on which about one hex in twenty burns */
+    private static Board createBurningBoard(long seed) {
+        Board board = new Board(40, 30);
+        Random random = new Random(seed);
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                Hex hex = new Hex();
+                if (random.nextInt(20) == 0) {
+                    hex.addTerrain(new Terrain(Terrains.FIRE, Terrains.FIRE_LVL_NORMAL));
+                }
+                board.setHex(x, y, hex);
+            }
+        }
+        return board;
+    }
+
+    /** Sets each neighbour of a burning hex on fire on a roll of 1 in 4 */
+    private static void spreadFire(Board board, Coords burning, Random dice, Consumer<Coords> ignited) {
+        for (int direction = 0; direction < 6; direction++) {
+            Coords neighbour = burning.translated(direction);
+            if (board.contains(neighbour) && !board.getHex(neighbour).containsTerrain(Terrains.FIRE)
+                    && (dice.nextInt(4) == 0)) {
+                board.getHex(neighbour).addTerrain(new Terrain(Terrains.FIRE, Terrains.FIRE_LVL_NORMAL));
+                ignited.accept(neighbour);
+            }
+        }
+    }
+
+    private static List<Integer> visit(EnvironmentEngine.Worklist worklist) {
+        List<Integer> visited = new ArrayList<>();
+        worklist.forEach(visited::add);
+        return visited;
+    }
+}